@@ -0,0 +1,97 @@
+package com.dbexp.db_experiment.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import com.dbexp.db_experiment.repository.CommunityRepository;
+import com.dbexp.db_experiment.repository.PostRepository;
+
+/**
+ * Caches the first page of each community feed and the community name to id
+ * mapping every feed request starts with.
+ *
+ * Page one is where nearly all feed traffic lands, so each community keeps its
+ * newest {@code first-page-rows} posts in memory and first pages of any size
+ * up to that are served without a query. Callers that add a post must
+ * {@link #invalidate(long)} its community after the insert commits; like
+ * {@link UserCache}, an invalidation waits for an in-flight load of the same
+ * key, so a page read before the insert cannot be cached afterwards. Author
+ * renames and account deletions are not tracked and show up within the TTL.
+ */
+@Component
+public class CommunityFeedCache {
+
+    private final PostRepository postRepository;
+    private final CommunityRepository communityRepository;
+    private final int firstPageRows;
+    private final Cache<Long, List<PostSummary>> firstPages;
+    private final Cache<String, Long> communityIds;
+
+    public CommunityFeedCache(PostRepository postRepository, CommunityRepository communityRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.feeds.first-page-rows:101}") int firstPageRows,
+            @Value("${app.cache.feeds.max-size:1000}") long maxSize,
+            @Value("${app.cache.feeds.ttl:30s}") Duration ttl) {
+        this.postRepository = postRepository;
+        this.communityRepository = communityRepository;
+        this.firstPageRows = firstPageRows;
+        this.firstPages = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // Communities are never renamed, so ids only leave by size eviction
+        this.communityIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, firstPages, "community_feeds");
+        CaffeineCacheMetrics.monitor(meterRegistry, communityIds, "community_ids");
+    }
+
+    public Optional<Long> communityId(String communityName) {
+        // Returning null leaves unknown names uncached
+        return Optional.ofNullable(communityIds.get(communityName,
+                name -> communityRepository.findIdByCommunityName(name).orElse(null)));
+    }
+
+    /**
+     * Returns the newest {@code rows} posts of the community, from the cache
+     * when {@code rows} fits in a cached page.
+     */
+    public List<PostSummary> firstPage(long communityId, int rows) {
+        if (rows > firstPageRows) {
+            return postRepository.findFeedFirstPage(communityId, rows);
+        }
+        List<PostSummary> page = firstPages.get(communityId,
+                id -> List.copyOf(postRepository.findFeedFirstPage(id, firstPageRows)));
+        return page.size() > rows ? page.subList(0, rows) : page;
+    }
+
+    /**
+     * Returns the community's cached newest posts without loading them, or
+     * {@code null} if they are not cached.
+     */
+    public List<PostSummary> cachedFirstPage(long communityId) {
+        return firstPages.getIfPresent(communityId);
+    }
+
+    public int firstPageRows() {
+        return firstPageRows;
+    }
+
+    public void invalidate(long communityId) {
+        firstPages.invalidate(communityId);
+    }
+}
@@ -0,0 +1,17 @@
+package com.dbexp.db_experiment.cache;
+
+import java.time.LocalDateTime;
+
+/**
+ * Feed row for a post: everything a listing shows, without the body.
+ */
+public record PostSummary(
+        Long postId,
+        Long communityId,
+        Long userId,
+        String username,
+        String title,
+        LocalDateTime createdAt,
+        // Maintained write-behind, so it trails new votes by a flush interval
+        int score) {
+}
@@ -0,0 +1,91 @@
+package com.dbexp.db_experiment.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+
+/**
+ * Size-bounded, expiring read-through cache of {@link UserSummary} by user id.
+ *
+ * Concurrent misses for the same id share a single {@code findById} query
+ * (Caffeine blocks them on one load; {@link UserLookup} coalesces the query
+ * again for callers that bypass the cache).
+ * Unknown ids are not cached. Callers that write {@code ForumUser} rows must
+ * {@link #invalidate(Long)} after the write; an invalidation waits for an
+ * in-flight load of the same id, so a stale row cannot be cached afterwards.
+ */
+@Component
+public class UserCache {
+
+    private final UserLookup userLookup;
+    private final Cache<Long, UserSummary> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserCache(UserLookup userLookup, MeterRegistry meterRegistry,
+            @Value("${app.cache.users.max-size:10000}") long maxSize,
+            @Value("${app.cache.users.ttl:60s}") Duration ttl) {
+        this.userLookup = userLookup;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        // Publishes cache.gets{result=hit|miss}, cache.evictions, cache.size, ...
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+    }
+
+    public Optional<UserSummary> get(Long userId) {
+        return Optional.ofNullable(cache.get(userId, this::load));
+    }
+
+    /**
+     * Returns the cached summaries for {@code userIds} and loads all misses with
+     * a single multi-get. Loaded rows are cached only if no invalidation ran
+     * while they were read, since that write may not be reflected in them.
+     */
+    public Map<Long, UserSummary> getAll(Collection<Long> userIds) {
+        Map<Long, UserSummary> users = new HashMap<>(cache.getAllPresent(userIds));
+        List<Long> missing = userIds.stream()
+                .filter(userId -> !users.containsKey(userId))
+                .toList();
+        if (missing.isEmpty()) {
+            return users;
+        }
+
+        long generation = invalidations.get();
+        for (UserSummary user : userLookup.findSummariesByIds(missing)) {
+            users.put(user.userId(), user);
+            cache.asMap().computeIfAbsent(user.userId(),
+                    userId -> invalidations.get() == generation ? user : null);
+        }
+        return users;
+    }
+
+    public void invalidate(Long userId) {
+        // Counted before the entry is dropped, so a concurrent bulk load sees it
+        invalidations.incrementAndGet();
+        cache.invalidate(userId);
+    }
+
+    private UserSummary load(Long userId) {
+        // Returning null leaves the id uncached
+        return userLookup.findById(userId)
+                .map(UserSummary::from)
+                .orElse(null);
+    }
+}
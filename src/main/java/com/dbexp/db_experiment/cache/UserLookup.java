@@ -0,0 +1,69 @@
+package com.dbexp.db_experiment.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.repository.UserRepository;
+
+/**
+ * {@link UserRepository} lookups behind a {@link SingleFlight} per query, so a
+ * burst of identical lookups runs one query. {@code app.users.lookups.coalesced}
+ * counts the queries saved.
+ *
+ * A coalesced caller may receive a row read just before its own call started,
+ * so lookups that guard a write must go to the repository directly. Returned
+ * entities are shared between callers and must not be modified.
+ */
+@Component
+public class UserLookup {
+
+    static final int IN_LIST_CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final SingleFlight<Long, Optional<User>> byId = new SingleFlight<>();
+    private final SingleFlight<String, Optional<User>> byUsername = new SingleFlight<>();
+
+    public UserLookup(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        bindCoalescedCounter(meterRegistry, "findById", byId);
+        bindCoalescedCounter(meterRegistry, "findByUsername", byUsername);
+    }
+
+    public Optional<User> findById(Long userId) {
+        return byId.load(userId, userRepository::findById);
+    }
+
+    public Optional<User> findByUsername(String username) {
+        return byUsername.load(username, userRepository::findByUsername);
+    }
+
+    /**
+     * Resolves many ids with one {@code IN} query per {@link #IN_LIST_CHUNK_SIZE}
+     * ids. Not coalesced; unknown ids are simply absent from the result.
+     */
+    public List<UserSummary> findSummariesByIds(List<Long> userIds) {
+        if (userIds.size() <= IN_LIST_CHUNK_SIZE) {
+            return userRepository.findSummariesByIds(userIds);
+        }
+        List<UserSummary> users = new ArrayList<>(userIds.size());
+        for (int from = 0; from < userIds.size(); from += IN_LIST_CHUNK_SIZE) {
+            users.addAll(userRepository.findSummariesByIds(
+                    userIds.subList(from, Math.min(from + IN_LIST_CHUNK_SIZE, userIds.size()))));
+        }
+        return users;
+    }
+
+    private static void bindCoalescedCounter(MeterRegistry registry, String query, SingleFlight<?, ?> flight) {
+        FunctionCounter.builder("app.users.lookups.coalesced", flight, SingleFlight::coalesced)
+                .tag("query", query)
+                .description("Repository queries saved by joining an identical in-flight lookup")
+                .register(registry);
+    }
+}
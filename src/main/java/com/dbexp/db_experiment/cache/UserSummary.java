@@ -0,0 +1,20 @@
+package com.dbexp.db_experiment.cache;
+
+import java.time.LocalDateTime;
+
+import com.dbexp.db_experiment.entity.User;
+
+/**
+ * Cacheable, read-only view of a {@link User}. Deliberately has no password
+ * hash, so nothing cached can leak into a read endpoint.
+ */
+public record UserSummary(
+        Long userId,
+        String username,
+        String email,
+        LocalDateTime createdAt) {
+
+    public static UserSummary from(User user) {
+        return new UserSummary(user.getUserId(), user.getUsername(), user.getEmail(), user.getCreatedAt());
+    }
+}
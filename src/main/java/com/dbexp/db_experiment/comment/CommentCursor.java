@@ -0,0 +1,48 @@
+package com.dbexp.db_experiment.comment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+
+/**
+ * "Load more" position in a thread: the path of the comment whose replies
+ * continue (empty for the post's top-level comments) and the sort key of the
+ * last reply already shown. Siblings are ordered by {@link CommentTree#ORDER},
+ * so a comment whose score changes between requests may be skipped or shown
+ * twice, but the walk never loses its place.
+ */
+public record CommentCursor(String parentPath, int score, long commentId) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Position before the first reply, for a subtree none of whose replies
+     * were shown.
+     */
+    public static CommentCursor start(String parentPath) {
+        return new CommentCursor(parentPath, Integer.MAX_VALUE, 0);
+    }
+
+    public static CommentCursor after(String parentPath, CommentRow comment) {
+        return new CommentCursor(parentPath, comment.score(), comment.commentId());
+    }
+
+    public String encode() {
+        return ENCODER.encodeToString((parentPath + "_" + score + "_" + commentId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CommentCursor decode(String token) {
+        try {
+            String[] parts = new String(DECODER.decode(token), StandardCharsets.UTF_8).split("_", -1);
+            // The path names the parent whose replies are paged, so it must hold nothing but hex digits
+            if (parts.length == 3 && CommentPath.isValid(parts[0])) {
+                return new CommentCursor(parts[0], Integer.parseInt(parts[1]), Long.parseLong(parts[2]));
+            }
+        } catch (IllegalArgumentException e) {
+            // Falls through to the rejection below
+        }
+        throw new InvalidRequestException("Invalid cursor");
+    }
+}
@@ -0,0 +1,49 @@
+package com.dbexp.db_experiment.comment;
+
+/**
+ * Materialized thread paths: the ids of a comment's ancestors and its own,
+ * each as 8 lowercase hex digits. A comment's path is a prefix of the paths
+ * of all its replies, so a subtree is the range of paths that start with it,
+ * and ordering by path lists every comment after its parent.
+ */
+public final class CommentPath {
+
+    static final int SEGMENT_LENGTH = 8;
+    // ForumComment.path is VARCHAR(512)
+    public static final int MAX_DEPTH = 512 / SEGMENT_LENGTH;
+
+    private CommentPath() {
+    }
+
+    public static String child(String parentPath, long commentId) {
+        return parentPath + "%08x".formatted(commentId);
+    }
+
+    /**
+     * Number of comments on the path; 0 for the empty path of the post itself.
+     */
+    public static int depth(String path) {
+        return path.length() / SEGMENT_LENGTH;
+    }
+
+    /**
+     * Id of the last comment on the path; null for the empty path of the post
+     * itself.
+     */
+    public static Long commentId(String path) {
+        return path.isEmpty() ? null : Long.parseLong(path.substring(path.length() - SEGMENT_LENGTH), 16);
+    }
+
+    public static boolean isValid(String path) {
+        if (path.length() % SEGMENT_LENGTH != 0 || depth(path) > MAX_DEPTH) {
+            return false;
+        }
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
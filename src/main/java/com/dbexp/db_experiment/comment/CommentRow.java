@@ -0,0 +1,20 @@
+package com.dbexp.db_experiment.comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * A comment as a thread shows it, with its author's username and its place
+ * in the thread.
+ */
+public record CommentRow(
+        long commentId,
+        // Null for a top-level comment
+        Long parentCommentId,
+        String path,
+        long userId,
+        String username,
+        String content,
+        LocalDateTime createdAt,
+        // Maintained write-behind, so it trails new votes by a flush interval
+        int score) {
+}
@@ -0,0 +1,173 @@
+package com.dbexp.db_experiment.comment;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A page of comments and their subtrees, assembled from rows in path order.
+ *
+ * Path order lists every comment after its parent and its parent's earlier
+ * subtrees, so the parent of each row is on the stack of the row's ancestors:
+ * assembly is one pass with no lookup table, followed by sorting each
+ * comment's replies by score. A row whose parent was not loaded becomes a
+ * root.
+ */
+public final class CommentTree {
+
+    /**
+     * Sibling order: highest score first, then oldest first.
+     */
+    public static final Comparator<CommentRow> ORDER = Comparator.comparingInt(CommentRow::score).reversed()
+            .thenComparingLong(CommentRow::commentId);
+
+    private static final Comparator<Node> NODE_ORDER = Comparator.comparing(Node::comment, ORDER);
+
+    private final List<Node> roots;
+    private final int size;
+
+    private CommentTree(List<Node> roots, int size) {
+        this.roots = roots;
+        this.size = size;
+    }
+
+    public static CommentTree assemble(List<CommentRow> rows) {
+        return assemble(rows, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Assembles rows read with at most {@code maxRepliesPerRoot} replies
+     * below each root, plus one more wherever a subtree was cut off. That row
+     * is dropped, and since it sorts after everything loaded from its subtree,
+     * the comments that may have further replies are exactly its loaded
+     * ancestors; they are marked {@link Node#truncated() truncated}.
+     */
+    public static CommentTree assemble(List<CommentRow> rows, int maxRepliesPerRoot) {
+        List<Node> roots = new ArrayList<>();
+        List<Node> parents = new ArrayList<>();
+        Deque<Node> ancestors = new ArrayDeque<>();
+        int rootReplies = 0;
+        int size = 0;
+
+        for (CommentRow row : rows) {
+            while (!ancestors.isEmpty() && !row.path().startsWith(ancestors.peek().comment.path())) {
+                ancestors.pop();
+            }
+            Node parent = ancestors.peek();
+            if (parent != null && rootReplies == maxRepliesPerRoot) {
+                for (Node ancestor : ancestors) {
+                    ancestor.truncated = true;
+                }
+                continue;
+            }
+            Node node;
+            if (parent != null && row.parentCommentId() != null
+                    && parent.comment.commentId() == row.parentCommentId()) {
+                rootReplies++;
+                node = new Node(row, parent.depth + 1);
+                if (parent.replies.isEmpty()) {
+                    parent.replies = new ArrayList<>(2);
+                    parents.add(parent);
+                }
+                parent.replies.add(node);
+            } else {
+                ancestors.clear();
+                rootReplies = 0;
+                node = new Node(row, 0);
+                roots.add(node);
+            }
+            ancestors.push(node);
+            size++;
+        }
+
+        roots.sort(NODE_ORDER);
+        for (Node parent : parents) {
+            parent.replies.sort(NODE_ORDER);
+        }
+        return new CommentTree(roots, size);
+    }
+
+    /**
+     * The roots, in sibling order.
+     */
+    public List<Node> roots() {
+        return roots;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Chooses which replies of the given comments to show, level by level, so
+     * that a long chain under one comment cannot crowd out the replies to the
+     * next: each comment shows at most {@code repliesPerComment} replies, none
+     * below {@code maxDepth}, and at most {@code maxReplies} in all. The rest
+     * are left for "load more" requests, as are all replies of a truncated
+     * comment: the ones loaded are the oldest, not the best.
+     */
+    public static void expand(List<Node> comments, int maxReplies, int repliesPerComment, int maxDepth) {
+        Deque<Node> queue = new ArrayDeque<>(comments);
+        int budget = maxReplies;
+        while (!queue.isEmpty() && budget > 0) {
+            Node node = queue.poll();
+            if (node.depth + 1 >= maxDepth || node.truncated) {
+                continue;
+            }
+            node.shown = Math.min(Math.min(node.replies.size(), repliesPerComment), budget);
+            budget -= node.shown;
+            for (int i = 0; i < node.shown; i++) {
+                queue.add(node.replies.get(i));
+            }
+        }
+    }
+
+    public static final class Node {
+
+        private final CommentRow comment;
+        // Depth below the roots of the loaded tree
+        private final int depth;
+        private List<Node> replies = List.of();
+        private int shown;
+        private boolean truncated;
+
+        private Node(CommentRow comment, int depth) {
+            this.comment = comment;
+            this.depth = depth;
+        }
+
+        public CommentRow comment() {
+            return comment;
+        }
+
+        /**
+         * All replies, in sibling order.
+         */
+        public List<Node> replies() {
+            return replies;
+        }
+
+        /**
+         * The replies chosen by {@link CommentTree#expand}.
+         */
+        public List<Node> shownReplies() {
+            return replies.subList(0, shown);
+        }
+
+        /**
+         * Loaded replies not shown; a lower bound when {@link #truncated()}.
+         */
+        public int hiddenReplies() {
+            return replies.size() - shown;
+        }
+
+        /**
+         * Whether replies below this comment were left unread.
+         */
+        public boolean truncated() {
+            return truncated;
+        }
+    }
+}
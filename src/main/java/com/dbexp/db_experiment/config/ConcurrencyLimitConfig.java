@@ -0,0 +1,45 @@
+package com.dbexp.db_experiment.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.dbexp.db_experiment.limit.AdaptiveConcurrencyLimiter;
+import com.dbexp.db_experiment.limit.ConcurrencyLimitFilter;
+import com.dbexp.db_experiment.limit.GradientLimit;
+
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "app.limiter.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter concurrencyLimiter(MeterRegistry meterRegistry,
+            @Value("${app.limiter.initial-limit:20}") int initialLimit,
+            @Value("${app.limiter.min-limit:4}") int minLimit,
+            @Value("${app.limiter.max-limit:200}") int maxLimit,
+            @Value("${app.limiter.reserved-fraction:0.2}") double reservedFraction) {
+        return new AdaptiveConcurrencyLimiter(
+                new GradientLimit(initialLimit, minLimit, maxLimit),
+                reservedFraction,
+                meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter,
+            @Value("${app.limiter.retry-after-seconds:1}") long retryAfterSeconds) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(limiter, retryAfterSeconds));
+        registration.addUrlPatterns("/api/users/*", "/api/auth/*", "/api/communities/*", "/api/posts/*",
+                "/api/comments/*");
+        // Shed before Spring Security loads the session
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
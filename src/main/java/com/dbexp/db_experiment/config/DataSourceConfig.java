@@ -0,0 +1,81 @@
+package com.dbexp.db_experiment.config;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import com.dbexp.db_experiment.datasource.BulkheadDataSource;
+import com.dbexp.db_experiment.timing.TimingDataSource;
+
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * Decorates each pooled data source as timing -> bulkhead -> pool, so the
+     * Server-Timing db-wait phase includes time queued in the bulkhead. The
+     * replica router from {@link ReplicaDataSourceConfig} is left alone; the
+     * pools behind it are decorated individually.
+     *
+     * The bulkhead follows {@code spring.threads.virtual.enabled} unless set
+     * explicitly: its queue is sized for parked virtual threads, and in front
+     * of platform threads it would only stretch the pool's connection-timeout
+     * into a longer wait holding a Tomcat worker.
+     */
+    @Bean
+    public static BeanPostProcessor dataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof TimingDataSource
+                        || bean instanceof LazyConnectionDataSourceProxy) {
+                    return bean;
+                }
+                boolean virtualThreads = environment.getProperty("spring.threads.virtual.enabled", Boolean.class,
+                        false);
+                if (environment.getProperty("app.db.bulkhead.enabled", Boolean.class, virtualThreads)) {
+                    // One permit per pooled connection, so admitted callers never wait in the pool
+                    int permits = bean instanceof HikariDataSource hikari
+                            ? hikari.getMaximumPoolSize()
+                            : environment.getProperty("app.db.bulkhead.permits", Integer.class, 10);
+                    dataSource = new BulkheadDataSource(
+                            dataSource,
+                            permits,
+                            environment.getProperty("app.db.bulkhead.max-waiting", Integer.class, 10000),
+                            environment.getProperty("app.db.bulkhead.max-wait", Duration.class,
+                                    Duration.ofSeconds(60)));
+                }
+                return new TimingDataSource(dataSource);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder databaseBulkheadMetrics(Map<String, DataSource> dataSources) {
+        return registry -> dataSources.forEach((name, dataSource) -> {
+            // Only the decorated pools; the replica router would resolve to the primary's bulkhead
+            if (!(dataSource instanceof TimingDataSource)) {
+                return;
+            }
+            try {
+                if (dataSource.isWrapperFor(BulkheadDataSource.class)) {
+                    dataSource.unwrap(BulkheadDataSource.class).bindTo(registry, Tags.of("name", name));
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Could not bind database bulkhead metrics", e);
+            }
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package com.dbexp.db_experiment.config;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jdbc.repository.config.EnableJdbcRepositories;
+
+/**
+ * Scans the JDBC repositories, leaving out the R2DBC ones of the
+ * {@code reactive} profile: Spring Data JDBC would otherwise claim them too
+ * and refuse to start, since it cannot implement reactive repositories.
+ * {@link ReactiveConfig} scans those on its own.
+ */
+@Configuration
+@EnableJdbcRepositories(
+        basePackages = "com.dbexp.db_experiment.repository",
+        excludeFilters = @ComponentScan.Filter(
+                type = FilterType.REGEX,
+                pattern = "com\\.dbexp\\.db_experiment\\.repository\\.reactive\\..*"))
+public class JdbcRepositoryConfig {
+}
@@ -0,0 +1,30 @@
+package com.dbexp.db_experiment.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.dbexp.db_experiment.security.LoginThrottle;
+import com.dbexp.db_experiment.security.TokenBucketSketch;
+
+@Configuration
+public class LoginThrottleConfig {
+
+    @Bean
+    public LoginThrottle loginThrottle(MeterRegistry meterRegistry,
+            @Value("${app.security.login-throttle.width:65536}") int width,
+            @Value("${app.security.login-throttle.depth:2}") int depth,
+            @Value("${app.security.login-throttle.address.burst:20}") int addressBurst,
+            @Value("${app.security.login-throttle.address.refill-interval:3s}") Duration addressRefill,
+            @Value("${app.security.login-throttle.username.burst:10}") int usernameBurst,
+            @Value("${app.security.login-throttle.username.refill-interval:30s}") Duration usernameRefill) {
+        return new LoginThrottle(
+                new TokenBucketSketch(width, depth, addressBurst, addressRefill),
+                new TokenBucketSketch(width, depth, usernameBurst, usernameRefill),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.dbexp.db_experiment.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsConfig {
+
+    // Records a timer for every method of classes annotated with @Timed
+    // (UserServiceImpl, AuthServiceImpl); repository methods are timed by
+    // Spring Data's own invocation listener
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,102 @@
+package com.dbexp.db_experiment.config;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.dbexp.db_experiment.security.Argon2Calibrator;
+import com.dbexp.db_experiment.security.Argon2MemoryPool;
+import com.dbexp.db_experiment.security.Argon2Settings;
+import com.dbexp.db_experiment.security.BudgetedPasswordEncoder;
+import com.dbexp.db_experiment.security.PooledArgon2PasswordEncoder;
+
+@Configuration
+public class PasswordHashingConfig {
+
+    // Runs the extra lanes of multi-lane hashes; kept out of the context so it
+    // does not replace Spring Boot's default task executor. Workers are daemons.
+    private final ForkJoinPool laneExecutor = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    @Bean
+    public Argon2Settings argon2Settings(
+            @Value("${app.security.hashing.calibration.enabled:false}") boolean calibrationEnabled,
+            @Value("${app.security.hashing.calibration.target-ms:250}") long targetMs,
+            @Value("${app.security.hashing.calibration.min-memory-kib:19456}") int minMemoryKiB,
+            @Value("${app.security.hashing.calibration.max-memory-kib:65536}") int maxMemoryKiB,
+            @Value("${app.security.hashing.calibration.min-iterations:2}") int minIterations,
+            @Value("${app.security.hashing.calibration.max-iterations:10}") int maxIterations,
+            @Value("${app.security.hashing.calibration.max-parallelism:4}") int maxParallelism,
+            @Value("${app.security.hashing.argon2.memory-kib:65536}") int memoryKiB,
+            @Value("${app.security.hashing.argon2.iterations:3}") int iterations,
+            @Value("${app.security.hashing.argon2.parallelism:1}") int parallelism) {
+        if (!calibrationEnabled) {
+            return new Argon2Settings(memoryKiB, iterations, parallelism);
+        }
+
+        // Time real hashes on this host and pick the strongest parameters that
+        // still fit the target latency
+        return new Argon2Calibrator(laneExecutor).calibrate(
+                Duration.ofMillis(targetMs),
+                minMemoryKiB,
+                maxMemoryKiB,
+                minIterations,
+                maxIterations,
+                maxParallelism);
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(Argon2Settings argon2Settings, MeterRegistry meterRegistry,
+            @Value("${app.security.hashing.memory-budget-mb:1024}") int memoryBudgetMb,
+            @Value("${app.security.hashing.max-queue-length:64}") int maxQueueLength,
+            @Value("${app.security.hashing.max-wait-ms:2000}") long maxWaitMs,
+            @Value("${app.security.hashing.retry-after-seconds:1}") long retryAfterSeconds,
+            @Value("${app.security.hashing.calibration.max-memory-kib:65536}") int maxMemoryKiB,
+            @Value("${app.security.hashing.argon2.memory-kib:65536}") int fixedMemoryKiB) {
+        int memoryBudgetKiB = memoryBudgetMb * 1024;
+        int memoryKiB = argon2Settings.memoryKiB();
+
+        // Size arenas for the largest hash that can be stored, not just the
+        // current parameters: upgradeEncoding never rehashes downward, so hashes
+        // made before a calibration picked less memory would otherwise take the
+        // oversized path on every login. One lane rounds least, so those blocks
+        // cover any lane count at the same memory.
+        int arenaKiB = Math.max(memoryKiB, Math.max(maxMemoryKiB, fixedMemoryKiB));
+
+        // The budget reserves a whole arena per pooled operation, so it admits
+        // at most this many at once; keeping one reusable arena for each means
+        // steady-state hashing allocates nothing large
+        Argon2MemoryPool memoryPool = new Argon2MemoryPool(
+                PooledArgon2PasswordEncoder.arenaBlocks(arenaKiB, 1),
+                memoryBudgetKiB / arenaKiB,
+                retryAfterSeconds,
+                meterRegistry);
+
+        // saltLength=16, hashLength=32, remaining parameters from calibration
+        PasswordEncoder argon2 = new PooledArgon2PasswordEncoder(
+                16,
+                32,
+                argon2Settings.parallelism(),
+                memoryKiB,
+                argon2Settings.iterations(),
+                memoryPool,
+                laneExecutor);
+
+        // Admit hashing against a global memory budget instead of letting every
+        // request thread allocate its own block array
+        return new BudgetedPasswordEncoder(
+                argon2,
+                memoryKiB,
+                arenaKiB,
+                memoryBudgetKiB,
+                maxQueueLength,
+                Duration.ofMillis(maxWaitMs),
+                retryAfterSeconds,
+                meterRegistry);
+    }
+}
@@ -0,0 +1,83 @@
+package com.dbexp.db_experiment.config;
+
+import java.util.Arrays;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import com.dbexp.db_experiment.repository.reactive.ReactiveUserRepository;
+
+/**
+ * Web tier of the {@code reactive} profile: WebFlux security equivalent to
+ * {@link SecurityConfig}, the scheduler Argon2 is offloaded to, and the R2DBC
+ * repositories, scanned from their own package only.
+ *
+ * Spring Boot backs off its JDBC {@link DataSource} once an R2DBC connection
+ * factory exists, but the blocking repositories and start-up tasks shared with
+ * the servlet stack still need one, so the pool is declared here.
+ */
+@Configuration
+@Profile("reactive")
+@EnableWebFluxSecurity
+@EnableR2dbcRepositories(basePackageClasses = ReactiveUserRepository.class)
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // Argon2 is CPU- and memory-bound and must never run on an event loop.
+    // The thread cap bounds CPU use, the queue cap bounds pending work; the
+    // encoder's memory budget still applies on top
+    @Bean(destroyMethod = "dispose")
+    public Scheduler hashingScheduler(
+            @Value("${app.reactive.hashing.threads:0}") int threads,
+            @Value("${app.reactive.hashing.queue-capacity:1024}") int queueCapacity) {
+        int threadCap = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return Schedulers.newBoundedElastic(threadCap, queueCapacity, "argon2");
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .cors(cors -> cors.configurationSource(reactiveCorsConfigurationSource()))
+                .csrf(csrf -> csrf.disable())
+                .authorizeExchange(exchange -> exchange.anyExchange().permitAll())
+                .build();
+    }
+
+    // Vue Development Server Port CORS
+    @Bean
+    CorsConfigurationSource reactiveCorsConfigurationSource() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOrigins(Arrays.asList("http://localhost:5173"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setAllowCredentials(true);
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", configuration);
+        return source;
+    }
+}
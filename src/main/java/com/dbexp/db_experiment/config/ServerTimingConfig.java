@@ -0,0 +1,65 @@
+package com.dbexp.db_experiment.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.dbexp.db_experiment.timing.ServerTiming;
+import com.dbexp.db_experiment.timing.ServerTiming.Phase;
+import com.dbexp.db_experiment.timing.ServerTimingAspect;
+import com.dbexp.db_experiment.timing.ServerTimingFilter;
+import com.dbexp.db_experiment.timing.ServerTimingInterceptor;
+
+/**
+ * Wires the {@code Server-Timing} breakdown: the filter owns the request
+ * scope, the interceptor and aspect bracket argument resolution and
+ * serialization, repository invocations report SQL time and
+ * {@link DataSourceConfig} reports pool waits. Password hashing is reported by
+ * {@link com.dbexp.db_experiment.security.BudgetedPasswordEncoder}.
+ */
+@Configuration
+@Profile("!reactive")
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ServerTimingInterceptor()).addPathPatterns("/api/**");
+    }
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            @Value("${app.server-timing.enabled:false}") boolean enabled,
+            @Value("${app.server-timing.debug-header:X-Debug-Timing}") String debugHeader) {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(
+                new ServerTimingFilter(enabled, debugHeader));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    @Bean
+    public ServerTimingAspect serverTimingAspect() {
+        return new ServerTimingAspect();
+    }
+
+    @Bean
+    public static BeanPostProcessor repositoryTimingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(
+                            invocation -> ServerTiming.add(Phase.SQL, invocation.getDuration(TimeUnit.NANOSECONDS))));
+                }
+                return bean;
+            }
+        };
+    }
+}
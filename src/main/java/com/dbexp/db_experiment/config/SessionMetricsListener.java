@@ -0,0 +1,54 @@
+package com.dbexp.db_experiment.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionListener;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Tracks HTTP sessions held by the servlet container.
+ *
+ * The memory gauge is an estimate (active sessions times a configured
+ * per-session footprint) meant for comparing runs, not an exact heap size.
+ */
+@Component
+@Profile("!reactive")
+public class SessionMetricsListener implements HttpSessionListener {
+
+    private final AtomicLong activeSessions = new AtomicLong();
+    private final Counter createdSessions;
+
+    public SessionMetricsListener(MeterRegistry meterRegistry,
+            @Value("${app.sessions.estimated-bytes-per-session:2048}") long estimatedBytesPerSession) {
+        Gauge.builder("http.sessions.active", activeSessions, AtomicLong::get)
+                .description("HTTP sessions currently held by the container")
+                .register(meterRegistry);
+        Gauge.builder("http.sessions.memory.estimated", activeSessions,
+                        sessions -> sessions.get() * estimatedBytesPerSession)
+                .description("Estimated heap held by HTTP sessions")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.createdSessions = Counter.builder("http.sessions.created")
+                .description("HTTP sessions created")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void sessionCreated(HttpSessionEvent event) {
+        activeSessions.incrementAndGet();
+        createdSessions.increment();
+    }
+
+    @Override
+    public void sessionDestroyed(HttpSessionEvent event) {
+        activeSessions.decrementAndGet();
+    }
+}
@@ -0,0 +1,69 @@
+package com.dbexp.db_experiment.config;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.dbexp.db_experiment.service.UserExportService;
+import com.dbexp.db_experiment.service.UserExportService.ExportSummary;
+
+/**
+ * Command-line user export, enabled by setting {@code app.export.users.file}:
+ *
+ * <pre>
+ * java -jar app.jar --spring.main.web-application-type=none \
+ *     --app.export.users.file=users.ndjson.gz [--app.export.users.after=12345]
+ * </pre>
+ *
+ * A {@code .gz} file is compressed. A resumed export ({@code after > 0})
+ * appends to the existing file; for gzip this adds a new member, which
+ * standard tools decompress as one stream.
+ */
+@Component
+@ConditionalOnProperty(name = "app.export.users.file")
+public class UserExportRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserExportRunner.class);
+
+    private final UserExportService userExportService;
+    private final Path file;
+    private final long after;
+
+    public UserExportRunner(UserExportService userExportService,
+            @Value("${app.export.users.file}") Path file,
+            @Value("${app.export.users.after:0}") long after) {
+        this.userExportService = userExportService;
+        this.file = file;
+        this.after = after;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        logger.info("Exporting users after id {} to {}", after, file);
+
+        StandardOpenOption mode = after > 0 ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING;
+        ExportSummary summary;
+        try (OutputStream fileOut = Files.newOutputStream(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, mode);
+                OutputStream out = file.toString().endsWith(".gz")
+                        ? new GZIPOutputStream(fileOut, 65536)
+                        : new BufferedOutputStream(fileOut, 65536)) {
+            summary = userExportService.exportNdjson(after, out);
+        }
+
+        // The last id doubles as the checkpoint for --app.export.users.after
+        logger.info("Exported {} users to {}; last userId {}", summary.rows(), file, summary.lastUserId());
+    }
+}
@@ -0,0 +1,99 @@
+package com.dbexp.db_experiment.config;
+
+import java.time.Duration;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reports virtual threads pinned to their carrier, from the JFR
+ * {@code jdk.VirtualThreadPinned} event.
+ *
+ * On Java 21 a virtual thread that blocks inside a {@code synchronized} block
+ * holds its carrier, so pinning inside the JDBC driver quietly caps request
+ * concurrency at the carrier count. Pins are timed as
+ * {@code jvm.threads.virtual.pinned}, tagged with whether the pinning frame
+ * belongs to mysql-connector-j.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String MYSQL_DRIVER_PACKAGE = "com.mysql.cj.";
+
+    private final Duration threshold;
+    private final Timer mysqlPins;
+    private final Timer otherPins;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+            @Value("${app.threads.pinning-threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+        this.mysqlPins = pinTimer(meterRegistry, "mysql-connector-j");
+        this.otherPins = pinTimer(meterRegistry, "other");
+    }
+
+    @PostConstruct
+    void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    void record(RecordedEvent event) {
+        RecordedFrame driverFrame = driverFrame(event.getStackTrace());
+        if (driverFrame != null) {
+            mysqlPins.record(event.getDuration());
+            logger.debug("Virtual thread pinned for {} in {}.{}", event.getDuration(),
+                    driverFrame.getMethod().getType().getName(), driverFrame.getMethod().getName());
+        } else {
+            otherPins.record(event.getDuration());
+        }
+    }
+
+    private static RecordedFrame driverFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return null;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.getMethod().getType().getName().startsWith(MYSQL_DRIVER_PACKAGE)) {
+                return frame;
+            }
+        }
+        return null;
+    }
+
+    private static Timer pinTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent pinned to their carrier")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.dbexp.db_experiment.controller;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+import com.dbexp.db_experiment.dto.auth.LoginResponse;
+import com.dbexp.db_experiment.exception.InvalidCredentialsException;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.exception.NotAuthenticatedException;
+import com.dbexp.db_experiment.security.HashingCapacityExceededException;
+import com.dbexp.db_experiment.security.LoginThrottledException;
+
+/**
+ * Maps service exceptions to responses for {@link UserController},
+ * {@link AuthController}, {@link CommunityController},
+ * {@link HomeFeedController}, {@link CommentController},
+ * {@link VoteController} and {@link UserBatchController}, in place of
+ * per-method try/catch blocks.
+ * Expected failures are stackless (see the exception package), so rejecting
+ * a bad request costs no more than building the response.
+ *
+ * Extends {@link ResponseEntityExceptionHandler} so that binding and
+ * validation failures keep their 400 instead of reaching the catch-all.
+ */
+@RestControllerAdvice(assignableTypes = { UserController.class, AuthController.class, CommunityController.class,
+        HomeFeedController.class, CommentController.class, VoteController.class, UserBatchController.class })
+@Profile("!reactive")
+public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
+
+    static final String UNEXPECTED_ERROR_MESSAGE = "An error occurred while processing the request";
+
+    @ExceptionHandler({ InvalidCredentialsException.class, BadCredentialsException.class })
+    public ResponseEntity<LoginResponse> handleBadCredentials(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(new LoginResponse(null, null, null, e.getMessage()));
+    }
+
+    @ExceptionHandler(NotAuthenticatedException.class)
+    public ResponseEntity<String> handleNotAuthenticated(NotAuthenticatedException e) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+    }
+
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<LoginResponse> handleLoginThrottled(LoginThrottledException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new LoginResponse(null, null, null, e.getMessage()));
+    }
+
+    @ExceptionHandler(HashingCapacityExceededException.class)
+    public ResponseEntity<Object> handleHashingCapacityExceeded(HashingCapacityExceededException e,
+            HandlerMethod handlerMethod) {
+        // Login clients expect the LoginResponse shape on every outcome
+        Object body = AuthController.class.isAssignableFrom(handlerMethod.getBeanType())
+                ? new LoginResponse(null, null, null, e.getMessage())
+                : e.getMessage();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(body);
+    }
+
+    @ExceptionHandler({ InvalidRequestException.class, IllegalArgumentException.class })
+    public ResponseEntity<String> handleInvalidRequest(RuntimeException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<String> handleUnexpected(Exception e) {
+        logger.error("Unhandled exception in request handler", e);
+        return ResponseEntity.internalServerError().body(UNEXPECTED_ERROR_MESSAGE);
+    }
+}
@@ -1,11 +1,10 @@
 package com.dbexp.db_experiment.controller;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
-import org.springframework.http.HttpStatus;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -18,7 +17,12 @@ import com.dbexp.db_experiment.dto.auth.LoginResponse;
 import com.dbexp.db_experiment.dto.auth.LogoutResponse;
 import com.dbexp.db_experiment.service.AuthService;
 
+/**
+ * Failed logins and hashing overload are answered by
+ * {@link ApiExceptionHandler}.
+ */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/auth")
 public class AuthController {
 
@@ -29,25 +33,22 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request, HttpSession session) {
-        try {
-            LoginResponse response = authService.login(request, session);
-            return ResponseEntity.ok(response);
-        } catch (BadCredentialsException e) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(new LoginResponse(null, null, null, e.getMessage()));
-        }
+    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
+        LoginResponse response = authService.login(request, httpRequest);
+        return ResponseEntity.ok(response);
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<LogoutResponse> logout(HttpSession session) {
-        LogoutResponse response = authService.logout(session);
+    public ResponseEntity<LogoutResponse> logout(HttpServletRequest httpRequest) {
+        LogoutResponse response = authService.logout(httpRequest.getSession(false));
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/me")
-    public ResponseEntity<CurrentUserResponse> getCurrentUser(HttpSession session) {
-        CurrentUserResponse response = authService.getCurrentUser(session);
+    public ResponseEntity<CurrentUserResponse> getCurrentUser(HttpServletRequest httpRequest) {
+        // Only look up an existing session; anonymous visitors must not get one
+        CurrentUserResponse response = authService.getCurrentUser(httpRequest.getSession(false));
         return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.dbexp.db_experiment.controller;
+
+import jakarta.validation.Valid;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.SessionAttribute;
+
+import com.dbexp.db_experiment.dto.community.CommentResponse;
+import com.dbexp.db_experiment.dto.community.CommentThreadResponse;
+import com.dbexp.db_experiment.dto.community.CreateCommentRequest;
+import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.CommentService;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/posts")
+public class CommentController {
+
+    private final CommentService commentService;
+
+    public CommentController(CommentService commentService) {
+        this.commentService = commentService;
+    }
+
+    @GetMapping("/{postId}/comments")
+    public ResponseEntity<CommentThreadResponse> getComments(@PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CommentThreadResponse response = commentService.getComments(postId, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{postId}/comments")
+    public ResponseEntity<CommentResponse> createComment(@PathVariable Long postId,
+            @SessionAttribute(name = AuthService.USER_ID_SESSION_KEY, required = false) Long userId,
+            @Valid @RequestBody CreateCommentRequest request) {
+        CommentResponse response = commentService.createComment(postId, userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
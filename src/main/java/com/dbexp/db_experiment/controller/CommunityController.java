@@ -0,0 +1,52 @@
+package com.dbexp.db_experiment.controller;
+
+import jakarta.validation.Valid;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.SessionAttribute;
+
+import com.dbexp.db_experiment.dto.community.CommunityFeedResponse;
+import com.dbexp.db_experiment.dto.community.CreatePostRequest;
+import com.dbexp.db_experiment.dto.community.PostResponse;
+import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.CommunityFeedService;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/communities")
+public class CommunityController {
+
+    private final CommunityFeedService communityFeedService;
+
+    public CommunityController(CommunityFeedService communityFeedService) {
+        this.communityFeedService = communityFeedService;
+    }
+
+    @GetMapping("/{communityName}/posts")
+    public ResponseEntity<CommunityFeedResponse> getPosts(@PathVariable String communityName,
+            @RequestParam(required = false) String sort,
+            @RequestParam(name = "t", required = false) String range,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CommunityFeedResponse response = communityFeedService.getCommunityPosts(communityName, sort, range, cursor,
+                limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{communityName}/posts")
+    public ResponseEntity<PostResponse> createPost(@PathVariable String communityName,
+            @SessionAttribute(name = AuthService.USER_ID_SESSION_KEY, required = false) Long userId,
+            @Valid @RequestBody CreatePostRequest request) {
+        PostResponse response = communityFeedService.createPost(communityName, userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
@@ -0,0 +1,32 @@
+package com.dbexp.db_experiment.controller;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dbexp.db_experiment.dto.community.CommunityFeedResponse;
+import com.dbexp.db_experiment.service.HomeFeedService;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/users")
+public class HomeFeedController {
+
+    private final HomeFeedService homeFeedService;
+
+    public HomeFeedController(HomeFeedService homeFeedService) {
+        this.homeFeedService = homeFeedService;
+    }
+
+    @GetMapping("/{userId}/home")
+    public ResponseEntity<CommunityFeedResponse> getHomeFeed(@PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CommunityFeedResponse response = homeFeedService.getHomeFeed(userId, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,74 @@
+package com.dbexp.db_experiment.controller;
+
+import java.net.InetSocketAddress;
+
+import jakarta.validation.Valid;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.WebSession;
+
+import reactor.core.publisher.Mono;
+
+import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
+import com.dbexp.db_experiment.dto.auth.LoginRequest;
+import com.dbexp.db_experiment.dto.auth.LoginResponse;
+import com.dbexp.db_experiment.dto.auth.LogoutResponse;
+import com.dbexp.db_experiment.exception.InvalidCredentialsException;
+import com.dbexp.db_experiment.security.HashingCapacityExceededException;
+import com.dbexp.db_experiment.security.LoginThrottledException;
+import com.dbexp.db_experiment.service.ReactiveAuthService;
+
+/**
+ * WebFlux version of {@link AuthController} for the {@code reactive} profile.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/auth")
+public class ReactiveAuthController {
+
+    private final ReactiveAuthService authService;
+
+    public ReactiveAuthController(ReactiveAuthService authService) {
+        this.authService = authService;
+    }
+
+    @PostMapping("/login")
+    public Mono<ResponseEntity<LoginResponse>> login(@Valid @RequestBody LoginRequest request, WebSession session,
+            ServerHttpRequest httpRequest) {
+        InetSocketAddress remoteAddress = httpRequest.getRemoteAddress();
+        String clientAddress = remoteAddress != null ? remoteAddress.getHostString() : null;
+        return authService.login(request, session, clientAddress)
+                .map(ResponseEntity::ok)
+                .onErrorResume(LoginThrottledException.class, e -> Mono.just(
+                        ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                                .body(new LoginResponse(null, null, null, e.getMessage()))))
+                .onErrorResume(InvalidCredentialsException.class, e -> Mono.just(
+                        ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                                .body(new LoginResponse(null, null, null, e.getMessage()))))
+                .onErrorResume(HashingCapacityExceededException.class, e -> Mono.just(
+                        ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                                .body(new LoginResponse(null, null, null, e.getMessage()))));
+    }
+
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<LogoutResponse>> logout(WebSession session) {
+        return authService.logout(session).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/me")
+    public Mono<ResponseEntity<CurrentUserResponse>> getCurrentUser(WebSession session) {
+        // Reading an unsaved WebSession does not persist it, so anonymous visitors get none
+        return authService.getCurrentUser(session).map(ResponseEntity::ok);
+    }
+}
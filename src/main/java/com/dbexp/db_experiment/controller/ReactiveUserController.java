@@ -0,0 +1,119 @@
+package com.dbexp.db_experiment.controller;
+
+import java.net.URI;
+
+import jakarta.validation.Valid;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import reactor.core.publisher.Mono;
+
+import com.dbexp.db_experiment.dto.user.ChangeEmailRequest;
+import com.dbexp.db_experiment.dto.user.ChangePasswordRequest;
+import com.dbexp.db_experiment.dto.user.ChangeUsernameRequest;
+import com.dbexp.db_experiment.dto.user.CreateUserRequest;
+import com.dbexp.db_experiment.dto.user.DeleteAccountRequest;
+import com.dbexp.db_experiment.dto.user.GetUserByIdRequest;
+import com.dbexp.db_experiment.dto.user.ListUsersRequest;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.security.HashingCapacityExceededException;
+import com.dbexp.db_experiment.service.ReactiveUserService;
+
+/**
+ * WebFlux version of {@link UserController} for the {@code reactive} profile,
+ * with the same routes, status codes and error bodies.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/users")
+public class ReactiveUserController {
+
+    private final ReactiveUserService userService;
+
+    public ReactiveUserController(ReactiveUserService userService) {
+        this.userService = userService;
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<?>> listUsers(@RequestParam(required = false) Long after,
+            @RequestParam(required = false) String afterUsername,
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) Integer limit) {
+        return respond(userService.listUsers(new ListUsersRequest(after, afterUsername, prefix, limit))
+                .map(ResponseEntity::ok), "An error occurred while listing users");
+    }
+
+    @GetMapping("/{userId}")
+    public Mono<ResponseEntity<?>> getUserById(@PathVariable Long userId) {
+        return respond(userService.getUserById(new GetUserByIdRequest(userId))
+                .map(ResponseEntity::ok), "An error occurred while fetching the user");
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<?>> createUser(@Valid @RequestBody CreateUserRequest request,
+            ServerWebExchange exchange) {
+        return respond(userService.createUser(request)
+                .map(response -> {
+                    URI location = UriComponentsBuilder
+                            .fromUri(exchange.getRequest().getURI())
+                            .path("/{id}")
+                            .buildAndExpand(response.getUserId())
+                            .toUri();
+                    return ResponseEntity.created(location).body(response);
+                }), "An error occurred while creating the user");
+    }
+
+    @PutMapping("/{userId}/username")
+    public Mono<ResponseEntity<?>> changeUsername(@PathVariable Long userId,
+            @Valid @RequestBody ChangeUsernameRequest request) {
+        return respond(userService.changeUsername(userId, request)
+                .map(ResponseEntity::ok), "An error occurred while changing the username");
+    }
+
+    @PutMapping("/{userId}/password")
+    public Mono<ResponseEntity<?>> changePassword(@PathVariable Long userId,
+            @Valid @RequestBody ChangePasswordRequest request) {
+        return respond(userService.changePassword(userId, request)
+                .map(ResponseEntity::ok), "An error occurred while changing password");
+    }
+
+    @PutMapping("/{userId}/email")
+    public Mono<ResponseEntity<?>> changeEmail(@PathVariable Long userId,
+            @Valid @RequestBody ChangeEmailRequest request) {
+        return respond(userService.changeEmail(userId, request)
+                .map(ResponseEntity::ok), "An error occurred while changing email");
+    }
+
+    @DeleteMapping("/{userId}")
+    public Mono<ResponseEntity<?>> deleteAccount(@PathVariable Long userId,
+            @Valid @RequestBody DeleteAccountRequest request) {
+        return respond(userService.deleteAccount(userId, request)
+                .map(ResponseEntity::ok), "An error occurred while deleting the account");
+    }
+
+    // Same mapping as the try/catch blocks in UserController
+    private static Mono<ResponseEntity<?>> respond(Mono<? extends ResponseEntity<?>> result, String failureMessage) {
+        return result.<ResponseEntity<?>>map(response -> response)
+                .onErrorResume(HashingCapacityExceededException.class, e -> Mono.just(
+                        ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                                .body(e.getMessage())))
+                .onErrorResume(InvalidRequestException.class, e -> Mono.just(
+                        ResponseEntity.badRequest().body(e.getMessage())))
+                .onErrorResume(e -> Mono.just(ResponseEntity.internalServerError().body(failureMessage)));
+    }
+}
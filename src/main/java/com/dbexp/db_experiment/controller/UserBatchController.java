@@ -0,0 +1,99 @@
+package com.dbexp.db_experiment.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import com.dbexp.db_experiment.dto.user.BatchCreateUsersResponse;
+import com.dbexp.db_experiment.dto.user.CreateUserRequest;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.service.UserBatchService;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/users")
+public class UserBatchController {
+
+    private final UserBatchService userBatchService;
+    private final ObjectReader createUserReader;
+
+    public UserBatchController(UserBatchService userBatchService, ObjectMapper objectMapper) {
+        this.userBatchService = userBatchService;
+        this.createUserReader = objectMapper.readerFor(CreateUserRequest.class);
+    }
+
+    /**
+     * Accepts either a JSON array or newline-delimited JSON objects. The body is
+     * parsed incrementally, so memory use does not grow with the request size
+     * beyond the per-item results.
+     */
+    @PostMapping(value = "/batch", consumes = { MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<BatchCreateUsersResponse> createUsers(HttpServletRequest request) {
+        try (InputStream body = request.getInputStream();
+                MappingIterator<CreateUserRequest> items = createUserReader.readValues(body)) {
+            BatchCreateUsersResponse response = userBatchService.createUsers(new ParsedItems(items));
+            if (response.getError() != null) {
+                return ResponseEntity.badRequest().body(response);
+            }
+            return ResponseEntity.ok(response);
+        } catch (IOException e) {
+            throw new InvalidRequestException("Malformed batch request body");
+        }
+    }
+
+    /**
+     * Reports parse failures as {@link InvalidRequestException} carrying the
+     * index of the offending item.
+     */
+    private static final class ParsedItems implements Iterator<CreateUserRequest> {
+
+        private final MappingIterator<CreateUserRequest> items;
+        private int index;
+
+        ParsedItems(MappingIterator<CreateUserRequest> items) {
+            this.items = items;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                return items.hasNextValue();
+            } catch (IOException e) {
+                throw malformed(e);
+            }
+        }
+
+        @Override
+        public CreateUserRequest next() {
+            try {
+                if (!items.hasNextValue()) {
+                    throw new NoSuchElementException();
+                }
+                return items.nextValue();
+            } catch (IOException e) {
+                throw malformed(e);
+            } finally {
+                index++;
+            }
+        }
+
+        private InvalidRequestException malformed(IOException e) {
+            return new InvalidRequestException("Malformed batch item at index " + index);
+        }
+    }
+}
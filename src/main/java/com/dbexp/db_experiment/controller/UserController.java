@@ -1,9 +1,11 @@
 package com.dbexp.db_experiment.controller;
 
 import java.net.URI;
+import java.util.List;
 
 import jakarta.validation.Valid;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
@@ -27,9 +30,18 @@ import com.dbexp.db_experiment.dto.user.DeleteAccountRequest;
 import com.dbexp.db_experiment.dto.user.DeleteAccountResponse;
 import com.dbexp.db_experiment.dto.user.GetUserByIdRequest;
 import com.dbexp.db_experiment.dto.user.GetUserByIdResponse;
+import com.dbexp.db_experiment.dto.user.GetUsersByIdsRequest;
+import com.dbexp.db_experiment.dto.user.GetUsersByIdsResponse;
+import com.dbexp.db_experiment.dto.user.ListUsersRequest;
+import com.dbexp.db_experiment.dto.user.ListUsersResponse;
 import com.dbexp.db_experiment.service.UserService;
 
+/**
+ * Errors thrown by {@link UserService} are mapped to responses by
+ * {@link ApiExceptionHandler}.
+ */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/users")
 public class UserController {
 
@@ -39,89 +51,68 @@ public class UserController {
         this.userService = userService;
     }
 
+    @GetMapping
+    public ResponseEntity<ListUsersResponse> listUsers(@RequestParam(required = false) Long after,
+            @RequestParam(required = false) String afterUsername,
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) Integer limit) {
+        ListUsersResponse response = userService.listUsers(new ListUsersRequest(after, afterUsername, prefix, limit));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<GetUsersByIdsResponse> getUsersByIds(@RequestParam List<Long> ids) {
+        return lookupUsers(new GetUsersByIdsRequest(ids));
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<GetUsersByIdsResponse> lookupUsers(@RequestBody GetUsersByIdsRequest request) {
+        GetUsersByIdsResponse response = userService.getUsersByIds(request);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{userId}")
-    public ResponseEntity<?> getUserById(@PathVariable Long userId) {
-        try {
-            GetUserByIdResponse response = userService.getUserById(new GetUserByIdRequest(userId));
-            return ResponseEntity.ok(response);
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body("An error occurred while fetching the user");
-        }
+    public ResponseEntity<GetUserByIdResponse> getUserById(@PathVariable Long userId) {
+        GetUserByIdResponse response = userService.getUserById(new GetUserByIdRequest(userId));
+        return ResponseEntity.ok(response);
     }
 
     @PostMapping
-    public ResponseEntity<?> createUser(@Valid @RequestBody CreateUserRequest request) {
-        try {
-            CreateUserResponse response = userService.createUser(request);
-            URI location = ServletUriComponentsBuilder
-                    .fromCurrentRequest()
-                    .path("/{id}")
-                    .buildAndExpand(response.getUserId())
-                    .toUri();
-            return ResponseEntity.created(location).body(response);
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body("An error occurred while creating the user");
-        }
+    public ResponseEntity<CreateUserResponse> createUser(@Valid @RequestBody CreateUserRequest request) {
+        CreateUserResponse response = userService.createUser(request);
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(response.getUserId())
+                .toUri();
+        return ResponseEntity.created(location).body(response);
     }
 
     @PutMapping("/{userId}/username")
-    public ResponseEntity<?> changeUsername(@PathVariable Long userId,
+    public ResponseEntity<ChangeUsernameResponse> changeUsername(@PathVariable Long userId,
             @Valid @RequestBody ChangeUsernameRequest request) {
-        try {
-            ChangeUsernameResponse response = userService.changeUsername(userId, request);
-            return ResponseEntity.ok(response);
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body("An error occurred while changing the username");
-        }
+        ChangeUsernameResponse response = userService.changeUsername(userId, request);
+        return ResponseEntity.ok(response);
     }
 
     @PutMapping("/{userId}/password")
-    public ResponseEntity<?> changePassword(@PathVariable Long userId,
+    public ResponseEntity<ChangePasswordResponse> changePassword(@PathVariable Long userId,
             @Valid @RequestBody ChangePasswordRequest request) {
-        try {
-            ChangePasswordResponse response = userService.changePassword(userId, request);
-            return ResponseEntity.ok(response);
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body("An error occurred while changing password");
-        }
+        ChangePasswordResponse response = userService.changePassword(userId, request);
+        return ResponseEntity.ok(response);
     }
 
     @PutMapping("/{userId}/email")
-    public ResponseEntity<?> changeEmail(@PathVariable Long userId, @Valid @RequestBody ChangeEmailRequest request) {
-        try {
-            ChangeEmailResponse response = userService.changeEmail(userId, request);
-            return ResponseEntity.ok(response);
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body("An error occurred while changing email");
-        }
+    public ResponseEntity<ChangeEmailResponse> changeEmail(@PathVariable Long userId,
+            @Valid @RequestBody ChangeEmailRequest request) {
+        ChangeEmailResponse response = userService.changeEmail(userId, request);
+        return ResponseEntity.ok(response);
     }
 
     @DeleteMapping("/{userId}")
-    public ResponseEntity<?> deleteAccount(@PathVariable Long userId,
+    public ResponseEntity<DeleteAccountResponse> deleteAccount(@PathVariable Long userId,
             @Valid @RequestBody DeleteAccountRequest request) {
-        try {
-            DeleteAccountResponse response = userService.deleteAccount(userId, request);
-            return ResponseEntity.ok(response);
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body("An error occurred while deleting the account");
-        }
+        DeleteAccountResponse response = userService.deleteAccount(userId, request);
+        return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+}
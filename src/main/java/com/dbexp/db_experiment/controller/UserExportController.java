@@ -0,0 +1,79 @@
+package com.dbexp.db_experiment.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dbexp.db_experiment.service.UserExportService;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/users")
+public class UserExportController {
+
+    private final UserExportService userExportService;
+
+    public UserExportController(UserExportService userExportService) {
+        this.userExportService = userExportService;
+    }
+
+    /**
+     * Streams all users as NDJSON in {@code user_id} order, gzip-compressed on
+     * the fly when the client accepts it. The response is chunked and written
+     * while the database cursor is read, so a partial download can be resumed
+     * with {@code after} set to the last {@code userId} received.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportUsers(@RequestParam(defaultValue = "0") long after,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        if (after < 0) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "after must not be negative");
+            return;
+        }
+
+        boolean gzip = acceptsGzip(acceptEncoding);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            // syncFlush so every periodic flush pushes complete lines to the client
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192, true);
+            userExportService.exportNdjson(after, gzipOut);
+            gzipOut.finish();
+        } else {
+            userExportService.exportNdjson(after, out);
+        }
+        out.flush();
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
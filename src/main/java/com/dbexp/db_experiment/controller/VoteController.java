@@ -0,0 +1,49 @@
+package com.dbexp.db_experiment.controller;
+
+import jakarta.validation.Valid;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.SessionAttribute;
+
+import com.dbexp.db_experiment.dto.community.VoteRequest;
+import com.dbexp.db_experiment.dto.community.VoteResponse;
+import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.VoteService;
+
+/**
+ * Votes are cast as the session's user; without one the service answers 401
+ * through {@link ApiExceptionHandler}.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api")
+public class VoteController {
+
+    private final VoteService voteService;
+
+    public VoteController(VoteService voteService) {
+        this.voteService = voteService;
+    }
+
+    @PutMapping("/posts/{postId}/vote")
+    public ResponseEntity<VoteResponse> votePost(@PathVariable Long postId,
+            @SessionAttribute(name = AuthService.USER_ID_SESSION_KEY, required = false) Long userId,
+            @Valid @RequestBody VoteRequest request) {
+        VoteResponse response = voteService.votePost(postId, userId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/comments/{commentId}/vote")
+    public ResponseEntity<VoteResponse> voteComment(@PathVariable Long commentId,
+            @SessionAttribute(name = AuthService.USER_ID_SESSION_KEY, required = false) Long userId,
+            @Valid @RequestBody VoteRequest request) {
+        VoteResponse response = voteService.voteComment(commentId, userId, request);
+        return ResponseEntity.ok(response);
+    }
+}
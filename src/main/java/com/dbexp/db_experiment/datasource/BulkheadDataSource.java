@@ -0,0 +1,152 @@
+package com.dbexp.db_experiment.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Admits connection checkouts through a fair semaphore sized to the pool.
+ *
+ * With virtual threads thousands of requests can reach the pool at once and
+ * each would fail after the pool's connection timeout. Here they park cheaply
+ * in a bounded queue for up to {@code maxWait} instead, and the pool only ever
+ * sees as many borrowers as it has connections. A permit is held until the
+ * connection is closed (returned to the pool).
+ */
+public class BulkheadDataSource extends DelegatingDataSource implements MeterBinder {
+
+    private final int maxPermits;
+    private final int maxWaiting;
+    private final long maxWaitNanos;
+
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    public BulkheadDataSource(DataSource targetDataSource, int maxPermits, int maxWaiting, Duration maxWait) {
+        super(targetDataSource);
+        this.maxPermits = maxPermits;
+        this.maxWaiting = maxWaiting;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxPermits, true);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindTo(registry, Tags.empty());
+    }
+
+    public void bindTo(MeterRegistry registry, Iterable<Tag> tags) {
+        Gauge.builder("db.bulkhead.in.use", permits, p -> maxPermits - p.availablePermits())
+                .tags(tags)
+                .description("Connections checked out through the bulkhead")
+                .register(registry);
+        Gauge.builder("db.bulkhead.waiting", waiting, AtomicInteger::get)
+                .tags(tags)
+                .description("Callers queued for a connection permit")
+                .register(registry);
+        FunctionCounter.builder("db.bulkhead.rejected", rejected, LongAdder::sum)
+                .tags(tags)
+                .description("Checkouts rejected because the queue was full or the wait timed out")
+                .register(registry);
+    }
+
+    private void acquire() throws SQLException {
+        // Zero-timeout tryAcquire honours fairness, so queued callers are not overtaken
+        try {
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            rejected.increment();
+            throw new SQLTransientConnectionException("Too many requests waiting for a database connection");
+        }
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+        if (!acquired) {
+            rejected.increment();
+            throw new SQLTransientConnectionException("Timed out waiting for a database connection");
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        yield null;
+                    }
+                    default -> {
+                        try {
+                            yield method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,47 @@
+package com.dbexp.db_experiment.datasource;
+
+import java.time.Duration;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Pins a session's reads to the primary for {@code window} after one of its
+ * requests ran a read-write transaction, so a user sees their own changes
+ * despite replica lag. Requests without a session are never pinned and no
+ * session is created for this.
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    static final String PRIMARY_UNTIL_SESSION_KEY = "replica.primaryUntil";
+
+    private final long windowMillis;
+
+    public ReadYourWritesInterceptor(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        HttpSession session = request.getSession(false);
+        Long primaryUntil = session != null ? (Long) session.getAttribute(PRIMARY_UNTIL_SESSION_KEY) : null;
+        ReplicaRouting.begin(primaryUntil != null && primaryUntil > System.currentTimeMillis());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        if (!ReplicaRouting.end()) {
+            return;
+        }
+        // Logout invalidates the session, in which case there is nothing to pin
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.setAttribute(PRIMARY_UNTIL_SESSION_KEY, System.currentTimeMillis() + windowMillis);
+        }
+    }
+}
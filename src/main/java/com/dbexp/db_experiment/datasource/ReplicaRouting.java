@@ -0,0 +1,60 @@
+package com.dbexp.db_experiment.datasource;
+
+/**
+ * Thread-local routing hints for {@link ReplicaRoutingDataSource}.
+ *
+ * A request scope opened with {@link #begin(boolean)} can be pinned to the
+ * primary (read-your-writes) and records whether it ran a read-write
+ * transaction.
+ */
+public final class ReplicaRouting {
+
+    private static final ThreadLocal<ReplicaRouting> CURRENT = new ThreadLocal<>();
+
+    private boolean active;
+    private boolean pinnedToPrimary;
+    private boolean wrote;
+
+    private ReplicaRouting() {
+    }
+
+    /**
+     * Starts tracking the request on the current thread.
+     */
+    public static void begin(boolean pinnedToPrimary) {
+        ReplicaRouting routing = CURRENT.get();
+        if (routing == null) {
+            routing = new ReplicaRouting();
+            CURRENT.set(routing);
+        }
+        routing.active = true;
+        routing.pinnedToPrimary = pinnedToPrimary;
+        routing.wrote = false;
+    }
+
+    /**
+     * Stops tracking the request on the current thread.
+     *
+     * @return whether the request ran a read-write transaction
+     */
+    public static boolean end() {
+        ReplicaRouting routing = CURRENT.get();
+        if (routing == null || !routing.active) {
+            return false;
+        }
+        routing.active = false;
+        return routing.wrote;
+    }
+
+    static boolean isPrimaryRequired() {
+        ReplicaRouting routing = CURRENT.get();
+        return routing != null && routing.active && routing.pinnedToPrimary;
+    }
+
+    static void recordWrite() {
+        ReplicaRouting routing = CURRENT.get();
+        if (routing != null && routing.active) {
+            routing.wrote = true;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.dbexp.db_experiment.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica and everything else (writes and
+ * non-transactional calls) to the primary, unless {@link ReplicaRouting}
+ * requires the primary for the current thread.
+ *
+ * The routing decision reads the transaction's read-only flag, which is only
+ * set after the transaction manager has asked for a connection, so this must
+ * sit behind a {@link LazyConnectionDataSourceProxy} (see {@link #lazy}). The
+ * proxy also means a transaction that never runs a statement never borrows a
+ * connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY, REPLICA
+    }
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public static DataSource lazy(DataSource primary, DataSource replica) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReplicaRouting.recordWrite();
+            }
+            return Route.PRIMARY;
+        }
+        return ReplicaRouting.isPrimaryRequired() ? Route.PRIMARY : Route.REPLICA;
+    }
+}
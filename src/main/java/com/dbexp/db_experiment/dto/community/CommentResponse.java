@@ -0,0 +1,20 @@
+package com.dbexp.db_experiment.dto.community;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record CommentResponse(
+        Long commentId,
+        Long parentCommentId,
+        Long userId,
+        String username,
+        String content,
+        LocalDateTime createdAt,
+        int score,
+        List<CommentResponse> replies,
+        // Direct replies not included above; only a lower bound when the
+        // comment's subtree was cut off, which moreCursor alone signals then
+        int moreReplies,
+        // Cursor that loads them; null when none are left out
+        String moreCursor) {
+}
@@ -0,0 +1,10 @@
+package com.dbexp.db_experiment.dto.community;
+
+import java.util.List;
+
+public record CommentThreadResponse(
+        List<CommentResponse> comments,
+        boolean hasMore,
+        // Opaque cursor for the next comments at this level; null on the last page
+        String nextCursor) {
+}
@@ -0,0 +1,10 @@
+package com.dbexp.db_experiment.dto.community;
+
+import java.util.List;
+
+public record CommunityFeedResponse(
+        List<PostResponse> posts,
+        boolean hasMore,
+        // Opaque keyset cursor for the next page; null on the last page
+        String nextCursor) {
+}
@@ -0,0 +1,11 @@
+package com.dbexp.db_experiment.dto.community;
+
+import jakarta.validation.constraints.NotBlank;
+
+// The author is the session's user, never a field of the body
+public record CreateCommentRequest(
+        // Omitted for a top-level comment
+        Long parentCommentId,
+
+        @NotBlank(message = "Content is required") String content) {
+}
@@ -0,0 +1,12 @@
+package com.dbexp.db_experiment.dto.community;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+// The author is the session's user, never a field of the body
+public record CreatePostRequest(
+        @NotBlank(message = "Title is required")
+        @Size(max = 255, message = "Title must not exceed 255 characters") String title,
+
+        @NotBlank(message = "Content is required") String content) {
+}
@@ -0,0 +1,25 @@
+package com.dbexp.db_experiment.dto.community;
+
+import java.time.LocalDateTime;
+
+import com.dbexp.db_experiment.cache.PostSummary;
+
+public record PostResponse(
+        Long postId,
+        Long communityId,
+        Long userId,
+        String username,
+        String title,
+        LocalDateTime createdAt,
+        int score) {
+    public static PostResponse from(PostSummary post) {
+        return new PostResponse(
+                post.postId(),
+                post.communityId(),
+                post.userId(),
+                post.username(),
+                post.title(),
+                post.createdAt(),
+                post.score());
+    }
+}
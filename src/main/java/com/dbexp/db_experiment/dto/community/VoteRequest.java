@@ -0,0 +1,13 @@
+package com.dbexp.db_experiment.dto.community;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+// The voter is the session's user, never a field of the body
+public record VoteRequest(
+        // 1 up, -1 down, 0 withdraws the vote
+        @NotNull(message = "Vote is required")
+        @Min(value = -1, message = "Vote must be -1, 0 or 1")
+        @Max(value = 1, message = "Vote must be -1, 0 or 1") Integer vote) {
+}
@@ -0,0 +1,7 @@
+package com.dbexp.db_experiment.dto.community;
+
+public record VoteResponse(
+        Long targetId,
+        int vote,
+        int previousVote) {
+}
@@ -0,0 +1,67 @@
+package com.dbexp.db_experiment.dto.user;
+
+public class BatchCreateUserResult {
+
+    public enum Status {
+        CREATED,
+        CONFLICT,
+        INVALID,
+        FAILED
+    }
+
+    private int index;
+    private Status status;
+    private Long userId;
+    private String username;
+    private String message;
+
+    // Constructors
+    public BatchCreateUserResult(int index, Status status, Long userId, String username, String message) {
+        this.index = index;
+        this.status = status;
+        this.userId = userId;
+        this.username = username;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,73 @@
+package com.dbexp.db_experiment.dto.user;
+
+import java.util.List;
+
+public class BatchCreateUsersResponse {
+
+    private int created;
+    private int conflicts;
+    private int invalid;
+    private int failed;
+    private List<BatchCreateUserResult> results;
+    private String error;
+
+    // Constructors
+    public BatchCreateUsersResponse(int created, int conflicts, int invalid, int failed,
+            List<BatchCreateUserResult> results, String error) {
+        this.created = created;
+        this.conflicts = conflicts;
+        this.invalid = invalid;
+        this.failed = failed;
+        this.results = results;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getConflicts() {
+        return conflicts;
+    }
+
+    public void setConflicts(int conflicts) {
+        this.conflicts = conflicts;
+    }
+
+    public int getInvalid() {
+        return invalid;
+    }
+
+    public void setInvalid(int invalid) {
+        this.invalid = invalid;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BatchCreateUserResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchCreateUserResult> results) {
+        this.results = results;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
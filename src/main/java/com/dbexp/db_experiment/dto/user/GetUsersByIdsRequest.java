@@ -0,0 +1,25 @@
+package com.dbexp.db_experiment.dto.user;
+
+import java.util.List;
+
+public class GetUsersByIdsRequest {
+
+    private List<Long> ids;
+
+    // Constructors
+    public GetUsersByIdsRequest() {
+    }
+
+    public GetUsersByIdsRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    // Getters and Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
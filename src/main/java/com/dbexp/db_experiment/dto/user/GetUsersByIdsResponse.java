@@ -0,0 +1,34 @@
+package com.dbexp.db_experiment.dto.user;
+
+import java.util.List;
+import java.util.Map;
+
+public class GetUsersByIdsResponse {
+
+    // Keyed by user id, in request order
+    private Map<Long, GetUserByIdResponse> users;
+    private List<Long> notFound;
+
+    // Constructors
+    public GetUsersByIdsResponse(Map<Long, GetUserByIdResponse> users, List<Long> notFound) {
+        this.users = users;
+        this.notFound = notFound;
+    }
+
+    // Getters and Setters
+    public Map<Long, GetUserByIdResponse> getUsers() {
+        return users;
+    }
+
+    public void setUsers(Map<Long, GetUserByIdResponse> users) {
+        this.users = users;
+    }
+
+    public List<Long> getNotFound() {
+        return notFound;
+    }
+
+    public void setNotFound(List<Long> notFound) {
+        this.notFound = notFound;
+    }
+}
@@ -0,0 +1,50 @@
+package com.dbexp.db_experiment.dto.user;
+
+public class ListUsersRequest {
+
+    private Long after;
+    private String afterUsername;
+    private String prefix;
+    private Integer limit;
+
+    // Constructors
+    public ListUsersRequest(Long after, String afterUsername, String prefix, Integer limit) {
+        this.after = after;
+        this.afterUsername = afterUsername;
+        this.prefix = prefix;
+        this.limit = limit;
+    }
+
+    // Getters and Setters
+    public Long getAfter() {
+        return after;
+    }
+
+    public void setAfter(Long after) {
+        this.after = after;
+    }
+
+    public String getAfterUsername() {
+        return afterUsername;
+    }
+
+    public void setAfterUsername(String afterUsername) {
+        this.afterUsername = afterUsername;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+}
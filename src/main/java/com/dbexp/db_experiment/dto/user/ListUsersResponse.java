@@ -0,0 +1,55 @@
+package com.dbexp.db_experiment.dto.user;
+
+import java.util.List;
+
+public class ListUsersResponse {
+
+    private List<GetUserByIdResponse> users;
+    private boolean hasMore;
+    // Cursor for the next page: an id when listing by id, a username when
+    // filtering by prefix; null on the last page
+    private Long nextAfter;
+    private String nextAfterUsername;
+
+    // Constructors
+    public ListUsersResponse(List<GetUserByIdResponse> users, boolean hasMore, Long nextAfter,
+            String nextAfterUsername) {
+        this.users = users;
+        this.hasMore = hasMore;
+        this.nextAfter = nextAfter;
+        this.nextAfterUsername = nextAfterUsername;
+    }
+
+    // Getters and Setters
+    public List<GetUserByIdResponse> getUsers() {
+        return users;
+    }
+
+    public void setUsers(List<GetUserByIdResponse> users) {
+        this.users = users;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public Long getNextAfter() {
+        return nextAfter;
+    }
+
+    public void setNextAfter(Long nextAfter) {
+        this.nextAfter = nextAfter;
+    }
+
+    public String getNextAfterUsername() {
+        return nextAfterUsername;
+    }
+
+    public void setNextAfterUsername(String nextAfterUsername) {
+        this.nextAfterUsername = nextAfterUsername;
+    }
+}
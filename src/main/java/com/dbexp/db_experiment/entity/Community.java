@@ -0,0 +1,75 @@
+package com.dbexp.db_experiment.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("Community")
+public class Community {
+
+    @Id
+    @Column("community_id")
+    private Long communityId;
+
+    @Column("community_name")
+    private String communityName;
+
+    @Column("community_title")
+    private String communityTitle;
+
+    @Column("community_description")
+    private String communityDescription;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public Community(String communityName, String communityTitle, String communityDescription) {
+        this.communityName = communityName;
+        this.communityTitle = communityTitle;
+        this.communityDescription = communityDescription;
+    }
+
+    // Getters and Setters
+    public Long getCommunityId() {
+        return communityId;
+    }
+
+    public void setCommunityId(Long communityId) {
+        this.communityId = communityId;
+    }
+
+    public String getCommunityName() {
+        return communityName;
+    }
+
+    public void setCommunityName(String communityName) {
+        this.communityName = communityName;
+    }
+
+    public String getCommunityTitle() {
+        return communityTitle;
+    }
+
+    public void setCommunityTitle(String communityTitle) {
+        this.communityTitle = communityTitle;
+    }
+
+    public String getCommunityDescription() {
+        return communityDescription;
+    }
+
+    public void setCommunityDescription(String communityDescription) {
+        this.communityDescription = communityDescription;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
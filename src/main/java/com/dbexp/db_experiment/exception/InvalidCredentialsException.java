@@ -0,0 +1,13 @@
+package com.dbexp.db_experiment.exception;
+
+/**
+ * A failed login, the error a credential-stuffing attack produces on every
+ * attempt. Answered with 401 and a LoginResponse body. Stackless, like the
+ * other expected failures in this package.
+ */
+public class InvalidCredentialsException extends RuntimeException {
+
+    public InvalidCredentialsException(String message) {
+        super(message, null, false, false);
+    }
+}
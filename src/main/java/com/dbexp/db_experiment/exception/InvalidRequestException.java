@@ -0,0 +1,17 @@
+package com.dbexp.db_experiment.exception;
+
+/**
+ * A request the service rejects as invalid for the current data: unknown
+ * user, wrong current password, taken username, bad paging parameters.
+ * Answered with 400 and the message as body.
+ *
+ * These are routine under bot or credential-stuffing traffic, so no stack
+ * trace is captured; walking the stack was most of the cost of a rejected
+ * request.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message, null, false, false);
+    }
+}
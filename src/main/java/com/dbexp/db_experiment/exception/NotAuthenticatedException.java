@@ -0,0 +1,13 @@
+package com.dbexp.db_experiment.exception;
+
+/**
+ * A request that acts as a user was made without a logged-in session.
+ * Answered with 401 and the message as body. Stackless, like the other
+ * expected failures in this package.
+ */
+public class NotAuthenticatedException extends RuntimeException {
+
+    public NotAuthenticatedException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,40 @@
+package com.dbexp.db_experiment.feed;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.dbexp.db_experiment.cache.PostSummary;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+
+/**
+ * Keyset position in a feed ordered by {@code created_at DESC, post_id DESC}:
+ * the sort key of the last post a page returned. Clients get it as an opaque
+ * URL-safe token and send it back unchanged for the next page.
+ */
+public record FeedCursor(LocalDateTime createdAt, long postId) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static FeedCursor after(PostSummary post) {
+        return new FeedCursor(post.createdAt(), post.postId());
+    }
+
+    public String encode() {
+        return ENCODER.encodeToString((createdAt + "_" + postId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FeedCursor decode(String token) {
+        try {
+            String value = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf('_');
+            return new FeedCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+}
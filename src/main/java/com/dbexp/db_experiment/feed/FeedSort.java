@@ -0,0 +1,78 @@
+package com.dbexp.db_experiment.feed;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+
+/**
+ * Orders a community feed can be listed in. {@code NEW} pages through the
+ * feed index; the ranked orders are served from {@link HotRankings}.
+ */
+public enum FeedSort {
+    NEW(null),
+    HOT(null),
+    TOP_DAY(Duration.ofDays(1)),
+    TOP_WEEK(Duration.ofDays(7)),
+    TOP_ALL(null);
+
+    public static final List<FeedSort> RANKED = List.of(HOT, TOP_DAY, TOP_WEEK, TOP_ALL);
+
+    // Reddit's hot formula: ten times the score is worth 12.5 hours of age.
+    // The age term grows with creation time rather than shrinking with "now",
+    // so hot ranks never change while a post sits idle
+    private static final long HOT_EPOCH_SECONDS = 1134028003L;
+    private static final double HOT_SECONDS_PER_DECADE = 45000;
+
+    private final Duration window;
+
+    FeedSort(Duration window) {
+        this.window = window;
+    }
+
+    /**
+     * How far back the posts of a top sort may be created, or {@code null}
+     * for no limit.
+     */
+    public Duration window() {
+        return window;
+    }
+
+    /**
+     * The post's sort key in a ranked order; higher ranks list first.
+     */
+    public double rank(int score, LocalDateTime createdAt) {
+        return switch (this) {
+            case HOT -> Math.signum(score) * Math.log10(Math.max(Math.abs(score), 1))
+                    + (createdAt.toEpochSecond(ZoneOffset.UTC) - HOT_EPOCH_SECONDS) / HOT_SECONDS_PER_DECADE;
+            case TOP_DAY, TOP_WEEK, TOP_ALL -> score;
+            case NEW -> throw new IllegalStateException("NEW is not a ranked order");
+        };
+    }
+
+    /**
+     * Parses the {@code sort} and {@code t} request parameters, as in
+     * {@code ?sort=top&t=week}. A top sort defaults to the last day.
+     */
+    public static FeedSort parse(String sort, String range) {
+        if (sort == null || sort.isEmpty() || sort.equals("new")) {
+            return NEW;
+        }
+        if (sort.equals("hot")) {
+            return HOT;
+        }
+        if (!sort.equals("top")) {
+            throw new InvalidRequestException("Sort must be new, hot or top");
+        }
+        if (range == null || range.isEmpty() || range.equals("day")) {
+            return TOP_DAY;
+        }
+        return switch (range) {
+            case "week" -> TOP_WEEK;
+            case "all" -> TOP_ALL;
+            default -> throw new InvalidRequestException("Time range must be day, week or all");
+        };
+    }
+}
@@ -0,0 +1,220 @@
+package com.dbexp.db_experiment.feed;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.dbexp.db_experiment.cache.CommunityFeedCache;
+import com.dbexp.db_experiment.cache.PostSummary;
+import com.dbexp.db_experiment.repository.PostRepository;
+
+/**
+ * Home feeds: the newest posts across a set of communities, ordered like a
+ * community feed by {@code (created_at, post_id)}.
+ *
+ * A page is a k-way merge. Each community contributes a run of its newest
+ * posts, taken from {@link CommunityFeedCache} and positioned after the
+ * cursor by binary search, and a heap of the runs' heads yields the page.
+ * The cost is set by the page size and the log of the subscription count, not
+ * by how many posts the communities hold. A run that ends before the page is
+ * full is continued with a keyset query on that community alone, as is a
+ * community whose posts are not cached.
+ *
+ * Since the feed order is a total order, the cursor of the last post returned
+ * is also the position in every community's run, so cursors stay the same
+ * size however many communities are merged. A page that would need more than
+ * {@code max-queries} queries, or a merge of more than
+ * {@code max-communities} communities, falls back to one SQL query over all
+ * of them.
+ */
+@Component
+public class HomeFeed {
+
+    // Newest first, as the feed index returns them
+    private static final Comparator<PostSummary> NEWEST_FIRST = Comparator
+            .comparing(PostSummary::createdAt)
+            .thenComparing(PostSummary::postId)
+            .reversed();
+
+    private final CommunityFeedCache feedCache;
+    private final PostRepository postRepository;
+    private final int maxCommunities;
+    private final int maxQueries;
+    private final Counter mergedPages;
+    private final Counter sqlPages;
+
+    public HomeFeed(CommunityFeedCache feedCache, PostRepository postRepository, MeterRegistry meterRegistry,
+            @Value("${app.feeds.home.max-communities:1000}") int maxCommunities,
+            @Value("${app.feeds.home.max-queries:8}") int maxQueries) {
+        this.feedCache = feedCache;
+        this.postRepository = postRepository;
+        this.maxCommunities = maxCommunities;
+        this.maxQueries = maxQueries;
+        this.mergedPages = Counter.builder("app.feeds.home.pages")
+                .description("Home feed pages by how they were built")
+                .tag("source", "merge")
+                .register(meterRegistry);
+        this.sqlPages = Counter.builder("app.feeds.home.pages")
+                .description("Home feed pages by how they were built")
+                .tag("source", "sql")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns up to {@code limit} posts of the communities, newest first,
+     * after the cursor.
+     */
+    public List<PostSummary> page(Collection<Long> communityIds, FeedCursor after, int limit) {
+        if (communityIds.isEmpty()) {
+            return List.of();
+        }
+        if (communityIds.size() <= maxCommunities) {
+            List<PostSummary> page = new Merge(after, limit).run(communityIds);
+            if (page != null) {
+                mergedPages.increment();
+                return page;
+            }
+        }
+        sqlPages.increment();
+        return after == null
+                ? postRepository.findHomeFeedFirstPage(communityIds, limit)
+                : postRepository.findHomeFeedPageBefore(communityIds, after.createdAt(), after.postId(), limit);
+    }
+
+    private static boolean isAfter(PostSummary post, FeedCursor cursor) {
+        int byTime = post.createdAt().compareTo(cursor.createdAt());
+        return byTime < 0 || (byTime == 0 && post.postId() < cursor.postId());
+    }
+
+    /**
+     * One page's merge; gives up, returning {@code null}, once it would run
+     * more than {@code maxQueries} queries.
+     */
+    private final class Merge {
+
+        private final FeedCursor after;
+        private final int limit;
+        private int queries;
+
+        Merge(FeedCursor after, int limit) {
+            this.after = after;
+            this.limit = limit;
+        }
+
+        List<PostSummary> run(Collection<Long> communityIds) {
+            PriorityQueue<Run> heads = new PriorityQueue<>(communityIds.size(),
+                    Comparator.comparing(Run::head, NEWEST_FIRST));
+            for (long communityId : communityIds) {
+                Run run = open(communityId);
+                if (run == null || !fill(run, limit)) {
+                    return null;
+                }
+                if (run.hasNext()) {
+                    heads.add(run);
+                }
+            }
+
+            List<PostSummary> page = new ArrayList<>(limit);
+            while (page.size() < limit && !heads.isEmpty()) {
+                Run run = heads.poll();
+                page.add(run.next());
+                if (!fill(run, limit - page.size())) {
+                    return null;
+                }
+                if (run.hasNext()) {
+                    heads.add(run);
+                }
+            }
+            return page;
+        }
+
+        private Run open(long communityId) {
+            List<PostSummary> rows = feedCache.cachedFirstPage(communityId);
+            if (rows == null) {
+                if (++queries > maxQueries) {
+                    return null;
+                }
+                // Caches the run for the next page and the community's own feed
+                rows = feedCache.firstPage(communityId, feedCache.firstPageRows());
+            }
+            Run run = new Run(communityId, rows, rows.size() >= feedCache.firstPageRows());
+            if (after != null) {
+                run.skipTo(after);
+            }
+            return run;
+        }
+
+        // Continues a run that ended while the page still needs posts
+        private boolean fill(Run run, int needed) {
+            if (run.hasNext() || !run.more || needed == 0) {
+                return true;
+            }
+            if (++queries > maxQueries) {
+                return false;
+            }
+            FeedCursor before = after;
+            if (!run.rows.isEmpty() && (before == null || isAfter(run.rows.getLast(), before))) {
+                before = FeedCursor.after(run.rows.getLast());
+            }
+            List<PostSummary> rows = postRepository.findFeedPageBefore(run.communityId, before.createdAt(),
+                    before.postId(), needed);
+            run.continueWith(rows, rows.size() >= needed);
+            return true;
+        }
+    }
+
+    private static final class Run {
+
+        private final long communityId;
+        private List<PostSummary> rows;
+        private int index;
+        // Whether the community may have posts after the last row
+        private boolean more;
+
+        Run(long communityId, List<PostSummary> rows, boolean more) {
+            this.communityId = communityId;
+            this.rows = rows;
+            this.more = more;
+        }
+
+        void skipTo(FeedCursor after) {
+            int low = 0;
+            int high = rows.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (isAfter(rows.get(mid), after)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            index = low;
+        }
+
+        void continueWith(List<PostSummary> rows, boolean more) {
+            this.rows = rows;
+            this.index = 0;
+            this.more = more;
+        }
+
+        boolean hasNext() {
+            return index < rows.size();
+        }
+
+        PostSummary head() {
+            return rows.get(index);
+        }
+
+        PostSummary next() {
+            return rows.get(index++);
+        }
+    }
+}
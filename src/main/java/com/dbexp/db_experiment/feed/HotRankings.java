@@ -0,0 +1,140 @@
+package com.dbexp.db_experiment.feed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.dbexp.db_experiment.cache.PostSummary;
+import com.dbexp.db_experiment.repository.PostRepository;
+import com.dbexp.db_experiment.vote.VoteCountListener;
+import com.dbexp.db_experiment.vote.VoteDelta;
+import com.dbexp.db_experiment.vote.VoteTally;
+import com.dbexp.db_experiment.vote.VoteTarget;
+
+/**
+ * In-memory hot and top rankings of every community, which a SQL sort could
+ * only produce by scoring and sorting all of a community's posts per page.
+ *
+ * Each community keeps a {@link PostRanking} per ranked {@link FeedSort},
+ * holding its best {@code max-posts} posts; deeper pages are not served.
+ * New posts are offered as they are created and voted posts after each vote
+ * count flush, with the score just written. The rankings are built by
+ * {@link RankingLoader} before requests are served and rebuilt every
+ * {@code rebuild-interval-ms}, which also drops posts of deleted accounts and
+ * refills top-of-day and top-of-week as older posts leave them. Updates that
+ * arrive during a rebuild are replayed onto the new rankings.
+ */
+@Component
+public class HotRankings implements VoteCountListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotRankings.class);
+
+    private final RankingLoader loader;
+    private final int maxPosts;
+    private volatile Map<Long, Map<FeedSort, PostRanking>> rankings = new ConcurrentHashMap<>();
+    // Updates made while a rebuild runs; guarded by this
+    private List<PostSummary> replay;
+
+    public HotRankings(PostRepository postRepository, VoteTally voteTally, MeterRegistry meterRegistry,
+            @Value("${app.ranking.max-posts:1000}") int maxPosts,
+            @Value("${app.ranking.load-chunk-size:50000}") int loadChunkSize,
+            @Value("${app.ranking.load-parallelism:4}") int loadParallelism) {
+        this.loader = new RankingLoader(postRepository, maxPosts, loadChunkSize, loadParallelism);
+        this.maxPosts = maxPosts;
+        voteTally.addListener(this);
+
+        Gauge.builder("app.ranking.communities", this, r -> r.rankings.size())
+                .description("Communities with in-memory hot and top rankings")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void load() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.ranking.rebuild-interval-ms:3600000}",
+            initialDelayString = "${app.ranking.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        long started = System.nanoTime();
+        synchronized (this) {
+            replay = new ArrayList<>();
+        }
+        Map<Long, Map<FeedSort, PostRanking>> built;
+        try {
+            built = loader.load();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                replay = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            for (PostSummary post : replay) {
+                offer(built, post);
+            }
+            rankings = built;
+            replay = null;
+        }
+        logger.info("Built post rankings for {} communities in {} ms", built.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    /**
+     * Inserts a post into its community's rankings, or re-ranks it.
+     */
+    public synchronized void offer(PostSummary post) {
+        offer(rankings, post);
+        if (replay != null) {
+            replay.add(post);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} posts of a ranked order after the cursor.
+     */
+    public List<PostSummary> page(long communityId, FeedSort sort, RankCursor after, int limit) {
+        Map<FeedSort, PostRanking> community = rankings.get(communityId);
+        return community != null ? community.get(sort).page(after, limit) : List.of();
+    }
+
+    @Override
+    public void onCountsFlushed(VoteTarget target, List<VoteDelta> deltas) {
+        if (target != VoteTarget.POST) {
+            return;
+        }
+        // Re-read the rows so rankings hold absolute scores, which replay safely
+        List<Long> postIds = deltas.stream().map(VoteDelta::targetId).toList();
+        for (PostSummary post : loader.loadSummaries(postIds)) {
+            offer(post);
+        }
+    }
+
+    // Top-of-day and top-of-week skip aged-out posts; this frees them
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        for (Map<FeedSort, PostRanking> community : rankings.values()) {
+            community.values().forEach(PostRanking::evictExpired);
+        }
+    }
+
+    private void offer(Map<Long, Map<FeedSort, PostRanking>> target, PostSummary post) {
+        target.computeIfAbsent(post.communityId(), id -> RankingLoader.newCommunity(maxPosts))
+                .values()
+                .forEach(ranking -> ranking.offer(post));
+    }
+}
@@ -0,0 +1,132 @@
+package com.dbexp.db_experiment.feed;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Supplier;
+
+import com.dbexp.db_experiment.cache.PostSummary;
+
+/**
+ * One community's posts in one ranked order, best first, keeping at most
+ * {@code maxPosts} of them.
+ *
+ * Posts sit in a skip list keyed by (rank, post id), so a page is a seek to
+ * the cursor plus a walk of {@code limit} nodes and a re-ranked post moves
+ * with one removal and one insertion. Writers are serialized; pages are read
+ * without locking and may briefly miss a post that is being moved. A post
+ * that falls off the bottom returns when an update ranks it above the last
+ * kept post. Top sorts with a window skip posts that have aged out until
+ * {@link #evictExpired()} removes them.
+ */
+public class PostRanking {
+
+    private final FeedSort sort;
+    private final int maxPosts;
+    private final Supplier<LocalDateTime> clock;
+    private final ConcurrentSkipListSet<Entry> order = new ConcurrentSkipListSet<>();
+    // Current entry of each ranked post; guarded by this
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    public PostRanking(FeedSort sort, int maxPosts) {
+        this(sort, maxPosts, LocalDateTime::now);
+    }
+
+    PostRanking(FeedSort sort, int maxPosts, Supplier<LocalDateTime> clock) {
+        this.sort = sort;
+        this.maxPosts = maxPosts;
+        this.clock = clock;
+    }
+
+    /**
+     * Inserts the post, or moves it to the rank of its new score.
+     */
+    public synchronized void offer(PostSummary post) {
+        Entry previous = entries.remove(post.postId());
+        if (previous != null) {
+            order.remove(previous);
+        }
+        if (isExpired(post, windowStart())) {
+            return;
+        }
+
+        Entry entry = new Entry(sort.rank(post.score(), post.createdAt()), post.postId(), post);
+        if (entries.size() >= maxPosts) {
+            Entry last = order.last();
+            if (entry.compareTo(last) > 0) {
+                return;
+            }
+            order.remove(last);
+            entries.remove(last.postId());
+        }
+        entries.put(post.postId(), entry);
+        order.add(entry);
+    }
+
+    /**
+     * Returns up to {@code limit} posts ranked below the cursor, or from the
+     * top when it is {@code null}.
+     */
+    public List<PostSummary> page(RankCursor after, int limit) {
+        NavigableSet<Entry> from = after == null
+                ? order
+                : order.tailSet(new Entry(after.rank(), after.postId(), null), false);
+        LocalDateTime windowStart = windowStart();
+
+        List<PostSummary> page = new ArrayList<>(limit);
+        for (Iterator<Entry> it = from.iterator(); it.hasNext() && page.size() < limit;) {
+            PostSummary post = it.next().post();
+            if (!isExpired(post, windowStart)) {
+                page.add(post);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Drops posts created before the window of a top sort.
+     *
+     * @return the number of posts dropped
+     */
+    public synchronized int evictExpired() {
+        LocalDateTime windowStart = windowStart();
+        if (windowStart == null) {
+            return 0;
+        }
+        int evicted = 0;
+        for (Iterator<Entry> it = entries.values().iterator(); it.hasNext();) {
+            Entry entry = it.next();
+            if (isExpired(entry.post(), windowStart)) {
+                it.remove();
+                order.remove(entry);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private LocalDateTime windowStart() {
+        return sort.window() != null ? clock.get().minus(sort.window()) : null;
+    }
+
+    private static boolean isExpired(PostSummary post, LocalDateTime windowStart) {
+        return windowStart != null && post.createdAt().isBefore(windowStart);
+    }
+
+    private record Entry(double rank, long postId, PostSummary post) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry other) {
+            int byRank = Double.compare(other.rank, rank);
+            return byRank != 0 ? byRank : Long.compare(other.postId, postId);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.dbexp.db_experiment.feed;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.dbexp.db_experiment.cache.PostSummary;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+
+/**
+ * Keyset position in a ranked feed: the rank and id of the last post a page
+ * returned. A post whose rank changes between pages may be skipped or shown
+ * twice, but the walk never loses its place.
+ */
+public record RankCursor(double rank, long postId) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static RankCursor after(FeedSort sort, PostSummary post) {
+        return new RankCursor(sort.rank(post.score(), post.createdAt()), post.postId());
+    }
+
+    public String encode() {
+        return ENCODER.encodeToString((rank + "_" + postId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RankCursor decode(String token) {
+        try {
+            String value = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf('_');
+            return new RankCursor(
+                    Double.parseDouble(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.dbexp.db_experiment.feed;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns of a post that decide its place in every ranked order.
+ */
+public record RankKey(
+        long postId,
+        long communityId,
+        LocalDateTime createdAt,
+        int score) {
+}
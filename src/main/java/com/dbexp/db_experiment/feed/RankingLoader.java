@@ -0,0 +1,183 @@
+package com.dbexp.db_experiment.feed;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.dbexp.db_experiment.cache.PostSummary;
+import com.dbexp.db_experiment.repository.PostRepository;
+
+/**
+ * Builds every community's rankings from the {@code Post} table.
+ *
+ * The post id space is split in halves on a {@link ForkJoinPool} until each
+ * piece is at most {@code chunkSize} ids, and each piece is one primary key
+ * range scan of the four columns that decide rank. A piece keeps only its
+ * best {@code maxPosts} per community and order, and pieces are merged
+ * pairwise on the way back up, so memory stays proportional to the result.
+ * Titles and usernames are then loaded for the surviving posts alone.
+ */
+class RankingLoader {
+
+    // Keeps IN lists well under the server's packet and placeholder limits
+    private static final int SUMMARY_BATCH_SIZE = 1000;
+
+    private static final Comparator<Candidate> WORST_FIRST = Comparator
+            .comparingDouble(Candidate::rank)
+            .thenComparingLong(Candidate::postId);
+
+    private final PostRepository postRepository;
+    private final int maxPosts;
+    private final int chunkSize;
+    private final int parallelism;
+
+    RankingLoader(PostRepository postRepository, int maxPosts, int chunkSize, int parallelism) {
+        this.postRepository = postRepository;
+        this.maxPosts = maxPosts;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    Map<Long, Map<FeedSort, PostRanking>> load() {
+        LocalDateTime now = LocalDateTime.now();
+        long maxPostId = postRepository.findMaxPostId();
+
+        Partial best;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            best = pool.invoke(new ScanTask(1, maxPostId, now));
+        } finally {
+            pool.shutdown();
+        }
+
+        Set<Long> postIds = new HashSet<>();
+        best.queues.values().forEach(bySort -> bySort.values()
+                .forEach(queue -> queue.forEach(candidate -> postIds.add(candidate.postId()))));
+        Map<Long, PostSummary> summaries = new HashMap<>();
+        for (PostSummary post : loadSummaries(postIds)) {
+            summaries.put(post.postId(), post);
+        }
+
+        Map<Long, Map<FeedSort, PostRanking>> rankings = new ConcurrentHashMap<>();
+        best.queues.forEach((communityId, bySort) -> {
+            Map<FeedSort, PostRanking> community = newCommunity(maxPosts);
+            bySort.forEach((sort, queue) -> queue.forEach(candidate -> {
+                // Missing if the post was deleted after the scan
+                PostSummary post = summaries.get(candidate.postId());
+                if (post != null) {
+                    community.get(sort).offer(post);
+                }
+            }));
+            rankings.put(communityId, community);
+        });
+        return rankings;
+    }
+
+    /**
+     * Loads feed rows by id in batches; ids of deleted posts are skipped.
+     */
+    List<PostSummary> loadSummaries(Collection<Long> postIds) {
+        List<Long> ids = new ArrayList<>(postIds);
+        List<PostSummary> posts = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += SUMMARY_BATCH_SIZE) {
+            posts.addAll(postRepository.findSummariesByIds(
+                    ids.subList(from, Math.min(from + SUMMARY_BATCH_SIZE, ids.size()))));
+        }
+        return posts;
+    }
+
+    static Map<FeedSort, PostRanking> newCommunity(int maxPosts) {
+        Map<FeedSort, PostRanking> community = new EnumMap<>(FeedSort.class);
+        for (FeedSort sort : FeedSort.RANKED) {
+            community.put(sort, new PostRanking(sort, maxPosts));
+        }
+        return community;
+    }
+
+    private record Candidate(long postId, double rank) {
+    }
+
+    /**
+     * Best candidates per community and order found in part of the id space.
+     */
+    private final class Partial {
+
+        private final Map<Long, Map<FeedSort, PriorityQueue<Candidate>>> queues = new HashMap<>();
+
+        void add(RankKey key, LocalDateTime now) {
+            Map<FeedSort, PriorityQueue<Candidate>> bySort = queues.computeIfAbsent(key.communityId(),
+                    id -> new EnumMap<>(FeedSort.class));
+            for (FeedSort sort : FeedSort.RANKED) {
+                if (sort.window() != null && key.createdAt().isBefore(now.minus(sort.window()))) {
+                    continue;
+                }
+                offer(bySort.computeIfAbsent(sort, s -> new PriorityQueue<>(WORST_FIRST)),
+                        new Candidate(key.postId(), sort.rank(key.score(), key.createdAt())));
+            }
+        }
+
+        Partial merge(Partial other) {
+            other.queues.forEach((communityId, otherBySort) -> {
+                Map<FeedSort, PriorityQueue<Candidate>> bySort = queues.computeIfAbsent(communityId,
+                        id -> new EnumMap<>(FeedSort.class));
+                otherBySort.forEach((sort, otherQueue) -> {
+                    PriorityQueue<Candidate> queue = bySort.computeIfAbsent(sort,
+                            s -> new PriorityQueue<>(WORST_FIRST));
+                    otherQueue.forEach(candidate -> offer(queue, candidate));
+                });
+            });
+            return this;
+        }
+
+        private void offer(PriorityQueue<Candidate> queue, Candidate candidate) {
+            if (queue.size() < maxPosts) {
+                queue.add(candidate);
+            } else if (WORST_FIRST.compare(candidate, queue.peek()) > 0) {
+                queue.poll();
+                queue.add(candidate);
+            }
+        }
+    }
+
+    private final class ScanTask extends RecursiveTask<Partial> {
+
+        private final long fromId;
+        private final long toId;
+        private final LocalDateTime now;
+
+        ScanTask(long fromId, long toId, LocalDateTime now) {
+            this.fromId = fromId;
+            this.toId = toId;
+            this.now = now;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (toId - fromId < chunkSize) {
+                Partial partial = new Partial();
+                if (fromId <= toId) {
+                    for (RankKey key : postRepository.findRankKeys(fromId, toId)) {
+                        partial.add(key, now);
+                    }
+                }
+                return partial;
+            }
+            long mid = fromId + (toId - fromId) / 2;
+            ScanTask lower = new ScanTask(fromId, mid, now);
+            lower.fork();
+            Partial upper = new ScanTask(mid + 1, toId, now).compute();
+            return lower.join().merge(upper);
+        }
+    }
+}
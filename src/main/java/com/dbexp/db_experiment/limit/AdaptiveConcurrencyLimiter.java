@@ -0,0 +1,85 @@
+package com.dbexp.db_experiment.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Admits requests while fewer than the learned {@link GradientLimit} are in
+ * flight and sheds the rest at once, instead of letting them queue for
+ * Tomcat threads and pool connections until clients time out.
+ *
+ * Ordinary requests may only use the share of the limit left after
+ * {@code reservedFraction}; the remainder is kept for
+ * {@link Priority#CRITICAL} requests, so sessions can still be checked and
+ * logins completed while mutations are being shed.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Priority {
+        CRITICAL, NORMAL
+    }
+
+    private final GradientLimit limit;
+    private final double reservedFraction;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private final Counter criticalRejections;
+    private final Counter normalRejections;
+
+    public AdaptiveConcurrencyLimiter(GradientLimit limit, double reservedFraction, MeterRegistry meterRegistry) {
+        this.limit = limit;
+        this.reservedFraction = reservedFraction;
+
+        Gauge.builder("app.limiter.limit", limit, GradientLimit::getLimit)
+                .description("Learned concurrency limit for API requests")
+                .register(meterRegistry);
+        Gauge.builder("app.limiter.inflight", inflight, AtomicInteger::get)
+                .description("API requests currently admitted")
+                .register(meterRegistry);
+        Gauge.builder("app.limiter.rtt.baseline", limit, l -> l.getLongRttNanos() / 1_000_000.0)
+                .description("Estimated request latency without queueing")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.criticalRejections = Counter.builder("app.limiter.rejected")
+                .description("API requests shed by the concurrency limiter")
+                .tag("priority", "critical")
+                .register(meterRegistry);
+        this.normalRejections = Counter.builder("app.limiter.rejected")
+                .tag("priority", "normal")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return whether the request was admitted; if so {@link #release} must
+     *         be called when it completes
+     */
+    public boolean tryAcquire(Priority priority) {
+        int allowed = allowed(priority);
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                (priority == Priority.CRITICAL ? criticalRejections : normalRejections).increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long rttNanos, boolean dropped) {
+        int current = inflight.getAndDecrement();
+        limit.onSample(rttNanos, current, dropped);
+    }
+
+    int allowed(Priority priority) {
+        int current = limit.getLimit();
+        if (priority == Priority.CRITICAL) {
+            return current;
+        }
+        return Math.max(1, (int) (current * (1 - reservedFraction)));
+    }
+}
@@ -0,0 +1,71 @@
+package com.dbexp.db_experiment.limit;
+
+import java.io.IOException;
+import java.util.Set;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.dbexp.db_experiment.limit.AdaptiveConcurrencyLimiter.Priority;
+
+/**
+ * Runs API requests through the {@link AdaptiveConcurrencyLimiter}, answering
+ * shed requests with 503 and Retry-After before they reach security, a
+ * controller or the database.
+ *
+ * A 503 from the handler itself (hashing or bulkhead overload) counts as a
+ * drop and backs the limit off.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    static final String BUSY_MESSAGE = "Server is busy, please retry later";
+
+    private static final Set<String> CRITICAL_PATHS = Set.of("/api/auth/me", "/api/auth/login");
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final long retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, long retryAfterSeconds) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!limiter.tryAcquire(priorityOf(request))) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write(BUSY_MESSAGE);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start,
+                    response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Exports and batch imports run for minutes and would swamp the latency signal
+        String uri = request.getRequestURI();
+        return uri.endsWith("/export") || uri.endsWith("/batch");
+    }
+
+    private static Priority priorityOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return CRITICAL_PATHS.contains(path) ? Priority.CRITICAL : Priority.NORMAL;
+    }
+}
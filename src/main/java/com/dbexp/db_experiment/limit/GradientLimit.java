@@ -0,0 +1,89 @@
+package com.dbexp.db_experiment.limit;
+
+/**
+ * Concurrency limit learned from request latency, after Netflix's Gradient2.
+ *
+ * A long moving average of round-trip time stands in for latency without
+ * queueing; a short one tracks current latency. Their ratio (the gradient,
+ * with some tolerance) scales the limit down as requests start to queue,
+ * while a {@code sqrt(limit)} allowance keeps probing upwards when latency is
+ * flat. The limit only grows while at least half of it is in use, so an idle
+ * server does not inflate it.
+ */
+public class GradientLimit {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int SHORT_WINDOW = 10;
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private double estimatedLimit;
+    private double shortRtt;
+    private double longRtt;
+    private volatile int limit;
+    private volatile long longRttNanos;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * The no-load latency estimate, or 0 before the first sample.
+     */
+    public long getLongRttNanos() {
+        return longRttNanos;
+    }
+
+    /**
+     * @param rttNanos time the request spent in the server
+     * @param inflight requests in progress when it started to complete
+     * @param dropped  whether the request was itself shed downstream, which
+     *                 backs the limit off directly
+     */
+    public synchronized void onSample(long rttNanos, int inflight, boolean dropped) {
+        if (dropped) {
+            update(estimatedLimit * BACKOFF_RATIO);
+            return;
+        }
+
+        if (longRtt == 0) {
+            shortRtt = rttNanos;
+            longRtt = rttNanos;
+        } else {
+            shortRtt += (rttNanos - shortRtt) * 2 / (SHORT_WINDOW + 1);
+            longRtt += (rttNanos - longRtt) * 2 / (LONG_WINDOW + 1);
+        }
+        // A baseline taken under load would hide queueing; let it recover once latency drops
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        longRttNanos = (long) longRtt;
+
+        if (inflight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.clamp(RTT_TOLERANCE * longRtt / shortRtt, 0.5, 1.0);
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        update(estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+    }
+
+    private void update(double newLimit) {
+        estimatedLimit = Math.clamp(newLimit, minLimit, maxLimit);
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,42 @@
+package com.dbexp.db_experiment.repository;
+
+/**
+ * SQL for {@link CommentRepository}.
+ */
+final class CommentQueries {
+
+    private static final String SELECT_COMMENT = "SELECT c.comment_id, c.parent_comment_id, c.path, c.user_id, "
+            + "u.username, c.comment_content, c.created_at, c.score FROM ForumComment c "
+            + "JOIN ForumUser u ON u.user_id = c.user_id ";
+
+    // Keyset pages of the top-level comments and of one comment's replies.
+    // idx_comment_post_parent_score stores siblings in exactly this order, so
+    // the scan starts at the cursor and reads no more than the page
+    private static final String SIBLINGS_AFTER = "AND (c.score < :score "
+            + "OR (c.score = :score AND c.comment_id > :commentId)) "
+            + "ORDER BY c.score DESC, c.comment_id LIMIT :limit";
+    static final String FIND_TOP_LEVEL = SELECT_COMMENT
+            + "WHERE c.post_id = :postId AND c.parent_comment_id IS NULL " + SIBLINGS_AFTER;
+    static final String FIND_REPLIES = SELECT_COMMENT
+            + "WHERE c.post_id = :postId AND c.parent_comment_id = :parentCommentId " + SIBLINGS_AFTER;
+
+    // Every path below :path%1$d lies strictly between it and :pathEnd%1$d, so
+    // each subtree is one range of idx_comment_post_path, capped on its own;
+    // CommentRepository.findSubtrees joins one of these per comment of the page
+    static final String FIND_SUBTREE = "(" + SELECT_COMMENT
+            + "WHERE c.post_id = :postId AND c.path > :path%1$d AND c.path < :pathEnd%1$d "
+            + "ORDER BY c.path LIMIT :limit)";
+    static final String SUBTREES_SEPARATOR = " UNION ALL ";
+    static final String SUBTREES_ORDER = " ORDER BY path";
+
+    static final String FIND_PATH = "SELECT path FROM ForumComment "
+            + "WHERE comment_id = :commentId AND post_id = :postId";
+
+    static final String INSERT_COMMENT = "INSERT INTO ForumComment "
+            + "(user_id, post_id, parent_comment_id, comment_content, created_at) "
+            + "VALUES (:userId, :postId, :parentCommentId, :content, :createdAt)";
+    static final String UPDATE_PATH = "UPDATE ForumComment SET path = :path WHERE comment_id = :commentId";
+
+    private CommentQueries() {
+    }
+}
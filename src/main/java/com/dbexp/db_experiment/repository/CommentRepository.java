@@ -0,0 +1,110 @@
+package com.dbexp.db_experiment.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dbexp.db_experiment.comment.CommentCursor;
+import com.dbexp.db_experiment.comment.CommentPath;
+import com.dbexp.db_experiment.comment.CommentRow;
+
+/**
+ * Threaded comments in {@code ForumComment}, located by their materialized
+ * {@link CommentPath}.
+ */
+@Repository
+public class CommentRepository {
+
+    // Sorts after every hex digit, so it bounds the paths under a prefix
+    private static final String PATH_END = "g";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final CommentRowMapper rowMapper = new CommentRowMapper();
+
+    public CommentRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns up to {@code limit} direct replies to a comment, or top-level
+     * comments of the post for a null parent, that sort after the cursor in
+     * {@link com.dbexp.db_experiment.comment.CommentTree#ORDER sibling order}.
+     */
+    @Transactional(readOnly = true)
+    public List<CommentRow> findReplies(long postId, Long parentCommentId, CommentCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("postId", postId)
+                .addValue("parentCommentId", parentCommentId)
+                .addValue("score", after.score())
+                .addValue("commentId", after.commentId())
+                .addValue("limit", limit);
+        String sql = parentCommentId == null ? CommentQueries.FIND_TOP_LEVEL : CommentQueries.FIND_REPLIES;
+        return jdbcTemplate.query(sql, params, rowMapper);
+    }
+
+    /**
+     * Returns, in path order, up to {@code limitPerSubtree} comments below
+     * each of the given paths, not including the comments at the paths.
+     */
+    @Transactional(readOnly = true)
+    public List<CommentRow> findSubtrees(long postId, List<String> paths, int limitPerSubtree) {
+        if (paths.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("postId", postId)
+                .addValue("limit", limitPerSubtree);
+        StringJoiner sql = new StringJoiner(CommentQueries.SUBTREES_SEPARATOR, "", CommentQueries.SUBTREES_ORDER);
+        for (int i = 0; i < paths.size(); i++) {
+            sql.add(CommentQueries.FIND_SUBTREE.formatted(i));
+            params.addValue("path" + i, paths.get(i))
+                    .addValue("pathEnd" + i, paths.get(i) + PATH_END);
+        }
+        return jdbcTemplate.query(sql.toString(), params, rowMapper);
+    }
+
+    /**
+     * Returns the path of a comment on the post, empty if the post has no such
+     * comment.
+     */
+    public Optional<String> findPath(long postId, long commentId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("postId", postId)
+                .addValue("commentId", commentId);
+        return jdbcTemplate.queryForList(CommentQueries.FIND_PATH, params, String.class).stream().findFirst();
+    }
+
+    /**
+     * Inserts a comment below the one at {@code parentPath}, or at the top
+     * level for the empty path. The path ends in the new comment's own id, so
+     * it is written once the id is known, in the same transaction.
+     *
+     * @return the new comment's id
+     */
+    @Transactional
+    public long insert(long postId, long userId, Long parentCommentId, String parentPath, String content,
+            LocalDateTime createdAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("postId", postId)
+                .addValue("userId", userId)
+                .addValue("parentCommentId", parentCommentId)
+                .addValue("content", content)
+                .addValue("createdAt", createdAt);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(CommentQueries.INSERT_COMMENT, params, keyHolder, new String[] { "comment_id" });
+        long commentId = keyHolder.getKey().longValue();
+
+        jdbcTemplate.update(CommentQueries.UPDATE_PATH, new MapSqlParameterSource()
+                .addValue("commentId", commentId)
+                .addValue("path", CommentPath.child(parentPath, commentId)));
+        return commentId;
+    }
+}
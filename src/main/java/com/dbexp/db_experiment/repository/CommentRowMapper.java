@@ -0,0 +1,31 @@
+package com.dbexp.db_experiment.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.dbexp.db_experiment.comment.CommentRow;
+
+/**
+ * Maps {@code ForumComment} joined with its author's username.
+ */
+public class CommentRowMapper implements RowMapper<CommentRow> {
+
+    @Override
+    public CommentRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+        long parentCommentId = rs.getLong("parent_comment_id");
+        boolean topLevel = rs.wasNull();
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new CommentRow(
+                rs.getLong("comment_id"),
+                topLevel ? null : parentCommentId,
+                rs.getString("path"),
+                rs.getLong("user_id"),
+                rs.getString("username"),
+                rs.getString("comment_content"),
+                createdAt != null ? createdAt.toLocalDateTime() : null,
+                rs.getInt("score"));
+    }
+}
@@ -0,0 +1,18 @@
+package com.dbexp.db_experiment.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.CrudRepository;
+
+import com.dbexp.db_experiment.entity.Community;
+
+public interface CommunityRepository extends CrudRepository<Community, Long> {
+
+    @Query("SELECT community_id FROM Community WHERE community_name = :communityName")
+    Optional<Long> findIdByCommunityName(String communityName);
+
+    @Query("SELECT community_id FROM Subscription WHERE user_id = :userId")
+    List<Long> findSubscribedCommunityIds(long userId);
+}
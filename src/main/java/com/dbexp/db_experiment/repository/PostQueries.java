@@ -0,0 +1,45 @@
+package com.dbexp.db_experiment.repository;
+
+/**
+ * SQL for {@link PostRepository}.
+ */
+final class PostQueries {
+
+    private static final String SUMMARY_COLUMNS = "SELECT p.post_id, p.community_id, p.user_id, u.username, "
+            + "p.post_title, p.created_at, p.score FROM Post p JOIN ForumUser u ON u.user_id = p.user_id ";
+
+    // Feed pages walk idx_post_community_created backwards from the newest
+    // post; later pages seek past the (created_at, post_id) of the last row
+    // seen, so page 10,000 reads as few rows as page 1
+    static final String FIND_FEED_FIRST_PAGE = SUMMARY_COLUMNS
+            + "WHERE p.community_id = :communityId "
+            + "ORDER BY p.created_at DESC, p.post_id DESC LIMIT :limit";
+    static final String FIND_FEED_PAGE_BEFORE = SUMMARY_COLUMNS
+            + "WHERE p.community_id = :communityId "
+            + "AND (p.created_at < :beforeCreatedAt "
+            + "OR (p.created_at = :beforeCreatedAt AND p.post_id < :beforePostId)) "
+            + "ORDER BY p.created_at DESC, p.post_id DESC LIMIT :limit";
+
+    // Home feeds HomeFeed cannot merge from cached runs: the range of every
+    // subscribed community is read and sorted, so the cost grows with their
+    // post counts rather than with the page size
+    static final String FIND_HOME_FIRST_PAGE = SUMMARY_COLUMNS
+            + "WHERE p.community_id IN (:communityIds) "
+            + "ORDER BY p.created_at DESC, p.post_id DESC LIMIT :limit";
+    static final String FIND_HOME_PAGE_BEFORE = SUMMARY_COLUMNS
+            + "WHERE p.community_id IN (:communityIds) "
+            + "AND (p.created_at < :beforeCreatedAt "
+            + "OR (p.created_at = :beforeCreatedAt AND p.post_id < :beforePostId)) "
+            + "ORDER BY p.created_at DESC, p.post_id DESC LIMIT :limit";
+
+    static final String FIND_SUMMARIES_BY_IDS = SUMMARY_COLUMNS + "WHERE p.post_id IN (:postIds)";
+
+    // Primary key range scan of the columns that decide rank, for rebuilding
+    // the ranked feeds without reading titles or bodies
+    static final String FIND_RANK_KEYS = "SELECT post_id, community_id, created_at, score FROM Post "
+            + "WHERE post_id BETWEEN :fromPostId AND :toPostId";
+    static final String FIND_MAX_POST_ID = "SELECT COALESCE(MAX(post_id), 0) FROM Post";
+
+    private PostQueries() {
+    }
+}
@@ -0,0 +1,46 @@
+package com.dbexp.db_experiment.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dbexp.db_experiment.cache.PostSummary;
+import com.dbexp.db_experiment.entity.Post;
+import com.dbexp.db_experiment.feed.RankKey;
+
+public interface PostRepository extends CrudRepository<Post, Long> {
+
+    // Fills the first-page cache, so it reads the primary: a lagging replica
+    // would re-cache a page a new post just invalidated
+    @Query(value = PostQueries.FIND_FEED_FIRST_PAGE, rowMapperClass = PostSummaryRowMapper.class)
+    List<PostSummary> findFeedFirstPage(long communityId, int limit);
+
+    @Transactional(readOnly = true)
+    @Query(value = PostQueries.FIND_FEED_PAGE_BEFORE, rowMapperClass = PostSummaryRowMapper.class)
+    List<PostSummary> findFeedPageBefore(long communityId, LocalDateTime beforeCreatedAt, long beforePostId,
+            int limit);
+
+    @Transactional(readOnly = true)
+    @Query(value = PostQueries.FIND_HOME_FIRST_PAGE, rowMapperClass = PostSummaryRowMapper.class)
+    List<PostSummary> findHomeFeedFirstPage(Collection<Long> communityIds, int limit);
+
+    @Transactional(readOnly = true)
+    @Query(value = PostQueries.FIND_HOME_PAGE_BEFORE, rowMapperClass = PostSummaryRowMapper.class)
+    List<PostSummary> findHomeFeedPageBefore(Collection<Long> communityIds, LocalDateTime beforeCreatedAt,
+            long beforePostId, int limit);
+
+    // The ranked feeds are kept current by these, so like the first-page
+    // cache they read the primary
+    @Query(value = PostQueries.FIND_SUMMARIES_BY_IDS, rowMapperClass = PostSummaryRowMapper.class)
+    List<PostSummary> findSummariesByIds(Collection<Long> postIds);
+
+    @Query(value = PostQueries.FIND_RANK_KEYS, rowMapperClass = RankKeyRowMapper.class)
+    List<RankKey> findRankKeys(long fromPostId, long toPostId);
+
+    @Query(PostQueries.FIND_MAX_POST_ID)
+    long findMaxPostId();
+}
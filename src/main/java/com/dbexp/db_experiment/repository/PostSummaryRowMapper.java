@@ -0,0 +1,29 @@
+package com.dbexp.db_experiment.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.dbexp.db_experiment.cache.PostSummary;
+
+/**
+ * Maps the feed projection of {@code Post} joined with its author's username;
+ * post bodies are never selected for listings.
+ */
+public class PostSummaryRowMapper implements RowMapper<PostSummary> {
+
+    @Override
+    public PostSummary mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new PostSummary(
+                rs.getLong("post_id"),
+                rs.getLong("community_id"),
+                rs.getLong("user_id"),
+                rs.getString("username"),
+                rs.getString("post_title"),
+                createdAt != null ? createdAt.toLocalDateTime() : null,
+                rs.getInt("score"));
+    }
+}
@@ -0,0 +1,23 @@
+package com.dbexp.db_experiment.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.dbexp.db_experiment.feed.RankKey;
+
+/**
+ * Maps the rank columns of {@code Post} scanned when the ranked feeds are rebuilt.
+ */
+public class RankKeyRowMapper implements RowMapper<RankKey> {
+
+    @Override
+    public RankKey mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new RankKey(
+                rs.getLong("post_id"),
+                rs.getLong("community_id"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getInt("score"));
+    }
+}
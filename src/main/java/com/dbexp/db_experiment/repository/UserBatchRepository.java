@@ -0,0 +1,27 @@
+package com.dbexp.db_experiment.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.dbexp.db_experiment.entity.User;
+
+/**
+ * Set-based and batched {@code ForumUser} operations for bulk imports, mixed
+ * into {@link UserRepository}.
+ */
+public interface UserBatchRepository {
+
+    /**
+     * Existing rows whose username or email is in the given sets, in a single query.
+     */
+    List<UserIdentity> findIdentities(Collection<String> usernames, Collection<String> emails);
+
+    /**
+     * Inserts all users in one JDBC batch and one transaction, assigning the
+     * generated ids. Nothing is inserted if any row violates a constraint.
+     */
+    void insertAll(List<User> users);
+
+    record UserIdentity(String username, String email) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.dbexp.db_experiment.repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dbexp.db_experiment.entity.User;
+
+public class UserBatchRepositoryImpl implements UserBatchRepository {
+
+    private static final String FIND_IDENTITIES_SQL = """
+            SELECT username, email FROM ForumUser
+            WHERE username IN (:usernames) OR email IN (:emails)""";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO ForumUser (username, password_hash, email, created_at)
+            VALUES (:username, :passwordHash, :email, :createdAt)""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public UserBatchRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<UserIdentity> findIdentities(Collection<String> usernames, Collection<String> emails) {
+        if (usernames.isEmpty() && emails.isEmpty()) {
+            return List.of();
+        }
+        // IN () is invalid SQL, so an empty side gets a value no row can match
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("usernames", usernames.isEmpty() ? List.of("") : usernames)
+                .addValue("emails", emails.isEmpty() ? List.of("") : emails);
+        return jdbcTemplate.query(FIND_IDENTITIES_SQL, params,
+                (rs, rowNum) -> new UserIdentity(rs.getString("username"), rs.getString("email")));
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<User> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = new SqlParameterSource[users.size()];
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            batch[i] = new MapSqlParameterSource()
+                    .addValue("username", user.getUsername())
+                    .addValue("passwordHash", user.getPasswordHash())
+                    .addValue("email", user.getEmail())
+                    .addValue("createdAt", Timestamp.valueOf(user.getCreatedAt()));
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, keyHolder, new String[] { "user_id" });
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < users.size() && i < keys.size(); i++) {
+            Object key = keys.get(i).values().iterator().next();
+            users.get(i).setUserId(((Number) key).longValue());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.dbexp.db_experiment.repository;
+
+import com.dbexp.db_experiment.repository.reactive.ReactiveUserRepository;
+
+/**
+ * SQL shared by the blocking {@link UserRepository} and the reactive
+ * {@link ReactiveUserRepository}, so both stacks run identical statements.
+ */
+public final class UserQueries {
+
+    public static final String FIND_BY_ID = "SELECT * FROM ForumUser WHERE user_id = :id";
+    public static final String FIND_BY_USERNAME = "SELECT * FROM ForumUser WHERE username = :username";
+    public static final String FIND_BY_EMAIL = "SELECT * FROM ForumUser WHERE email = :email";
+    public static final String EXISTS_BY_USERNAME = "SELECT COUNT(*) > 0 FROM ForumUser WHERE username = :username";
+    public static final String EXISTS_BY_EMAIL = "SELECT COUNT(*) > 0 FROM ForumUser WHERE email = :email";
+
+    // Keyset pages: seek past the last row seen on the primary key, so every
+    // page costs the same regardless of depth
+    public static final String FIND_PAGE_AFTER = "SELECT user_id, username, email, created_at FROM ForumUser "
+            + "WHERE user_id > :afterUserId ORDER BY user_id LIMIT :limit";
+
+    // Prefix pages range-scan the UNIQUE index on username; the pattern must
+    // already have its wildcards escaped with '!'
+    public static final String FIND_PAGE_BY_USERNAME_PREFIX = "SELECT user_id, username, email, created_at FROM ForumUser "
+            + "WHERE username LIKE :usernamePattern ESCAPE '!' AND username > :afterUsername "
+            + "ORDER BY username LIMIT :limit";
+
+    // Multi-get by id; callers bound the list size
+    public static final String FIND_SUMMARIES_BY_IDS = "SELECT user_id, username, email, created_at FROM ForumUser "
+            + "WHERE user_id IN (:userIds)";
+
+    public static final String UPDATE_USERNAME = "UPDATE ForumUser SET username = :newUsername WHERE user_id = :userId";
+    public static final String UPDATE_PASSWORD = "UPDATE ForumUser SET password_hash = :newPasswordHash WHERE user_id = :userId";
+    public static final String UPDATE_PASSWORD_IF_HASH_MATCHES = "UPDATE ForumUser SET password_hash = :newPasswordHash "
+            + "WHERE user_id = :userId AND password_hash = :currentPasswordHash";
+    public static final String UPDATE_EMAIL = "UPDATE ForumUser SET email = :newEmail WHERE user_id = :userId";
+    public static final String UPDATE_EMAIL_IF_HASH_MATCHES = "UPDATE ForumUser SET email = :newEmail "
+            + "WHERE user_id = :userId AND password_hash = :currentPasswordHash";
+    public static final String DELETE_BY_USER_ID = "DELETE FROM ForumUser WHERE user_id = :userId";
+    public static final String DELETE_BY_USER_ID_IF_HASH_MATCHES = "DELETE FROM ForumUser "
+            + "WHERE user_id = :userId AND password_hash = :currentPasswordHash";
+
+    private UserQueries() {
+    }
+}
@@ -1,43 +1,94 @@
 package com.dbexp.db_experiment.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.dbexp.db_experiment.cache.UserSummary;
 import com.dbexp.db_experiment.entity.User;
 
-public interface UserRepository extends CrudRepository<User, Long> {
+/**
+ * Declared queries run without a transaction and so use the primary; those
+ * marked read-only are served by the read replica when one is configured.
+ * Writes run in their own transaction so the replica router records them.
+ *
+ * Lookups by id stay on the primary: they precede password-guarded writes and
+ * fill {@link com.dbexp.db_experiment.cache.UserCache}, and a lagging replica
+ * would fail the guard or re-cache a row an invalidation just dropped.
+ */
+public interface UserRepository extends CrudRepository<User, Long>, UserBatchRepository, UserStreamRepository {
 
-    @Query("SELECT * FROM ForumUser WHERE user_id = :id")
+    @Query(UserQueries.FIND_BY_ID)
     Optional<User> findById(long id);
 
-    @Query("SELECT * FROM ForumUser WHERE username = :username")
+    // Replaces the inherited read-only transaction, which would route to the replica
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    Optional<User> findById(Long id);
+
+    @Transactional(readOnly = true)
+    @Query(UserQueries.FIND_BY_USERNAME)
     Optional<User> findByUsername(String username);
 
-    @Query("SELECT * FROM ForumUser WHERE email = :email")
+    @Query(UserQueries.FIND_BY_EMAIL)
     Optional<User> findByEmail(String email);
 
-    @Query("SELECT COUNT(*) > 0 FROM ForumUser WHERE username = :username")
+    @Query(UserQueries.EXISTS_BY_USERNAME)
     boolean existsByUsername(String username);
 
-    @Query("SELECT COUNT(*) > 0 FROM ForumUser WHERE email = :email")
+    @Query(UserQueries.EXISTS_BY_EMAIL)
     boolean existsByEmail(String email);
 
+    // Fills the user cache, so like findById it reads the primary
+    @Query(value = UserQueries.FIND_SUMMARIES_BY_IDS, rowMapperClass = UserSummaryRowMapper.class)
+    List<UserSummary> findSummariesByIds(Collection<Long> userIds);
+
+    @Transactional(readOnly = true)
+    @Query(value = UserQueries.FIND_PAGE_AFTER, rowMapperClass = UserSummaryRowMapper.class)
+    List<UserSummary> findPageAfter(long afterUserId, int limit);
+
+    @Transactional(readOnly = true)
+    @Query(value = UserQueries.FIND_PAGE_BY_USERNAME_PREFIX, rowMapperClass = UserSummaryRowMapper.class)
+    List<UserSummary> findPageByUsernamePrefix(String usernamePattern, String afterUsername, int limit);
+
     @Modifying
-    @Query("UPDATE ForumUser SET username = :newUsername WHERE user_id = :userId")
+    @Transactional
+    @Query(UserQueries.UPDATE_USERNAME)
     int updateUsername(Long userId, String newUsername);
 
     @Modifying
-    @Query("UPDATE ForumUser SET password_hash = :newPasswordHash WHERE user_id = :userId")
+    @Transactional
+    @Query(UserQueries.UPDATE_PASSWORD)
     int updatePassword(Long userId, String newPasswordHash);
 
     @Modifying
-    @Query("UPDATE ForumUser SET email = :newEmail WHERE user_id = :userId")
+    @Transactional
+    @Query(UserQueries.UPDATE_PASSWORD_IF_HASH_MATCHES)
+    int updatePasswordIfHashMatches(Long userId, String currentPasswordHash, String newPasswordHash);
+
+    @Modifying
+    @Transactional
+    @Query(UserQueries.UPDATE_EMAIL)
     int updateEmail(Long userId, String newEmail);
 
     @Modifying
-    @Query("DELETE FROM ForumUser WHERE user_id = :userId")
+    @Transactional
+    @Query(UserQueries.UPDATE_EMAIL_IF_HASH_MATCHES)
+    int updateEmailIfHashMatches(Long userId, String currentPasswordHash, String newEmail);
+
+    @Modifying
+    @Transactional
+    @Query(UserQueries.DELETE_BY_USER_ID)
     int deleteByUserId(Long userId);
-}
\ No newline at end of file
+
+    @Modifying
+    @Transactional
+    @Query(UserQueries.DELETE_BY_USER_ID_IF_HASH_MATCHES)
+    int deleteByUserIdIfHashMatches(Long userId, String currentPasswordHash);
+}
@@ -0,0 +1,21 @@
+package com.dbexp.db_experiment.repository;
+
+import java.util.function.Consumer;
+
+import com.dbexp.db_experiment.cache.UserSummary;
+
+/**
+ * Full-table reads of {@code ForumUser} that never materialize the result set,
+ * mixed into {@link UserRepository}.
+ */
+public interface UserStreamRepository {
+
+    /**
+     * Streams every user with an id greater than {@code afterUserId} to the
+     * action, in {@code user_id} order and one row at a time. The connection
+     * stays checked out until the action has seen the last row.
+     *
+     * @return the number of rows streamed
+     */
+    long streamAfter(long afterUserId, Consumer<UserSummary> action);
+}
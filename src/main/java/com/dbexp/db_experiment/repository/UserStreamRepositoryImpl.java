@@ -0,0 +1,39 @@
+package com.dbexp.db_experiment.repository;
+
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dbexp.db_experiment.cache.UserSummary;
+
+public class UserStreamRepositoryImpl implements UserStreamRepository {
+
+    private static final String STREAM_AFTER_SQL = """
+            SELECT user_id, username, email, created_at FROM ForumUser
+            WHERE user_id > ? ORDER BY user_id""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserSummaryRowMapper rowMapper = new UserSummaryRowMapper();
+
+    public UserStreamRepositoryImpl(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // Connector/J streams a forward-only, read-only result set row by row
+        // instead of buffering it client-side when the fetch size is MIN_VALUE
+        this.jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamAfter(long afterUserId, Consumer<UserSummary> action) {
+        long[] rows = { 0 };
+        jdbcTemplate.query(STREAM_AFTER_SQL, (RowCallbackHandler) rs -> {
+            action.accept(rowMapper.mapRow(rs, (int) rows[0]));
+            rows[0]++;
+        }, afterUserId);
+        return rows[0];
+    }
+}
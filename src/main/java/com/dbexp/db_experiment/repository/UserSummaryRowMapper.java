@@ -0,0 +1,26 @@
+package com.dbexp.db_experiment.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.dbexp.db_experiment.cache.UserSummary;
+
+/**
+ * Maps the {@code user_id, username, email, created_at} projection of
+ * {@code ForumUser}; queries using it never select {@code password_hash}.
+ */
+public class UserSummaryRowMapper implements RowMapper<UserSummary> {
+
+    @Override
+    public UserSummary mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new UserSummary(
+                rs.getLong("user_id"),
+                rs.getString("username"),
+                rs.getString("email"),
+                createdAt != null ? createdAt.toLocalDateTime() : null);
+    }
+}
@@ -0,0 +1,76 @@
+package com.dbexp.db_experiment.repository;
+
+import com.dbexp.db_experiment.vote.VoteTarget;
+
+/**
+ * SQL for {@link VoteRepository}. Posts and comments share the same
+ * statements over different tables.
+ */
+final class VoteQueries {
+
+    record Statements(
+            String findVoteForUpdate,
+            String insertVote,
+            String updateVote,
+            String deleteVote,
+            String findVotesByUserForUpdate,
+            String addCounts,
+            String findMaxTargetId,
+            String reconcileCounts) {
+    }
+
+    private static final Statements POST = statements("PostVote", "Post", "post_id");
+    private static final Statements COMMENT = statements("CommentVote", "ForumComment", "comment_id");
+
+    static Statements forTarget(VoteTarget target) {
+        return switch (target) {
+            case POST -> POST;
+            case COMMENT -> COMMENT;
+        };
+    }
+
+    private static Statements statements(String voteTable, String targetTable, String idColumn) {
+        return new Statements(
+                """
+                        SELECT vote_value FROM %1$s
+                        WHERE user_id = :userId AND %2$s = :targetId FOR UPDATE"""
+                        .formatted(voteTable, idColumn),
+                """
+                        INSERT INTO %1$s (user_id, %2$s, vote_value)
+                        VALUES (:userId, :targetId, :value)"""
+                        .formatted(voteTable, idColumn),
+                """
+                        UPDATE %1$s SET vote_value = :value
+                        WHERE user_id = :userId AND %2$s = :targetId"""
+                        .formatted(voteTable, idColumn),
+                """
+                        DELETE FROM %1$s
+                        WHERE user_id = :userId AND %2$s = :targetId"""
+                        .formatted(voteTable, idColumn),
+                // A range of the (user_id, target) primary key, so the next-key
+                // locks also block the user's new votes
+                """
+                        SELECT %2$s AS target_id, vote_value FROM %1$s
+                        WHERE user_id = :userId FOR UPDATE"""
+                        .formatted(voteTable, idColumn),
+                """
+                        UPDATE %1$s SET upvotes = upvotes + :upvotes, downvotes = downvotes + :downvotes,
+                        score = score + :score WHERE %2$s = :targetId"""
+                        .formatted(targetTable, idColumn),
+                "SELECT COALESCE(MAX(%2$s), 0) FROM %1$s".formatted(targetTable, idColumn),
+                // Recounts one id range from the vote table's target index;
+                // rows whose counts are already right are left unchanged
+                """
+                        UPDATE %2$s t
+                        LEFT JOIN (SELECT %3$s AS target_id, SUM(vote_value = 1) AS up, SUM(vote_value = -1) AS down
+                                   FROM %1$s WHERE %3$s BETWEEN :fromId AND :toId GROUP BY %3$s) v
+                               ON v.target_id = t.%3$s
+                        SET t.upvotes = COALESCE(v.up, 0), t.downvotes = COALESCE(v.down, 0),
+                            t.score = COALESCE(v.up, 0) - COALESCE(v.down, 0)
+                        WHERE t.%3$s BETWEEN :fromId AND :toId"""
+                        .formatted(voteTable, targetTable, idColumn));
+    }
+
+    private VoteQueries() {
+    }
+}
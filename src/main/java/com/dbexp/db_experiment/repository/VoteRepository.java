@@ -0,0 +1,113 @@
+package com.dbexp.db_experiment.repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dbexp.db_experiment.vote.VoteDelta;
+import com.dbexp.db_experiment.vote.VoteTarget;
+
+/**
+ * Individual votes in {@code PostVote}/{@code CommentVote} and the
+ * denormalized {@code upvotes}, {@code downvotes} and {@code score} columns
+ * of the voted rows. Every statement goes to the primary.
+ */
+@Repository
+public class VoteRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public VoteRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Sets the user's vote on the target, where 0 removes it.
+     *
+     * @return the vote it replaced, 0 if there was none
+     */
+    @Transactional
+    public int castVote(VoteTarget target, long userId, long targetId, int value) {
+        VoteQueries.Statements sql = VoteQueries.forTarget(target);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("targetId", targetId)
+                .addValue("value", value);
+
+        // The row lock keeps two votes by the same user from both counting
+        List<Integer> current = jdbcTemplate.queryForList(sql.findVoteForUpdate(), params, Integer.class);
+        int previous = current.isEmpty() ? 0 : current.get(0);
+
+        if (previous == value) {
+            return previous;
+        }
+        if (value == 0) {
+            jdbcTemplate.update(sql.deleteVote(), params);
+        } else if (previous == 0) {
+            jdbcTemplate.update(sql.insertVote(), params);
+        } else {
+            jdbcTemplate.update(sql.updateVote(), params);
+        }
+        return previous;
+    }
+
+    /**
+     * Returns the user's votes on targets of this kind, by target id, locked
+     * along with the user's place for new ones until the caller's transaction
+     * ends.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<Long, Integer> findVotesByUserForUpdate(VoteTarget target, long userId) {
+        Map<Long, Integer> votes = new LinkedHashMap<>();
+        jdbcTemplate.query(VoteQueries.forTarget(target).findVotesByUserForUpdate(),
+                new MapSqlParameterSource("userId", userId),
+                rs -> {
+                    votes.put(rs.getLong("target_id"), rs.getInt("vote_value"));
+                });
+        return votes;
+    }
+
+    /**
+     * Adds the deltas to the targets' counts in one batch, all or nothing;
+     * deltas for rows deleted in the meantime match nothing.
+     */
+    @Transactional
+    public void addCounts(VoteTarget target, List<VoteDelta> deltas) {
+        SqlParameterSource[] batch = new SqlParameterSource[deltas.size()];
+        for (int i = 0; i < deltas.size(); i++) {
+            VoteDelta delta = deltas.get(i);
+            batch[i] = new MapSqlParameterSource()
+                    .addValue("targetId", delta.targetId())
+                    .addValue("upvotes", delta.upvotes())
+                    .addValue("downvotes", delta.downvotes())
+                    .addValue("score", delta.score());
+        }
+        jdbcTemplate.batchUpdate(VoteQueries.forTarget(target).addCounts(), batch);
+    }
+
+    public long findMaxTargetId(VoteTarget target) {
+        Long maxId = jdbcTemplate.queryForObject(VoteQueries.forTarget(target).findMaxTargetId(),
+                new MapSqlParameterSource(), Long.class);
+        return maxId != null ? maxId : 0;
+    }
+
+    /**
+     * Recounts the targets with ids in {@code [fromId, toId]} from the vote
+     * table.
+     *
+     * @return the number of target rows in the range
+     */
+    public int reconcileCounts(VoteTarget target, long fromId, long toId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromId", fromId)
+                .addValue("toId", toId);
+        return jdbcTemplate.update(VoteQueries.forTarget(target).reconcileCounts(), params);
+    }
+}
@@ -0,0 +1,70 @@
+package com.dbexp.db_experiment.repository.reactive;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import com.dbexp.db_experiment.cache.UserSummary;
+import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.repository.UserQueries;
+import com.dbexp.db_experiment.repository.UserRepository;
+
+/**
+ * R2DBC counterpart of {@link UserRepository} for the {@code reactive}
+ * profile, running the same SQL. Kept in its own package so only the R2DBC
+ * repository scan in {@code ReactiveConfig} sees it.
+ */
+public interface ReactiveUserRepository extends ReactiveCrudRepository<User, Long> {
+
+    @Query(UserQueries.FIND_BY_ID)
+    Mono<User> findById(long id);
+
+    @Query(UserQueries.FIND_BY_USERNAME)
+    Mono<User> findByUsername(String username);
+
+    @Query(UserQueries.FIND_BY_EMAIL)
+    Mono<User> findByEmail(String email);
+
+    @Query(UserQueries.EXISTS_BY_USERNAME)
+    Mono<Boolean> existsByUsername(String username);
+
+    @Query(UserQueries.EXISTS_BY_EMAIL)
+    Mono<Boolean> existsByEmail(String email);
+
+    @Query(UserQueries.FIND_PAGE_AFTER)
+    Flux<UserSummary> findPageAfter(long afterUserId, int limit);
+
+    @Query(UserQueries.FIND_PAGE_BY_USERNAME_PREFIX)
+    Flux<UserSummary> findPageByUsernamePrefix(String usernamePattern, String afterUsername, int limit);
+
+    @Modifying
+    @Query(UserQueries.UPDATE_USERNAME)
+    Mono<Integer> updateUsername(Long userId, String newUsername);
+
+    @Modifying
+    @Query(UserQueries.UPDATE_PASSWORD)
+    Mono<Integer> updatePassword(Long userId, String newPasswordHash);
+
+    @Modifying
+    @Query(UserQueries.UPDATE_PASSWORD_IF_HASH_MATCHES)
+    Mono<Integer> updatePasswordIfHashMatches(Long userId, String currentPasswordHash, String newPasswordHash);
+
+    @Modifying
+    @Query(UserQueries.UPDATE_EMAIL)
+    Mono<Integer> updateEmail(Long userId, String newEmail);
+
+    @Modifying
+    @Query(UserQueries.UPDATE_EMAIL_IF_HASH_MATCHES)
+    Mono<Integer> updateEmailIfHashMatches(Long userId, String currentPasswordHash, String newEmail);
+
+    @Modifying
+    @Query(UserQueries.DELETE_BY_USER_ID)
+    Mono<Integer> deleteByUserId(Long userId);
+
+    @Modifying
+    @Query(UserQueries.DELETE_BY_USER_ID_IF_HASH_MATCHES)
+    Mono<Integer> deleteByUserIdIfHashMatches(Long userId, String currentPasswordHash);
+}
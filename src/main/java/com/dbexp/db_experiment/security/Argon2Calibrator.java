@@ -0,0 +1,75 @@
+package com.dbexp.db_experiment.security;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Picks Argon2 cost parameters for this host by timing real hashes.
+ *
+ * Lanes follow the number of available processors (up to {@code maxParallelism}),
+ * memory starts at {@code maxMemoryKiB} and is halved while a minimum-iteration
+ * hash is still slower than the target, and the remaining headroom is then
+ * spent on extra iterations. The result never drops below the configured
+ * memory and iteration floors, even on hosts too slow to meet the target.
+ */
+public class Argon2Calibrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(Argon2Calibrator.class);
+
+    private static final int SAMPLES = 3;
+    private static final byte[] PASSWORD = "calibration-password".getBytes();
+    private static final byte[] SALT = new byte[16];
+
+    private final Executor laneExecutor;
+
+    public Argon2Calibrator(Executor laneExecutor) {
+        this.laneExecutor = laneExecutor;
+    }
+
+    public Argon2Settings calibrate(Duration target, int minMemoryKiB, int maxMemoryKiB, int minIterations,
+            int maxIterations, int maxParallelism) {
+        int parallelism = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), maxParallelism));
+        long[] arena = new long[Argon2Function.memoryBlocks(maxMemoryKiB, parallelism) * Argon2Function.BLOCK_LONGS];
+        long targetNanos = target.toNanos();
+
+        int memoryKiB = maxMemoryKiB;
+        long elapsed = measure(memoryKiB, minIterations, parallelism, arena);
+        while (elapsed > targetNanos && memoryKiB > minMemoryKiB) {
+            memoryKiB = Math.max(minMemoryKiB, memoryKiB / 2);
+            elapsed = measure(memoryKiB, minIterations, parallelism, arena);
+        }
+
+        long perIteration = Math.max(1, elapsed / minIterations);
+        int iterations = (int) Math.max(minIterations, Math.min(maxIterations, targetNanos / perIteration));
+
+        Argon2Settings settings = new Argon2Settings(memoryKiB, iterations, parallelism);
+        logger.info("Calibrated Argon2 for {} ms target: memory={} KiB, iterations={}, parallelism={} (~{} ms)",
+                target.toMillis(), settings.memoryKiB(), settings.iterations(), settings.parallelism(),
+                perIteration * iterations / 1_000_000);
+        return settings;
+    }
+
+    private long measure(int memoryKiB, int iterations, int parallelism, long[] arena) {
+        byte[] out = new byte[32];
+        // First run warms up the JIT and is discarded
+        run(memoryKiB, iterations, parallelism, arena, out);
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            run(memoryKiB, iterations, parallelism, arena, out);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+
+    private void run(int memoryKiB, int iterations, int parallelism, long[] arena, byte[] out) {
+        new Argon2Function(Argon2Function.TYPE_ID, Argon2Function.VERSION_13, memoryKiB, iterations, parallelism,
+                arena, laneExecutor).hash(PASSWORD, SALT, out);
+    }
+}
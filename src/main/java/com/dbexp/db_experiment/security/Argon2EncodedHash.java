@@ -0,0 +1,81 @@
+package com.dbexp.db_experiment.security;
+
+import java.util.Base64;
+
+/**
+ * PHC-format Argon2 hash string as written by Spring's {@code Argon2PasswordEncoder},
+ * e.g. {@code $argon2id$v=19$m=65536,t=3,p=1$<salt>$<hash>}.
+ */
+record Argon2EncodedHash(
+        int type,
+        int version,
+        int memoryKiB,
+        int iterations,
+        int parallelism,
+        byte[] salt,
+        byte[] hash) {
+
+    private static final Base64.Encoder B64_ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder B64_DECODER = Base64.getDecoder();
+
+    static Argon2EncodedHash decode(String encodedHash) {
+        String[] parts = encodedHash.split("\\$");
+        if (parts.length < 4) {
+            throw new IllegalArgumentException("Invalid encoded Argon2-hash");
+        }
+
+        int currentPart = 1;
+        int type = switch (parts[currentPart++]) {
+            case "argon2d" -> Argon2Function.TYPE_D;
+            case "argon2i" -> Argon2Function.TYPE_I;
+            case "argon2id" -> Argon2Function.TYPE_ID;
+            default -> throw new IllegalArgumentException("Invalid algorithm type: " + parts[1]);
+        };
+
+        int version = Argon2Function.VERSION_13;
+        if (parts[currentPart].startsWith("v=")) {
+            version = Integer.parseInt(parts[currentPart].substring(2));
+            currentPart++;
+        }
+
+        String[] performanceParams = parts[currentPart++].split(",");
+        if (performanceParams.length != 3
+                || !performanceParams[0].startsWith("m=")
+                || !performanceParams[1].startsWith("t=")
+                || !performanceParams[2].startsWith("p=")) {
+            throw new IllegalArgumentException("Invalid performance parameters");
+        }
+        if (parts.length != currentPart + 2) {
+            throw new IllegalArgumentException("Invalid encoded Argon2-hash");
+        }
+
+        int memoryKiB = Integer.parseInt(performanceParams[0].substring(2));
+        int iterations = Integer.parseInt(performanceParams[1].substring(2));
+        int parallelism = Integer.parseInt(performanceParams[2].substring(2));
+        if (memoryKiB < 1 || iterations < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Invalid performance parameters");
+        }
+
+        byte[] salt = B64_DECODER.decode(parts[currentPart++]);
+        byte[] hash = B64_DECODER.decode(parts[currentPart]);
+        if (hash.length < 4) {
+            throw new IllegalArgumentException("Invalid hash length");
+        }
+
+        return new Argon2EncodedHash(type, version, memoryKiB, iterations, parallelism, salt, hash);
+    }
+
+    String encode() {
+        String typeName = switch (type) {
+            case Argon2Function.TYPE_D -> "argon2d";
+            case Argon2Function.TYPE_I -> "argon2i";
+            case Argon2Function.TYPE_ID -> "argon2id";
+            default -> throw new IllegalArgumentException("Invalid algorithm type: " + type);
+        };
+        return "$" + typeName
+                + "$v=" + version
+                + "$m=" + memoryKiB + ",t=" + iterations + ",p=" + parallelism
+                + "$" + B64_ENCODER.encodeToString(salt)
+                + "$" + B64_ENCODER.encodeToString(hash);
+    }
+}
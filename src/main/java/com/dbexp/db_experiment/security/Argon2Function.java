@@ -0,0 +1,402 @@
+package com.dbexp.db_experiment.security;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.bouncycastle.crypto.digests.Blake2bDigest;
+import org.bouncycastle.util.Pack;
+
+/**
+ * Argon2 (RFC 9106) computed over a caller-supplied memory arena.
+ *
+ * This follows BouncyCastle's {@code Argon2BytesGenerator} step for step, so the
+ * output is byte-identical to what Spring's {@code Argon2PasswordEncoder}
+ * produces, but the memory matrix is a flat {@code long[]} that can be borrowed
+ * from {@link Argon2MemoryPool} instead of 65,536 freshly allocated blocks per
+ * hash. Every block is written during the first pass before it is ever read,
+ * so a reused arena does not need to be cleared between hashes.
+ *
+ * With more than one lane and a lane executor, the segments of each slice are
+ * filled concurrently; lanes only reference each other's blocks across slice
+ * boundaries, so a join per slice is the only synchronisation needed.
+ *
+ * Instances are single-use and not thread-safe.
+ */
+final class Argon2Function {
+
+    static final int TYPE_D = 0;
+    static final int TYPE_I = 1;
+    static final int TYPE_ID = 2;
+
+    static final int VERSION_10 = 0x10;
+    static final int VERSION_13 = 0x13;
+
+    static final int BLOCK_LONGS = 128;
+
+    private static final int BLOCK_BYTES = 1024;
+    private static final int ADDRESSES_IN_BLOCK = 128;
+    private static final int PREHASH_DIGEST_LENGTH = 64;
+    private static final int PREHASH_SEED_LENGTH = 72;
+    private static final int SYNC_POINTS = 4;
+    private static final long M32L = 0xFFFFFFFFL;
+
+    private final int type;
+    private final int version;
+    private final int memoryKiB;
+    private final int iterations;
+    private final int lanes;
+    private final long[] memory;
+    private final Executor laneExecutor;
+
+    private final int memoryBlocks;
+    private final int segmentLength;
+    private final int laneLength;
+
+    Argon2Function(int type, int version, int memoryKiB, int iterations, int lanes, long[] memory) {
+        this(type, version, memoryKiB, iterations, lanes, memory, null);
+    }
+
+    Argon2Function(int type, int version, int memoryKiB, int iterations, int lanes, long[] memory,
+            Executor laneExecutor) {
+        this.type = type;
+        this.version = version;
+        this.memoryKiB = memoryKiB;
+        this.iterations = iterations;
+        this.lanes = lanes;
+        this.memory = memory;
+        this.laneExecutor = laneExecutor;
+
+        this.memoryBlocks = memoryBlocks(memoryKiB, lanes);
+        this.segmentLength = memoryBlocks / (lanes * SYNC_POINTS);
+        this.laneLength = segmentLength * SYNC_POINTS;
+
+        if ((long) memory.length < (long) memoryBlocks * BLOCK_LONGS) {
+            throw new IllegalArgumentException("Memory arena is too small for the requested Argon2 parameters");
+        }
+    }
+
+    /**
+     * Number of 1 KiB blocks Argon2 actually uses for the given cost, after
+     * rounding down to a whole number of segments.
+     */
+    static int memoryBlocks(int memoryKiB, int lanes) {
+        int blocks = Math.max(memoryKiB, 2 * SYNC_POINTS * lanes);
+        int segment = blocks / (lanes * SYNC_POINTS);
+        return segment * lanes * SYNC_POINTS;
+    }
+
+    void hash(byte[] password, byte[] salt, byte[] out) {
+        byte[] blockBytes = new byte[BLOCK_BYTES];
+        initialize(blockBytes, password, salt, out.length);
+        fillMemoryBlocks();
+        finish(blockBytes, out);
+    }
+
+    private void initialize(byte[] blockBytes, byte[] password, byte[] salt, int outLength) {
+        Blake2bDigest blake = new Blake2bDigest(PREHASH_DIGEST_LENGTH * 8);
+
+        int[] values = { lanes, outLength, memoryKiB, iterations, version, type };
+        Pack.intToLittleEndian(values, blockBytes, 0);
+        blake.update(blockBytes, 0, values.length * 4);
+
+        addByteString(blockBytes, blake, password);
+        addByteString(blockBytes, blake, salt);
+        // No secret and no associated data, matching Argon2PasswordEncoder
+        addByteString(blockBytes, blake, null);
+        addByteString(blockBytes, blake, null);
+
+        byte[] initialHashWithZeros = new byte[PREHASH_SEED_LENGTH];
+        blake.doFinal(initialHashWithZeros, 0);
+
+        byte[] initialHashWithOnes = new byte[PREHASH_SEED_LENGTH];
+        System.arraycopy(initialHashWithZeros, 0, initialHashWithOnes, 0, PREHASH_DIGEST_LENGTH);
+        initialHashWithOnes[PREHASH_DIGEST_LENGTH] = 1;
+
+        for (int lane = 0; lane < lanes; lane++) {
+            Pack.intToLittleEndian(lane, initialHashWithZeros, PREHASH_DIGEST_LENGTH + 4);
+            Pack.intToLittleEndian(lane, initialHashWithOnes, PREHASH_DIGEST_LENGTH + 4);
+
+            variableLengthHash(initialHashWithZeros, blockBytes, 0, BLOCK_BYTES);
+            fromBytes(blockBytes, lane * laneLength);
+
+            variableLengthHash(initialHashWithOnes, blockBytes, 0, BLOCK_BYTES);
+            fromBytes(blockBytes, lane * laneLength + 1);
+        }
+    }
+
+    private void fillMemoryBlocks() {
+        if (lanes > 1 && laneExecutor != null) {
+            fillMemoryBlocksInParallel();
+            return;
+        }
+        Scratch scratch = new Scratch();
+        for (int pass = 0; pass < iterations; pass++) {
+            for (int slice = 0; slice < SYNC_POINTS; slice++) {
+                for (int lane = 0; lane < lanes; lane++) {
+                    fillSegment(scratch, pass, lane, slice);
+                }
+            }
+        }
+    }
+
+    private void fillMemoryBlocksInParallel() {
+        Scratch[] scratches = new Scratch[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            scratches[lane] = new Scratch();
+        }
+        CompletableFuture<?>[] others = new CompletableFuture<?>[lanes - 1];
+
+        for (int pass = 0; pass < iterations; pass++) {
+            for (int slice = 0; slice < SYNC_POINTS; slice++) {
+                int currentPass = pass;
+                int currentSlice = slice;
+                for (int lane = 1; lane < lanes; lane++) {
+                    int currentLane = lane;
+                    others[lane - 1] = CompletableFuture.runAsync(
+                            () -> fillSegment(scratches[currentLane], currentPass, currentLane, currentSlice),
+                            laneExecutor);
+                }
+                // The calling thread fills lane 0 itself instead of idling on the join
+                fillSegment(scratches[0], pass, 0, slice);
+                CompletableFuture.allOf(others).join();
+            }
+        }
+    }
+
+    private void fillSegment(Scratch scratch, int pass, int lane, int slice) {
+        boolean dataIndependentAddressing = type == TYPE_I
+                || (type == TYPE_ID && pass == 0 && slice < SYNC_POINTS / 2);
+        int startingIndex = (pass == 0 && slice == 0) ? 2 : 0;
+        int currentOffset = lane * laneLength + slice * segmentLength + startingIndex;
+        int prevOffset = (currentOffset % laneLength == 0) ? currentOffset + laneLength - 1 : currentOffset - 1;
+
+        if (dataIndependentAddressing) {
+            Arrays.fill(scratch.address, 0L);
+            Arrays.fill(scratch.input, 0L);
+            scratch.input[0] = pass;
+            scratch.input[1] = lane;
+            scratch.input[2] = slice;
+            scratch.input[3] = memoryBlocks;
+            scratch.input[4] = iterations;
+            scratch.input[5] = type;
+            if (pass == 0 && slice == 0) {
+                nextAddresses(scratch);
+            }
+        }
+
+        boolean withXor = !(pass == 0 || version == VERSION_10);
+
+        for (int index = startingIndex; index < segmentLength; index++) {
+            long pseudoRandom;
+            if (dataIndependentAddressing) {
+                int addressIndex = index % ADDRESSES_IN_BLOCK;
+                if (addressIndex == 0) {
+                    nextAddresses(scratch);
+                }
+                pseudoRandom = scratch.address[addressIndex];
+            } else {
+                pseudoRandom = memory[prevOffset * BLOCK_LONGS];
+            }
+
+            int refLane = (pass == 0 && slice == 0) ? lane : (int) ((pseudoRandom >>> 32) % lanes);
+            int refColumn = referenceColumn(pass, slice, index, pseudoRandom, refLane == lane);
+
+            fillBlock(scratch, prevOffset * BLOCK_LONGS, (laneLength * refLane + refColumn) * BLOCK_LONGS,
+                    currentOffset * BLOCK_LONGS, withXor);
+
+            prevOffset = currentOffset;
+            currentOffset++;
+        }
+    }
+
+    private int referenceColumn(int pass, int slice, int index, long pseudoRandom, boolean sameLane) {
+        int referenceAreaSize;
+        int startPosition;
+
+        if (pass == 0) {
+            startPosition = 0;
+            if (sameLane) {
+                referenceAreaSize = slice * segmentLength + index - 1;
+            } else {
+                referenceAreaSize = slice * segmentLength + ((index == 0) ? -1 : 0);
+            }
+        } else {
+            startPosition = ((slice + 1) * segmentLength) % laneLength;
+            if (sameLane) {
+                referenceAreaSize = laneLength - segmentLength + index - 1;
+            } else {
+                referenceAreaSize = laneLength - segmentLength + ((index == 0) ? -1 : 0);
+            }
+        }
+
+        long relativePosition = pseudoRandom & M32L;
+        relativePosition = (relativePosition * relativePosition) >>> 32;
+        relativePosition = referenceAreaSize - 1 - ((referenceAreaSize * relativePosition) >>> 32);
+
+        return (int) (startPosition + relativePosition) % laneLength;
+    }
+
+    private void nextAddresses(Scratch scratch) {
+        scratch.input[6]++;
+        compress(scratch, scratch.input, scratch.address);
+        compress(scratch, scratch.address, scratch.address);
+    }
+
+    /**
+     * dst = G(0, src), used to derive data-independent reference addresses.
+     */
+    private static void compress(Scratch scratch, long[] src, long[] dst) {
+        long[] z = scratch.z;
+        System.arraycopy(src, 0, z, 0, BLOCK_LONGS);
+        permute(z);
+        for (int i = 0; i < BLOCK_LONGS; i++) {
+            dst[i] = src[i] ^ z[i];
+        }
+    }
+
+    /**
+     * memory[current] (^)= G(memory[prev], memory[ref]).
+     */
+    private void fillBlock(Scratch scratch, int prev, int ref, int current, boolean withXor) {
+        long[] r = scratch.r;
+        long[] z = scratch.z;
+        for (int i = 0; i < BLOCK_LONGS; i++) {
+            r[i] = memory[prev + i] ^ memory[ref + i];
+        }
+        System.arraycopy(r, 0, z, 0, BLOCK_LONGS);
+        permute(z);
+        if (withXor) {
+            for (int i = 0; i < BLOCK_LONGS; i++) {
+                memory[current + i] ^= r[i] ^ z[i];
+            }
+        } else {
+            for (int i = 0; i < BLOCK_LONGS; i++) {
+                memory[current + i] = r[i] ^ z[i];
+            }
+        }
+    }
+
+    private void finish(byte[] blockBytes, byte[] out) {
+        long[] finalBlock = new long[BLOCK_LONGS];
+        System.arraycopy(memory, (laneLength - 1) * BLOCK_LONGS, finalBlock, 0, BLOCK_LONGS);
+        for (int lane = 1; lane < lanes; lane++) {
+            int lastBlockInLane = (lane * laneLength + laneLength - 1) * BLOCK_LONGS;
+            for (int i = 0; i < BLOCK_LONGS; i++) {
+                finalBlock[i] ^= memory[lastBlockInLane + i];
+            }
+        }
+        Pack.longToLittleEndian(finalBlock, blockBytes, 0);
+        variableLengthHash(blockBytes, out, 0, out.length);
+    }
+
+    private void fromBytes(byte[] blockBytes, int block) {
+        Pack.littleEndianToLong(blockBytes, 0, memory, block * BLOCK_LONGS, BLOCK_LONGS);
+    }
+
+    private static void addByteString(byte[] tmp, Blake2bDigest digest, byte[] octets) {
+        if (octets == null) {
+            Pack.intToLittleEndian(0, tmp, 0);
+            digest.update(tmp, 0, 4);
+            return;
+        }
+        Pack.intToLittleEndian(octets.length, tmp, 0);
+        digest.update(tmp, 0, 4);
+        digest.update(octets, 0, octets.length);
+    }
+
+    /**
+     * H' from RFC 9106 section 3.3.
+     */
+    private static void variableLengthHash(byte[] input, byte[] out, int outOff, int outLen) {
+        byte[] outLenBytes = new byte[4];
+        Pack.intToLittleEndian(outLen, outLenBytes, 0);
+
+        int blake2bLength = 64;
+        if (outLen <= blake2bLength) {
+            Blake2bDigest blake = new Blake2bDigest(outLen * 8);
+            blake.update(outLenBytes, 0, outLenBytes.length);
+            blake.update(input, 0, input.length);
+            blake.doFinal(out, outOff);
+            return;
+        }
+
+        Blake2bDigest digest = new Blake2bDigest(blake2bLength * 8);
+        byte[] outBuffer = new byte[blake2bLength];
+
+        digest.update(outLenBytes, 0, outLenBytes.length);
+        digest.update(input, 0, input.length);
+        digest.doFinal(outBuffer, 0);
+
+        int halfLen = blake2bLength / 2;
+        int outPos = outOff;
+        System.arraycopy(outBuffer, 0, out, outPos, halfLen);
+        outPos += halfLen;
+
+        int r = ((outLen + 31) / 32) - 2;
+        for (int i = 2; i <= r; i++, outPos += halfLen) {
+            digest.update(outBuffer, 0, outBuffer.length);
+            digest.doFinal(outBuffer, 0);
+            System.arraycopy(outBuffer, 0, out, outPos, halfLen);
+        }
+
+        int lastLength = outLen - 32 * r;
+        digest = new Blake2bDigest(lastLength * 8);
+        digest.update(outBuffer, 0, outBuffer.length);
+        digest.doFinal(out, outPos);
+    }
+
+    /**
+     * Blake2b-based permutation P applied to the 8x8 matrix of 16-byte registers.
+     */
+    private static void permute(long[] v) {
+        for (int i = 0; i < 8; i++) {
+            int i16 = 16 * i;
+            round(v, i16, i16 + 1, i16 + 2, i16 + 3, i16 + 4, i16 + 5, i16 + 6, i16 + 7,
+                    i16 + 8, i16 + 9, i16 + 10, i16 + 11, i16 + 12, i16 + 13, i16 + 14, i16 + 15);
+        }
+        for (int i = 0; i < 8; i++) {
+            int i2 = 2 * i;
+            round(v, i2, i2 + 1, i2 + 16, i2 + 17, i2 + 32, i2 + 33, i2 + 48, i2 + 49,
+                    i2 + 64, i2 + 65, i2 + 80, i2 + 81, i2 + 96, i2 + 97, i2 + 112, i2 + 113);
+        }
+    }
+
+    private static void round(long[] v, int v0, int v1, int v2, int v3, int v4, int v5, int v6, int v7,
+            int v8, int v9, int v10, int v11, int v12, int v13, int v14, int v15) {
+        mix(v, v0, v4, v8, v12);
+        mix(v, v1, v5, v9, v13);
+        mix(v, v2, v6, v10, v14);
+        mix(v, v3, v7, v11, v15);
+        mix(v, v0, v5, v10, v15);
+        mix(v, v1, v6, v11, v12);
+        mix(v, v2, v7, v8, v13);
+        mix(v, v3, v4, v9, v14);
+    }
+
+    private static void mix(long[] v, int a, int b, int c, int d) {
+        v[a] = blaMka(v[a], v[b]);
+        v[d] = Long.rotateRight(v[d] ^ v[a], 32);
+        v[c] = blaMka(v[c], v[d]);
+        v[b] = Long.rotateRight(v[b] ^ v[c], 24);
+        v[a] = blaMka(v[a], v[b]);
+        v[d] = Long.rotateRight(v[d] ^ v[a], 16);
+        v[c] = blaMka(v[c], v[d]);
+        v[b] = Long.rotateRight(v[b] ^ v[c], 63);
+    }
+
+    private static long blaMka(long x, long y) {
+        long xy = (x & M32L) * (y & M32L);
+        return x + y + 2 * xy;
+    }
+
+    /**
+     * Per-thread working blocks for the compression function.
+     */
+    private static final class Scratch {
+        final long[] r = new long[BLOCK_LONGS];
+        final long[] z = new long[BLOCK_LONGS];
+        final long[] address = new long[BLOCK_LONGS];
+        final long[] input = new long[BLOCK_LONGS];
+    }
+}
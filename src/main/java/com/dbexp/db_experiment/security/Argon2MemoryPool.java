@@ -0,0 +1,76 @@
+package com.dbexp.db_experiment.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounded pool of preallocated Argon2 memory arenas.
+ *
+ * Arenas are allocated lazily up to {@code capacity} and then recycled, so a
+ * steady login load reuses the same long-lived arrays instead of producing a
+ * humongous 64 MB allocation per hash. Requests larger than the pooled arena
+ * size (e.g. verifying a hash created with a higher memory cost) fall back to a
+ * one-off allocation. The pool never blocks: admission is bounded upstream by
+ * {@link BudgetedPasswordEncoder}, which reserves a whole arena per pooled
+ * operation, so a pool sized to the same budget always has an arena for an
+ * admitted borrow. Should that ever fail, the borrow is rejected with
+ * {@link HashingCapacityExceededException} rather than allocating past the
+ * capacity.
+ */
+public class Argon2MemoryPool {
+
+    private final int arenaBlocks;
+    private final int capacity;
+    private final long retryAfterSeconds;
+    private final BlockingQueue<long[]> arenas;
+    private final AtomicInteger allocated = new AtomicInteger();
+
+    private final Counter allocations;
+    private final Counter oversizedAllocations;
+
+    public Argon2MemoryPool(int arenaBlocks, int capacity, long retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.arenaBlocks = arenaBlocks;
+        this.capacity = Math.max(capacity, 1);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.arenas = new ArrayBlockingQueue<>(this.capacity);
+
+        Gauge.builder("password.hashing.pool.idle", arenas, BlockingQueue::size)
+                .description("Argon2 memory arenas idle in the pool")
+                .register(meterRegistry);
+        this.allocations = Counter.builder("password.hashing.pool.allocations")
+                .description("Argon2 memory arenas allocated because the pool was empty")
+                .tag("kind", "pooled")
+                .register(meterRegistry);
+        this.oversizedAllocations = Counter.builder("password.hashing.pool.allocations")
+                .tag("kind", "oversized")
+                .register(meterRegistry);
+    }
+
+    long[] borrow(int blocks) {
+        if (blocks > arenaBlocks) {
+            oversizedAllocations.increment();
+            return new long[blocks * Argon2Function.BLOCK_LONGS];
+        }
+        long[] arena = arenas.poll();
+        if (arena != null) {
+            return arena;
+        }
+        if (allocated.incrementAndGet() > capacity) {
+            allocated.decrementAndGet();
+            throw new HashingCapacityExceededException("Server is busy, please retry later", retryAfterSeconds);
+        }
+        allocations.increment();
+        return new long[arenaBlocks * Argon2Function.BLOCK_LONGS];
+    }
+
+    void release(long[] arena) {
+        if (arena.length == arenaBlocks * Argon2Function.BLOCK_LONGS) {
+            arenas.offer(arena);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.dbexp.db_experiment.security;
+
+/**
+ * Argon2 cost parameters used for newly encoded passwords.
+ */
+public record Argon2Settings(
+        int memoryKiB,
+        int iterations,
+        int parallelism) {
+}
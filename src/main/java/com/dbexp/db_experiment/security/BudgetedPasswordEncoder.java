@@ -0,0 +1,170 @@
+package com.dbexp.db_experiment.security;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import com.dbexp.db_experiment.timing.ServerTiming;
+import com.dbexp.db_experiment.timing.ServerTiming.Phase;
+
+/**
+ * Admits Argon2 operations against a global memory budget.
+ *
+ * Every encode/matches call needs the full Argon2 memory cost for its duration,
+ * so unbounded concurrency turns a login burst into an OutOfMemoryError. Each
+ * operation reserves the memory it will actually hold (in KiB) from a fair
+ * semaphore: a whole pooled arena for costs up to {@code arenaKiB}, its own
+ * cost above that, where {@link Argon2MemoryPool} allocates one-off; callers
+ * that cannot be admitted immediately wait in a bounded queue for at most
+ * {@code maxWait}, and are rejected with {@link HashingCapacityExceededException}
+ * when the queue is full or the wait times out.
+ */
+public class BudgetedPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern MEMORY_COST = Pattern.compile("^\\$argon2(?:id|i|d)\\$(?:v=\\d+\\$)?m=(\\d+),");
+
+    private final PasswordEncoder delegate;
+    private final int encodeMemoryKiB;
+    private final int arenaKiB;
+    private final int budgetKiB;
+    private final int maxQueueLength;
+    private final long maxWaitNanos;
+    private final long retryAfterSeconds;
+
+    private final Semaphore memory;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private final Timer waitTimer;
+    private final Counter queueFullRejections;
+    private final Counter timeoutRejections;
+
+    public BudgetedPasswordEncoder(PasswordEncoder delegate, int encodeMemoryKiB, int arenaKiB, int budgetKiB,
+            int maxQueueLength, Duration maxWait, long retryAfterSeconds, MeterRegistry meterRegistry) {
+        if (budgetKiB < Math.max(encodeMemoryKiB, arenaKiB)) {
+            throw new IllegalArgumentException("Hashing memory budget must fit at least one operation");
+        }
+        this.delegate = delegate;
+        this.encodeMemoryKiB = encodeMemoryKiB;
+        this.arenaKiB = arenaKiB;
+        this.budgetKiB = budgetKiB;
+        this.maxQueueLength = maxQueueLength;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.memory = new Semaphore(budgetKiB, true);
+
+        Gauge.builder("password.hashing.queue.depth", waiting, AtomicInteger::get)
+                .description("Hashing operations waiting for memory budget")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.memory.in.use", memory, m -> (budgetKiB - m.availablePermits()) * 1024.0)
+                .description("Argon2 memory currently reserved by running operations")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.memory.budget", () -> budgetKiB * 1024.0)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("password.hashing.wait")
+                .description("Time spent waiting for hashing memory budget")
+                .register(meterRegistry);
+        this.queueFullRejections = Counter.builder("password.hashing.rejected")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.timeoutRejections = Counter.builder("password.hashing.rejected")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return withBudget(encodeMemoryKiB, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return withBudget(memoryCostKiB(encodedPassword), () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T withBudget(int memoryKiB, Supplier<T> operation) {
+        int permits = Math.min(Math.max(memoryKiB, arenaKiB), budgetKiB);
+        long startedAt = ServerTiming.start();
+        try {
+            acquire(permits);
+            try {
+                return operation.get();
+            } finally {
+                memory.release(permits);
+            }
+        } finally {
+            ServerTiming.stop(Phase.HASH, startedAt);
+        }
+    }
+
+    private void acquire(int permits) {
+        // Zero-timeout tryAcquire honours fairness, so queued callers are not overtaken
+        try {
+            if (memory.tryAcquire(permits, 0, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw busy();
+        }
+
+        if (waiting.incrementAndGet() > maxQueueLength) {
+            waiting.decrementAndGet();
+            queueFullRejections.increment();
+            throw busy();
+        }
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = memory.tryAcquire(permits, maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            waiting.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            timeoutRejections.increment();
+            throw busy();
+        }
+    }
+
+    private int memoryCostKiB(String encodedPassword) {
+        if (encodedPassword == null) {
+            return encodeMemoryKiB;
+        }
+        Matcher matcher = MEMORY_COST.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return encodeMemoryKiB;
+        }
+        try {
+            return Integer.parseInt(matcher.group(1));
+        } catch (NumberFormatException e) {
+            return encodeMemoryKiB;
+        }
+    }
+
+    private HashingCapacityExceededException busy() {
+        return new HashingCapacityExceededException("Server is busy, please retry later", retryAfterSeconds);
+    }
+}
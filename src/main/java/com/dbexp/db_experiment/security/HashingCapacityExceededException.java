@@ -0,0 +1,21 @@
+package com.dbexp.db_experiment.security;
+
+/**
+ * Thrown when a password hashing operation cannot be admitted within the
+ * configured memory budget. Callers should answer with 503 and a Retry-After
+ * header instead of queueing the work indefinitely. Raised in bulk exactly
+ * when the server is overloaded, so it carries no stack trace.
+ */
+public class HashingCapacityExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public HashingCapacityExceededException(String message, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
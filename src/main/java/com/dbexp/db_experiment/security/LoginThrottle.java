@@ -0,0 +1,78 @@
+package com.dbexp.db_experiment.security;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Rate limits login attempts per client address and per username, ahead of
+ * the user lookup and the Argon2 verification each attempt would cost.
+ *
+ * The address limit stops one client spraying many usernames; the username
+ * limit stops a botnet guessing one account's password from many addresses.
+ * Both are {@link TokenBucketSketch}es, so their memory is fixed up front.
+ */
+public class LoginThrottle {
+
+    private static final String MESSAGE = "Too many login attempts, please retry later";
+
+    private final TokenBucketSketch byAddress;
+    private final TokenBucketSketch byUsername;
+
+    private final Counter addressRejections;
+    private final Counter usernameRejections;
+
+    public LoginThrottle(TokenBucketSketch byAddress, TokenBucketSketch byUsername, MeterRegistry meterRegistry) {
+        this.byAddress = byAddress;
+        this.byUsername = byUsername;
+
+        this.addressRejections = Counter.builder("app.auth.login.throttled")
+                .description("Login attempts rejected by the rate limiter")
+                .tag("key", "address")
+                .register(meterRegistry);
+        this.usernameRejections = Counter.builder("app.auth.login.throttled")
+                .tag("key", "username")
+                .register(meterRegistry);
+        Gauge.builder("app.auth.login.throttle.memory", byAddress, TokenBucketSketch::memoryBytes)
+                .description("Memory held by the login rate limiter's buckets")
+                .baseUnit("bytes")
+                .tag("key", "address")
+                .register(meterRegistry);
+        Gauge.builder("app.auth.login.throttle.memory", byUsername, TokenBucketSketch::memoryBytes)
+                .baseUnit("bytes")
+                .tag("key", "username")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes a token for the address and then for the username.
+     *
+     * @param address the client address, or {@code null} if unknown
+     * @throws LoginThrottledException if either bucket is empty
+     */
+    public void acquire(String address, String username) {
+        if (address != null) {
+            long wait = byAddress.tryAcquire(address);
+            if (wait > 0) {
+                addressRejections.increment();
+                throw rejected(wait);
+            }
+        }
+        if (username != null) {
+            // Case variants of one name must share a bucket
+            long wait = byUsername.tryAcquire(username.toLowerCase(Locale.ROOT));
+            if (wait > 0) {
+                usernameRejections.increment();
+                throw rejected(wait);
+            }
+        }
+    }
+
+    private static LoginThrottledException rejected(long waitNanos) {
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        return new LoginThrottledException(MESSAGE, seconds);
+    }
+}
@@ -0,0 +1,20 @@
+package com.dbexp.db_experiment.security;
+
+/**
+ * Thrown when a login attempt is rejected by {@link LoginThrottle} before any
+ * lookup or hashing. Callers should answer with 429 and a Retry-After header.
+ * Raised on every attempt of a brute-force run, so it carries no stack trace.
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
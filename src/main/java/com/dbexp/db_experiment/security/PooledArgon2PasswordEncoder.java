@@ -0,0 +1,125 @@
+package com.dbexp.db_experiment.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.Executor;
+
+import org.springframework.security.crypto.keygen.BytesKeyGenerator;
+import org.springframework.security.crypto.keygen.KeyGenerators;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Argon2id {@link PasswordEncoder} that runs on pooled memory arenas.
+ *
+ * Produces and verifies the same {@code $argon2id$} strings as Spring's
+ * {@code Argon2PasswordEncoder}, so existing {@code ForumUser.password_hash}
+ * values keep working, but borrows its memory matrix from an
+ * {@link Argon2MemoryPool} rather than allocating a new one per hash.
+ *
+ * {@link #upgradeEncoding(String)} compares the overall cost (memory times
+ * iterations) rather than each parameter, with some slack, so host-calibrated
+ * parameters that drift slightly between restarts do not re-hash every user.
+ */
+public class PooledArgon2PasswordEncoder implements PasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledArgon2PasswordEncoder.class);
+
+    private final int hashLength;
+    private final int parallelism;
+    private final int memoryKiB;
+    private final int iterations;
+    private final BytesKeyGenerator saltGenerator;
+    private final Argon2MemoryPool memoryPool;
+    private final Executor laneExecutor;
+
+    public PooledArgon2PasswordEncoder(int saltLength, int hashLength, int parallelism, int memoryKiB,
+            int iterations, Argon2MemoryPool memoryPool) {
+        this(saltLength, hashLength, parallelism, memoryKiB, iterations, memoryPool, null);
+    }
+
+    /**
+     * @param laneExecutor runs the extra lanes of multi-lane hashes concurrently;
+     *                     {@code null} fills all lanes on the calling thread
+     */
+    public PooledArgon2PasswordEncoder(int saltLength, int hashLength, int parallelism, int memoryKiB,
+            int iterations, Argon2MemoryPool memoryPool, Executor laneExecutor) {
+        this.hashLength = hashLength;
+        this.parallelism = parallelism;
+        this.memoryKiB = memoryKiB;
+        this.iterations = iterations;
+        this.saltGenerator = KeyGenerators.secureRandom(saltLength);
+        this.memoryPool = memoryPool;
+        this.laneExecutor = laneExecutor;
+    }
+
+    /**
+     * Number of Argon2 blocks (1 KiB each) an arena needs for this encoder's
+     * own parameters; used to size the pool.
+     */
+    public static int arenaBlocks(int memoryKiB, int parallelism) {
+        return Argon2Function.memoryBlocks(memoryKiB, parallelism);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        byte[] salt = saltGenerator.generateKey();
+        byte[] hash = new byte[hashLength];
+        compute(Argon2Function.TYPE_ID, Argon2Function.VERSION_13, memoryKiB, iterations, parallelism,
+                rawPassword, salt, hash);
+        return new Argon2EncodedHash(Argon2Function.TYPE_ID, Argon2Function.VERSION_13, memoryKiB, iterations,
+                parallelism, salt, hash).encode();
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            logger.warn("password hash is null");
+            return false;
+        }
+
+        Argon2EncodedHash decoded;
+        try {
+            decoded = Argon2EncodedHash.decode(encodedPassword);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Malformed password hash", e);
+            return false;
+        }
+
+        byte[] hash = new byte[decoded.hash().length];
+        compute(decoded.type(), decoded.version(), decoded.memoryKiB(), decoded.iterations(),
+                decoded.parallelism(), rawPassword, decoded.salt(), hash);
+
+        return MessageDigest.isEqual(decoded.hash(), hash);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            logger.warn("password hash is null");
+            return false;
+        }
+        try {
+            Argon2EncodedHash decoded = Argon2EncodedHash.decode(encodedPassword);
+            // Upgrade once the stored cost falls below three quarters of the current one
+            long storedCost = (long) decoded.memoryKiB() * decoded.iterations();
+            long currentCost = (long) memoryKiB * iterations;
+            return storedCost * 4 < currentCost * 3;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void compute(int type, int version, int memory, int passes, int lanes, CharSequence rawPassword,
+            byte[] salt, byte[] out) {
+        byte[] password = rawPassword.toString().getBytes(StandardCharsets.UTF_8);
+        long[] arena = memoryPool.borrow(Argon2Function.memoryBlocks(memory, lanes));
+        try {
+            new Argon2Function(type, version, memory, passes, lanes, arena, laneExecutor).hash(password, salt, out);
+        } finally {
+            memoryPool.release(arena);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.dbexp.db_experiment.security;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Fixed-size set of token buckets shared by an unbounded key space.
+ *
+ * Each key hashes to one cell in each of {@code depth} rows, count-min style.
+ * A cell is a single long holding the bucket's theoretical arrival time
+ * (GCRA): it admits a request while that time is at most {@code burst - 1}
+ * emission intervals ahead of now, and each admitted request pushes it one
+ * interval further. That is a token bucket of {@code burst} tokens refilled
+ * one per interval, updated by compare-and-set with no lock.
+ *
+ * An admitted request is charged to all of the key's cells, and a key is
+ * admitted while its least-loaded cell has room. A collision can therefore
+ * only make a key stricter, and a legitimate key is throttled only if every
+ * one of its cells is shared with a noisy neighbour. That holds against an
+ * attacker too: each row hashes the key with SipHash-2-4 under its own random
+ * 128-bit key, drawn per instance, so colliding keys cannot be generated for
+ * a chosen victim, and a collision in one row says nothing about the others.
+ *
+ * The check and the charge
+ * are separate atomic steps, so concurrent requests for one key may overshoot
+ * the burst by the number of requests in flight. Memory is
+ * {@code width * depth * 8} bytes regardless of how many distinct keys an
+ * attacker sends.
+ */
+public class TokenBucketSketch {
+
+    private final int width;
+    private final int depth;
+    // Two SipHash key words per row
+    private final long[] rowKeys;
+    private final AtomicLongArray cells;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final LongSupplier nanoClock;
+    private final long origin;
+
+    public TokenBucketSketch(int width, int depth, int burst, Duration refillInterval) {
+        this(width, depth, burst, refillInterval, System::nanoTime, new SecureRandom());
+    }
+
+    TokenBucketSketch(int width, int depth, int burst, Duration refillInterval, LongSupplier nanoClock,
+            Random random) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Width must be a power of two");
+        }
+        if (depth < 1) {
+            throw new IllegalArgumentException("Depth must be at least 1");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst must be at least 1");
+        }
+        this.width = width;
+        this.depth = depth;
+        this.rowKeys = random.longs(2L * depth).toArray();
+        this.cells = new AtomicLongArray(width * depth);
+        this.intervalNanos = refillInterval.toNanos();
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.nanoClock = nanoClock;
+        // Relative time keeps the empty cells (zero) in the past
+        this.origin = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes one token from the key's bucket.
+     *
+     * @return 0 if the request is admitted, otherwise the nanoseconds until a
+     *         token becomes available
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong() - origin;
+        int[] indexes = new int[depth];
+        for (int row = 0; row < depth; row++) {
+            indexes[row] = row * width + (int) (sipHash(rowKeys[2 * row], rowKeys[2 * row + 1], key) & (width - 1));
+        }
+
+        long arrival = Long.MAX_VALUE;
+        for (int index : indexes) {
+            arrival = Math.min(arrival, Math.max(cells.get(index), now));
+        }
+        long wait = arrival - now - toleranceNanos;
+        if (wait > 0) {
+            return wait;
+        }
+
+        for (int index : indexes) {
+            long current;
+            do {
+                current = cells.get(index);
+            } while (!cells.compareAndSet(index, current, Math.max(current, now) + intervalNanos));
+        }
+        return 0;
+    }
+
+    public long memoryBytes() {
+        return (long) width * depth * Long.BYTES;
+    }
+
+    /**
+     * SipHash-2-4 of the key's UTF-16LE bytes. Four chars fill one 64-bit
+     * message word, so no byte array is encoded.
+     */
+    static long sipHash(long k0, long k1, String key) {
+        long[] v = {
+                k0 ^ 0x736f6d6570736575L,
+                k1 ^ 0x646f72616e646f6dL,
+                k0 ^ 0x6c7967656e657261L,
+                k1 ^ 0x7465646279746573L };
+        int length = key.length();
+        int i = 0;
+        for (; i + 4 <= length; i += 4) {
+            compress(v, key.charAt(i) | (long) key.charAt(i + 1) << 16 | (long) key.charAt(i + 2) << 32
+                    | (long) key.charAt(i + 3) << 48);
+        }
+        // Final word: the remaining chars and the byte length mod 256
+        long last = (long) (length * 2) << 56;
+        for (int shift = 0; i < length; i++, shift += 16) {
+            last |= (long) key.charAt(i) << shift;
+        }
+        compress(v, last);
+
+        v[2] ^= 0xff;
+        for (int round = 0; round < 4; round++) {
+            sipRound(v);
+        }
+        return v[0] ^ v[1] ^ v[2] ^ v[3];
+    }
+
+    private static void compress(long[] v, long m) {
+        v[3] ^= m;
+        sipRound(v);
+        sipRound(v);
+        v[0] ^= m;
+    }
+
+    private static void sipRound(long[] v) {
+        v[0] += v[1];
+        v[1] = Long.rotateLeft(v[1], 13) ^ v[0];
+        v[0] = Long.rotateLeft(v[0], 32);
+        v[2] += v[3];
+        v[3] = Long.rotateLeft(v[3], 16) ^ v[2];
+        v[0] += v[3];
+        v[3] = Long.rotateLeft(v[3], 21) ^ v[0];
+        v[2] += v[1];
+        v[1] = Long.rotateLeft(v[1], 17) ^ v[2];
+        v[2] = Long.rotateLeft(v[2], 32);
+    }
+}
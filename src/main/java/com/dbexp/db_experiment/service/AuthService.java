@@ -1,5 +1,6 @@
 package com.dbexp.db_experiment.service;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 
 import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
@@ -8,9 +9,28 @@ import com.dbexp.db_experiment.dto.auth.LoginResponse;
 import com.dbexp.db_experiment.dto.auth.LogoutResponse;
 
 public interface AuthService {
-    LoginResponse login(LoginRequest request, HttpSession session);
 
+    /**
+     * Session attribute holding the logged-in user's id; other controllers
+     * read the acting user from it instead of trusting the request body.
+     */
+    String USER_ID_SESSION_KEY = "userId";
+
+    /**
+     * Creates the session (or rotates the id of an existing one) only after the
+     * credentials have been verified. Attempts over the per-address or
+     * per-username rate limit fail with
+     * {@link com.dbexp.db_experiment.security.LoginThrottledException} first.
+     */
+    LoginResponse login(LoginRequest request, HttpServletRequest httpRequest);
+
+    /**
+     * @param session the existing session, or {@code null} if there is none
+     */
     LogoutResponse logout(HttpSession session);
 
+    /**
+     * @param session the existing session, or {@code null} if there is none
+     */
     CurrentUserResponse getCurrentUser(HttpSession session);
 }
\ No newline at end of file
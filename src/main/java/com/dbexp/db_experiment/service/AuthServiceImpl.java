@@ -2,46 +2,74 @@ package com.dbexp.db_experiment.service;
 
 import java.util.Optional;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 
-import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.annotation.Timed;
+
+import com.dbexp.db_experiment.cache.UserCache;
+import com.dbexp.db_experiment.cache.UserLookup;
+import com.dbexp.db_experiment.cache.UserSummary;
 import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
 import com.dbexp.db_experiment.dto.auth.LoginRequest;
 import com.dbexp.db_experiment.dto.auth.LoginResponse;
 import com.dbexp.db_experiment.dto.auth.LogoutResponse;
 import com.dbexp.db_experiment.entity.User;
-import com.dbexp.db_experiment.repository.UserRepository;
+import com.dbexp.db_experiment.exception.InvalidCredentialsException;
+import com.dbexp.db_experiment.security.LoginThrottle;
 
 @Service
+@Timed("app.service")
 public class AuthServiceImpl implements AuthService {
 
-    private static final String USER_ID_SESSION_KEY = "userId";
-
-    private final UserRepository userRepository;
+    private final UserLookup userLookup;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordRehashService passwordRehashService;
+    private final UserCache userCache;
+    private final LoginThrottle loginThrottle;
 
-    public AuthServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
-        this.userRepository = userRepository;
+    public AuthServiceImpl(UserLookup userLookup, PasswordEncoder passwordEncoder,
+            PasswordRehashService passwordRehashService, UserCache userCache, LoginThrottle loginThrottle) {
+        this.userLookup = userLookup;
         this.passwordEncoder = passwordEncoder;
+        this.passwordRehashService = passwordRehashService;
+        this.userCache = userCache;
+        this.loginThrottle = loginThrottle;
     }
 
     @Override
-    public LoginResponse login(LoginRequest request, HttpSession session) {
-        Optional<User> userOptional = userRepository.findByUsername(request.username());
+    public LoginResponse login(LoginRequest request, HttpServletRequest httpRequest) {
+        // Rejected attempts cost neither a query nor a hash
+        loginThrottle.acquire(httpRequest.getRemoteAddr(), request.username());
+
+        // A burst of logins for one account shares a single lookup
+        Optional<User> userOptional = userLookup.findByUsername(request.username());
 
         if (userOptional.isEmpty()) {
-            throw new BadCredentialsException("Invalid username or password");
+            throw new InvalidCredentialsException("Invalid username or password");
         }
 
         User user = userOptional.get();
 
         if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
-            throw new BadCredentialsException("Invalid username or password");
+            throw new InvalidCredentialsException("Invalid username or password");
         }
 
+        // Bring hashes created with older, weaker parameters up to date
+        if (passwordEncoder.upgradeEncoding(user.getPasswordHash())) {
+            passwordRehashService.rehashAsync(user.getUserId(), request.password(), user.getPasswordHash());
+        }
+
+        // Allocate the session only now; an existing anonymous one gets a fresh id
+        HttpSession session = httpRequest.getSession(false);
+        if (session != null) {
+            httpRequest.changeSessionId();
+        } else {
+            session = httpRequest.getSession(true);
+        }
         session.setAttribute(USER_ID_SESSION_KEY, user.getUserId());
 
         return new LoginResponse(
@@ -53,30 +81,36 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public LogoutResponse logout(HttpSession session) {
-        session.invalidate();
+        if (session != null) {
+            session.invalidate();
+        }
         return new LogoutResponse("Logout successful");
     }
 
     @Override
     public CurrentUserResponse getCurrentUser(HttpSession session) {
+        if (session == null) {
+            return CurrentUserResponse.notAuthenticated();
+        }
+
         Long userId = (Long) session.getAttribute(USER_ID_SESSION_KEY);
 
         if (userId == null) {
             return CurrentUserResponse.notAuthenticated();
         }
 
-        Optional<User> userOptional = userRepository.findById(userId);
+        Optional<UserSummary> userOptional = userCache.get(userId);
 
         if (userOptional.isEmpty()) {
             return CurrentUserResponse.notAuthenticated();
         }
 
-        User user = userOptional.get();
+        UserSummary user = userOptional.get();
 
         return new CurrentUserResponse(
                 true,
-                user.getUserId(),
-                user.getUsername(),
-                user.getEmail());
+                user.userId(),
+                user.username(),
+                user.email());
     }
 }
\ No newline at end of file
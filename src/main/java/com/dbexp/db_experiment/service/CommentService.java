@@ -0,0 +1,23 @@
+package com.dbexp.db_experiment.service;
+
+import com.dbexp.db_experiment.dto.community.CommentResponse;
+import com.dbexp.db_experiment.dto.community.CommentThreadResponse;
+import com.dbexp.db_experiment.dto.community.CreateCommentRequest;
+
+public interface CommentService {
+    /**
+     * Returns a post's comments as a tree, best first among siblings.
+     *
+     * @param cursor {@code null} for the post's top-level comments, the
+     *               {@code nextCursor} of a previous response for the next of
+     *               them, or a comment's {@code moreCursor} for the replies
+     *               that comment left out
+     * @param limit  comments at the level the cursor points to
+     */
+    CommentThreadResponse getComments(Long postId, String cursor, Integer limit);
+
+    /**
+     * @param userId the session's user, or {@code null} if not logged in
+     */
+    CommentResponse createComment(Long postId, Long userId, CreateCommentRequest request);
+}
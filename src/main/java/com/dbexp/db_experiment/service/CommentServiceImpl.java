@@ -0,0 +1,180 @@
+package com.dbexp.db_experiment.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.annotation.Timed;
+
+import com.dbexp.db_experiment.cache.UserCache;
+import com.dbexp.db_experiment.cache.UserSummary;
+import com.dbexp.db_experiment.comment.CommentCursor;
+import com.dbexp.db_experiment.comment.CommentPath;
+import com.dbexp.db_experiment.comment.CommentRow;
+import com.dbexp.db_experiment.comment.CommentTree;
+import com.dbexp.db_experiment.dto.community.CommentResponse;
+import com.dbexp.db_experiment.dto.community.CommentThreadResponse;
+import com.dbexp.db_experiment.dto.community.CreateCommentRequest;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.exception.NotAuthenticatedException;
+import com.dbexp.db_experiment.repository.CommentRepository;
+
+/**
+ * Comments are paged one level at a time: the top-level comments of a post,
+ * or the replies under a "load more" cursor, come from a keyset query that
+ * starts at the cursor. The subtrees of just that page are then read as path
+ * ranges, each capped at {@code max-subtree-rows}, and assembled by
+ * {@link CommentTree}; only a bounded part is rendered, and every comment that
+ * leaves replies out carries the cursor that continues there.
+ */
+@Service
+@Timed("app.service")
+public class CommentServiceImpl implements CommentService {
+
+    static final int DEFAULT_PAGE_SIZE = 25;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final CommentRepository commentRepository;
+    private final UserCache userCache;
+    private final int maxComments;
+    private final int repliesPerComment;
+    private final int maxDepth;
+    private final int maxSubtreeRows;
+
+    public CommentServiceImpl(CommentRepository commentRepository, UserCache userCache,
+            @Value("${app.comments.max-comments:500}") int maxComments,
+            @Value("${app.comments.replies-per-comment:10}") int repliesPerComment,
+            @Value("${app.comments.max-depth:8}") int maxDepth,
+            @Value("${app.comments.max-subtree-rows:200}") int maxSubtreeRows) {
+        this.commentRepository = commentRepository;
+        this.userCache = userCache;
+        this.maxComments = maxComments;
+        this.repliesPerComment = repliesPerComment;
+        this.maxDepth = maxDepth;
+        this.maxSubtreeRows = maxSubtreeRows;
+    }
+
+    @Override
+    public CommentThreadResponse getComments(Long postId, String cursor, Integer limit) {
+        // Validate input parameters
+        if (postId == null || postId <= 0) {
+            throw new InvalidRequestException("Post not found");
+        }
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        CommentCursor after = cursor == null || cursor.isEmpty()
+                ? CommentCursor.start("")
+                : CommentCursor.decode(cursor);
+        String parentPath = after.parentPath();
+
+        // One row past the page tells whether another follows
+        List<CommentRow> page = commentRepository.findReplies(postId, CommentPath.commentId(parentPath), after,
+                pageSize + 1);
+        boolean hasMore = page.size() > pageSize;
+        if (hasMore) {
+            page = page.subList(0, pageSize);
+        }
+
+        // Likewise one row past the cap marks a subtree that was cut off
+        List<CommentRow> rows = new ArrayList<>(page);
+        rows.addAll(commentRepository.findSubtrees(postId,
+                page.stream().map(CommentRow::path).toList(), maxSubtreeRows + 1));
+        rows.sort(Comparator.comparing(CommentRow::path));
+        List<CommentTree.Node> roots = CommentTree.assemble(rows, maxSubtreeRows).roots();
+        CommentTree.expand(roots, Math.max(maxComments - roots.size(), 0), repliesPerComment, maxDepth);
+
+        String nextCursor = hasMore ? CommentCursor.after(parentPath, page.getLast()).encode() : null;
+
+        // Return response DTO
+        return new CommentThreadResponse(
+                roots.stream().map(CommentServiceImpl::toResponse).toList(),
+                hasMore,
+                nextCursor);
+    }
+
+    @Override
+    public CommentResponse createComment(Long postId, Long userId, CreateCommentRequest request) {
+        // Validate input parameters
+        if (userId == null) {
+            throw new NotAuthenticatedException("Login required");
+        }
+        if (postId == null || postId <= 0) {
+            throw new InvalidRequestException("Post not found");
+        }
+        if (request.content() == null || request.content().isBlank()) {
+            throw new InvalidRequestException("Content is required");
+        }
+        UserSummary author = userCache.get(userId)
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
+
+        String parentPath = "";
+        if (request.parentCommentId() != null) {
+            parentPath = commentRepository.findPath(postId, request.parentCommentId())
+                    .orElseThrow(() -> new InvalidRequestException("Parent comment not found"));
+            if (CommentPath.depth(parentPath) >= CommentPath.MAX_DEPTH) {
+                throw new InvalidRequestException(
+                        "Replies cannot be nested more than " + CommentPath.MAX_DEPTH + " levels deep");
+            }
+        }
+
+        // TIMESTAMP keeps whole seconds; truncate so the response matches the stored row
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        long commentId;
+        try {
+            commentId = commentRepository.insert(postId, author.userId(), request.parentCommentId(), parentPath,
+                    request.content(), createdAt);
+        } catch (DataIntegrityViolationException e) {
+            // The user was checked above, so the foreign key that failed is the post's
+            throw new InvalidRequestException("Post not found");
+        }
+
+        // Return response DTO
+        CommentRow comment = new CommentRow(
+                commentId,
+                request.parentCommentId(),
+                CommentPath.child(parentPath, commentId),
+                author.userId(),
+                author.username(),
+                request.content(),
+                createdAt,
+                0);
+        return toResponse(comment, List.of(), 0, null);
+    }
+
+    private static CommentResponse toResponse(CommentTree.Node node) {
+        CommentRow comment = node.comment();
+        List<CommentTree.Node> shown = node.shownReplies();
+        String moreCursor = null;
+        if (node.hiddenReplies() > 0 || node.truncated()) {
+            CommentCursor cursor = shown.isEmpty()
+                    ? CommentCursor.start(comment.path())
+                    : CommentCursor.after(comment.path(), shown.getLast().comment());
+            moreCursor = cursor.encode();
+        }
+        return toResponse(comment, shown.stream().map(CommentServiceImpl::toResponse).toList(),
+                node.hiddenReplies(), moreCursor);
+    }
+
+    private static CommentResponse toResponse(CommentRow comment, List<CommentResponse> replies, int moreReplies,
+            String moreCursor) {
+        return new CommentResponse(
+                comment.commentId(),
+                comment.parentCommentId(),
+                comment.userId(),
+                comment.username(),
+                comment.content(),
+                comment.createdAt(),
+                comment.score(),
+                replies,
+                moreReplies,
+                moreCursor);
+    }
+}
@@ -0,0 +1,24 @@
+package com.dbexp.db_experiment.service;
+
+import com.dbexp.db_experiment.dto.community.CommunityFeedResponse;
+import com.dbexp.db_experiment.dto.community.CreatePostRequest;
+import com.dbexp.db_experiment.dto.community.PostResponse;
+
+public interface CommunityFeedService {
+    /**
+     * Returns a community's posts, newest first unless another sort is given.
+     *
+     * @param sort   {@code new} (the default), {@code hot} or {@code top}
+     * @param range  for {@code top}: {@code day} (the default), {@code week}
+     *               or {@code all}
+     * @param cursor the {@code nextCursor} of the previous page, or
+     *               {@code null} for the first page
+     */
+    CommunityFeedResponse getCommunityPosts(String communityName, String sort, String range, String cursor,
+            Integer limit);
+
+    /**
+     * @param userId the session's user, or {@code null} if not logged in
+     */
+    PostResponse createPost(String communityName, Long userId, CreatePostRequest request);
+}
@@ -0,0 +1,134 @@
+package com.dbexp.db_experiment.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.annotation.Timed;
+
+import com.dbexp.db_experiment.cache.CommunityFeedCache;
+import com.dbexp.db_experiment.cache.PostSummary;
+import com.dbexp.db_experiment.cache.UserCache;
+import com.dbexp.db_experiment.cache.UserSummary;
+import com.dbexp.db_experiment.dto.community.CommunityFeedResponse;
+import com.dbexp.db_experiment.dto.community.CreatePostRequest;
+import com.dbexp.db_experiment.dto.community.PostResponse;
+import com.dbexp.db_experiment.entity.Post;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.exception.NotAuthenticatedException;
+import com.dbexp.db_experiment.feed.FeedCursor;
+import com.dbexp.db_experiment.feed.FeedSort;
+import com.dbexp.db_experiment.feed.HotRankings;
+import com.dbexp.db_experiment.feed.RankCursor;
+import com.dbexp.db_experiment.repository.PostRepository;
+
+/**
+ * Community feeds are keyset paginated on {@code (created_at, post_id)}: the
+ * first page comes from {@link CommunityFeedCache}, later pages seek past the
+ * cursor on the community's feed index. Hot and top pages come from
+ * {@link HotRankings}, keyset paginated on {@code (rank, post_id)}.
+ */
+@Service
+@Timed("app.service")
+public class CommunityFeedServiceImpl implements CommunityFeedService {
+
+    static final int DEFAULT_PAGE_SIZE = 25;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final PostRepository postRepository;
+    private final CommunityFeedCache feedCache;
+    private final HotRankings hotRankings;
+    private final UserCache userCache;
+
+    public CommunityFeedServiceImpl(PostRepository postRepository, CommunityFeedCache feedCache,
+            HotRankings hotRankings, UserCache userCache) {
+        this.postRepository = postRepository;
+        this.feedCache = feedCache;
+        this.hotRankings = hotRankings;
+        this.userCache = userCache;
+    }
+
+    @Override
+    public CommunityFeedResponse getCommunityPosts(String communityName, String sort, String range, String cursor,
+            Integer limit) {
+        // Validate input parameters
+        FeedSort feedSort = FeedSort.parse(sort, range);
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        long communityId = findCommunityId(communityName);
+        boolean firstPage = cursor == null || cursor.isEmpty();
+
+        // Fetch one extra row to learn whether another page follows
+        List<PostSummary> rows;
+        if (feedSort != FeedSort.NEW) {
+            RankCursor after = firstPage ? null : RankCursor.decode(cursor);
+            rows = hotRankings.page(communityId, feedSort, after, pageSize + 1);
+        } else if (firstPage) {
+            rows = feedCache.firstPage(communityId, pageSize + 1);
+        } else {
+            FeedCursor after = FeedCursor.decode(cursor);
+            rows = postRepository.findFeedPageBefore(communityId, after.createdAt(), after.postId(), pageSize + 1);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<PostSummary> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            PostSummary last = page.get(page.size() - 1);
+            nextCursor = feedSort != FeedSort.NEW
+                    ? RankCursor.after(feedSort, last).encode()
+                    : FeedCursor.after(last).encode();
+        }
+
+        // Return response DTO
+        return new CommunityFeedResponse(
+                page.stream().map(PostResponse::from).toList(),
+                hasMore,
+                nextCursor);
+    }
+
+    @Override
+    public PostResponse createPost(String communityName, Long userId, CreatePostRequest request) {
+        // Validate input parameters
+        if (userId == null) {
+            throw new NotAuthenticatedException("Login required");
+        }
+        long communityId = findCommunityId(communityName);
+        UserSummary author = userCache.get(userId)
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
+
+        // TIMESTAMP keeps whole seconds; truncate so the cursor of the returned
+        // post matches the stored row
+        Post post = new Post(userId, communityId, request.title(), request.content());
+        post.setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        Post savedPost = postRepository.save(post);
+
+        // The insert has committed; drop the cached first page that lacks it
+        // and rank the post
+        feedCache.invalidate(communityId);
+        PostSummary summary = new PostSummary(
+                savedPost.getPostId(),
+                communityId,
+                author.userId(),
+                author.username(),
+                savedPost.getPostTitle(),
+                savedPost.getCreatedAt(),
+                0);
+        hotRankings.offer(summary);
+
+        // Return response DTO
+        return PostResponse.from(summary);
+    }
+
+    private long findCommunityId(String communityName) {
+        if (communityName == null || communityName.isEmpty()) {
+            throw new InvalidRequestException("Community name is required");
+        }
+        return feedCache.communityId(communityName)
+                .orElseThrow(() -> new InvalidRequestException("Community not found"));
+    }
+}
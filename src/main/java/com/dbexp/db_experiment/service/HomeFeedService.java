@@ -0,0 +1,13 @@
+package com.dbexp.db_experiment.service;
+
+import com.dbexp.db_experiment.dto.community.CommunityFeedResponse;
+
+public interface HomeFeedService {
+    /**
+     * Returns the newest posts across the communities the user subscribes to.
+     *
+     * @param cursor the {@code nextCursor} of the previous page, or
+     *               {@code null} for the first page
+     */
+    CommunityFeedResponse getHomeFeed(Long userId, String cursor, Integer limit);
+}
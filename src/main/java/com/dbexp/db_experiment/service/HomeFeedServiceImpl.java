@@ -0,0 +1,66 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.annotation.Timed;
+
+import com.dbexp.db_experiment.cache.PostSummary;
+import com.dbexp.db_experiment.cache.UserCache;
+import com.dbexp.db_experiment.dto.community.CommunityFeedResponse;
+import com.dbexp.db_experiment.dto.community.PostResponse;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.feed.FeedCursor;
+import com.dbexp.db_experiment.feed.HomeFeed;
+import com.dbexp.db_experiment.repository.CommunityRepository;
+
+/**
+ * Home feeds are merged on read from the subscribed communities' feeds by
+ * {@link HomeFeed}, and keyset paginated on {@code (created_at, post_id)}
+ * like a community feed.
+ */
+@Service
+@Timed("app.service")
+public class HomeFeedServiceImpl implements HomeFeedService {
+
+    private final CommunityRepository communityRepository;
+    private final HomeFeed homeFeed;
+    private final UserCache userCache;
+
+    public HomeFeedServiceImpl(CommunityRepository communityRepository, HomeFeed homeFeed, UserCache userCache) {
+        this.communityRepository = communityRepository;
+        this.homeFeed = homeFeed;
+        this.userCache = userCache;
+    }
+
+    @Override
+    public CommunityFeedResponse getHomeFeed(Long userId, String cursor, Integer limit) {
+        // Validate input parameters
+        if (userId == null || userId <= 0) {
+            throw new InvalidRequestException("User not found");
+        }
+        int pageSize = limit != null ? limit : CommunityFeedServiceImpl.DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > CommunityFeedServiceImpl.MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Limit must be between 1 and " + CommunityFeedServiceImpl.MAX_PAGE_SIZE);
+        }
+        FeedCursor after = cursor == null || cursor.isEmpty() ? null : FeedCursor.decode(cursor);
+        if (userCache.get(userId).isEmpty()) {
+            throw new InvalidRequestException("User not found");
+        }
+
+        // Fetch one extra row to learn whether another page follows
+        List<Long> communityIds = communityRepository.findSubscribedCommunityIds(userId);
+        List<PostSummary> rows = homeFeed.page(communityIds, after, pageSize + 1);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<PostSummary> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? FeedCursor.after(page.get(page.size() - 1)).encode() : null;
+
+        // Return response DTO
+        return new CommunityFeedResponse(
+                page.stream().map(PostResponse::from).toList(),
+                hasMore,
+                nextCursor);
+    }
+}
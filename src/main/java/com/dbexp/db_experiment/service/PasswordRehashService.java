@@ -0,0 +1,114 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.dbexp.db_experiment.repository.UserRepository;
+import com.dbexp.db_experiment.security.HashingCapacityExceededException;
+
+/**
+ * Re-hashes stored passwords with the current Argon2 parameters after a
+ * successful login, off the request thread.
+ *
+ * Work runs on a single background thread with a bounded queue; when the queue
+ * is full or the hashing budget is exhausted the upgrade is simply skipped and
+ * retried on the user's next login. The write only applies if the stored hash
+ * is still the one that was verified, so a concurrent password change wins.
+ */
+@Service
+public class PasswordRehashService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordRehashService.class);
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService executor;
+
+    private final Counter upgraded;
+    private final Counter stale;
+    private final Counter skipped;
+    private final Counter dropped;
+    private final Counter failed;
+
+    @Autowired
+    public PasswordRehashService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.hashing.rehash.queue-capacity:256}") int queueCapacity) {
+        this(userRepository, passwordEncoder, meterRegistry, new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-rehash");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()));
+    }
+
+    PasswordRehashService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry, ExecutorService executor) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+
+        this.upgraded = rehashCounter(meterRegistry, "upgraded");
+        this.stale = rehashCounter(meterRegistry, "stale");
+        this.skipped = rehashCounter(meterRegistry, "skipped");
+        this.dropped = rehashCounter(meterRegistry, "dropped");
+        this.failed = rehashCounter(meterRegistry, "failed");
+    }
+
+    public void rehashAsync(Long userId, String rawPassword, String currentPasswordHash) {
+        try {
+            executor.execute(() -> rehash(userId, rawPassword, currentPasswordHash));
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+        }
+    }
+
+    private void rehash(Long userId, String rawPassword, String currentPasswordHash) {
+        try {
+            String newPasswordHash = passwordEncoder.encode(rawPassword);
+
+            // Only replace the hash that was verified at login
+            int updated = userRepository.updatePasswordIfHashMatches(userId, currentPasswordHash, newPasswordHash);
+            if (updated > 0) {
+                upgraded.increment();
+            } else {
+                stale.increment();
+            }
+        } catch (HashingCapacityExceededException e) {
+            skipped.increment();
+        } catch (RuntimeException e) {
+            failed.increment();
+            logger.warn("Failed to re-hash password for user {}", userId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static Counter rehashCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("password.rehash")
+                .description("Background password re-hashes after login by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
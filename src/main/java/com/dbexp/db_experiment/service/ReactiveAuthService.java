@@ -0,0 +1,27 @@
+package com.dbexp.db_experiment.service;
+
+import org.springframework.web.server.WebSession;
+
+import reactor.core.publisher.Mono;
+
+import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
+import com.dbexp.db_experiment.dto.auth.LoginRequest;
+import com.dbexp.db_experiment.dto.auth.LoginResponse;
+import com.dbexp.db_experiment.dto.auth.LogoutResponse;
+
+/**
+ * Non-blocking counterpart of {@link AuthService} for the {@code reactive}
+ * profile. A {@link WebSession} is only persisted once an attribute is set, so
+ * only a successful login stores one.
+ */
+public interface ReactiveAuthService {
+    /**
+     * @param clientAddress the caller's address for rate limiting, or
+     *                      {@code null} if unknown
+     */
+    Mono<LoginResponse> login(LoginRequest request, WebSession session, String clientAddress);
+
+    Mono<LogoutResponse> logout(WebSession session);
+
+    Mono<CurrentUserResponse> getCurrentUser(WebSession session);
+}
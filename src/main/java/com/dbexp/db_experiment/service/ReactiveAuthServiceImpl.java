@@ -0,0 +1,87 @@
+package com.dbexp.db_experiment.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.WebSession;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
+import com.dbexp.db_experiment.dto.auth.LoginRequest;
+import com.dbexp.db_experiment.dto.auth.LoginResponse;
+import com.dbexp.db_experiment.dto.auth.LogoutResponse;
+import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.exception.InvalidCredentialsException;
+import com.dbexp.db_experiment.repository.reactive.ReactiveUserRepository;
+import com.dbexp.db_experiment.security.LoginThrottle;
+
+@Service
+@Profile("reactive")
+public class ReactiveAuthServiceImpl implements ReactiveAuthService {
+
+    private static final String USER_ID_SESSION_KEY = "userId";
+
+    private final ReactiveUserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler hashingScheduler;
+    private final LoginThrottle loginThrottle;
+
+    public ReactiveAuthServiceImpl(ReactiveUserRepository userRepository, PasswordEncoder passwordEncoder,
+            @Qualifier("hashingScheduler") Scheduler hashingScheduler, LoginThrottle loginThrottle) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.hashingScheduler = hashingScheduler;
+        this.loginThrottle = loginThrottle;
+    }
+
+    @Override
+    public Mono<LoginResponse> login(LoginRequest request, WebSession session, String clientAddress) {
+        return Mono.fromRunnable(() -> loginThrottle.acquire(clientAddress, request.username()))
+                .then(Mono.defer(() -> userRepository.findByUsername(request.username())))
+                .switchIfEmpty(Mono.error(() -> new InvalidCredentialsException("Invalid username or password")))
+                .flatMap(user -> Mono.fromCallable(() -> passwordEncoder.matches(request.password(),
+                                user.getPasswordHash()))
+                        .subscribeOn(hashingScheduler)
+                        .flatMap(matches -> matches
+                                ? Mono.just(user)
+                                : Mono.error(new InvalidCredentialsException("Invalid username or password"))))
+                // Rotate the session id before binding the user to it
+                .flatMap(user -> session.changeSessionId().then(Mono.fromSupplier(() -> {
+                    session.getAttributes().put(USER_ID_SESSION_KEY, user.getUserId());
+                    return loginResponse(user);
+                })));
+    }
+
+    @Override
+    public Mono<LogoutResponse> logout(WebSession session) {
+        return session.invalidate().thenReturn(new LogoutResponse("Logout successful"));
+    }
+
+    @Override
+    public Mono<CurrentUserResponse> getCurrentUser(WebSession session) {
+        Long userId = session.getAttribute(USER_ID_SESSION_KEY);
+
+        if (userId == null) {
+            return Mono.just(CurrentUserResponse.notAuthenticated());
+        }
+
+        return userRepository.findById(userId)
+                .map(user -> new CurrentUserResponse(
+                        true,
+                        user.getUserId(),
+                        user.getUsername(),
+                        user.getEmail()))
+                .defaultIfEmpty(CurrentUserResponse.notAuthenticated());
+    }
+
+    private static LoginResponse loginResponse(User user) {
+        return new LoginResponse(
+                user.getUserId(),
+                user.getUsername(),
+                user.getEmail(),
+                "Login successful");
+    }
+}
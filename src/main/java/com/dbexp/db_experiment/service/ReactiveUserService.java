@@ -0,0 +1,38 @@
+package com.dbexp.db_experiment.service;
+
+import reactor.core.publisher.Mono;
+
+import com.dbexp.db_experiment.dto.user.ChangeEmailRequest;
+import com.dbexp.db_experiment.dto.user.ChangeEmailResponse;
+import com.dbexp.db_experiment.dto.user.ChangePasswordRequest;
+import com.dbexp.db_experiment.dto.user.ChangePasswordResponse;
+import com.dbexp.db_experiment.dto.user.ChangeUsernameRequest;
+import com.dbexp.db_experiment.dto.user.ChangeUsernameResponse;
+import com.dbexp.db_experiment.dto.user.CreateUserRequest;
+import com.dbexp.db_experiment.dto.user.CreateUserResponse;
+import com.dbexp.db_experiment.dto.user.DeleteAccountRequest;
+import com.dbexp.db_experiment.dto.user.DeleteAccountResponse;
+import com.dbexp.db_experiment.dto.user.GetUserByIdRequest;
+import com.dbexp.db_experiment.dto.user.GetUserByIdResponse;
+import com.dbexp.db_experiment.dto.user.ListUsersRequest;
+import com.dbexp.db_experiment.dto.user.ListUsersResponse;
+
+/**
+ * Non-blocking counterpart of {@link UserService} for the {@code reactive}
+ * profile, with the same validation and error messages.
+ */
+public interface ReactiveUserService {
+    Mono<GetUserByIdResponse> getUserById(GetUserByIdRequest request);
+
+    Mono<ListUsersResponse> listUsers(ListUsersRequest request);
+
+    Mono<CreateUserResponse> createUser(CreateUserRequest request);
+
+    Mono<ChangeUsernameResponse> changeUsername(Long userId, ChangeUsernameRequest request);
+
+    Mono<ChangePasswordResponse> changePassword(Long userId, ChangePasswordRequest request);
+
+    Mono<ChangeEmailResponse> changeEmail(Long userId, ChangeEmailRequest request);
+
+    Mono<DeleteAccountResponse> deleteAccount(Long userId, DeleteAccountRequest request);
+}
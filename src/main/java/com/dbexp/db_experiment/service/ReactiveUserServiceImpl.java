@@ -0,0 +1,244 @@
+package com.dbexp.db_experiment.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import com.dbexp.db_experiment.cache.UserSummary;
+import com.dbexp.db_experiment.dto.user.ChangeEmailRequest;
+import com.dbexp.db_experiment.dto.user.ChangeEmailResponse;
+import com.dbexp.db_experiment.dto.user.ChangePasswordRequest;
+import com.dbexp.db_experiment.dto.user.ChangePasswordResponse;
+import com.dbexp.db_experiment.dto.user.ChangeUsernameRequest;
+import com.dbexp.db_experiment.dto.user.ChangeUsernameResponse;
+import com.dbexp.db_experiment.dto.user.CreateUserRequest;
+import com.dbexp.db_experiment.dto.user.CreateUserResponse;
+import com.dbexp.db_experiment.dto.user.DeleteAccountRequest;
+import com.dbexp.db_experiment.dto.user.DeleteAccountResponse;
+import com.dbexp.db_experiment.dto.user.GetUserByIdRequest;
+import com.dbexp.db_experiment.dto.user.GetUserByIdResponse;
+import com.dbexp.db_experiment.dto.user.ListUsersRequest;
+import com.dbexp.db_experiment.dto.user.ListUsersResponse;
+import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.repository.reactive.ReactiveUserRepository;
+
+/**
+ * Mirrors {@link UserServiceImpl} on R2DBC. Argon2 runs on the bounded
+ * {@code hashingScheduler}, never on an event-loop thread; everything else is
+ * non-blocking, so the thread count stays fixed however many requests are in
+ * flight.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveUserServiceImpl implements ReactiveUserService {
+
+    private final ReactiveUserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler hashingScheduler;
+
+    public ReactiveUserServiceImpl(ReactiveUserRepository userRepository, PasswordEncoder passwordEncoder,
+            @Qualifier("hashingScheduler") Scheduler hashingScheduler) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.hashingScheduler = hashingScheduler;
+    }
+
+    @Override
+    public Mono<GetUserByIdResponse> getUserById(GetUserByIdRequest request) {
+        // Validate input parameters
+        if (request.getUserId() == null) {
+            return Mono.error(new InvalidRequestException("User ID is required"));
+        }
+
+        return findUser(request.getUserId())
+                .map(user -> new GetUserByIdResponse(
+                        user.getUserId(),
+                        user.getUsername(),
+                        user.getEmail(),
+                        user.getCreatedAt()));
+    }
+
+    @Override
+    public Mono<ListUsersResponse> listUsers(ListUsersRequest request) {
+        // Validate input parameters
+        int limit = request.getLimit() != null ? request.getLimit() : UserServiceImpl.DEFAULT_PAGE_SIZE;
+        if (limit < 1 || limit > UserServiceImpl.MAX_PAGE_SIZE) {
+            return Mono.error(new InvalidRequestException(
+                    "Limit must be between 1 and " + UserServiceImpl.MAX_PAGE_SIZE));
+        }
+        String prefix = request.getPrefix();
+        boolean byPrefix = prefix != null && !prefix.isEmpty();
+        if (byPrefix && request.getAfter() != null) {
+            return Mono.error(new InvalidRequestException("Use afterUsername to page a prefix listing"));
+        }
+        if (!byPrefix && request.getAfterUsername() != null) {
+            return Mono.error(new InvalidRequestException("afterUsername requires a prefix"));
+        }
+
+        // Fetch one extra row to learn whether another page follows
+        Flux<UserSummary> rows = byPrefix
+                ? userRepository.findPageByUsernamePrefix(UserServiceImpl.likePrefix(prefix),
+                        request.getAfterUsername() != null ? request.getAfterUsername() : "", limit + 1)
+                : userRepository.findPageAfter(request.getAfter() != null ? request.getAfter() : 0L, limit + 1);
+
+        return rows.collectList().map(list -> {
+            boolean hasMore = list.size() > limit;
+            List<UserSummary> page = hasMore ? list.subList(0, limit) : list;
+            UserSummary last = hasMore ? page.get(page.size() - 1) : null;
+            return new ListUsersResponse(
+                    page.stream()
+                            .map(user -> new GetUserByIdResponse(
+                                    user.userId(),
+                                    user.username(),
+                                    user.email(),
+                                    user.createdAt()))
+                            .toList(),
+                    hasMore,
+                    last != null && !byPrefix ? last.userId() : null,
+                    last != null && byPrefix ? last.username() : null);
+        });
+    }
+
+    @Override
+    public Mono<CreateUserResponse> createUser(CreateUserRequest request) {
+        // Validate input parameters
+        if (request.getUsername() == null) {
+            return Mono.error(new InvalidRequestException("Username is required"));
+        }
+        if (request.getEmail() == null) {
+            return Mono.error(new InvalidRequestException("Email is required"));
+        }
+        if (request.getPassword() == null) {
+            return Mono.error(new InvalidRequestException("Password is required"));
+        }
+
+        return encode(request.getPassword())
+                .map(hashedPassword -> {
+                    User user = new User(request.getUsername(), hashedPassword, request.getEmail());
+                    user.setCreatedAt(LocalDateTime.now());
+                    return user;
+                })
+                // The unique indexes reject duplicate usernames and emails
+                .flatMap(userRepository::save)
+                .onErrorMap(DuplicateKeyException.class, ReactiveUserServiceImpl::duplicateValue)
+                .map(savedUser -> new CreateUserResponse(
+                        savedUser.getUserId(),
+                        savedUser.getUsername(),
+                        savedUser.getEmail(),
+                        savedUser.getCreatedAt()));
+    }
+
+    @Override
+    public Mono<ChangeUsernameResponse> changeUsername(Long userId, ChangeUsernameRequest request) {
+        return findUser(userId).flatMap(user -> {
+            // Validate new username is different from current
+            if (user.getUsername().equals(request.getNewUsername())) {
+                return Mono.error(new InvalidRequestException(
+                        "New username must be different from current username"));
+            }
+            return userRepository.updateUsername(userId, request.getNewUsername())
+                    .onErrorMap(DuplicateKeyException.class, ReactiveUserServiceImpl::duplicateValue)
+                    .flatMap(rowsUpdated -> rowsUpdated == 0
+                            ? Mono.error(new InvalidRequestException("Failed to update username"))
+                            : Mono.just(new ChangeUsernameResponse(
+                                    userId,
+                                    user.getUsername(),
+                                    request.getNewUsername(),
+                                    LocalDateTime.now())));
+        });
+    }
+
+    @Override
+    public Mono<ChangePasswordResponse> changePassword(Long userId, ChangePasswordRequest request) {
+        return findUser(userId)
+                .flatMap(user -> verifyPassword(request.getCurrentPassword(), user))
+                .flatMap(user -> matches(request.getNewPassword(), user.getPasswordHash())
+                        .flatMap(same -> same
+                                ? Mono.error(new InvalidRequestException(
+                                        "New password must be different from current password"))
+                                : encode(request.getNewPassword()))
+                        // Apply the write only if the verified hash is still current
+                        .flatMap(newPasswordHash -> userRepository.updatePasswordIfHashMatches(
+                                userId, user.getPasswordHash(), newPasswordHash)))
+                .flatMap(rowsUpdated -> rowsUpdated == 0
+                        ? Mono.error(new IllegalStateException("Failed to update password"))
+                        : Mono.just(new ChangePasswordResponse(
+                                userId,
+                                LocalDateTime.now(),
+                                "Password changed successfully")));
+    }
+
+    @Override
+    public Mono<ChangeEmailResponse> changeEmail(Long userId, ChangeEmailRequest request) {
+        return findUser(userId)
+                .flatMap(user -> verifyPassword(request.getCurrentPassword(), user))
+                .flatMap(user -> {
+                    // Validate new email is different from current
+                    if (user.getEmail().equals(request.getNewEmail())) {
+                        return Mono.error(new InvalidRequestException(
+                                "New email must be different from current email"));
+                    }
+                    return userRepository.updateEmailIfHashMatches(userId, user.getPasswordHash(),
+                                    request.getNewEmail())
+                            .onErrorMap(DuplicateKeyException.class, ReactiveUserServiceImpl::duplicateValue)
+                            .flatMap(rowsUpdated -> rowsUpdated == 0
+                                    ? Mono.error(new InvalidRequestException("Failed to update email"))
+                                    : Mono.just(new ChangeEmailResponse(
+                                            userId,
+                                            user.getEmail(),
+                                            request.getNewEmail(),
+                                            LocalDateTime.now(),
+                                            "Email changed successfully")));
+                });
+    }
+
+    @Override
+    public Mono<DeleteAccountResponse> deleteAccount(Long userId, DeleteAccountRequest request) {
+        return findUser(userId)
+                .flatMap(user -> verifyPassword(request.getPassword(), user))
+                // Apply the delete only if the verified hash is still current
+                .flatMap(user -> userRepository.deleteByUserIdIfHashMatches(userId, user.getPasswordHash()))
+                .flatMap(rowsDeleted -> rowsDeleted == 0
+                        ? Mono.error(new IllegalStateException("Failed to delete account"))
+                        : Mono.just(new DeleteAccountResponse(
+                                userId,
+                                LocalDateTime.now(),
+                                "Account deleted successfully")));
+    }
+
+    private Mono<User> findUser(Long userId) {
+        return userRepository.findById(userId)
+                .switchIfEmpty(Mono.error(() -> new InvalidRequestException("User not found")));
+    }
+
+    private Mono<User> verifyPassword(String rawPassword, User user) {
+        return matches(rawPassword, user.getPasswordHash())
+                .flatMap(matches -> matches
+                        ? Mono.just(user)
+                        : Mono.error(new InvalidRequestException("Current password is incorrect")));
+    }
+
+    private Mono<String> encode(String rawPassword) {
+        return Mono.fromCallable(() -> passwordEncoder.encode(rawPassword)).subscribeOn(hashingScheduler);
+    }
+
+    private Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+        return Mono.fromCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword))
+                .subscribeOn(hashingScheduler);
+    }
+
+    private static Throwable duplicateValue(DuplicateKeyException e) {
+        String message = UserConflicts.message(e);
+        return message != null ? new InvalidRequestException(message) : e;
+    }
+}
@@ -0,0 +1,16 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.Iterator;
+
+import com.dbexp.db_experiment.dto.user.BatchCreateUsersResponse;
+import com.dbexp.db_experiment.dto.user.CreateUserRequest;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+
+public interface UserBatchService {
+    /**
+     * Creates users from a stream of requests, consumed in chunks. If the source
+     * throws {@link InvalidRequestException} (malformed input), the items read
+     * so far are still processed and the error is reported in the response.
+     */
+    BatchCreateUsersResponse createUsers(Iterator<CreateUserRequest> requests);
+}
@@ -0,0 +1,256 @@
+package com.dbexp.db_experiment.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.dbexp.db_experiment.dto.user.BatchCreateUserResult;
+import com.dbexp.db_experiment.dto.user.BatchCreateUserResult.Status;
+import com.dbexp.db_experiment.dto.user.BatchCreateUsersResponse;
+import com.dbexp.db_experiment.dto.user.CreateUserRequest;
+import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.repository.UserBatchRepository.UserIdentity;
+import com.dbexp.db_experiment.repository.UserRepository;
+import com.dbexp.db_experiment.security.HashingCapacityExceededException;
+
+/**
+ * Bulk user registration.
+ *
+ * Requests are consumed in chunks. Per chunk, uniqueness is checked with one
+ * set-based query, passwords are hashed concurrently on a bounded pool (each
+ * hash still passes the global hashing budget), and the rows go to MySQL as a
+ * single JDBC batch. If the batch hits a unique key anyway (a concurrent
+ * registration), that chunk falls back to row-by-row inserts so only the
+ * conflicting rows are reported.
+ *
+ * Username/email comparisons are case-insensitive to match the default MySQL
+ * collation of the UNIQUE indexes.
+ */
+@Service
+public class UserBatchServiceImpl implements UserBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserBatchServiceImpl.class);
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final int chunkSize;
+    private final ExecutorService hashExecutor;
+
+    @Autowired
+    public UserBatchServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, Validator validator,
+            @Value("${app.users.batch.chunk-size:500}") int chunkSize,
+            @Value("${app.users.batch.hash-parallelism:4}") int hashParallelism) {
+        this(userRepository, passwordEncoder, validator, chunkSize, newHashExecutor(hashParallelism));
+    }
+
+    UserBatchServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, Validator validator,
+            int chunkSize, ExecutorService hashExecutor) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.hashExecutor = hashExecutor;
+    }
+
+    @Override
+    public BatchCreateUsersResponse createUsers(Iterator<CreateUserRequest> requests) {
+        List<BatchCreateUserResult> results = new ArrayList<>();
+        List<PendingUser> chunk = new ArrayList<>(chunkSize);
+        Set<String> seenUsernames = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        String error = null;
+
+        int index = 0;
+        try {
+            while (requests.hasNext()) {
+                CreateUserRequest request = requests.next();
+                int itemIndex = index++;
+
+                // Validate the item the same way @Valid does for single registrations
+                Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(request);
+                if (!violations.isEmpty()) {
+                    results.add(new BatchCreateUserResult(itemIndex, Status.INVALID, null, request.getUsername(),
+                            violations.stream()
+                                    .map(ConstraintViolation::getMessage)
+                                    .sorted()
+                                    .collect(Collectors.joining("; "))));
+                    continue;
+                }
+
+                // Reject repeats within the batch before they reach the database
+                if (!seenUsernames.add(normalize(request.getUsername()))) {
+                    results.add(conflict(itemIndex, request, UserConflicts.USERNAME_EXISTS));
+                    continue;
+                }
+                if (!seenEmails.add(normalize(request.getEmail()))) {
+                    results.add(conflict(itemIndex, request, UserConflicts.EMAIL_EXISTS));
+                    continue;
+                }
+
+                chunk.add(new PendingUser(itemIndex, request));
+                if (chunk.size() == chunkSize) {
+                    processChunk(chunk, results);
+                    chunk.clear();
+                }
+            }
+        } catch (InvalidRequestException e) {
+            error = e.getMessage();
+        }
+        processChunk(chunk, results);
+
+        results.sort(Comparator.comparingInt(BatchCreateUserResult::getIndex));
+        return new BatchCreateUsersResponse(
+                count(results, Status.CREATED),
+                count(results, Status.CONFLICT),
+                count(results, Status.INVALID),
+                count(results, Status.FAILED),
+                results,
+                error);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    private void processChunk(List<PendingUser> chunk, List<BatchCreateUserResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // Validate uniqueness against existing rows with one query for the whole chunk
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (PendingUser pending : chunk) {
+            usernames.add(pending.request().getUsername());
+            emails.add(pending.request().getEmail());
+        }
+        Set<String> takenUsernames = new HashSet<>();
+        Set<String> takenEmails = new HashSet<>();
+        for (UserIdentity identity : userRepository.findIdentities(usernames, emails)) {
+            takenUsernames.add(normalize(identity.username()));
+            takenEmails.add(normalize(identity.email()));
+        }
+
+        List<PendingUser> accepted = new ArrayList<>(chunk.size());
+        for (PendingUser pending : chunk) {
+            if (takenUsernames.contains(normalize(pending.request().getUsername()))) {
+                results.add(conflict(pending.index(), pending.request(), UserConflicts.USERNAME_EXISTS));
+            } else if (takenEmails.contains(normalize(pending.request().getEmail()))) {
+                results.add(conflict(pending.index(), pending.request(), UserConflicts.EMAIL_EXISTS));
+            } else {
+                accepted.add(pending);
+            }
+        }
+
+        // Hash the passwords concurrently
+        List<CompletableFuture<String>> hashes = new ArrayList<>(accepted.size());
+        for (PendingUser pending : accepted) {
+            hashes.add(CompletableFuture.supplyAsync(
+                    () -> passwordEncoder.encode(pending.request().getPassword()), hashExecutor));
+        }
+
+        List<PendingUser> hashed = new ArrayList<>(accepted.size());
+        List<User> users = new ArrayList<>(accepted.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < accepted.size(); i++) {
+            PendingUser pending = accepted.get(i);
+            try {
+                User user = new User(pending.request().getUsername(), hashes.get(i).join(),
+                        pending.request().getEmail());
+                user.setCreatedAt(now);
+                hashed.add(pending);
+                users.add(user);
+            } catch (CompletionException e) {
+                String message = e.getCause() instanceof HashingCapacityExceededException
+                        ? e.getCause().getMessage()
+                        : "Failed to hash password";
+                results.add(new BatchCreateUserResult(pending.index(), Status.FAILED, null,
+                        pending.request().getUsername(), message));
+            }
+        }
+
+        // Insert the chunk as one JDBC batch, falling back to single rows on a late conflict
+        try {
+            userRepository.insertAll(users);
+            for (int i = 0; i < users.size(); i++) {
+                results.add(created(hashed.get(i).index(), users.get(i)));
+            }
+        } catch (DuplicateKeyException e) {
+            logger.debug("Batch insert hit a unique key, retrying {} rows individually", users.size());
+            for (int i = 0; i < users.size(); i++) {
+                results.add(insertOne(hashed.get(i).index(), users.get(i)));
+            }
+        }
+    }
+
+    private BatchCreateUserResult insertOne(int index, User user) {
+        try {
+            User saved = userRepository.save(user);
+            return created(index, saved);
+        } catch (DuplicateKeyException e) {
+            String message = UserConflicts.message(e);
+            return new BatchCreateUserResult(index, message != null ? Status.CONFLICT : Status.FAILED, null,
+                    user.getUsername(), message != null ? message : "Failed to create user");
+        } catch (DataAccessException e) {
+            logger.warn("Failed to insert batch user at index {}", index, e);
+            return new BatchCreateUserResult(index, Status.FAILED, null, user.getUsername(),
+                    "Failed to create user");
+        }
+    }
+
+    private static BatchCreateUserResult created(int index, User user) {
+        return new BatchCreateUserResult(index, Status.CREATED, user.getUserId(), user.getUsername(), null);
+    }
+
+    private static BatchCreateUserResult conflict(int index, CreateUserRequest request, String message) {
+        return new BatchCreateUserResult(index, Status.CONFLICT, null, request.getUsername(), message);
+    }
+
+    private static int count(List<BatchCreateUserResult> results, Status status) {
+        return (int) results.stream().filter(result -> result.getStatus() == status).count();
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static ExecutorService newHashExecutor(int parallelism) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "user-batch-hash-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private record PendingUser(int index, CreateUserRequest request) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.dao.DuplicateKeyException;
+
+/**
+ * Maps violations of the {@code ForumUser} UNIQUE indexes back to the
+ * user-facing "already exists" messages.
+ */
+final class UserConflicts {
+
+    static final String USERNAME_EXISTS = "Username already exists";
+    static final String EMAIL_EXISTS = "Email already exists";
+
+    // MySQL reports the violated index as "for key 'ForumUser.username'" (8.0.19+) or "for key 'username'"
+    private static final Pattern DUPLICATE_KEY_NAME = Pattern.compile("for key '(?:[^'.]+\\.)?([^']+)'");
+
+    private UserConflicts() {
+    }
+
+    /**
+     * @return the conflict message, or {@code null} if another key was violated
+     */
+    static String message(DuplicateKeyException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        Matcher matcher = DUPLICATE_KEY_NAME.matcher(message != null ? message : "");
+        if (!matcher.find()) {
+            return null;
+        }
+        return switch (matcher.group(1)) {
+            case "username" -> USERNAME_EXISTS;
+            case "email" -> EMAIL_EXISTS;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.dbexp.db_experiment.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface UserExportService {
+
+    /**
+     * Writes every user with an id greater than {@code afterUserId} to the
+     * stream as newline-delimited JSON, in {@code user_id} order. Password
+     * hashes are never exported. An interrupted export can be resumed by
+     * passing the last exported {@code userId} as {@code afterUserId}.
+     */
+    ExportSummary exportNdjson(long afterUserId, OutputStream out) throws IOException;
+
+    /**
+     * @param lastUserId the resume checkpoint; equals the requested cursor when
+     *                   nothing was exported
+     */
+    record ExportSummary(long rows, long lastUserId) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.dbexp.db_experiment.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import com.dbexp.db_experiment.cache.UserSummary;
+import com.dbexp.db_experiment.repository.UserRepository;
+
+/**
+ * Serializes rows as they arrive from the database cursor, so memory use is
+ * constant regardless of table size. Output is flushed every
+ * {@code flush-every} rows to keep a chunked response moving without a
+ * syscall per row.
+ */
+@Service
+public class UserExportServiceImpl implements UserExportService {
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+    private final int flushEvery;
+
+    public UserExportServiceImpl(UserRepository userRepository, ObjectMapper objectMapper,
+            @Value("${app.export.users.flush-every:1000}") int flushEvery) {
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writerFor(UserSummary.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.flushEvery = flushEvery;
+    }
+
+    @Override
+    public ExportSummary exportNdjson(long afterUserId, OutputStream out) throws IOException {
+        long[] lastUserId = { afterUserId };
+        long[] written = { 0 };
+        long rows;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // Lines are separated explicitly; the caller owns the stream
+            generator.setRootValueSeparator(null);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            rows = userRepository.streamAfter(afterUserId, user -> {
+                try {
+                    rowWriter.writeValue(generator, user);
+                    generator.writeRaw('\n');
+                    lastUserId[0] = user.userId();
+                    if (++written[0] % flushEvery == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Typically the client went away; surface it as the I/O error it is
+            throw e.getCause();
+        }
+        return new ExportSummary(rows, lastUserId[0]);
+    }
+}
@@ -12,10 +12,18 @@ import com.dbexp.db_experiment.dto.user.DeleteAccountRequest;
 import com.dbexp.db_experiment.dto.user.DeleteAccountResponse;
 import com.dbexp.db_experiment.dto.user.GetUserByIdRequest;
 import com.dbexp.db_experiment.dto.user.GetUserByIdResponse;
+import com.dbexp.db_experiment.dto.user.GetUsersByIdsRequest;
+import com.dbexp.db_experiment.dto.user.GetUsersByIdsResponse;
+import com.dbexp.db_experiment.dto.user.ListUsersRequest;
+import com.dbexp.db_experiment.dto.user.ListUsersResponse;
 
 public interface UserService {
     GetUserByIdResponse getUserById(GetUserByIdRequest request);
 
+    GetUsersByIdsResponse getUsersByIds(GetUsersByIdsRequest request);
+
+    ListUsersResponse listUsers(ListUsersRequest request);
+
     CreateUserResponse createUser(CreateUserRequest request);
 
     ChangeUsernameResponse changeUsername(Long userId, ChangeUsernameRequest request);
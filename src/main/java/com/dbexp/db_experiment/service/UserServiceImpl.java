@@ -1,11 +1,24 @@
 package com.dbexp.db_experiment.service;
 
 import java.time.LocalDateTime;
-
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import io.micrometer.core.annotation.Timed;
 
+import com.dbexp.db_experiment.cache.UserCache;
+import com.dbexp.db_experiment.cache.UserSummary;
 import com.dbexp.db_experiment.dto.user.ChangeEmailRequest;
 import com.dbexp.db_experiment.dto.user.ChangeEmailResponse;
 import com.dbexp.db_experiment.dto.user.ChangePasswordRequest;
@@ -18,60 +31,171 @@ import com.dbexp.db_experiment.dto.user.DeleteAccountRequest;
 import com.dbexp.db_experiment.dto.user.DeleteAccountResponse;
 import com.dbexp.db_experiment.dto.user.GetUserByIdRequest;
 import com.dbexp.db_experiment.dto.user.GetUserByIdResponse;
+import com.dbexp.db_experiment.dto.user.GetUsersByIdsRequest;
+import com.dbexp.db_experiment.dto.user.GetUsersByIdsResponse;
+import com.dbexp.db_experiment.dto.user.ListUsersRequest;
+import com.dbexp.db_experiment.dto.user.ListUsersResponse;
 import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
 import com.dbexp.db_experiment.repository.UserRepository;
-
+import com.dbexp.db_experiment.repository.VoteRepository;
+import com.dbexp.db_experiment.vote.VoteTally;
+import com.dbexp.db_experiment.vote.VoteTarget;
+
+/**
+ * Password-verified mutations ({@code changePassword}, {@code changeEmail},
+ * {@code deleteAccount}) deliberately run without a surrounding transaction:
+ * Argon2 verification and hashing take hundreds of milliseconds and must not
+ * hold a pooled connection. The final write is a single statement guarded by
+ * the password hash that was verified, so it fails if the password changed in
+ * between.
+ *
+ * Username and email uniqueness is enforced by the UNIQUE indexes on
+ * {@code ForumUser} rather than by pre-checks: writes run directly and a
+ * duplicate-key violation is mapped back to the matching "already exists"
+ * error, which is both one round trip cheaper and free of check-then-act races.
+ *
+ * Deleting an account cascades to the user's votes, which the write-behind
+ * counts of {@link VoteTally} would never hear of; the votes are read under
+ * lock in the deleting transaction and retracted once it commits.
+ */
 @Service
+@Timed("app.service")
 public class UserServiceImpl implements UserService {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+    static final int MAX_IDS_PER_LOOKUP = 500;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final VoteRepository voteRepository;
+    private final VoteTally voteTally;
+    private final TransactionOperations transactionOperations;
 
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, UserCache userCache,
+            VoteRepository voteRepository, VoteTally voteTally, TransactionOperations transactionOperations) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userCache = userCache;
+        this.voteRepository = voteRepository;
+        this.voteTally = voteTally;
+        this.transactionOperations = transactionOperations;
     }
 
     @Override
     public GetUserByIdResponse getUserById(GetUserByIdRequest request) {
         // Validate input parameters
         if (request.getUserId() == null) {
-            throw new IllegalArgumentException("User ID is required");
+            throw new InvalidRequestException("User ID is required");
         }
 
-        // Fetch user from database and validate existence
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        // Fetch user through the cache and validate existence
+        UserSummary user = userCache.get(request.getUserId())
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
 
         // Return response DTO
         return new GetUserByIdResponse(
-                user.getUserId(),
-                user.getUsername(),
-                user.getEmail(),
-                user.getCreatedAt());
+                user.userId(),
+                user.username(),
+                user.email(),
+                user.createdAt());
     }
 
     @Override
-    public CreateUserResponse createUser(CreateUserRequest request) {
+    public GetUsersByIdsResponse getUsersByIds(GetUsersByIdsRequest request) {
         // Validate input parameters
-        if (request.getUsername() == null) {
-            throw new IllegalArgumentException("Username is required");
+        List<Long> ids = request.getIds();
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidRequestException("At least one user ID is required");
         }
-        if (request.getEmail() == null) {
-            throw new IllegalArgumentException("Email is required");
+        if (ids.size() > MAX_IDS_PER_LOOKUP) {
+            throw new InvalidRequestException(
+                    "At most " + MAX_IDS_PER_LOOKUP + " user IDs can be requested at once");
         }
-        if (request.getPassword() == null) {
-            throw new IllegalArgumentException("Password is required");
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException("User IDs must not be null");
+        }
+
+        // Serve what the cache holds and fetch the rest with one IN query
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        Map<Long, UserSummary> found = userCache.getAll(uniqueIds);
+
+        Map<Long, GetUserByIdResponse> users = new LinkedHashMap<>();
+        List<Long> notFound = new ArrayList<>();
+        for (Long userId : uniqueIds) {
+            UserSummary user = found.get(userId);
+            if (user == null) {
+                notFound.add(userId);
+            } else {
+                users.put(userId, new GetUserByIdResponse(
+                        user.userId(),
+                        user.username(),
+                        user.email(),
+                        user.createdAt()));
+            }
+        }
+
+        // Return response DTO
+        return new GetUsersByIdsResponse(users, notFound);
+    }
+
+    @Override
+    public ListUsersResponse listUsers(ListUsersRequest request) {
+        // Validate input parameters
+        int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_PAGE_SIZE;
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        String prefix = request.getPrefix();
+        boolean byPrefix = prefix != null && !prefix.isEmpty();
+        if (byPrefix && request.getAfter() != null) {
+            throw new InvalidRequestException("Use afterUsername to page a prefix listing");
+        }
+        if (!byPrefix && request.getAfterUsername() != null) {
+            throw new InvalidRequestException("afterUsername requires a prefix");
         }
 
-        // Validate username uniqueness
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new IllegalArgumentException("Username already exists");
+        // Fetch one extra row to learn whether another page follows
+        List<UserSummary> rows;
+        if (byPrefix) {
+            String afterUsername = request.getAfterUsername() != null ? request.getAfterUsername() : "";
+            rows = userRepository.findPageByUsernamePrefix(likePrefix(prefix), afterUsername, limit + 1);
+        } else {
+            long after = request.getAfter() != null ? request.getAfter() : 0L;
+            rows = userRepository.findPageAfter(after, limit + 1);
         }
 
-        // Validate email uniqueness
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("Email already exists");
+        boolean hasMore = rows.size() > limit;
+        List<UserSummary> page = hasMore ? rows.subList(0, limit) : rows;
+        UserSummary last = hasMore ? page.get(page.size() - 1) : null;
+
+        // Return response DTO
+        return new ListUsersResponse(
+                page.stream()
+                        .map(user -> new GetUserByIdResponse(
+                                user.userId(),
+                                user.username(),
+                                user.email(),
+                                user.createdAt()))
+                        .toList(),
+                hasMore,
+                last != null && !byPrefix ? last.userId() : null,
+                last != null && byPrefix ? last.username() : null);
+    }
+
+    @Override
+    public CreateUserResponse createUser(CreateUserRequest request) {
+        // Validate input parameters
+        if (request.getUsername() == null) {
+            throw new InvalidRequestException("Username is required");
+        }
+        if (request.getEmail() == null) {
+            throw new InvalidRequestException("Email is required");
+        }
+        if (request.getPassword() == null) {
+            throw new InvalidRequestException("Password is required");
         }
 
         // Hash the password using Argon2
@@ -84,8 +208,13 @@ public class UserServiceImpl implements UserService {
                 request.getEmail());
         user.setCreatedAt(LocalDateTime.now());
 
-        // Save user to database
-        User savedUser = userRepository.save(user);
+        // Save user to database; the unique indexes reject duplicate usernames and emails
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DuplicateKeyException e) {
+            throw duplicateValue(e);
+        }
 
         // Return response DTO
         return new CreateUserResponse(
@@ -96,30 +225,32 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    @Transactional
     public ChangeUsernameResponse changeUsername(Long userId, ChangeUsernameRequest request) {
         // Validate user exists
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
 
         // Validate new username is different from current
         if (user.getUsername().equals(request.getNewUsername())) {
-            throw new IllegalArgumentException("New username must be different from current username");
-        }
-
-        // Validate new username uniqueness
-        if (userRepository.existsByUsername(request.getNewUsername())) {
-            throw new IllegalArgumentException("Username already exists");
+            throw new InvalidRequestException("New username must be different from current username");
         }
 
         // Store old username for response
         String oldUsername = user.getUsername();
 
-        // Update username using raw SQL query
-        int rowsUpdated = userRepository.updateUsername(userId, request.getNewUsername());
+        // Update username using raw SQL query; the unique index rejects taken usernames
+        int rowsUpdated;
+        try {
+            rowsUpdated = userRepository.updateUsername(userId, request.getNewUsername());
+        } catch (DuplicateKeyException e) {
+            throw duplicateValue(e);
+        }
+
+        // Drop the cached summary before returning, even if no row matched
+        userCache.invalidate(userId);
 
         if (rowsUpdated == 0) {
-            throw new IllegalArgumentException("Failed to update username");
+            throw new InvalidRequestException("Failed to update username");
         }
 
         // Return response DTO
@@ -131,27 +262,28 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    @Transactional
     public ChangePasswordResponse changePassword(Long userId, ChangePasswordRequest request) {
         // Validate user exists
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
 
         // Verify current password
         if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPasswordHash())) {
-            throw new IllegalArgumentException("Current password is incorrect");
+            throw new InvalidRequestException("Current password is incorrect");
         }
 
         // Validate new password is different from current
         if (passwordEncoder.matches(request.getNewPassword(), user.getPasswordHash())) {
-            throw new IllegalArgumentException("New password must be different from current password");
+            throw new InvalidRequestException("New password must be different from current password");
         }
 
         // Hash new password
         String newPasswordHash = passwordEncoder.encode(request.getNewPassword());
 
-        // Update password using raw SQL query
-        int rowsUpdated = userRepository.updatePassword(userId, newPasswordHash);
+        // Apply the write only if the verified hash is still current
+        int rowsUpdated = userRepository.updatePasswordIfHashMatches(userId, user.getPasswordHash(), newPasswordHash);
+
+        userCache.invalidate(userId);
 
         if (rowsUpdated == 0) {
             throw new IllegalStateException("Failed to update password");
@@ -165,35 +297,38 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    @Transactional
     public ChangeEmailResponse changeEmail(Long userId, ChangeEmailRequest request) {
         // Validate user exists
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
 
         // Verify current password
         if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPasswordHash())) {
-            throw new IllegalArgumentException("Current password is incorrect");
+            throw new InvalidRequestException("Current password is incorrect");
         }
 
         // Validate new email is different from current
         if (user.getEmail().equals(request.getNewEmail())) {
-            throw new IllegalArgumentException("New email must be different from current email");
-        }
-
-        // Validate new email uniqueness
-        if (userRepository.existsByEmail(request.getNewEmail())) {
-            throw new IllegalArgumentException("Email already exists");
+            throw new InvalidRequestException("New email must be different from current email");
         }
 
         // Store old email for response
         String oldEmail = user.getEmail();
 
-        // Update email using raw SQL query
-        int rowsUpdated = userRepository.updateEmail(userId, request.getNewEmail());
+        // Apply the write only if the verified hash is still current; the unique
+        // index rejects taken emails
+        int rowsUpdated;
+        try {
+            rowsUpdated = userRepository.updateEmailIfHashMatches(userId, user.getPasswordHash(),
+                    request.getNewEmail());
+        } catch (DuplicateKeyException e) {
+            throw duplicateValue(e);
+        }
+
+        userCache.invalidate(userId);
 
         if (rowsUpdated == 0) {
-            throw new IllegalArgumentException("Failed to update email");
+            throw new InvalidRequestException("Failed to update email");
         }
 
         // Return response DTO
@@ -206,28 +341,60 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    @Transactional
     public DeleteAccountResponse deleteAccount(Long userId, DeleteAccountRequest request) {
         // Validate user exists
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
 
         // Verify current password
         if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
-            throw new IllegalArgumentException("Current password is incorrect");
+            throw new InvalidRequestException("Current password is incorrect");
         }
 
-        // Delete user using raw SQL query
-        int rowsDeleted = userRepository.deleteByUserId(userId);
+        // Apply the delete only if the verified hash is still current. The
+        // votes it cascades to are read first in the same transaction, whose
+        // locks keep the user from voting in between
+        Map<VoteTarget, Map<Long, Integer>> votes = new EnumMap<>(VoteTarget.class);
+        int rowsDeleted = transactionOperations.execute(status -> {
+            for (VoteTarget target : VoteTarget.values()) {
+                votes.put(target, voteRepository.findVotesByUserForUpdate(target, userId));
+            }
+            return userRepository.deleteByUserIdIfHashMatches(userId, user.getPasswordHash());
+        });
+
+        userCache.invalidate(userId);
 
         if (rowsDeleted == 0) {
             throw new IllegalStateException("Failed to delete account");
         }
 
+        // Take the deleted votes out of the counts and rankings with the next flush
+        votes.forEach((target, byTarget) -> byTarget.forEach(
+                (targetId, vote) -> voteTally.record(target, targetId, vote, 0)));
+
         // Return response DTO
         return new DeleteAccountResponse(
                 userId,
                 LocalDateTime.now(),
                 "Account deleted successfully");
     }
+
+    // Escapes LIKE wildcards so the prefix matches literally and the index range
+    // scan stays anchored
+    static String likePrefix(String prefix) {
+        StringBuilder pattern = new StringBuilder(prefix.length() + 1);
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if (c == '!' || c == '%' || c == '_') {
+                pattern.append('!');
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    private static RuntimeException duplicateValue(DuplicateKeyException e) {
+        String message = UserConflicts.message(e);
+        return message != null ? new InvalidRequestException(message) : e;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.dbexp.db_experiment.service;
+
+import com.dbexp.db_experiment.dto.community.VoteRequest;
+import com.dbexp.db_experiment.dto.community.VoteResponse;
+
+public interface VoteService {
+    /**
+     * Sets the user's vote on a post. The post's score reflects it after the
+     * next vote count flush.
+     *
+     * @param userId the session's user, or {@code null} if not logged in
+     */
+    VoteResponse votePost(Long postId, Long userId, VoteRequest request);
+
+    VoteResponse voteComment(Long commentId, Long userId, VoteRequest request);
+}
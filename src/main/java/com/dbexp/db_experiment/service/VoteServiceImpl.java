@@ -0,0 +1,89 @@
+package com.dbexp.db_experiment.service;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.annotation.Timed;
+
+import com.dbexp.db_experiment.cache.UserCache;
+import com.dbexp.db_experiment.dto.community.VoteRequest;
+import com.dbexp.db_experiment.dto.community.VoteResponse;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.exception.NotAuthenticatedException;
+import com.dbexp.db_experiment.repository.VoteRepository;
+import com.dbexp.db_experiment.vote.VoteTally;
+import com.dbexp.db_experiment.vote.VoteTarget;
+
+/**
+ * Votes are written through to the vote tables; the counts on the voted rows
+ * are maintained write-behind by {@link VoteTally}.
+ */
+@Service
+@Timed("app.service")
+public class VoteServiceImpl implements VoteService {
+
+    private final VoteRepository voteRepository;
+    private final VoteTally voteTally;
+    private final UserCache userCache;
+
+    public VoteServiceImpl(VoteRepository voteRepository, VoteTally voteTally, UserCache userCache) {
+        this.voteRepository = voteRepository;
+        this.voteTally = voteTally;
+        this.userCache = userCache;
+    }
+
+    @Override
+    public VoteResponse votePost(Long postId, Long userId, VoteRequest request) {
+        return vote(VoteTarget.POST, postId, userId, request, "Post not found");
+    }
+
+    @Override
+    public VoteResponse voteComment(Long commentId, Long userId, VoteRequest request) {
+        return vote(VoteTarget.COMMENT, commentId, userId, request, "Comment not found");
+    }
+
+    private VoteResponse vote(VoteTarget target, Long targetId, Long userId, VoteRequest request,
+            String notFoundMessage) {
+        // Validate input parameters
+        if (userId == null) {
+            throw new NotAuthenticatedException("Login required");
+        }
+        if (targetId == null || targetId <= 0) {
+            throw new InvalidRequestException(notFoundMessage);
+        }
+        int vote = request.vote() != null ? request.vote() : 0;
+        if (vote < -1 || vote > 1) {
+            throw new InvalidRequestException("Vote must be -1, 0 or 1");
+        }
+        if (userCache.get(userId).isEmpty()) {
+            throw new InvalidRequestException("User not found");
+        }
+
+        int previous;
+        try {
+            previous = castVote(target, userId, targetId, vote);
+        } catch (DataIntegrityViolationException e) {
+            // The user was checked above, so the foreign key that failed is the target's
+            throw new InvalidRequestException(notFoundMessage);
+        }
+
+        // The vote has committed; its count change is flushed later
+        voteTally.record(target, targetId, previous, vote);
+
+        // Return response DTO
+        return new VoteResponse(targetId, vote, previous);
+    }
+
+    private int castVote(VoteTarget target, long userId, long targetId, int vote) {
+        try {
+            return voteRepository.castVote(target, userId, targetId, vote);
+        } catch (DuplicateKeyException | PessimisticLockingFailureException e) {
+            // A concurrent first vote by the same user inserted the row, or
+            // InnoDB chose this transaction as the deadlock victim; the retry
+            // finds and locks the row
+            return voteRepository.castVote(target, userId, targetId, vote);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.dbexp.db_experiment.timing;
+
+import java.util.Arrays;
+
+/**
+ * Request-scoped latency breakdown reported in the {@code Server-Timing}
+ * response header.
+ *
+ * Each request thread reuses one accumulator, so recording a phase allocates
+ * nothing; when timing is not active for the current request every call is a
+ * thread-local read and a branch. Work handed to other threads (background
+ * rehashes, batch hashing pools) is not attributed to the request.
+ */
+public final class ServerTiming {
+
+    public enum Phase {
+        PARSE("parse", "Request parsing and validation"),
+        HASH("hash", "Password hashing, including budget wait"),
+        DB_WAIT("db-wait", "Connection pool wait"),
+        SQL("sql", "Repository calls, excluding connection wait"),
+        SERIALIZE("serialize", "Response serialization");
+
+        private final String metricName;
+        private final String description;
+
+        Phase(String metricName, String description) {
+            this.metricName = metricName;
+            this.description = description;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    private final long[] nanos = new long[PHASES.length];
+    private final long[] marks = new long[PHASES.length];
+    private boolean active;
+    private long beganAt;
+
+    private ServerTiming() {
+    }
+
+    /**
+     * Starts collecting for the request on the current thread.
+     */
+    public static void begin() {
+        ServerTiming timing = CURRENT.get();
+        if (timing == null) {
+            timing = new ServerTiming();
+            CURRENT.set(timing);
+        }
+        Arrays.fill(timing.nanos, 0L);
+        Arrays.fill(timing.marks, 0L);
+        timing.beganAt = System.nanoTime();
+        timing.active = true;
+    }
+
+    /**
+     * Stops collecting and returns the header value for everything recorded
+     * since {@link #begin()}.
+     */
+    public static String end() {
+        ServerTiming timing = CURRENT.get();
+        if (timing == null || !timing.active) {
+            return null;
+        }
+        timing.active = false;
+        return timing.headerValue(System.nanoTime() - timing.beganAt);
+    }
+
+    public static boolean isActive() {
+        ServerTiming timing = CURRENT.get();
+        return timing != null && timing.active;
+    }
+
+    /**
+     * @return a start timestamp for {@link #stop}, or 0 when timing is inactive
+     */
+    public static long start() {
+        return isActive() ? System.nanoTime() : 0L;
+    }
+
+    public static void stop(Phase phase, long startedAt) {
+        if (startedAt != 0L) {
+            add(phase, System.nanoTime() - startedAt);
+        }
+    }
+
+    public static void add(Phase phase, long elapsedNanos) {
+        ServerTiming timing = CURRENT.get();
+        if (timing != null && timing.active) {
+            timing.nanos[phase.ordinal()] += elapsedNanos;
+        }
+    }
+
+    /**
+     * Opens a phase that begins and ends in different layers.
+     */
+    public static void mark(Phase phase) {
+        ServerTiming timing = CURRENT.get();
+        if (timing != null && timing.active) {
+            timing.marks[phase.ordinal()] = System.nanoTime();
+        }
+    }
+
+    /**
+     * Closes a phase opened with {@link #mark(Phase)}; does nothing if it was
+     * never opened.
+     */
+    public static void sinceMark(Phase phase) {
+        ServerTiming timing = CURRENT.get();
+        if (timing != null && timing.active && timing.marks[phase.ordinal()] != 0L) {
+            timing.nanos[phase.ordinal()] += System.nanoTime() - timing.marks[phase.ordinal()];
+            timing.marks[phase.ordinal()] = 0L;
+        }
+    }
+
+    private String headerValue(long totalNanos) {
+        StringBuilder header = new StringBuilder(256);
+        for (Phase phase : PHASES) {
+            long elapsed = nanos[phase.ordinal()];
+            if (phase == Phase.SQL) {
+                // Repository timings include acquiring the connection
+                elapsed = Math.max(0L, elapsed - nanos[Phase.DB_WAIT.ordinal()]);
+            }
+            if (elapsed == 0L) {
+                continue;
+            }
+            appendMetric(header, phase.metricName, elapsed).append(";desc=\"").append(phase.description).append('"');
+        }
+        return appendMetric(header, "total", totalNanos).toString();
+    }
+
+    private static StringBuilder appendMetric(StringBuilder header, String name, long elapsedNanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        // Milliseconds with microsecond precision
+        long micros = elapsedNanos / 1_000;
+        header.append(name).append(";dur=").append(micros / 1_000).append('.');
+        long fraction = micros % 1_000;
+        if (fraction < 100) {
+            header.append('0');
+        }
+        if (fraction < 10) {
+            header.append('0');
+        }
+        return header.append(fraction);
+    }
+}
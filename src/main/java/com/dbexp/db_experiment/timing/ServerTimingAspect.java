@@ -0,0 +1,28 @@
+package com.dbexp.db_experiment.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import com.dbexp.db_experiment.timing.ServerTiming.Phase;
+
+/**
+ * Closes the parse phase when a controller method is entered and starts the
+ * serialize phase when it returns. The parse phase is opened by
+ * {@link ServerTimingInterceptor} once the handler has been chosen, so it
+ * covers argument resolution, body parsing and bean validation.
+ */
+@Aspect
+public class ServerTimingAspect {
+
+    @Around("within(com.dbexp.db_experiment.controller.UserController)"
+            + " || within(com.dbexp.db_experiment.controller.AuthController)")
+    public Object timeHandler(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServerTiming.sinceMark(Phase.PARSE);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ServerTiming.mark(Phase.SERIALIZE);
+        }
+    }
+}
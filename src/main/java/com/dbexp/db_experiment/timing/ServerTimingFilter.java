@@ -0,0 +1,70 @@
+package com.dbexp.db_experiment.timing;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.dbexp.db_experiment.timing.ServerTiming.Phase;
+
+/**
+ * Adds a {@code Server-Timing} header to API responses when timing is enabled
+ * globally or requested with the debug header.
+ *
+ * The header must precede the body, so a timed response is buffered until the
+ * handler and message converters are done; untimed requests pass through
+ * untouched.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private final boolean alwaysEnabled;
+    private final String debugHeader;
+
+    public ServerTimingFilter(boolean alwaysEnabled, String debugHeader) {
+        this.alwaysEnabled = alwaysEnabled;
+        this.debugHeader = debugHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!isRequested(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        ServerTiming.begin();
+        try {
+            chain.doFilter(request, buffered);
+        } finally {
+            // Everything after the controller returned went into writing the body
+            ServerTiming.sinceMark(Phase.SERIALIZE);
+            String timing = ServerTiming.end();
+            if (timing != null && !response.isCommitted()) {
+                response.setHeader(SERVER_TIMING, timing);
+            }
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Exports are streamed and must never be buffered
+        return request.getRequestURI().endsWith("/export");
+    }
+
+    private boolean isRequested(HttpServletRequest request) {
+        if (alwaysEnabled) {
+            return true;
+        }
+        return debugHeader != null && !debugHeader.isBlank() && request.getHeader(debugHeader) != null;
+    }
+}
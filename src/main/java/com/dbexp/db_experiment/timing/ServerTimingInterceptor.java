@@ -0,0 +1,20 @@
+package com.dbexp.db_experiment.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.dbexp.db_experiment.timing.ServerTiming.Phase;
+
+/**
+ * Opens the parse phase once the handler has been selected.
+ */
+public class ServerTimingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ServerTiming.mark(Phase.PARSE);
+        return true;
+    }
+}
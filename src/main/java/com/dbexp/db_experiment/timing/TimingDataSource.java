@@ -0,0 +1,41 @@
+package com.dbexp.db_experiment.timing;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.dbexp.db_experiment.timing.ServerTiming.Phase;
+
+/**
+ * Attributes time spent waiting for a pooled connection to the current
+ * request's {@link Phase#DB_WAIT} phase.
+ */
+public class TimingDataSource extends DelegatingDataSource {
+
+    public TimingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long startedAt = ServerTiming.start();
+        try {
+            return super.getConnection();
+        } finally {
+            ServerTiming.stop(Phase.DB_WAIT, startedAt);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long startedAt = ServerTiming.start();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            ServerTiming.stop(Phase.DB_WAIT, startedAt);
+        }
+    }
+}
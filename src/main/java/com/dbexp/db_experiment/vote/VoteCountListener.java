@@ -0,0 +1,12 @@
+package com.dbexp.db_experiment.vote;
+
+import java.util.List;
+
+/**
+ * Notified by {@link VoteTally} after vote count changes have been written to
+ * the voted rows, on the flushing thread.
+ */
+public interface VoteCountListener {
+
+    void onCountsFlushed(VoteTarget target, List<VoteDelta> deltas);
+}
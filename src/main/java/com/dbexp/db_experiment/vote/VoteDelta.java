@@ -0,0 +1,13 @@
+package com.dbexp.db_experiment.vote;
+
+/**
+ * Change in a target's vote counts that has not been written to its row yet.
+ */
+public record VoteDelta(
+        long targetId,
+        long upvotes,
+        long downvotes) {
+    public long score() {
+        return upvotes - downvotes;
+    }
+}
@@ -0,0 +1,126 @@
+package com.dbexp.db_experiment.vote;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Unflushed vote count changes for one {@link VoteTarget}, keyed by target id.
+ *
+ * Each target's changes are striped like a {@code LongAdder}: a voting thread
+ * adds to its own cache-line-sized stripe, so a burst of votes on one post
+ * does not contend on a single counter, and a drain takes every stripe with
+ * {@code getAndSet(0)}, so an increment racing the drain lands in the next.
+ *
+ * A target with no change since the previous drain is dropped from the map.
+ * Every stripe also counts the adds in progress on it; a dropped counter is
+ * marked retired, waits for those to finish and is drained one last time,
+ * while an add that starts after the mark retries on a fresh counter. No
+ * increment is lost or counted twice.
+ */
+public class VoteDeltas {
+
+    private static final int STRIPES = Math.min(16,
+            Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+    // One 64-byte line per stripe: adds in progress, upvotes, downvotes
+    private static final int STRIDE = 8;
+    private static final int IN_FLIGHT = 0;
+    private static final int UPVOTES = 1;
+    private static final int DOWNVOTES = 2;
+
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    public void add(long targetId, long upvotes, long downvotes) {
+        int stripe = (int) Thread.currentThread().threadId() & (STRIPES - 1);
+        while (!counters.computeIfAbsent(targetId, Counter::new).tryAdd(stripe, upvotes, downvotes)) {
+            // Retired by a concurrent drain after the lookup; the next lookup creates a fresh one
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Takes the changes recorded since the previous drain, in target id order
+     * so that concurrent flushes lock rows in the same order.
+     */
+    public synchronized List<VoteDelta> drain() {
+        List<VoteDelta> deltas = new ArrayList<>();
+        for (Counter counter : counters.values()) {
+            if (!counter.takeInto(deltas) && counters.remove(counter.targetId, counter)) {
+                counter.retire();
+                counter.takeInto(deltas);
+            }
+        }
+        deltas.sort(Comparator.comparingLong(VoteDelta::targetId));
+        return deltas;
+    }
+
+    /**
+     * Puts back deltas that were drained but could not be written.
+     */
+    public void restore(List<VoteDelta> deltas) {
+        for (VoteDelta delta : deltas) {
+            add(delta.targetId(), delta.upvotes(), delta.downvotes());
+        }
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    private static final class Counter {
+
+        private final long targetId;
+        private final AtomicLongArray cells = new AtomicLongArray(STRIPES * STRIDE);
+        private volatile boolean retired;
+
+        Counter(long targetId) {
+            this.targetId = targetId;
+        }
+
+        boolean tryAdd(int stripe, long upvotes, long downvotes) {
+            int base = stripe * STRIDE;
+            // Announced before the retired check, so retire() either sees this
+            // add in flight or this add sees the counter retired
+            cells.incrementAndGet(base + IN_FLIGHT);
+            try {
+                if (retired) {
+                    return false;
+                }
+                if (upvotes != 0) {
+                    cells.addAndGet(base + UPVOTES, upvotes);
+                }
+                if (downvotes != 0) {
+                    cells.addAndGet(base + DOWNVOTES, downvotes);
+                }
+                return true;
+            } finally {
+                cells.decrementAndGet(base + IN_FLIGHT);
+            }
+        }
+
+        boolean takeInto(List<VoteDelta> deltas) {
+            long upvotes = 0;
+            long downvotes = 0;
+            for (int base = 0; base < STRIPES * STRIDE; base += STRIDE) {
+                upvotes += cells.getAndSet(base + UPVOTES, 0);
+                downvotes += cells.getAndSet(base + DOWNVOTES, 0);
+            }
+            if (upvotes == 0 && downvotes == 0) {
+                return false;
+            }
+            deltas.add(new VoteDelta(targetId, upvotes, downvotes));
+            return true;
+        }
+
+        void retire() {
+            retired = true;
+            for (int base = 0; base < STRIPES * STRIDE; base += STRIDE) {
+                while (cells.get(base + IN_FLIGHT) != 0) {
+                    Thread.yield();
+                }
+            }
+        }
+    }
+}
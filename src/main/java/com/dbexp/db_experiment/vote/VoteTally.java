@@ -0,0 +1,157 @@
+package com.dbexp.db_experiment.vote;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.dbexp.db_experiment.repository.VoteRepository;
+
+/**
+ * Write-behind maintenance of the {@code upvotes}, {@code downvotes} and
+ * {@code score} columns of {@code Post} and {@code ForumComment}.
+ *
+ * Votes themselves are written to {@code PostVote}/{@code CommentVote} by the
+ * request; only the resulting count changes are collected here, in
+ * {@link VoteDeltas}, and added to the voted rows by a background flush every
+ * {@code app.votes.flush-interval-ms}. However many votes a post receives in
+ * that interval, its row is updated once.
+ *
+ * The vote tables stay the source of truth. A crash loses at most the deltas
+ * of the last interval, so at startup, before requests are served, the counts
+ * are recomputed from the vote tables in id-range chunks. This assumes a
+ * single application instance records votes: deltas another instance has not
+ * yet flushed would be counted twice after the recount.
+ */
+@Component
+public class VoteTally {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoteTally.class);
+
+    private final VoteRepository voteRepository;
+    private final List<VoteCountListener> listeners = new CopyOnWriteArrayList<>();
+    private final boolean reconcileOnStartup;
+    private final int reconcileChunkSize;
+    private final Map<VoteTarget, VoteDeltas> pending = new EnumMap<>(VoteTarget.class);
+    private final Map<VoteTarget, Counter> flushed = new EnumMap<>(VoteTarget.class);
+    private final Counter flushFailures;
+
+    public VoteTally(VoteRepository voteRepository, MeterRegistry meterRegistry,
+            @Value("${app.votes.reconcile-on-startup:true}") boolean reconcileOnStartup,
+            @Value("${app.votes.reconcile-chunk-size:10000}") int reconcileChunkSize) {
+        this.voteRepository = voteRepository;
+        this.reconcileOnStartup = reconcileOnStartup;
+        this.reconcileChunkSize = reconcileChunkSize;
+
+        for (VoteTarget target : VoteTarget.values()) {
+            String tag = target.name().toLowerCase();
+            VoteDeltas deltas = new VoteDeltas();
+            pending.put(target, deltas);
+            Gauge.builder("app.votes.pending", deltas, VoteDeltas::size)
+                    .description("Targets with vote count changes not yet written")
+                    .tag("target", tag)
+                    .register(meterRegistry);
+            flushed.put(target, Counter.builder("app.votes.flushed")
+                    .description("Row updates written by vote count flushes")
+                    .tag("target", tag)
+                    .register(meterRegistry));
+        }
+        this.flushFailures = Counter.builder("app.votes.flush.failed")
+                .description("Vote count flushes that failed and were retried")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records a vote change that has been committed to the vote table.
+     * Votes are -1, 1, or 0 for none.
+     */
+    public void record(VoteTarget target, long targetId, int previous, int current) {
+        long upvotes = (current == 1 ? 1 : 0) - (previous == 1 ? 1 : 0);
+        long downvotes = (current == -1 ? 1 : 0) - (previous == -1 ? 1 : 0);
+        if (upvotes != 0 || downvotes != 0) {
+            pending.get(target).add(targetId, upvotes, downvotes);
+        }
+    }
+
+    /**
+     * Registers a listener for written count changes. Listeners register from
+     * their own construction, which runs after this bean's reconciliation, so
+     * whatever they load at startup sees reconciled counts.
+     */
+    public void addListener(VoteCountListener listener) {
+        listeners.add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${app.votes.flush-interval-ms:500}")
+    public synchronized void flush() {
+        for (VoteTarget target : VoteTarget.values()) {
+            VoteDeltas deltas = pending.get(target);
+            List<VoteDelta> batch = deltas.drain();
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                voteRepository.addCounts(target, batch);
+                flushed.get(target).increment(batch.size());
+            } catch (DataAccessException e) {
+                // The batch rolled back as a whole; retry it with the next flush
+                deltas.restore(batch);
+                flushFailures.increment();
+                logger.warn("Failed to flush vote counts for {} {} rows", batch.size(), target, e);
+                continue;
+            }
+            notifyListeners(target, batch);
+        }
+    }
+
+    private void notifyListeners(VoteTarget target, List<VoteDelta> batch) {
+        for (VoteCountListener listener : listeners) {
+            try {
+                listener.onCountsFlushed(target, batch);
+            } catch (RuntimeException e) {
+                // The counts are written; a failing listener must not get them re-flushed
+                logger.warn("Vote count listener {} failed", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    @PostConstruct
+    void reconcile() {
+        if (!reconcileOnStartup) {
+            return;
+        }
+        for (VoteTarget target : VoteTarget.values()) {
+            long started = System.nanoTime();
+            long maxId = voteRepository.findMaxTargetId(target);
+            long rows = 0;
+            // Short statements keep each chunk's row locks brief
+            for (long fromId = 1; fromId <= maxId; fromId += reconcileChunkSize) {
+                rows += voteRepository.reconcileCounts(target, fromId,
+                        Math.min(fromId + reconcileChunkSize - 1, maxId));
+            }
+            logger.info("Reconciled vote counts of {} {} rows in {} ms", rows, target,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,10 @@
+package com.dbexp.db_experiment.vote;
+
+/**
+ * What a vote is cast on: a post ({@code PostVote}) or a comment
+ * ({@code CommentVote}).
+ */
+public enum VoteTarget {
+    POST,
+    COMMENT
+}
@@ -93,6 +93,19 @@ INSERT INTO ForumComment (user_id, post_id, comment_content) VALUES
 -- Comments on asoiaf posts
 (3, 12, 'Poor Jon Snow trapped in ADWD for 50+ years.');
 
+-- Sample replies
+INSERT INTO ForumComment (user_id, post_id, parent_comment_id, comment_content) VALUES
+(4, 1, 2, 'Second!'),
+(1, 7, 13, 'Says the person still on Eclipse'),
+(5, 9, 15, 'Speak for yourself');
+
+-- Thread paths: each comment's id in 8 hex digits, after its parent's path
+UPDATE ForumComment SET path = LPAD(LOWER(HEX(comment_id)), 8, '0')
+WHERE parent_comment_id IS NULL AND path = '';
+UPDATE ForumComment c JOIN ForumComment parent ON parent.comment_id = c.parent_comment_id
+SET c.path = CONCAT(parent.path, LPAD(LOWER(HEX(c.comment_id)), 8, '0'))
+WHERE c.path = '';
+
 -- ============================================
 -- Sample Subscriptions
 -- ============================================
@@ -49,6 +49,9 @@ CREATE TABLE IF NOT EXISTS Post (
     post_title VARCHAR(255) NOT NULL,
     post_content TEXT NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    upvotes INT NOT NULL DEFAULT 0,
+    downvotes INT NOT NULL DEFAULT 0,
+    score INT NOT NULL DEFAULT 0,
     FOREIGN KEY (user_id) REFERENCES ForumUser(user_id) ON DELETE CASCADE,
     FOREIGN KEY (community_id) REFERENCES Community(community_id)
 );
@@ -56,6 +59,9 @@ CREATE TABLE IF NOT EXISTS Post (
 -- Create indexes only if they don't exist (MySQL 5.7+)
 CREATE INDEX IF NOT EXISTS idx_post_user_id ON Post(user_id);
 CREATE INDEX IF NOT EXISTS idx_post_community_id ON Post(community_id);
+-- Community feeds seek (community_id, created_at DESC, post_id DESC) with no
+-- sort. Supersedes idx_post_community_id, which can be dropped once this exists
+CREATE INDEX IF NOT EXISTS idx_post_community_created ON Post(community_id, created_at, post_id);
 
 CREATE TABLE IF NOT EXISTS ForumComment (
     comment_id INT PRIMARY KEY AUTO_INCREMENT,
@@ -63,12 +69,16 @@ CREATE TABLE IF NOT EXISTS ForumComment (
     post_id INT NOT NULL,
     comment_content TEXT NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    upvotes INT NOT NULL DEFAULT 0,
+    downvotes INT NOT NULL DEFAULT 0,
+    score INT NOT NULL DEFAULT 0,
+    parent_comment_id INT DEFAULT NULL,
+    path VARCHAR(512) CHARACTER SET ascii NOT NULL DEFAULT '',
     FOREIGN KEY (user_id) REFERENCES ForumUser(user_id) ON DELETE CASCADE,
     FOREIGN KEY (post_id) REFERENCES Post(post_id) ON DELETE CASCADE
 );
 
 CREATE INDEX IF NOT EXISTS idx_comment_user_id ON ForumComment(user_id);
-CREATE INDEX IF NOT EXISTS idx_comment_post_id ON ForumComment(post_id);
 
 -- ============================================
 -- CREATE RELATIONSHIP TABLES
@@ -117,6 +127,36 @@ CREATE TABLE IF NOT EXISTS CommentVote (
 
 CREATE INDEX IF NOT EXISTS idx_commentvote_comment_id ON CommentVote(comment_id);
 
+-- ============================================
+-- DENORMALIZED VOTE COUNTS
+-- ============================================
+-- Tables created before the vote counts existed get the columns here; the
+-- application fills them from PostVote/CommentVote at its next startup
+-- (app.votes.reconcile-on-startup)
+
+ALTER TABLE Post ADD COLUMN IF NOT EXISTS upvotes INT NOT NULL DEFAULT 0;
+ALTER TABLE Post ADD COLUMN IF NOT EXISTS downvotes INT NOT NULL DEFAULT 0;
+ALTER TABLE Post ADD COLUMN IF NOT EXISTS score INT NOT NULL DEFAULT 0;
+ALTER TABLE ForumComment ADD COLUMN IF NOT EXISTS upvotes INT NOT NULL DEFAULT 0;
+ALTER TABLE ForumComment ADD COLUMN IF NOT EXISTS downvotes INT NOT NULL DEFAULT 0;
+ALTER TABLE ForumComment ADD COLUMN IF NOT EXISTS score INT NOT NULL DEFAULT 0;
+
+-- ============================================
+-- THREADED COMMENTS
+-- ============================================
+-- Comments from before replies existed become top-level comments whose path is
+-- their own id. The (post_id, path) index replaces the post_id index, which it
+-- also serves for the foreign key; the (post_id, parent_comment_id, score)
+-- index pages each level of a thread in display order.
+
+ALTER TABLE ForumComment ADD COLUMN IF NOT EXISTS parent_comment_id INT DEFAULT NULL;
+ALTER TABLE ForumComment ADD COLUMN IF NOT EXISTS path VARCHAR(512) CHARACTER SET ascii NOT NULL DEFAULT '';
+UPDATE ForumComment SET path = LPAD(LOWER(HEX(comment_id)), 8, '0') WHERE path = '';
+CREATE INDEX IF NOT EXISTS idx_comment_post_path ON ForumComment(post_id, path);
+CREATE INDEX IF NOT EXISTS idx_comment_post_parent_score
+    ON ForumComment(post_id, parent_comment_id, score DESC, comment_id);
+DROP INDEX IF EXISTS idx_comment_post_id ON ForumComment;
+
 -- ============================================
 -- VERIFICATION
 -- ============================================
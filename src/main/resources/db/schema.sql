@@ -53,12 +53,18 @@ CREATE TABLE Post (
     post_title VARCHAR(255) NOT NULL,
     post_content TEXT NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    -- Denormalized from PostVote by the vote flusher; see VoteTally
+    upvotes INT NOT NULL DEFAULT 0,
+    downvotes INT NOT NULL DEFAULT 0,
+    score INT NOT NULL DEFAULT 0,
     FOREIGN KEY (user_id) REFERENCES ForumUser(user_id) ON DELETE CASCADE,
     FOREIGN KEY (community_id) REFERENCES Community(community_id)
 );
 
 CREATE INDEX idx_post_user_id ON Post(user_id);
-CREATE INDEX idx_post_community_id ON Post(community_id);
+-- Community feeds seek (community_id, created_at DESC, post_id DESC) with no
+-- sort; the leading column also serves the community_id foreign key
+CREATE INDEX idx_post_community_created ON Post(community_id, created_at, post_id);
 
 CREATE TABLE ForumComment (
     comment_id INT PRIMARY KEY AUTO_INCREMENT,
@@ -66,12 +72,25 @@ CREATE TABLE ForumComment (
     post_id INT NOT NULL,
     comment_content TEXT NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    -- Denormalized from CommentVote by the vote flusher; see VoteTally
+    upvotes INT NOT NULL DEFAULT 0,
+    downvotes INT NOT NULL DEFAULT 0,
+    score INT NOT NULL DEFAULT 0,
+    -- Replies: parent_comment_id is NULL for top-level comments. path holds the
+    -- ids of the comment's ancestors and its own, 8 hex digits each, so a post's
+    -- thread or any subtree of it is one range of idx_comment_post_path. No
+    -- foreign key on the parent: InnoDB cascades only 15 levels, and deleting
+    -- the post already removes the whole thread.
+    parent_comment_id INT DEFAULT NULL,
+    path VARCHAR(512) CHARACTER SET ascii NOT NULL DEFAULT '',
     FOREIGN KEY (user_id) REFERENCES ForumUser(user_id) ON DELETE CASCADE,
     FOREIGN KEY (post_id) REFERENCES Post(post_id) ON DELETE CASCADE
 );
 
 CREATE INDEX idx_comment_user_id ON ForumComment(user_id);
-CREATE INDEX idx_comment_post_id ON ForumComment(post_id);
+CREATE INDEX idx_comment_post_path ON ForumComment(post_id, path);
+-- Siblings in display order, for keyset pages of top-level comments and replies
+CREATE INDEX idx_comment_post_parent_score ON ForumComment(post_id, parent_comment_id, score DESC, comment_id);
 
 -- ============================================
 -- CREATE RELATIONSHIP TABLES
@@ -0,0 +1,47 @@
+-- ============================================
+-- FEED BENCHMARK DATA (Manual)
+-- ============================================
+-- Environment: Development database with data.sql loaded
+-- Mode: Manual execution only
+-- Purpose: One community with 10,000,000 posts for feed pagination
+--          benchmarks (see CommunityFeedBenchmark)
+-- ============================================
+--
+-- USAGE:
+--   mysql -u dbexp -p db_experiment < src/main/resources/db/seed-feed.sql
+--
+-- Takes several minutes and about 1.5 GB of disk. Posts are two per second
+-- so the post_id tie-breaker of the feed order is exercised, and authored
+-- round-robin by the five sample users.
+-- ============================================
+
+USE db_experiment;
+
+INSERT INTO Community (community_name, community_title, community_description) VALUES
+('feedbench', 'Feed Benchmark', 'Synthetic posts for feed pagination benchmarks');
+
+SET @community_id = LAST_INSERT_ID();
+
+INSERT INTO Post (user_id, community_id, post_title, post_content, created_at)
+WITH digits AS (
+    SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+    UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9
+)
+SELECT
+    1 + seq.n % 5,
+    @community_id,
+    CONCAT('Benchmark post ', seq.n),
+    'Synthetic post body',
+    TIMESTAMP('2020-01-01 00:00:00') + INTERVAL (seq.n DIV 2) SECOND
+FROM (
+    SELECT d1.d + d2.d * 10 + d3.d * 100 + d4.d * 1000 + d5.d * 10000 + d6.d * 100000 + d7.d * 1000000 AS n
+    FROM digits d1
+    CROSS JOIN digits d2
+    CROSS JOIN digits d3
+    CROSS JOIN digits d4
+    CROSS JOIN digits d5
+    CROSS JOIN digits d6
+    CROSS JOIN digits d7
+) seq;
+
+ANALYZE TABLE Post;
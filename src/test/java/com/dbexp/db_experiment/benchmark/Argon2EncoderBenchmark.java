@@ -0,0 +1,82 @@
+package com.dbexp.db_experiment.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.dbexp.db_experiment.security.Argon2MemoryPool;
+import com.dbexp.db_experiment.security.PooledArgon2PasswordEncoder;
+
+/**
+ * Stock vs pooled Argon2 encoder at the production parameters.
+ *
+ * SampleTime mode reports p50/p99/p999 per operation; the GC profiler reports
+ * the allocation rate ({@code gc.alloc.rate.norm} is bytes per hash). Run with:
+ *
+ * <pre>
+ * ./mvnw -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.dbexp.db_experiment.benchmark.Argon2EncoderBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+@Threads(4)
+public class Argon2EncoderBenchmark {
+
+    @Param({ "stock", "pooled" })
+    public String encoder;
+
+    private PasswordEncoder passwordEncoder;
+    private String storedHash;
+
+    @Setup
+    public void setUp() {
+        if ("stock".equals(encoder)) {
+            passwordEncoder = new Argon2PasswordEncoder(16, 32, 1, 65536, 3);
+        } else {
+            Argon2MemoryPool pool = new Argon2MemoryPool(PooledArgon2PasswordEncoder.arenaBlocks(65536, 1), 4, 1L,
+                    new SimpleMeterRegistry());
+            passwordEncoder = new PooledArgon2PasswordEncoder(16, 32, 1, 65536, 3, pool);
+        }
+        storedHash = passwordEncoder.encode("password123");
+    }
+
+    @Benchmark
+    public boolean login() {
+        return passwordEncoder.matches("password123", storedHash);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(Argon2EncoderBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
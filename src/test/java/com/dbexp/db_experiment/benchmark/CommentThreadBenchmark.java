@@ -0,0 +1,144 @@
+package com.dbexp.db_experiment.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.dbexp.db_experiment.comment.CommentCursor;
+import com.dbexp.db_experiment.comment.CommentPath;
+import com.dbexp.db_experiment.comment.CommentRow;
+import com.dbexp.db_experiment.comment.CommentTree;
+import com.dbexp.db_experiment.dto.community.CommentThreadResponse;
+import com.dbexp.db_experiment.repository.CommentRepository;
+import com.dbexp.db_experiment.service.CommentServiceImpl;
+
+/**
+ * Server-side cost of a comment thread once its rows are read: assembling the
+ * whole tree, and the whole request past the queries (assembly of the first
+ * page's subtrees, choosing the rendered part and building the response), for
+ * threads of up to 10,000 comments. Replies pick a random earlier comment as
+ * parent, with a bias towards recent ones, which gives a few long chains and
+ * many short ones.
+ *
+ * Run with:
+ *
+ * <pre>
+ * ./mvnw -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.dbexp.db_experiment.benchmark.CommentThreadBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class CommentThreadBenchmark {
+
+    private static final long POST_ID = 1L;
+
+    @Param({ "100", "1000", "10000" })
+    public int comments;
+
+    private List<CommentRow> rows;
+    private CommentServiceImpl commentService;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        rows = new ArrayList<>(comments);
+        for (int i = 1; i <= comments; i++) {
+            CommentRow parent = null;
+            // A third of the comments are top-level
+            if (!rows.isEmpty() && random.nextInt(3) != 0) {
+                int recent = Math.min(rows.size(), 50);
+                parent = rows.get(rows.size() - 1 - random.nextInt(recent));
+                if (CommentPath.depth(parent.path()) >= CommentPath.MAX_DEPTH) {
+                    parent = null;
+                }
+            }
+            rows.add(new CommentRow(
+                    i,
+                    parent != null ? parent.commentId() : null,
+                    CommentPath.child(parent != null ? parent.path() : "", i),
+                    1L,
+                    "user",
+                    "Comment body " + i,
+                    now.minusSeconds(comments - i),
+                    random.nextInt(200) - 20));
+        }
+        // The order the range scan returns them in
+        rows.sort(Comparator.comparing(CommentRow::path));
+
+        // What the queries return, so that the benchmark does not time them
+        List<CommentRow> topLevel = new ArrayList<>();
+        Map<String, List<CommentRow>> subtrees = new HashMap<>();
+        // In path order each top-level comment is followed by its subtree
+        for (CommentRow row : rows) {
+            if (row.parentCommentId() == null) {
+                topLevel.add(row);
+                subtrees.put(row.path(), new ArrayList<>());
+            } else {
+                subtrees.get(topLevel.getLast().path()).add(row);
+            }
+        }
+        topLevel.sort(CommentTree.ORDER);
+        CommentRepository repository = new CommentRepository(null) {
+            @Override
+            public List<CommentRow> findReplies(long postId, Long parentCommentId, CommentCursor after, int limit) {
+                return topLevel.subList(0, Math.min(limit, topLevel.size()));
+            }
+
+            @Override
+            public List<CommentRow> findSubtrees(long postId, List<String> paths, int limitPerSubtree) {
+                List<CommentRow> result = new ArrayList<>();
+                paths.stream().sorted().forEach(path -> {
+                    List<CommentRow> subtree = subtrees.get(path);
+                    result.addAll(subtree.subList(0, Math.min(limitPerSubtree, subtree.size())));
+                });
+                return result;
+            }
+        };
+        commentService = new CommentServiceImpl(repository, null, 500, 10, 8, 200);
+    }
+
+    @Benchmark
+    public CommentTree assemble() {
+        return CommentTree.assemble(rows);
+    }
+
+    @Benchmark
+    public CommentThreadResponse getComments() {
+        return commentService.getComments(POST_ID, null, 25);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CommentThreadBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
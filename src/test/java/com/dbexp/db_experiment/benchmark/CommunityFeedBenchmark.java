@@ -0,0 +1,121 @@
+package com.dbexp.db_experiment.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.dbexp.db_experiment.cache.PostSummary;
+import com.dbexp.db_experiment.repository.PostSummaryRowMapper;
+
+/**
+ * Community feed page latency by depth: keyset (what the feed endpoint runs)
+ * vs OFFSET, at page 1 and page 10,000 of a 10M-post community. Keyset stays
+ * flat because it seeks straight to the cursor on
+ * {@code idx_post_community_created}; OFFSET reads and discards every row
+ * before the page.
+ *
+ * Needs a MySQL database seeded with {@code db/seed-feed.sql}. Run with:
+ *
+ * <pre>
+ * ./mvnw -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -Ddb.url=jdbc:mysql://localhost:3306/db_experiment -Ddb.username=dbexp -Ddb.password=... \
+ *     -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.dbexp.db_experiment.benchmark.CommunityFeedBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class CommunityFeedBenchmark {
+
+    private static final int PAGE_SIZE = 25;
+
+    // Same statements as PostQueries, plus the OFFSET form for comparison
+    private static final String COLUMNS = "SELECT p.post_id, p.community_id, p.user_id, u.username, "
+            + "p.post_title, p.created_at FROM Post p JOIN ForumUser u ON u.user_id = p.user_id "
+            + "WHERE p.community_id = :communityId ";
+    private static final String ORDER = "ORDER BY p.created_at DESC, p.post_id DESC LIMIT :limit";
+    private static final String KEYSET = COLUMNS
+            + "AND (p.created_at < :beforeCreatedAt "
+            + "OR (p.created_at = :beforeCreatedAt AND p.post_id < :beforePostId)) " + ORDER;
+    private static final String FIRST_PAGE = COLUMNS + ORDER;
+    private static final String OFFSET = COLUMNS + ORDER + " OFFSET :offset";
+
+    @Param({ "1", "10000" })
+    public int page;
+
+    @Param({ "keyset", "offset" })
+    public String pagination;
+
+    private final PostSummaryRowMapper rowMapper = new PostSummaryRowMapper();
+
+    private NamedParameterJdbcTemplate jdbc;
+    private long communityId;
+    private PostSummary cursor;
+
+    @Setup
+    public void setUp() {
+        jdbc = new NamedParameterJdbcTemplate(new DriverManagerDataSource(
+                System.getProperty("db.url", "jdbc:mysql://localhost:3306/db_experiment"),
+                System.getProperty("db.username", "dbexp"),
+                System.getProperty("db.password", "")));
+        communityId = jdbc.queryForObject(
+                "SELECT community_id FROM Community WHERE community_name = :name",
+                Map.of("name", System.getProperty("feed.community", "feedbench")), Long.class);
+
+        if (page > 1) {
+            // The last row of the previous page, found once the slow way
+            cursor = jdbc.queryForObject(OFFSET, Map.of(
+                    "communityId", communityId,
+                    "limit", 1,
+                    "offset", (page - 1) * PAGE_SIZE - 1), rowMapper);
+        }
+    }
+
+    @Benchmark
+    public List<PostSummary> fetchPage() {
+        if (cursor == null) {
+            return jdbc.query(FIRST_PAGE, Map.of("communityId", communityId, "limit", PAGE_SIZE), rowMapper);
+        }
+        if ("offset".equals(pagination)) {
+            return jdbc.query(OFFSET, Map.of(
+                    "communityId", communityId,
+                    "limit", PAGE_SIZE,
+                    "offset", (page - 1) * PAGE_SIZE), rowMapper);
+        }
+        return jdbc.query(KEYSET, Map.of(
+                "communityId", communityId,
+                "beforeCreatedAt", cursor.createdAt(),
+                "beforePostId", cursor.postId(),
+                "limit", PAGE_SIZE), rowMapper);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CommunityFeedBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
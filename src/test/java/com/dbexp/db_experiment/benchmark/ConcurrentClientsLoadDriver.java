@@ -0,0 +1,120 @@
+package com.dbexp.db_experiment.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Closed-loop load driver: N concurrent clients, each on its own virtual
+ * thread, issue requests back to back against a running server for a fixed
+ * duration and report throughput, p50/p99/p999 and failures.
+ *
+ * To compare request execution models, start the server once per mode and run
+ * the same load against each:
+ *
+ * <pre>
+ * ./mvnw spring-boot:run -Dspring-boot.run.arguments=--spring.threads.virtual.enabled=false
+ * ./mvnw spring-boot:run -Dspring-boot.run.arguments=--spring.threads.virtual.enabled=true
+ *
+ * ./mvnw -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.dbexp.db_experiment.benchmark.ConcurrentClientsLoadDriver \
+ *     http://localhost:8080 5000 60 read
+ * </pre>
+ *
+ * Scenarios: {@code read} fetches random users by id (JDBC bound);
+ * {@code login} logs in as the dev test users (Argon2 bound). Compare the
+ * percentiles with {@code db.bulkhead.*}, {@code hikaricp.connections.pending}
+ * and {@code jvm.threads.virtual.pinned} on /actuator/prometheus.
+ */
+public class ConcurrentClientsLoadDriver {
+
+    private static final String[] TEST_USERS = { "alice", "bob", "charlie", "diana", "eve" };
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 60);
+        String scenario = args.length > 3 ? args[3] : "read";
+        long maxUserId = args.length > 4 ? Long.parseLong(args[4]) : 5;
+
+        Timer latency = Timer.builder("load.latency")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .distributionStatisticExpiry(duration.plusMinutes(1))
+                .distributionStatisticBufferLength(1)
+                .register(new SimpleMeterRegistry());
+        LongAdder ok = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        LongAdder failed = new LongAdder();
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        System.out.printf("%d clients, %s, scenario %s against %s%n", clients, duration, scenario, baseUrl);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = request(baseUrl, scenario, maxUserId);
+                        long start = System.nanoTime();
+                        try {
+                            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding())
+                                    .statusCode();
+                            latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                            if (status < 400) {
+                                ok.increment();
+                            } else if (status == 503 || status == 429) {
+                                rejected.increment();
+                            } else {
+                                failed.increment();
+                            }
+                        } catch (IOException e) {
+                            failed.increment();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                });
+            }
+        }
+
+        HistogramSnapshot snapshot = latency.takeSnapshot();
+        System.out.printf("ok=%d rejected=%d failed=%d throughput=%.1f req/s%n",
+                ok.sum(), rejected.sum(), failed.sum(), ok.sum() / (double) duration.toSeconds());
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            System.out.printf("p%s=%.1f ms%n", percentile.percentile() * 100,
+                    percentile.value(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private static HttpRequest request(String baseUrl, String scenario, long maxUserId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if ("login".equals(scenario)) {
+            String username = TEST_USERS[random.nextInt(TEST_USERS.length)];
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"username\":\"" + username + "\",\"password\":\"password123\"}"))
+                    .build();
+        }
+        long userId = random.nextLong(1, maxUserId + 1);
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/" + userId)).GET().build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.dbexp.db_experiment.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+
+/**
+ * Cost of rejecting a request with a regular vs a stackless exception.
+ *
+ * The exception is thrown {@code depth} frames below the catch site, which
+ * stands in for the servlet, security and proxy frames above a service call;
+ * filling in the stack trace is proportional to that depth. The GC profiler
+ * shows the bytes allocated per rejected request. Run with:
+ *
+ * <pre>
+ * ./mvnw -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.dbexp.db_experiment.benchmark.ErrorPathBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+public class ErrorPathBenchmark {
+
+    @Param({ "stacktrace", "stackless" })
+    public String exception;
+
+    @Param({ "20", "120" })
+    public int depth;
+
+    @Benchmark
+    public String rejectRequest() {
+        try {
+            return validate(depth);
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    private String validate(int remaining) {
+        if (remaining > 0) {
+            return validate(remaining - 1);
+        }
+        if ("stackless".equals(exception)) {
+            throw new InvalidRequestException("User not found");
+        }
+        throw new IllegalArgumentException("User not found");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ErrorPathBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
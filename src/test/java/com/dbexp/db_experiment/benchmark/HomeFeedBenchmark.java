@@ -0,0 +1,149 @@
+package com.dbexp.db_experiment.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.dbexp.db_experiment.cache.CommunityFeedCache;
+import com.dbexp.db_experiment.cache.PostSummary;
+import com.dbexp.db_experiment.feed.FeedCursor;
+import com.dbexp.db_experiment.feed.HomeFeed;
+import com.dbexp.db_experiment.repository.CommunityRepository;
+import com.dbexp.db_experiment.repository.PostRepository;
+
+/**
+ * Home feed merge cost at 10, 100 and 1,000 subscriptions, on page 1 and on
+ * page 10, with every community's first page cached. Page 10 lies past the
+ * cached runs of the busiest communities, so it also measures the runs
+ * continued from the repository, here an in-memory stand-in that adds no
+ * database latency; the query count per page is what it would cost in SQL.
+ *
+ * Run with:
+ *
+ * <pre>
+ * ./mvnw -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.dbexp.db_experiment.benchmark.HomeFeedBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class HomeFeedBenchmark {
+
+    private static final int PAGE_SIZE = 25;
+    private static final int POSTS = 200_000;
+    private static final int COMMUNITIES = 1_000;
+
+    @Param({ "10", "100", "1000" })
+    public int subscriptions;
+
+    @Param({ "1", "10" })
+    public int page;
+
+    private HomeFeed homeFeed;
+    private List<Long> communityIds;
+    private FeedCursor cursor;
+
+    @Setup
+    public void setUp() {
+        // Newest first per community, with a few communities much busier than the rest
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        Map<Long, List<PostSummary>> feeds = new HashMap<>();
+        for (long postId = 1; postId <= POSTS; postId++) {
+            long communityId = 1 + (long) (Math.pow(random.nextDouble(), 3) * COMMUNITIES);
+            feeds.computeIfAbsent(communityId, id -> new ArrayList<>()).add(new PostSummary(postId, communityId,
+                    1L, "user", "Post " + postId, now.minusSeconds(random.nextInt(30 * 24 * 3600)), 0));
+        }
+        Comparator<PostSummary> newestFirst = Comparator.comparing(PostSummary::createdAt)
+                .thenComparing(PostSummary::postId)
+                .reversed();
+        feeds.values().forEach(posts -> posts.sort(newestFirst));
+
+        PostRepository postRepository = (PostRepository) Proxy.newProxyInstance(
+                PostRepository.class.getClassLoader(), new Class<?>[] { PostRepository.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findFeedFirstPage" -> feed(feeds, (long) args[0], null, (int) args[1]);
+                    case "findFeedPageBefore" -> feed(feeds, (long) args[0],
+                            new FeedCursor((LocalDateTime) args[1], (long) args[2]), (int) args[3]);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        CommunityRepository communityRepository = (CommunityRepository) Proxy.newProxyInstance(
+                CommunityRepository.class.getClassLoader(), new Class<?>[] { CommunityRepository.class },
+                (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CommunityFeedCache feedCache = new CommunityFeedCache(postRepository, communityRepository, meterRegistry,
+                101, COMMUNITIES, Duration.ofHours(1));
+        homeFeed = new HomeFeed(feedCache, postRepository, meterRegistry, COMMUNITIES, Integer.MAX_VALUE);
+
+        communityIds = new ArrayList<>();
+        for (long communityId = 1; communityIds.size() < subscriptions; communityId++) {
+            communityIds.add(communityId);
+            feedCache.firstPage(communityId, feedCache.firstPageRows());
+        }
+        for (int i = 1; i < page; i++) {
+            List<PostSummary> rows = homeFeed.page(communityIds, cursor, PAGE_SIZE);
+            cursor = FeedCursor.after(rows.get(rows.size() - 1));
+        }
+    }
+
+    private static List<PostSummary> feed(Map<Long, List<PostSummary>> feeds, long communityId, FeedCursor after,
+            int limit) {
+        List<PostSummary> posts = feeds.getOrDefault(communityId, List.of());
+        int start = 0;
+        if (after != null) {
+            while (start < posts.size() && !isAfter(posts.get(start), after)) {
+                start++;
+            }
+        }
+        return posts.subList(start, Math.min(start + limit, posts.size()));
+    }
+
+    private static boolean isAfter(PostSummary post, FeedCursor cursor) {
+        int byTime = post.createdAt().compareTo(cursor.createdAt());
+        return byTime < 0 || (byTime == 0 && post.postId() < cursor.postId());
+    }
+
+    @Benchmark
+    public List<PostSummary> homePage() {
+        return homeFeed.page(communityIds, cursor, PAGE_SIZE + 1);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(HomeFeedBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
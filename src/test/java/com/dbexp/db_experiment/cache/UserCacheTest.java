@@ -0,0 +1,115 @@
+package com.dbexp.db_experiment.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.repository.UserRepository;
+import com.dbexp.db_experiment.testutil.UserTestBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Cache - Tests")
+class UserCacheTest {
+
+    // Boxed so stubs match findById(Long) rather than the primitive overload
+    private static final Long USER_ID = 1L;
+    private static final Long UNKNOWN_ID = 99L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userCache = new UserCache(new UserLookup(userRepository, meterRegistry), meterRegistry, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should share one query between concurrent misses for the same id")
+    void get_ConcurrentMisses_SingleQuery() throws Exception {
+        // Arrange
+        User user = UserTestBuilder.aUser().withUserId(1L).build();
+        CountDownLatch loading = new CountDownLatch(1);
+        when(userRepository.findById(USER_ID)).thenAnswer(invocation -> {
+            loading.await(5, TimeUnit.SECONDS);
+            return Optional.of(user);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        List<Future<Optional<UserSummary>>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> userCache.get(1L)));
+        }
+        Thread.sleep(100);
+        loading.countDown();
+
+        // Assert
+        for (Future<Optional<UserSummary>> result : results) {
+            assertEquals("testuser", result.get(5, TimeUnit.SECONDS).orElseThrow().username());
+        }
+        verify(userRepository, times(1)).findById(USER_ID);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should not cache unknown ids")
+    void get_UnknownId_NotCached() {
+        // Arrange
+        when(userRepository.findById(UNKNOWN_ID)).thenReturn(Optional.empty());
+
+        // Act
+        userCache.get(99L);
+        Optional<UserSummary> result = userCache.get(99L);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(userRepository, times(2)).findById(UNKNOWN_ID);
+    }
+
+    @Test
+    @DisplayName("Should reload after invalidation and publish hit/miss metrics")
+    void invalidate_ForcesReload() {
+        // Arrange
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(UserTestBuilder.aUser().withUserId(1L).build()));
+
+        // Act
+        userCache.get(1L);
+        userCache.get(1L);
+        userCache.invalidate(1L);
+        userCache.get(1L);
+
+        // Assert
+        verify(userRepository, times(2)).findById(USER_ID);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "users").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "users").tag("result", "miss")
+                .functionCounter().count());
+    }
+}
@@ -0,0 +1,221 @@
+package com.dbexp.db_experiment.comment;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Comment Tree - Tests")
+class CommentTreeTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private static CommentRow comment(long commentId, CommentRow parent, int score) {
+        return new CommentRow(
+                commentId,
+                parent != null ? parent.commentId() : null,
+                CommentPath.child(parent != null ? parent.path() : "", commentId),
+                1L,
+                "alice",
+                "Comment " + commentId,
+                NOW,
+                score);
+    }
+
+    // The repository returns rows in path order
+    private static List<CommentRow> inPathOrder(CommentRow... rows) {
+        List<CommentRow> sorted = new ArrayList<>(List.of(rows));
+        sorted.sort(Comparator.comparing(CommentRow::path));
+        return sorted;
+    }
+
+    private static List<Long> ids(List<CommentTree.Node> nodes) {
+        return nodes.stream().map(node -> node.comment().commentId()).toList();
+    }
+
+    @Nested
+    @DisplayName("Assembly")
+    class AssemblyTests {
+
+        @Test
+        @DisplayName("Should nest replies under their parents, best first and oldest first on ties")
+        void assemble_NestsAndSortsSiblings() {
+            // Arrange
+            CommentRow first = comment(1L, null, 5);
+            CommentRow second = comment(2L, null, 9);
+            CommentRow reply = comment(3L, first, 1);
+            CommentRow bestReply = comment(4L, first, 7);
+            CommentRow tiedReply = comment(5L, first, 1);
+            CommentRow nested = comment(6L, reply, 0);
+
+            // Act
+            CommentTree tree = CommentTree.assemble(inPathOrder(first, second, reply, bestReply, tiedReply, nested));
+
+            // Assert
+            List<CommentTree.Node> roots = tree.roots();
+            assertEquals(List.of(2L, 1L), ids(roots));
+            assertEquals(List.of(4L, 3L, 5L), ids(roots.get(1).replies()));
+            assertEquals(List.of(6L), ids(roots.get(1).replies().get(1).replies()));
+            assertEquals(6, tree.size());
+        }
+
+        @Test
+        @DisplayName("Should make comments whose parent was not loaded the roots of a subtree")
+        void assemble_Subtree() {
+            // Arrange
+            CommentRow parent = comment(1L, null, 0);
+            CommentRow reply = comment(2L, parent, 3);
+            CommentRow otherReply = comment(3L, parent, 8);
+            CommentRow nested = comment(4L, reply, 0);
+
+            // Act
+            CommentTree tree = CommentTree.assemble(inPathOrder(reply, otherReply, nested));
+
+            // Assert
+            List<CommentTree.Node> roots = tree.roots();
+            assertEquals(List.of(3L, 2L), ids(roots));
+            assertEquals(List.of(4L), ids(roots.get(1).replies()));
+        }
+
+        @Test
+        @DisplayName("Should drop the row past the cap and mark its ancestors truncated")
+        void assemble_CapsSubtree() {
+            // Arrange
+            CommentRow root = comment(1L, null, 0);
+            CommentRow a = comment(2L, root, 0);
+            CommentRow aReply = comment(3L, a, 0);
+            CommentRow aReplyReply = comment(4L, aReply, 0);
+            CommentRow other = comment(5L, null, 0);
+            CommentRow otherReply = comment(6L, other, 0);
+
+            // Act
+            CommentTree tree = CommentTree.assemble(
+                    inPathOrder(root, a, aReply, aReplyReply, other, otherReply), 2);
+
+            // Assert
+            List<CommentTree.Node> roots = tree.roots();
+            assertEquals(List.of(1L, 5L), ids(roots));
+            CommentTree.Node aNode = roots.get(0).replies().get(0);
+            CommentTree.Node aReplyNode = aNode.replies().get(0);
+            assertEquals(List.of(), ids(aReplyNode.replies()));
+            assertTrue(roots.get(0).truncated());
+            assertTrue(aNode.truncated());
+            assertTrue(aReplyNode.truncated());
+            assertFalse(roots.get(1).truncated());
+            assertEquals(5, tree.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Expansion")
+    class ExpansionTests {
+
+        @Test
+        @DisplayName("Should show replies level by level within the budget")
+        void expand_BreadthFirst() {
+            // Arrange
+            CommentRow first = comment(1L, null, 2);
+            CommentRow second = comment(2L, null, 1);
+            CommentRow chain = comment(3L, first, 0);
+            CommentRow chainReply = comment(4L, chain, 0);
+            CommentRow secondReply = comment(5L, second, 0);
+            CommentTree tree = CommentTree.assemble(inPathOrder(first, second, chain, chainReply, secondReply));
+            List<CommentTree.Node> roots = tree.roots();
+
+            // Act
+            CommentTree.expand(roots, 2, 10, 10);
+
+            // Assert
+            assertEquals(List.of(3L), ids(roots.get(0).shownReplies()));
+            assertEquals(List.of(5L), ids(roots.get(1).shownReplies()));
+            assertEquals(1, roots.get(0).shownReplies().get(0).hiddenReplies());
+        }
+
+        @Test
+        @DisplayName("Should show no replies of a truncated comment")
+        void expand_SkipsTruncated() {
+            // Arrange
+            CommentRow root = comment(1L, null, 0);
+            CommentRow a = comment(2L, root, 0);
+            CommentRow b = comment(3L, root, 0);
+            CommentTree tree = CommentTree.assemble(inPathOrder(root, a, b), 1);
+            List<CommentTree.Node> roots = tree.roots();
+
+            // Act
+            CommentTree.expand(roots, 100, 10, 10);
+
+            // Assert
+            assertEquals(List.of(), ids(roots.get(0).shownReplies()));
+            assertEquals(1, roots.get(0).hiddenReplies());
+        }
+
+        @Test
+        @DisplayName("Should cap replies per comment and depth")
+        void expand_CapsWidthAndDepth() {
+            // Arrange
+            CommentRow root = comment(1L, null, 0);
+            CommentRow a = comment(2L, root, 3);
+            CommentRow b = comment(3L, root, 2);
+            CommentRow c = comment(4L, root, 1);
+            CommentRow deep = comment(5L, a, 0);
+            CommentTree tree = CommentTree.assemble(inPathOrder(root, a, b, c, deep));
+            List<CommentTree.Node> roots = tree.roots();
+
+            // Act
+            CommentTree.expand(roots, 100, 2, 2);
+
+            // Assert
+            CommentTree.Node node = roots.get(0);
+            assertEquals(List.of(2L, 3L), ids(node.shownReplies()));
+            assertEquals(1, node.hiddenReplies());
+            assertEquals(List.of(), ids(node.shownReplies().get(0).shownReplies()));
+            assertEquals(1, node.shownReplies().get(0).hiddenReplies());
+        }
+    }
+
+    @Nested
+    @DisplayName("Cursors")
+    class CursorTests {
+
+        @Test
+        @DisplayName("Should round-trip a cursor")
+        void cursor_RoundTrip() {
+            // Arrange
+            CommentCursor cursor = new CommentCursor(CommentPath.child("", 42L), -3, 17L);
+
+            // Act & Assert
+            assertEquals(cursor, CommentCursor.decode(cursor.encode()));
+        }
+
+        @Test
+        @DisplayName("Should read the comment whose replies a cursor pages from its path")
+        void cursor_ParentCommentId() {
+            // Act & Assert
+            assertEquals(42L, CommentPath.commentId(CommentPath.child(CommentPath.child("", 7L), 42L)));
+            assertEquals(null, CommentPath.commentId(""));
+        }
+
+        @Test
+        @DisplayName("Should reject a cursor whose path is not a thread path")
+        void cursor_RejectsBadPath() {
+            // Arrange
+            String token = new CommentCursor("0000002%", 0, 1L).encode();
+
+            // Act & Assert
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> CommentCursor.decode(token));
+            assertEquals("Invalid cursor", exception.getMessage());
+        }
+    }
+}
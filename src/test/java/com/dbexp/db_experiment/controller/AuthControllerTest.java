@@ -1,7 +1,10 @@
 package com.dbexp.db_experiment.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,10 +18,16 @@ import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
 import com.dbexp.db_experiment.dto.auth.LoginRequest;
 import com.dbexp.db_experiment.dto.auth.LoginResponse;
 import com.dbexp.db_experiment.dto.auth.LogoutResponse;
+import com.dbexp.db_experiment.security.HashingCapacityExceededException;
+import com.dbexp.db_experiment.security.LoginThrottledException;
 import com.dbexp.db_experiment.service.AuthService;
 
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -28,14 +37,13 @@ class AuthControllerTest extends BaseControllerTest {
     @Mock
     private AuthService authService;
 
-    @Mock
-    private HttpSession session;
-
     @BeforeEach
     void setUp() {
         super.setUpBase();
         AuthController authController = new AuthController(authService);
-        this.mockMvc = MockMvcBuilders.standaloneSetup(authController).build();
+        this.mockMvc = MockMvcBuilders.standaloneSetup(authController)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
     }
 
     @Nested
@@ -49,7 +57,7 @@ class AuthControllerTest extends BaseControllerTest {
             LoginRequest request = new LoginRequest("testuser", "password123");
             LoginResponse response = new LoginResponse(1L, "testuser", "test@example.com", "Login successful");
 
-            when(authService.login(any(LoginRequest.class), any(HttpSession.class))).thenReturn(response);
+            when(authService.login(any(LoginRequest.class), any(HttpServletRequest.class))).thenReturn(response);
 
             // Act & Assert
             performPostRequest("/api/auth/login", request)
@@ -142,7 +150,7 @@ class AuthControllerTest extends BaseControllerTest {
             // Arrange
             LoginRequest request = new LoginRequest("invaliduser", "wrongpassword");
 
-            when(authService.login(any(LoginRequest.class), any(HttpSession.class)))
+            when(authService.login(any(LoginRequest.class), any(HttpServletRequest.class)))
                     .thenThrow(new org.springframework.security.authentication.BadCredentialsException(
                             "Invalid username or password"));
 
@@ -154,6 +162,38 @@ class AuthControllerTest extends BaseControllerTest {
                     .andExpect(jsonPath("$.email").isEmpty())
                     .andExpect(jsonPath("$.message").value("Invalid username or password"));
         }
+
+        @Test
+        @DisplayName("Should return too many requests when login attempts are throttled")
+        void login_Throttled() throws Exception {
+            // Arrange
+            LoginRequest request = new LoginRequest("testuser", "password123");
+
+            when(authService.login(any(LoginRequest.class), any(HttpServletRequest.class)))
+                    .thenThrow(new LoginThrottledException("Too many login attempts, please retry later", 30L));
+
+            // Act & Assert
+            performPostRequest("/api/auth/login", request)
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "30"))
+                    .andExpect(jsonPath("$.message").value("Too many login attempts, please retry later"));
+        }
+
+        @Test
+        @DisplayName("Should return service unavailable when hashing capacity is exhausted")
+        void login_HashingCapacityExceeded() throws Exception {
+            // Arrange
+            LoginRequest request = new LoginRequest("testuser", "password123");
+
+            when(authService.login(any(LoginRequest.class), any(HttpServletRequest.class)))
+                    .thenThrow(new HashingCapacityExceededException("Server is busy, please retry later", 2L));
+
+            // Act & Assert
+            performPostRequest("/api/auth/login", request)
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "2"))
+                    .andExpect(jsonPath("$.message").value("Server is busy, please retry later"));
+        }
     }
 
     @Nested
@@ -166,7 +206,7 @@ class AuthControllerTest extends BaseControllerTest {
             // Arrange
             LogoutResponse response = new LogoutResponse("Logout successful");
 
-            when(authService.logout(any(HttpSession.class))).thenReturn(response);
+            when(authService.logout(isNull())).thenReturn(response);
 
             // Act & Assert
             performPostRequest("/api/auth/logout", null)
@@ -188,7 +228,7 @@ class AuthControllerTest extends BaseControllerTest {
             when(authService.getCurrentUser(any(HttpSession.class))).thenReturn(response);
 
             // Act & Assert
-            performGetRequest("/api/auth/me", null)
+            mockMvc.perform(get("/api/auth/me").session(new MockHttpSession()))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.authenticated").value(true))
                     .andExpect(jsonPath("$.userId").value(1L))
@@ -202,15 +242,19 @@ class AuthControllerTest extends BaseControllerTest {
             // Arrange
             CurrentUserResponse response = CurrentUserResponse.notAuthenticated();
 
-            when(authService.getCurrentUser(any(HttpSession.class))).thenReturn(response);
+            when(authService.getCurrentUser(isNull())).thenReturn(response);
 
-            // Act & Assert
-            performGetRequest("/api/auth/me", null)
+            // Act
+            MvcResult result = performGetRequest("/api/auth/me", null)
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.authenticated").value(false))
                     .andExpect(jsonPath("$.userId").isEmpty())
                     .andExpect(jsonPath("$.username").isEmpty())
-                    .andExpect(jsonPath("$.email").isEmpty());
+                    .andExpect(jsonPath("$.email").isEmpty())
+                    .andReturn();
+
+            // Assert
+            assertNull(result.getRequest().getSession(false));
         }
     }
 
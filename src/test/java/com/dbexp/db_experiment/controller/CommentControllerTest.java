@@ -0,0 +1,78 @@
+package com.dbexp.db_experiment.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.community.CommentResponse;
+import com.dbexp.db_experiment.dto.community.CreateCommentRequest;
+import com.dbexp.db_experiment.exception.NotAuthenticatedException;
+import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.CommentService;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Comment Controller - Tests")
+class CommentControllerTest extends BaseControllerTest {
+
+    @Mock
+    private CommentService commentService;
+
+    @BeforeEach
+    void setUp() {
+        CommentController commentController = new CommentController(commentService);
+        this.mockMvc = MockMvcBuilders.standaloneSetup(commentController)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Create Comment Tests")
+    class CreateCommentTests {
+
+        @Test
+        @DisplayName("Should comment as the session's user and return 201")
+        void createComment_SessionUser() throws Exception {
+            when(commentService.createComment(eq(7L), eq(3L), any(CreateCommentRequest.class)))
+                    .thenReturn(new CommentResponse(9L, null, 3L, "charlie", "First", LocalDateTime.now(), 0,
+                            List.of(), 0, null));
+
+            mockMvc.perform(post("/api/posts/7/comments")
+                    .sessionAttr(AuthService.USER_ID_SESSION_KEY, 3L)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new CreateCommentRequest(null, "First"))))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.commentId").value(9));
+        }
+
+        @Test
+        @DisplayName("Should return unauthorized without a session")
+        void createComment_NoSession() throws Exception {
+            when(commentService.createComment(eq(7L), isNull(), any(CreateCommentRequest.class)))
+                    .thenThrow(new NotAuthenticatedException("Login required"));
+
+            performPostRequest("/api/posts/7/comments", new CreateCommentRequest(null, "First"))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(content().string("Login required"));
+        }
+    }
+}
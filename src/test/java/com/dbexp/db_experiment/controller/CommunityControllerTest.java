@@ -0,0 +1,132 @@
+package com.dbexp.db_experiment.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.community.CommunityFeedResponse;
+import com.dbexp.db_experiment.dto.community.CreatePostRequest;
+import com.dbexp.db_experiment.dto.community.PostResponse;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.exception.NotAuthenticatedException;
+import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.CommunityFeedService;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Community Controller - Tests")
+class CommunityControllerTest extends BaseControllerTest {
+
+    @Mock
+    private CommunityFeedService communityFeedService;
+
+    @BeforeEach
+    void setUp() {
+        CommunityController communityController = new CommunityController(communityFeedService);
+        this.mockMvc = MockMvcBuilders.standaloneSetup(communityController)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Feed Tests")
+    class FeedTests {
+
+        @Test
+        @DisplayName("Should return a page of posts with the next cursor")
+        void getPosts_Success() throws Exception {
+            CommunityFeedResponse response = new CommunityFeedResponse(
+                    List.of(new PostResponse(12L, 1L, 3L, "charlie", "Hello", LocalDateTime.now(), 0)),
+                    true, "next-cursor");
+            when(communityFeedService.getCommunityPosts("science", null, null, "cursor", 1)).thenReturn(response);
+
+            mockMvc.perform(get("/api/communities/science/posts").param("cursor", "cursor").param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.posts[0].postId").value(12))
+                    .andExpect(jsonPath("$.posts[0].username").value("charlie"))
+                    .andExpect(jsonPath("$.hasMore").value(true))
+                    .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+        }
+
+        @Test
+        @DisplayName("Should return bad request for an unknown community")
+        void getPosts_UnknownCommunity() throws Exception {
+            when(communityFeedService.getCommunityPosts(eq("nope"), isNull(), isNull(), isNull(), isNull()))
+                    .thenThrow(new InvalidRequestException("Community not found"));
+
+            assertBadRequestWithMessage(mockMvc.perform(get("/api/communities/nope/posts")),
+                    "Community not found");
+        }
+
+        @Test
+        @DisplayName("Should pass the sort and time range to the service")
+        void getPosts_TopOfWeek() throws Exception {
+            CommunityFeedResponse response = new CommunityFeedResponse(List.of(), false, null);
+            when(communityFeedService.getCommunityPosts("science", "top", "week", null, null)).thenReturn(response);
+
+            mockMvc.perform(get("/api/communities/science/posts").param("sort", "top").param("t", "week"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.hasMore").value(false));
+        }
+    }
+
+    @Nested
+    @DisplayName("Create Post Tests")
+    class CreatePostTests {
+
+        @Test
+        @DisplayName("Should create a post and return 201")
+        void createPost_Success() throws Exception {
+            CreatePostRequest request = new CreatePostRequest("Hello", "First post");
+            when(communityFeedService.createPost(eq("science"), eq(3L), any(CreatePostRequest.class)))
+                    .thenReturn(new PostResponse(13L, 4L, 3L, "charlie", "Hello", LocalDateTime.now(), 0));
+
+            mockMvc.perform(post("/api/communities/science/posts")
+                    .sessionAttr(AuthService.USER_ID_SESSION_KEY, 3L)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.postId").value(13));
+        }
+
+        @Test
+        @DisplayName("Should return unauthorized without a session")
+        void createPost_NoSession() throws Exception {
+            CreatePostRequest request = new CreatePostRequest("Hello", "First post");
+            when(communityFeedService.createPost(eq("science"), isNull(), any(CreatePostRequest.class)))
+                    .thenThrow(new NotAuthenticatedException("Login required"));
+
+            performPostRequest("/api/communities/science/posts", request)
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("Should return bad request for a missing title")
+        void createPost_MissingTitle() throws Exception {
+            CreatePostRequest request = new CreatePostRequest("", "First post");
+
+            assertBadRequest(performPostRequest("/api/communities/science/posts", request));
+            verifyNoInteractions(communityFeedService);
+        }
+    }
+}
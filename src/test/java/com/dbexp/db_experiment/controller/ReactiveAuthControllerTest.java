@@ -0,0 +1,83 @@
+package com.dbexp.db_experiment.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.server.WebSession;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import reactor.core.publisher.Mono;
+
+import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
+import com.dbexp.db_experiment.dto.auth.LoginRequest;
+import com.dbexp.db_experiment.dto.auth.LoginResponse;
+import com.dbexp.db_experiment.security.HashingCapacityExceededException;
+import com.dbexp.db_experiment.service.ReactiveAuthService;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Reactive Auth Controller - Tests")
+class ReactiveAuthControllerTest {
+
+    @Mock
+    private ReactiveAuthService authService;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToController(new ReactiveAuthController(authService)).build();
+    }
+
+    @Test
+    @DisplayName("Should login successfully with valid credentials")
+    void login_Success() {
+        when(authService.login(any(LoginRequest.class), any(WebSession.class), any()))
+                .thenReturn(Mono.just(new LoginResponse(1L, "testuser", "test@example.com", "Login successful")));
+
+        webTestClient.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new LoginRequest("testuser", "password123"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.userId").isEqualTo(1)
+                .jsonPath("$.message").isEqualTo("Login successful");
+    }
+
+    @Test
+    @DisplayName("Should return 503 with Retry-After when hashing capacity is exhausted")
+    void login_HashingCapacityExceeded() {
+        when(authService.login(any(LoginRequest.class), any(WebSession.class), any()))
+                .thenReturn(Mono.error(new HashingCapacityExceededException("Server is busy, please retry", 2)));
+
+        webTestClient.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new LoginRequest("testuser", "password123"))
+                .exchange()
+                .expectStatus().isEqualTo(503)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "2");
+    }
+
+    @Test
+    @DisplayName("Should report anonymous visitors as not authenticated")
+    void getCurrentUser_Anonymous() {
+        when(authService.getCurrentUser(any(WebSession.class)))
+                .thenReturn(Mono.just(CurrentUserResponse.notAuthenticated()));
+
+        webTestClient.get().uri("/api/auth/me")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.authenticated").isEqualTo(false);
+    }
+}
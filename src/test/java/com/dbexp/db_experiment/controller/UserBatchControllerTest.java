@@ -0,0 +1,156 @@
+package com.dbexp.db_experiment.controller;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.user.BatchCreateUserResult;
+import com.dbexp.db_experiment.dto.user.BatchCreateUserResult.Status;
+import com.dbexp.db_experiment.dto.user.BatchCreateUsersResponse;
+import com.dbexp.db_experiment.dto.user.CreateUserRequest;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.security.HashingCapacityExceededException;
+import com.dbexp.db_experiment.service.UserBatchService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Batch Controller - Tests")
+class UserBatchControllerTest {
+
+    @Mock
+    private UserBatchService userBatchService;
+
+    private MockMvc mockMvc;
+    private final List<String> received = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        UserBatchController controller = new UserBatchController(userBatchService,
+                Jackson2ObjectMapperBuilder.json().build());
+        this.mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should stream a JSON array into the batch service")
+    void createUsers_JsonArray() throws Exception {
+        // Arrange
+        drainInto(received);
+        String body = """
+                [{"username":"alice","email":"alice@example.com","password":"password123"},
+                 {"username":"bob","email":"bob@example.com","password":"password123"}]""";
+
+        // Act & Assert
+        mockMvc.perform(post("/api/users/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.results[1].status").value("CREATED"));
+        assertEquals(List.of("alice", "bob"), received);
+    }
+
+    @Test
+    @DisplayName("Should stream newline-delimited JSON into the batch service")
+    void createUsers_Ndjson() throws Exception {
+        // Arrange
+        drainInto(received);
+        String body = """
+                {"username":"alice","email":"alice@example.com","password":"password123"}
+                {"username":"bob","email":"bob@example.com","password":"password123"}
+                """;
+
+        // Act & Assert
+        mockMvc.perform(post("/api/users/batch").contentType(MediaType.APPLICATION_NDJSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2));
+        assertEquals(List.of("alice", "bob"), received);
+    }
+
+    @Test
+    @DisplayName("Should return bad request with partial results for a malformed item")
+    void createUsers_MalformedItem() throws Exception {
+        // Arrange
+        drainInto(received);
+        String body = """
+                {"username":"alice","email":"alice@example.com","password":"password123"}
+                {"username": oops}
+                """;
+
+        // Act & Assert
+        mockMvc.perform(post("/api/users/batch").contentType(MediaType.APPLICATION_NDJSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.error").value("Malformed batch item at index 1"));
+        assertEquals(List.of("alice"), received);
+    }
+
+    @Test
+    @DisplayName("Should return bad request for a body that is not JSON")
+    void createUsers_MalformedBody() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/users/batch").contentType(MediaType.APPLICATION_JSON).content("]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Malformed batch request body"));
+    }
+
+    @Test
+    @DisplayName("Should return service unavailable when hashing capacity is exhausted")
+    void createUsers_HashingCapacityExceeded() throws Exception {
+        // Arrange
+        when(userBatchService.createUsers(any()))
+                .thenThrow(new HashingCapacityExceededException("Server is busy, please retry later", 1L));
+        String body = """
+                {"username":"alice","email":"alice@example.com","password":"password123"}
+                """;
+
+        // Act & Assert
+        mockMvc.perform(post("/api/users/batch").contentType(MediaType.APPLICATION_NDJSON).content(body))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(content().string("Server is busy, please retry later"));
+    }
+
+    /**
+     * Stubs the service to consume the iterator like the real one: every item
+     * read is reported as created, a source failure ends the batch with an error.
+     */
+    private void drainInto(List<String> usernames) {
+        when(userBatchService.createUsers(any())).thenAnswer(invocation -> {
+            Iterator<CreateUserRequest> items = invocation.getArgument(0);
+            List<BatchCreateUserResult> results = new ArrayList<>();
+            String error = null;
+            try {
+                while (items.hasNext()) {
+                    CreateUserRequest item = items.next();
+                    usernames.add(item.getUsername());
+                    results.add(new BatchCreateUserResult(results.size(), Status.CREATED, (long) results.size(),
+                            item.getUsername(), null));
+                }
+            } catch (InvalidRequestException e) {
+                error = e.getMessage();
+            }
+            return new BatchCreateUsersResponse(results.size(), 0, 0, 0, results, error);
+        });
+    }
+}
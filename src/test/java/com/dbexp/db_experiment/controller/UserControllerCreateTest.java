@@ -23,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.dbexp.db_experiment.dto.user.CreateUserRequest;
 import com.dbexp.db_experiment.dto.user.CreateUserResponse;
+import com.dbexp.db_experiment.security.HashingCapacityExceededException;
 import com.dbexp.db_experiment.service.UserService;
 import com.dbexp.db_experiment.testutil.CreateUserRequestBuilder;
 import com.dbexp.db_experiment.testutil.CreateUserResponseBuilder;
@@ -31,6 +32,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -49,7 +51,9 @@ class UserControllerCreateTest {
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         UserController userController = new UserController(userService);
-        this.mockMvc = MockMvcBuilders.standaloneSetup(userController).build();
+        this.mockMvc = MockMvcBuilders.standaloneSetup(userController)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
     }
 
     @Nested
@@ -166,7 +170,21 @@ class UserControllerCreateTest {
 
             performCreateUserRequest(request)
                     .andExpect(status().isInternalServerError())
-                    .andExpect(content().string("An error occurred while creating the user"));
+                    .andExpect(content().string(ApiExceptionHandler.UNEXPECTED_ERROR_MESSAGE));
+        }
+
+        @Test
+        @DisplayName("Should return service unavailable when hashing capacity is exhausted")
+        void createUser_HashingCapacityExceeded() throws Exception {
+            CreateUserRequest request = CreateUserRequestBuilder.validRequest().build();
+
+            when(userService.createUser(any(CreateUserRequest.class)))
+                    .thenThrow(new HashingCapacityExceededException("Server is busy, please retry later", 1L));
+
+            performCreateUserRequest(request)
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(content().string("Server is busy, please retry later"));
         }
     }
 
@@ -34,7 +34,9 @@ class UserControllerDeleteTest extends BaseControllerTest {
     @BeforeEach
     void setUp() {
         UserController userController = new UserController(userService);
-        this.mockMvc = MockMvcBuilders.standaloneSetup(userController).build();
+        this.mockMvc = MockMvcBuilders.standaloneSetup(userController)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
     }
 
     @Nested
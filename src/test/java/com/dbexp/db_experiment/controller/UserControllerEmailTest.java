@@ -34,7 +34,9 @@ class UserControllerEmailTest extends BaseControllerTest {
     @BeforeEach
     void setUp() {
         UserController userController = new UserController(userService);
-        this.mockMvc = MockMvcBuilders.standaloneSetup(userController).build();
+        this.mockMvc = MockMvcBuilders.standaloneSetup(userController)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
     }
 
     @Nested
@@ -164,7 +166,7 @@ class UserControllerEmailTest extends BaseControllerTest {
                     .thenThrow(new RuntimeException("Unexpected error"));
 
             assertInternalServerError(performPutRequest("/api/users/{userId}/email", userId, request),
-                    "An error occurred while changing email");
+                    ApiExceptionHandler.UNEXPECTED_ERROR_MESSAGE);
         }
     }
 
@@ -0,0 +1,108 @@
+package com.dbexp.db_experiment.controller;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.user.GetUserByIdResponse;
+import com.dbexp.db_experiment.dto.user.GetUsersByIdsRequest;
+import com.dbexp.db_experiment.dto.user.GetUsersByIdsResponse;
+import com.dbexp.db_experiment.dto.user.ListUsersRequest;
+import com.dbexp.db_experiment.service.UserService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Controller - Get Users By IDs Tests")
+class UserControllerGetByIdsTest extends BaseControllerTest {
+
+    @Mock
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        UserController userController = new UserController(userService);
+        this.mockMvc = MockMvcBuilders.standaloneSetup(userController)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    private static GetUsersByIdsResponse response() {
+        Map<Long, GetUserByIdResponse> users = new LinkedHashMap<>();
+        users.put(2L, new GetUserByIdResponse(2L, "second", "second@example.com", LocalDateTime.now()));
+        users.put(1L, new GetUserByIdResponse(1L, "first", "first@example.com", LocalDateTime.now()));
+        return new GetUsersByIdsResponse(users, List.of(99L));
+    }
+
+    @Nested
+    @DisplayName("Successful Multi-Get")
+    class SuccessTests {
+
+        @Test
+        @DisplayName("Should parse comma-separated ids and return users keyed by id")
+        void getUsersByIds_Query_Success() throws Exception {
+            when(userService.getUsersByIds(any(GetUsersByIdsRequest.class))).thenReturn(response());
+
+            mockMvc.perform(get("/api/users").param("ids", "2,1,99"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.users['2'].username").value("second"))
+                    .andExpect(jsonPath("$.users['1'].userId").value(1))
+                    .andExpect(jsonPath("$.users['1'].passwordHash").doesNotExist())
+                    .andExpect(jsonPath("$.notFound[0]").value(99));
+
+            ArgumentCaptor<GetUsersByIdsRequest> captor = ArgumentCaptor.forClass(GetUsersByIdsRequest.class);
+            verify(userService).getUsersByIds(captor.capture());
+            assertEquals(List.of(2L, 1L, 99L), captor.getValue().getIds());
+            verify(userService, never()).listUsers(any(ListUsersRequest.class));
+        }
+
+        @Test
+        @DisplayName("Should accept the ids in a POST body")
+        void lookupUsers_Body_Success() throws Exception {
+            when(userService.getUsersByIds(any(GetUsersByIdsRequest.class))).thenReturn(response());
+
+            performPostRequest("/api/users/lookup", new GetUsersByIdsRequest(List.of(2L, 1L, 99L)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.users['2'].email").value("second@example.com"));
+
+            ArgumentCaptor<GetUsersByIdsRequest> captor = ArgumentCaptor.forClass(GetUsersByIdsRequest.class);
+            verify(userService).getUsersByIds(captor.capture());
+            assertEquals(List.of(2L, 1L, 99L), captor.getValue().getIds());
+        }
+    }
+
+    @Nested
+    @DisplayName("Business Logic Error Tests")
+    class BusinessLogicErrorTests {
+
+        @Test
+        @DisplayName("Should return bad request when too many ids are requested")
+        void getUsersByIds_TooMany() throws Exception {
+            when(userService.getUsersByIds(any(GetUsersByIdsRequest.class)))
+                    .thenThrow(new IllegalArgumentException("At most 500 user IDs can be requested at once"));
+
+            assertBadRequestWithMessage(mockMvc.perform(get("/api/users").param("ids", "1,2")),
+                    "At most 500 user IDs can be requested at once");
+        }
+    }
+}
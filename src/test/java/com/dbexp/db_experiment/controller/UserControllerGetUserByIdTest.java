@@ -33,7 +33,9 @@ class UserControllerGetUserByIdTest extends BaseControllerTest {
     @BeforeEach
     void setUp() {
         UserController userController = new UserController(userService);
-        this.mockMvc = MockMvcBuilders.standaloneSetup(userController).build();
+        this.mockMvc = MockMvcBuilders.standaloneSetup(userController)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
     }
 
     @Nested
@@ -0,0 +1,89 @@
+package com.dbexp.db_experiment.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.user.GetUserByIdResponse;
+import com.dbexp.db_experiment.dto.user.ListUsersRequest;
+import com.dbexp.db_experiment.dto.user.ListUsersResponse;
+import com.dbexp.db_experiment.service.UserService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Controller - List Users Tests")
+class UserControllerListTest extends BaseControllerTest {
+
+    @Mock
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        UserController userController = new UserController(userService);
+        this.mockMvc = MockMvcBuilders.standaloneSetup(userController)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Successful User Listings")
+    class SuccessTests {
+
+        @Test
+        @DisplayName("Should pass the cursor through and return the page without password hashes")
+        void listUsers_Success() throws Exception {
+            ListUsersResponse response = new ListUsersResponse(
+                    List.of(new GetUserByIdResponse(11L, "testname", "test@example.com", LocalDateTime.now())),
+                    true, 11L, null);
+            when(userService.listUsers(any(ListUsersRequest.class))).thenReturn(response);
+
+            mockMvc.perform(get("/api/users").param("after", "10").param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.users[0].userId").value(11))
+                    .andExpect(jsonPath("$.users[0].username").value("testname"))
+                    .andExpect(jsonPath("$.users[0].passwordHash").doesNotExist())
+                    .andExpect(jsonPath("$.hasMore").value(true))
+                    .andExpect(jsonPath("$.nextAfter").value(11));
+
+            ArgumentCaptor<ListUsersRequest> captor = ArgumentCaptor.forClass(ListUsersRequest.class);
+            verify(userService).listUsers(captor.capture());
+            assertEquals(10L, captor.getValue().getAfter());
+            assertEquals(1, captor.getValue().getLimit());
+            assertNull(captor.getValue().getPrefix());
+        }
+    }
+
+    @Nested
+    @DisplayName("Business Logic Error Tests")
+    class BusinessLogicErrorTests {
+
+        @Test
+        @DisplayName("Should return bad request for an invalid limit")
+        void listUsers_InvalidLimit() throws Exception {
+            when(userService.listUsers(any(ListUsersRequest.class)))
+                    .thenThrow(new IllegalArgumentException("Limit must be between 1 and 200"));
+
+            assertBadRequestWithMessage(mockMvc.perform(get("/api/users").param("limit", "500")),
+                    "Limit must be between 1 and 200");
+        }
+    }
+}
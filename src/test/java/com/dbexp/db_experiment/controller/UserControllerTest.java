@@ -41,7 +41,9 @@ class UserControllerTest {
     void setUp() {
         objectMapper.registerModule(new JavaTimeModule());
         UserController userController = new UserController(userService);
-        this.mockMvc = MockMvcBuilders.standaloneSetup(userController).build();
+        this.mockMvc = MockMvcBuilders.standaloneSetup(userController)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
     }
 
     @SuppressWarnings("null")
@@ -110,7 +112,7 @@ class UserControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isInternalServerError())
-                .andExpect(content().string("An error occurred while creating the user"));
+                .andExpect(content().string(ApiExceptionHandler.UNEXPECTED_ERROR_MESSAGE));
     }
 
 }
\ No newline at end of file
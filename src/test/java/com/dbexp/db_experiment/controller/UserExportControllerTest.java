@@ -0,0 +1,94 @@
+package com.dbexp.db_experiment.controller;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.service.UserExportService;
+import com.dbexp.db_experiment.service.UserExportService.ExportSummary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Export Controller Tests")
+class UserExportControllerTest {
+
+    private static final String LINES = "{\"userId\":6}\n{\"userId\":7}\n";
+
+    @Mock
+    private UserExportService userExportService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserExportController(userExportService)).build();
+    }
+
+    @Test
+    @DisplayName("Should stream NDJSON from the resume cursor")
+    void exportUsers_Plain() throws Exception {
+        stubExport(5L);
+
+        mockMvc.perform(get("/api/users/export").param("after", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson;charset=UTF-8"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(LINES));
+    }
+
+    @Test
+    @DisplayName("Should gzip the stream when the client accepts it")
+    void exportUsers_Gzip() throws Exception {
+        stubExport(0L);
+
+        MvcResult result = mockMvc.perform(get("/api/users/export").header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        byte[] body = result.getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertEquals(LINES, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a negative cursor")
+    void exportUsers_NegativeCursor() throws Exception {
+        mockMvc.perform(get("/api/users/export").param("after", "-1"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(userExportService);
+    }
+
+    private void stubExport(long after) throws Exception {
+        when(userExportService.exportNdjson(eq(after), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write(LINES.getBytes(StandardCharsets.UTF_8));
+            return new ExportSummary(2, 7L);
+        });
+    }
+}
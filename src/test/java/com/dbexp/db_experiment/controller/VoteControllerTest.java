@@ -0,0 +1,74 @@
+package com.dbexp.db_experiment.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.community.VoteRequest;
+import com.dbexp.db_experiment.dto.community.VoteResponse;
+import com.dbexp.db_experiment.exception.NotAuthenticatedException;
+import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.VoteService;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Vote Controller - Tests")
+class VoteControllerTest extends BaseControllerTest {
+
+    @Mock
+    private VoteService voteService;
+
+    @BeforeEach
+    void setUp() {
+        VoteController voteController = new VoteController(voteService);
+        this.mockMvc = MockMvcBuilders.standaloneSetup(voteController)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Post Vote Tests")
+    class PostVoteTests {
+
+        @Test
+        @DisplayName("Should vote as the session's user")
+        void votePost_SessionUser() throws Exception {
+            when(voteService.votePost(eq(5L), eq(3L), any(VoteRequest.class)))
+                    .thenReturn(new VoteResponse(5L, 1, 0));
+
+            mockMvc.perform(put("/api/posts/5/vote")
+                    .sessionAttr(AuthService.USER_ID_SESSION_KEY, 3L)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new VoteRequest(1))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.vote").value(1));
+        }
+
+        @Test
+        @DisplayName("Should return unauthorized without a session")
+        void votePost_NoSession() throws Exception {
+            when(voteService.votePost(eq(5L), isNull(), any(VoteRequest.class)))
+                    .thenThrow(new NotAuthenticatedException("Login required"));
+
+            performPutRequest("/api/posts/5/vote", new VoteRequest(1))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(content().string("Login required"));
+        }
+    }
+}
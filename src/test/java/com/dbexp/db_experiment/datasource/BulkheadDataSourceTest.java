@@ -0,0 +1,103 @@
+package com.dbexp.db_experiment.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Database Bulkhead Tests")
+class BulkheadDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Test
+    @DisplayName("Should hold a permit until the connection is closed, once")
+    void close_ReleasesPermitOnce() throws Exception {
+        // Arrange
+        Connection pooled = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(pooled);
+        BulkheadDataSource bulkhead = new BulkheadDataSource(pool, 1, 0, Duration.ZERO);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        bulkhead.bindTo(registry);
+
+        // Act
+        Connection connection = bulkhead.getConnection();
+        assertEquals(1.0, registry.get("db.bulkhead.in.use").gauge().value());
+        connection.close();
+        connection.close();
+
+        // Assert
+        assertEquals(0.0, registry.get("db.bulkhead.in.use").gauge().value());
+        verify(pooled, times(2)).close();
+        assertNotNull(bulkhead.getConnection());
+    }
+
+    @Test
+    @DisplayName("Should reject when the queue is full")
+    void getConnection_QueueFull_Rejects() throws Exception {
+        // Arrange
+        when(pool.getConnection()).thenReturn(mock(Connection.class));
+        BulkheadDataSource bulkhead = new BulkheadDataSource(pool, 1, 0, Duration.ofSeconds(10));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        bulkhead.bindTo(registry);
+        bulkhead.getConnection();
+
+        // Act & Assert
+        SQLTransientConnectionException exception = assertThrows(SQLTransientConnectionException.class,
+                bulkhead::getConnection);
+        assertEquals("Too many requests waiting for a database connection", exception.getMessage());
+        assertEquals(1.0, registry.get("db.bulkhead.rejected").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should time out waiting for a permit")
+    void getConnection_WaitTimesOut_Rejects() throws Exception {
+        // Arrange
+        when(pool.getConnection()).thenReturn(mock(Connection.class));
+        BulkheadDataSource bulkhead = new BulkheadDataSource(pool, 1, 10, Duration.ofMillis(10));
+        bulkhead.getConnection();
+
+        // Act & Assert
+        SQLTransientConnectionException exception = assertThrows(SQLTransientConnectionException.class,
+                bulkhead::getConnection);
+        assertEquals("Timed out waiting for a database connection", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should return the permit when the pool fails")
+    void getConnection_PoolFails_ReleasesPermit() throws Exception {
+        // Arrange
+        Connection pooled = mock(Connection.class);
+        when(pool.getConnection())
+                .thenThrow(new SQLException("Connection refused"))
+                .thenReturn(pooled);
+        BulkheadDataSource bulkhead = new BulkheadDataSource(pool, 1, 0, Duration.ZERO);
+
+        // Act
+        assertThrows(SQLException.class, bulkhead::getConnection);
+
+        // Assert
+        assertNotNull(bulkhead.getConnection());
+    }
+}
@@ -0,0 +1,189 @@
+package com.dbexp.db_experiment.datasource;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Uses two in-memory H2 databases as the primary and replica; each holds a
+ * single row naming itself, so a query shows where it was routed.
+ */
+@DisplayName("Replica Routing Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String WHERE_AM_I = "SELECT name FROM node";
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        DataSource routing = ReplicaRoutingDataSource.lazy(primary, replica);
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRouting.end();
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:replica-routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+        jdbc.execute("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private String readOnlyQuery() {
+        return readOnly.execute(status -> jdbcTemplate.queryForObject(WHERE_AM_I, String.class));
+    }
+
+    @Nested
+    @DisplayName("Routing")
+    class Routing {
+
+        @Test
+        @DisplayName("Should send read-only transactions to the replica")
+        void readOnlyTransaction_UsesReplica() {
+            // Act & Assert
+            assertEquals("replica", readOnlyQuery());
+        }
+
+        @Test
+        @DisplayName("Should send read-write transactions to the primary")
+        void readWriteTransaction_UsesPrimary() {
+            // Act
+            String node = readWrite.execute(status -> jdbcTemplate.queryForObject(WHERE_AM_I, String.class));
+
+            // Assert
+            assertEquals("primary", node);
+        }
+
+        @Test
+        @DisplayName("Should send non-transactional statements to the primary")
+        void noTransaction_UsesPrimary() {
+            // Act & Assert
+            assertEquals("primary", jdbcTemplate.queryForObject(WHERE_AM_I, String.class));
+        }
+
+        @Test
+        @DisplayName("Should record read-write transactions in the request scope only")
+        void readWriteTransaction_RecordsWrite() {
+            // Arrange
+            ReplicaRouting.begin(false);
+
+            // Act
+            readOnlyQuery();
+            jdbcTemplate.queryForObject(WHERE_AM_I, String.class);
+            boolean wroteBeforeWrite = ReplicaRouting.end();
+
+            ReplicaRouting.begin(false);
+            readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+            boolean wrote = ReplicaRouting.end();
+
+            // Assert
+            assertFalse(wroteBeforeWrite);
+            assertTrue(wrote);
+        }
+    }
+
+    @Nested
+    @DisplayName("Read-your-writes")
+    class ReadYourWrites {
+
+        private final ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(Duration.ofSeconds(5));
+
+        private String handle(MockHttpServletRequest request, Runnable handler) throws Exception {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            interceptor.preHandle(request, response, new Object());
+            try {
+                handler.run();
+                return readOnlyQuery();
+            } finally {
+                interceptor.afterCompletion(request, response, new Object(), null);
+            }
+        }
+
+        @Test
+        @DisplayName("Should pin a session to the primary after it writes")
+        void afterWrite_PinsSessionToPrimary() throws Exception {
+            // Arrange
+            MockHttpSession session = new MockHttpSession();
+
+            // Act
+            String beforeWrite = handle(requestWith(session), () -> {
+            });
+            handle(requestWith(session),
+                    () -> readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name")));
+            String afterWrite = handle(requestWith(session), () -> {
+            });
+
+            // Assert
+            assertEquals("replica", beforeWrite);
+            assertEquals("primary", afterWrite);
+        }
+
+        @Test
+        @DisplayName("Should return to the replica once the window has passed")
+        void windowExpired_UsesReplica() throws Exception {
+            // Arrange
+            MockHttpSession session = new MockHttpSession();
+            session.setAttribute(ReadYourWritesInterceptor.PRIMARY_UNTIL_SESSION_KEY,
+                    System.currentTimeMillis() - 1);
+
+            // Act & Assert
+            assertEquals("replica", handle(requestWith(session), () -> {
+            }));
+        }
+
+        @Test
+        @DisplayName("Should not create a session for an anonymous write")
+        void anonymousWrite_CreatesNoSession() throws Exception {
+            // Arrange
+            MockHttpServletRequest request = new MockHttpServletRequest();
+
+            // Act
+            handle(request,
+                    () -> readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name")));
+
+            // Assert
+            assertNull(request.getSession(false));
+        }
+
+        private MockHttpServletRequest requestWith(MockHttpSession session) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setSession(session);
+            return request;
+        }
+    }
+}
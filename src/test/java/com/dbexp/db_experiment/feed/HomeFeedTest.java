@@ -0,0 +1,137 @@
+package com.dbexp.db_experiment.feed;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.cache.CommunityFeedCache;
+import com.dbexp.db_experiment.cache.PostSummary;
+import com.dbexp.db_experiment.repository.PostRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Home Feed - Tests")
+class HomeFeedTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().withNano(0);
+    private static final int RUN_ROWS = 3;
+
+    @Mock
+    private CommunityFeedCache feedCache;
+
+    @Mock
+    private PostRepository postRepository;
+
+    private HomeFeed homeFeed;
+
+    @BeforeEach
+    void setUp() {
+        homeFeed = new HomeFeed(feedCache, postRepository, new SimpleMeterRegistry(), 3, 1);
+    }
+
+    private static PostSummary post(long postId, long communityId, int minutesAgo) {
+        return new PostSummary(postId, communityId, 1L, "alice", "Post " + postId, NOW.minusMinutes(minutesAgo), 0);
+    }
+
+    private static List<Long> ids(List<PostSummary> posts) {
+        return posts.stream().map(PostSummary::postId).toList();
+    }
+
+    @Nested
+    @DisplayName("Merge")
+    class MergeTests {
+
+        @Test
+        @DisplayName("Should merge the cached runs newest first")
+        void page_MergesCachedRuns() {
+            // Arrange
+            when(feedCache.firstPageRows()).thenReturn(RUN_ROWS);
+            when(feedCache.cachedFirstPage(1L)).thenReturn(List.of(post(10L, 1L, 1), post(7L, 1L, 5)));
+            when(feedCache.cachedFirstPage(2L)).thenReturn(List.of(post(9L, 2L, 2), post(8L, 2L, 3)));
+
+            // Act
+            List<PostSummary> page = homeFeed.page(List.of(1L, 2L), null, 3);
+
+            // Assert
+            assertEquals(List.of(10L, 9L, 8L), ids(page));
+            verify(postRepository, never()).findFeedPageBefore(anyLong(), any(), anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should position each run after the cursor and continue a full run from the database")
+        void page_ContinuesFullRun() {
+            // Arrange
+            PostSummary last = post(6L, 1L, 6);
+            when(feedCache.firstPageRows()).thenReturn(RUN_ROWS);
+            when(feedCache.cachedFirstPage(1L)).thenReturn(List.of(post(10L, 1L, 1), post(8L, 1L, 3), last));
+            when(feedCache.cachedFirstPage(2L)).thenReturn(List.of(post(9L, 2L, 2), post(4L, 2L, 8)));
+            when(postRepository.findFeedPageBefore(1L, last.createdAt(), 6L, 1))
+                    .thenReturn(List.of(post(5L, 1L, 7)));
+
+            // Act
+            List<PostSummary> page = homeFeed.page(List.of(1L, 2L), new FeedCursor(NOW.minusMinutes(2), 9L), 3);
+
+            // Assert
+            assertEquals(List.of(8L, 6L, 5L), ids(page));
+        }
+    }
+
+    @Nested
+    @DisplayName("SQL fallback")
+    class FallbackTests {
+
+        @Test
+        @DisplayName("Should query all communities at once above the community limit")
+        void page_TooManyCommunities() {
+            // Arrange
+            List<Long> communityIds = List.of(1L, 2L, 3L, 4L);
+            List<PostSummary> rows = List.of(post(1L, 1L, 0));
+            when(postRepository.findHomeFeedFirstPage(communityIds, 5)).thenReturn(rows);
+
+            // Act
+            List<PostSummary> page = homeFeed.page(communityIds, null, 5);
+
+            // Assert
+            assertEquals(rows, page);
+        }
+
+        @Test
+        @DisplayName("Should query all communities at once when the merge needs too many queries")
+        void page_TooManyCacheMisses() {
+            // Arrange
+            List<Long> communityIds = List.of(1L, 2L);
+            List<PostSummary> rows = List.of(post(4L, 2L, 2));
+            when(feedCache.cachedFirstPage(1L)).thenReturn(null);
+            when(feedCache.cachedFirstPage(2L)).thenReturn(null);
+            when(feedCache.firstPageRows()).thenReturn(RUN_ROWS);
+            when(feedCache.firstPage(1L, RUN_ROWS)).thenReturn(List.of(post(3L, 1L, 1)));
+            FeedCursor cursor = new FeedCursor(NOW, 99L);
+            when(postRepository.findHomeFeedPageBefore(communityIds, NOW, 99L, 5)).thenReturn(rows);
+
+            // Act
+            List<PostSummary> page = homeFeed.page(communityIds, cursor, 5);
+
+            // Assert
+            assertEquals(rows, page);
+            verify(postRepository).findHomeFeedPageBefore(communityIds, NOW, 99L, 5);
+            verify(feedCache, never()).firstPage(2L, RUN_ROWS);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.dbexp.db_experiment.feed;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.dbexp.db_experiment.cache.PostSummary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Post Ranking - Tests")
+class PostRankingTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private static PostSummary post(long postId, int score, LocalDateTime createdAt) {
+        return new PostSummary(postId, 1L, 1L, "alice", "Post " + postId, createdAt, score);
+    }
+
+    private static List<Long> ids(List<PostSummary> posts) {
+        return posts.stream().map(PostSummary::postId).toList();
+    }
+
+    @Nested
+    @DisplayName("Hot order")
+    class HotTests {
+
+        @Test
+        @DisplayName("Should rank ten times the score as worth 12.5 hours of age")
+        void hot_TradesScoreForAge() {
+            // Arrange
+            PostRanking ranking = new PostRanking(FeedSort.HOT, 10);
+            ranking.offer(post(1L, 1, NOW));
+            ranking.offer(post(2L, 10, NOW.minusHours(24)));
+            ranking.offer(post(3L, 1000, NOW.minusHours(24)));
+
+            // Act
+            List<PostSummary> page = ranking.page(null, 10);
+
+            // Assert
+            assertEquals(List.of(3L, 1L, 2L), ids(page));
+        }
+
+        @Test
+        @DisplayName("Should move a post when its score changes")
+        void offer_ReRanksPost() {
+            // Arrange
+            PostRanking ranking = new PostRanking(FeedSort.HOT, 10);
+            ranking.offer(post(1L, 5, NOW));
+            ranking.offer(post(2L, 10, NOW));
+
+            // Act
+            ranking.offer(post(1L, 500, NOW));
+
+            // Assert
+            assertEquals(List.of(1L, 2L), ids(ranking.page(null, 10)));
+            assertEquals(2, ranking.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Bounds and paging")
+    class PagingTests {
+
+        @Test
+        @DisplayName("Should keep only the best posts and re-admit one that climbs")
+        void offer_KeepsBestPosts() {
+            // Arrange
+            PostRanking ranking = new PostRanking(FeedSort.TOP_ALL, 2);
+            ranking.offer(post(1L, 10, NOW));
+            ranking.offer(post(2L, 20, NOW));
+            ranking.offer(post(3L, 5, NOW));
+
+            // Act
+            List<Long> before = ids(ranking.page(null, 10));
+            ranking.offer(post(3L, 30, NOW));
+
+            // Assert
+            assertEquals(List.of(2L, 1L), before);
+            assertEquals(List.of(3L, 2L), ids(ranking.page(null, 10)));
+        }
+
+        @Test
+        @DisplayName("Should continue after the cursor, breaking rank ties by id")
+        void page_AfterCursor() {
+            // Arrange
+            PostRanking ranking = new PostRanking(FeedSort.TOP_ALL, 10);
+            for (long id = 1; id <= 5; id++) {
+                ranking.offer(post(id, 7, NOW));
+            }
+            List<PostSummary> first = ranking.page(null, 2);
+
+            // Act
+            List<PostSummary> second = ranking.page(RankCursor.after(FeedSort.TOP_ALL, first.get(1)), 2);
+
+            // Assert
+            assertEquals(List.of(5L, 4L), ids(first));
+            assertEquals(List.of(3L, 2L), ids(second));
+        }
+    }
+
+    @Nested
+    @DisplayName("Top of day")
+    class WindowTests {
+
+        @Test
+        @DisplayName("Should not admit posts created before the window")
+        void topDay_SkipsOldPosts() {
+            // Arrange
+            PostRanking ranking = new PostRanking(FeedSort.TOP_DAY, 10, () -> NOW);
+            ranking.offer(post(1L, 1000, NOW.minusDays(2)));
+            ranking.offer(post(2L, 3, NOW.minusHours(1)));
+
+            // Act
+            List<PostSummary> page = ranking.page(null, 10);
+
+            // Assert
+            assertEquals(List.of(2L), ids(page));
+            assertEquals(1, ranking.size());
+        }
+
+        @Test
+        @DisplayName("Should hide posts as they age out and evict them")
+        void topDay_AgesOutPosts() {
+            // Arrange
+            AtomicReference<LocalDateTime> clock = new AtomicReference<>(NOW);
+            PostRanking ranking = new PostRanking(FeedSort.TOP_DAY, 10, clock::get);
+            ranking.offer(post(1L, 50, NOW.minusHours(23)));
+            ranking.offer(post(2L, 3, NOW.minusHours(1)));
+
+            // Act
+            clock.set(NOW.plusHours(2));
+            List<PostSummary> page = ranking.page(null, 10);
+            int evicted = ranking.evictExpired();
+
+            // Assert
+            assertEquals(List.of(2L), ids(page));
+            assertEquals(1, evicted);
+            assertEquals(1, ranking.size());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.dbexp.db_experiment.limit;
+
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.dbexp.db_experiment.limit.AdaptiveConcurrencyLimiter.Priority;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Adaptive Concurrency Limiter - Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST_NANOS = 5_000_000L;
+    private static final long SLOW_NANOS = 50_000_000L;
+
+    @Nested
+    @DisplayName("Gradient limit")
+    class GradientLimitTests {
+
+        @Test
+        @DisplayName("Should grow the limit while latency stays flat under load")
+        void flatLatency_GrowsLimit() {
+            // Arrange
+            GradientLimit limit = new GradientLimit(20, 4, 200);
+
+            // Act
+            for (int i = 0; i < 100; i++) {
+                limit.onSample(FAST_NANOS, limit.getLimit(), false);
+            }
+
+            // Assert
+            assertTrue(limit.getLimit() > 20);
+        }
+
+        @Test
+        @DisplayName("Should shrink the limit when latency rises over its baseline")
+        void risingLatency_ShrinksLimit() {
+            // Arrange
+            GradientLimit limit = new GradientLimit(100, 4, 200);
+            for (int i = 0; i < 50; i++) {
+                limit.onSample(FAST_NANOS, limit.getLimit(), false);
+            }
+            int before = limit.getLimit();
+
+            // Act
+            for (int i = 0; i < 50; i++) {
+                limit.onSample(SLOW_NANOS, limit.getLimit(), false);
+            }
+
+            // Assert
+            assertTrue(limit.getLimit() < before);
+        }
+
+        @Test
+        @DisplayName("Should not grow the limit while most of it is unused")
+        void lightLoad_KeepsLimit() {
+            // Arrange
+            GradientLimit limit = new GradientLimit(20, 4, 200);
+
+            // Act
+            for (int i = 0; i < 100; i++) {
+                limit.onSample(FAST_NANOS, 1, false);
+            }
+
+            // Assert
+            assertEquals(20, limit.getLimit());
+        }
+
+        @Test
+        @DisplayName("Should back off when a request is shed downstream")
+        void dropped_BacksOff() {
+            // Arrange
+            GradientLimit limit = new GradientLimit(20, 4, 200);
+
+            // Act
+            limit.onSample(FAST_NANOS, 20, true);
+
+            // Assert
+            assertEquals(18, limit.getLimit());
+        }
+    }
+
+    @Nested
+    @DisplayName("Admission")
+    class AdmissionTests {
+
+        @Test
+        @DisplayName("Should keep the reserved share of the limit for critical requests")
+        void normalRequests_LeaveReserve() {
+            // Arrange
+            AdaptiveConcurrencyLimiter limiter = limiter(10, 0.2);
+
+            // Act
+            int normal = 0;
+            while (limiter.tryAcquire(Priority.NORMAL)) {
+                normal++;
+            }
+            int critical = 0;
+            while (limiter.tryAcquire(Priority.CRITICAL)) {
+                critical++;
+            }
+
+            // Assert
+            assertEquals(8, normal);
+            assertEquals(2, critical);
+        }
+
+        @Test
+        @DisplayName("Should admit again once a request is released")
+        void release_FreesSlot() {
+            // Arrange
+            AdaptiveConcurrencyLimiter limiter = limiter(4, 0.0);
+            for (int i = 0; i < 4; i++) {
+                limiter.tryAcquire(Priority.NORMAL);
+            }
+
+            // Act
+            boolean overLimit = limiter.tryAcquire(Priority.NORMAL);
+            limiter.release(FAST_NANOS, false);
+
+            // Assert
+            assertFalse(overLimit);
+            assertTrue(limiter.tryAcquire(Priority.NORMAL));
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter")
+    class FilterTests {
+
+        @Test
+        @DisplayName("Should shed requests over the limit with 503 and Retry-After")
+        void overLimit_Returns503() throws Exception {
+            // Arrange
+            AdaptiveConcurrencyLimiter limiter = limiter(4, 0.5);
+            ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, 1);
+            limiter.tryAcquire(Priority.NORMAL);
+            limiter.tryAcquire(Priority.NORMAL);
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // Act
+            filter.doFilter(new MockHttpServletRequest("PUT", "/api/users/1/email"), response, chain);
+
+            // Assert
+            assertEquals(503, response.getStatus());
+            assertEquals("1", response.getHeader("Retry-After"));
+            assertEquals(ConcurrencyLimitFilter.BUSY_MESSAGE, response.getContentAsString());
+            assertNull(chain.getRequest());
+        }
+
+        @Test
+        @DisplayName("Should admit login from the reserve while ordinary requests are shed")
+        void login_UsesReserve() throws Exception {
+            // Arrange
+            AdaptiveConcurrencyLimiter limiter = limiter(4, 0.5);
+            ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, 1);
+            limiter.tryAcquire(Priority.NORMAL);
+            limiter.tryAcquire(Priority.NORMAL);
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // Act
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"), response, chain);
+
+            // Assert
+            assertEquals(200, response.getStatus());
+            assertEquals("/api/auth/login", ((MockHttpServletRequest) chain.getRequest()).getRequestURI());
+        }
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int limit, double reservedFraction) {
+        return new AdaptiveConcurrencyLimiter(new GradientLimit(limit, 1, limit), reservedFraction,
+                new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,38 @@
+package com.dbexp.db_experiment.security;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Argon2 Calibrator - Tests")
+class Argon2CalibratorTest {
+
+    private final Argon2Calibrator calibrator = new Argon2Calibrator(ForkJoinPool.commonPool());
+
+    @Test
+    @DisplayName("Should stay within the configured bounds")
+    void calibrate_WithinBounds() {
+        // Act
+        Argon2Settings settings = calibrator.calibrate(Duration.ofMillis(20), 256, 2048, 1, 4, 2);
+
+        // Assert
+        assertTrue(settings.memoryKiB() >= 256 && settings.memoryKiB() <= 2048);
+        assertTrue(settings.iterations() >= 1 && settings.iterations() <= 4);
+        assertTrue(settings.parallelism() >= 1 && settings.parallelism() <= 2);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the floors when the target cannot be met")
+    void calibrate_UnreachableTarget_UsesFloors() {
+        // Act
+        Argon2Settings settings = calibrator.calibrate(Duration.ZERO, 256, 1024, 2, 10, 1);
+
+        // Assert
+        assertEquals(new Argon2Settings(256, 2, 1), settings);
+    }
+}
@@ -0,0 +1,140 @@
+package com.dbexp.db_experiment.security;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Budgeted Password Encoder - Tests")
+class BudgetedPasswordEncoderTest {
+
+    private static final int MEMORY_KIB = 65536;
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should delegate when budget is available")
+    void encode_WithinBudget_Delegates() {
+        // Arrange
+        BudgetedPasswordEncoder encoder = encoder(MEMORY_KIB * 2, 4, Duration.ofMillis(100));
+        when(delegate.encode("password123")).thenReturn("hashed");
+
+        // Act
+        String result = encoder.encode("password123");
+
+        // Assert
+        assertEquals("hashed", result);
+        verify(delegate).encode("password123");
+        assertEquals(0.0, meterRegistry.get("password.hashing.memory.in.use").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should reject immediately when the wait queue is full")
+    void encode_QueueFull_Rejects() throws Exception {
+        // Arrange
+        BudgetedPasswordEncoder encoder = encoder(MEMORY_KIB, 0, Duration.ofSeconds(5));
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode("slow")).thenAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "hashed";
+        });
+        Future<String> holder = executor.submit(() -> encoder.encode("slow"));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // Act & Assert
+        HashingCapacityExceededException exception = assertThrows(HashingCapacityExceededException.class,
+                () -> encoder.encode("fast"));
+
+        assertEquals(1L, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").tag("reason", "queue_full").counter().count());
+
+        release.countDown();
+        assertEquals("hashed", holder.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should reject after waiting longer than the configured timeout")
+    void matches_WaitTimeout_Rejects() throws Exception {
+        // Arrange
+        BudgetedPasswordEncoder encoder = encoder(MEMORY_KIB, 4, Duration.ofMillis(50));
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode("slow")).thenAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "hashed";
+        });
+        Future<String> holder = executor.submit(() -> encoder.encode("slow"));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // Act & Assert
+        assertThrows(HashingCapacityExceededException.class,
+                () -> encoder.matches("password123", "$argon2id$v=19$m=65536,t=3,p=1$c2FsdA$aGFzaA"));
+
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").tag("reason", "timeout").counter().count());
+        assertEquals(1L, meterRegistry.get("password.hashing.wait").timer().count());
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should release budget when the delegate throws")
+    void encode_DelegateThrows_ReleasesBudget() {
+        // Arrange
+        BudgetedPasswordEncoder encoder = encoder(MEMORY_KIB, 0, Duration.ofMillis(10));
+        when(delegate.encode("boom")).thenThrow(new IllegalStateException("boom"));
+        when(delegate.encode("password123")).thenReturn("hashed");
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> encoder.encode("boom"));
+        String result = encoder.encode("password123");
+
+        // Assert
+        assertEquals("hashed", result);
+    }
+
+    private BudgetedPasswordEncoder encoder(int budgetKiB, int maxQueueLength, Duration maxWait) {
+        return new BudgetedPasswordEncoder(delegate, MEMORY_KIB, MEMORY_KIB, budgetKiB, maxQueueLength, maxWait, 1L,
+                meterRegistry);
+    }
+}
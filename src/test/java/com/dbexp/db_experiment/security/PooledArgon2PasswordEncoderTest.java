@@ -0,0 +1,221 @@
+package com.dbexp.db_experiment.security;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Pooled Argon2 Password Encoder - Tests")
+class PooledArgon2PasswordEncoderTest {
+
+    private static final int MEMORY_KIB = 1024;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PooledArgon2PasswordEncoder pooledEncoder;
+    private Argon2PasswordEncoder stockEncoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Argon2MemoryPool pool = new Argon2MemoryPool(PooledArgon2PasswordEncoder.arenaBlocks(MEMORY_KIB, 1), 2, 1L,
+                meterRegistry);
+        pooledEncoder = new PooledArgon2PasswordEncoder(16, 32, 1, MEMORY_KIB, 3, pool);
+        stockEncoder = new Argon2PasswordEncoder(16, 32, 1, MEMORY_KIB, 3);
+    }
+
+    @Nested
+    @DisplayName("Hash Compatibility")
+    class CompatibilityTests {
+
+        @Test
+        @DisplayName("Should verify hashes produced by the stock Argon2 encoder")
+        void matches_StockHash() {
+            // Arrange
+            String encoded = stockEncoder.encode("password123");
+
+            // Act & Assert
+            assertTrue(pooledEncoder.matches("password123", encoded));
+            assertFalse(pooledEncoder.matches("wrongPassword", encoded));
+        }
+
+        @Test
+        @DisplayName("Should produce hashes the stock Argon2 encoder accepts")
+        void encode_VerifiedByStockEncoder() {
+            // Act
+            String encoded = pooledEncoder.encode("password123");
+
+            // Assert
+            assertTrue(encoded.startsWith("$argon2id$v=19$m=1024,t=3,p=1$"));
+            assertTrue(stockEncoder.matches("password123", encoded));
+            assertFalse(stockEncoder.matches("wrongPassword", encoded));
+        }
+
+        @Test
+        @DisplayName("Should verify multi-lane hashes with a non-default memory cost")
+        void matches_MultiLaneStockHash() {
+            // Arrange
+            Argon2PasswordEncoder multiLane = new Argon2PasswordEncoder(16, 32, 4, 4096, 2);
+            String encoded = multiLane.encode("pässwörd-ünïcode");
+
+            // Act & Assert
+            assertTrue(pooledEncoder.matches("pässwörd-ünïcode", encoded));
+        }
+
+        @Test
+        @DisplayName("Should produce stock-compatible hashes when lanes run in parallel")
+        void encode_ParallelLanes_VerifiedByStockEncoder() {
+            // Arrange
+            Argon2MemoryPool pool = new Argon2MemoryPool(PooledArgon2PasswordEncoder.arenaBlocks(4096, 4), 1, 1L,
+                    meterRegistry);
+            PooledArgon2PasswordEncoder parallelEncoder = new PooledArgon2PasswordEncoder(16, 32, 4, 4096, 2, pool,
+                    ForkJoinPool.commonPool());
+
+            // Act
+            String encoded = parallelEncoder.encode("password123");
+
+            // Assert
+            assertTrue(encoded.startsWith("$argon2id$v=19$m=4096,t=2,p=4$"));
+            assertTrue(new Argon2PasswordEncoder(16, 32, 4, 4096, 2).matches("password123", encoded));
+            assertTrue(parallelEncoder.matches("password123", encoded));
+        }
+
+        @Test
+        @DisplayName("Should verify hashes with the production parameters")
+        void matches_ProductionParameters() {
+            // Arrange
+            Argon2PasswordEncoder production = new Argon2PasswordEncoder(16, 32, 1, 65536, 3);
+            String encoded = production.encode("password123");
+
+            // Act & Assert
+            assertTrue(pooledEncoder.matches("password123", encoded));
+        }
+    }
+
+    @Nested
+    @DisplayName("Memory Pool")
+    class PoolTests {
+
+        @Test
+        @DisplayName("Should reuse pooled arenas across hashes")
+        void encode_ReusesArena() {
+            // Act
+            for (int i = 0; i < 5; i++) {
+                pooledEncoder.encode("password" + i);
+            }
+
+            // Assert
+            assertEquals(1.0, meterRegistry.get("password.hashing.pool.allocations")
+                    .tag("kind", "pooled").counter().count());
+            assertEquals(1.0, meterRegistry.get("password.hashing.pool.idle").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should fall back to a one-off arena for larger stored memory costs")
+        void matches_OversizedHash_AllocatesOnce() {
+            // Arrange
+            String encoded = new Argon2PasswordEncoder(16, 32, 1, 2048, 1).encode("password123");
+
+            // Act & Assert
+            assertTrue(pooledEncoder.matches("password123", encoded));
+            assertEquals(1.0, meterRegistry.get("password.hashing.pool.allocations")
+                    .tag("kind", "oversized").counter().count());
+        }
+        @Test
+        @DisplayName("Should reject a borrow past the pool capacity instead of allocating")
+        void borrow_PastCapacity_Rejects() {
+            // Arrange
+            Argon2MemoryPool pool = new Argon2MemoryPool(8, 1, 2L, meterRegistry);
+            long[] arena = pool.borrow(8);
+
+            // Act & Assert
+            HashingCapacityExceededException exception = assertThrows(HashingCapacityExceededException.class,
+                    () -> pool.borrow(8));
+            assertEquals(2L, exception.getRetryAfterSeconds());
+
+            pool.release(arena);
+            assertEquals(arena, pool.borrow(8));
+        }
+
+        @Test
+        @DisplayName("Should keep pooled arenas within the hashing budget when arenas exceed the hash cost")
+        void encode_ArenaLargerThanCost_StaysWithinBudget() throws Exception {
+            // Arrange: 512 KiB hashes in 1024 KiB arenas under a budget of two arenas
+            int budgetKiB = 2048;
+            Argon2MemoryPool pool = new Argon2MemoryPool(PooledArgon2PasswordEncoder.arenaBlocks(1024, 1),
+                    budgetKiB / 1024, 1L, meterRegistry);
+            BudgetedPasswordEncoder encoder = new BudgetedPasswordEncoder(
+                    new PooledArgon2PasswordEncoder(16, 32, 1, 512, 1, pool),
+                    512, 1024, budgetKiB, 16, Duration.ofSeconds(30), 1L, meterRegistry);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            // Act
+            List<Future<String>> hashes = new ArrayList<>();
+            try {
+                for (int i = 0; i < 16; i++) {
+                    String password = "password" + i;
+                    hashes.add(executor.submit(() -> encoder.encode(password)));
+                }
+                for (Future<String> hash : hashes) {
+                    hash.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // Assert: the budget admitted at most two hashes at once, so at most two arenas exist
+            double pooled = meterRegistry.get("password.hashing.pool.allocations").tag("kind", "pooled")
+                    .counter().count();
+            assertTrue(pooled * 1024 <= budgetKiB);
+            assertEquals(0.0, meterRegistry.get("password.hashing.pool.allocations").tag("kind", "oversized")
+                    .counter().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Malformed Input")
+    class MalformedInputTests {
+
+        @Test
+        @DisplayName("Should reject null and malformed hashes")
+        void matches_MalformedHash_ReturnsFalse() {
+            assertFalse(pooledEncoder.matches("password123", null));
+            assertFalse(pooledEncoder.matches("password123", "placeholder"));
+            assertFalse(pooledEncoder.matches("password123", "$argon2id$v=19$m=0,t=3,p=1$c2FsdA$aGFzaGhhc2g"));
+        }
+
+        @Test
+        @DisplayName("Should request an upgrade for weaker stored parameters only")
+        void upgradeEncoding_ComparesCost() {
+            assertTrue(pooledEncoder.upgradeEncoding(new Argon2PasswordEncoder(16, 32, 1, 512, 3).encode("pw")));
+            assertTrue(pooledEncoder.upgradeEncoding(new Argon2PasswordEncoder(16, 32, 1, 1024, 2).encode("pw")));
+            assertFalse(pooledEncoder.upgradeEncoding(pooledEncoder.encode("pw")));
+            assertFalse(pooledEncoder.upgradeEncoding("placeholder"));
+        }
+
+        @Test
+        @DisplayName("Should tolerate small drift in calibrated parameters")
+        void upgradeEncoding_SmallDrift_NoUpgrade() {
+            assertFalse(pooledEncoder.upgradeEncoding(new Argon2PasswordEncoder(16, 32, 1, 896, 3).encode("pw")));
+            assertFalse(pooledEncoder.upgradeEncoding(new Argon2PasswordEncoder(16, 32, 1, 512, 6).encode("pw")));
+            assertFalse(pooledEncoder.upgradeEncoding(new Argon2PasswordEncoder(16, 32, 2, 1024, 3).encode("pw")));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.dbexp.db_experiment.security;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Token Bucket Sketch - Tests")
+class TokenBucketSketchTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    private TokenBucketSketch sketch(int width, int burst) {
+        return new TokenBucketSketch(width, 2, burst, Duration.ofSeconds(1), clock::get, new Random(42));
+    }
+
+    @Test
+    @DisplayName("Should admit a burst and then reject until a token is refilled")
+    void tryAcquire_BurstThenRefill() {
+        // Arrange
+        TokenBucketSketch sketch = sketch(1024, 3);
+
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, sketch.tryAcquire("alice"));
+        }
+        long wait = sketch.tryAcquire("alice");
+        assertEquals(Duration.ofSeconds(1).toNanos(), wait);
+
+        clock.addAndGet(wait);
+        assertEquals(0, sketch.tryAcquire("alice"));
+        assertTrue(sketch.tryAcquire("alice") > 0);
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets for separate keys")
+    void tryAcquire_SeparateKeys() {
+        // Arrange
+        TokenBucketSketch sketch = sketch(1024, 1);
+
+        // Act & Assert
+        assertEquals(0, sketch.tryAcquire("alice"));
+        assertTrue(sketch.tryAcquire("alice") > 0);
+        assertEquals(0, sketch.tryAcquire("bob"));
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets for keys with equal String hash codes")
+    void tryAcquire_HashCodeCollision() {
+        // Arrange
+        TokenBucketSketch sketch = sketch(1024, 1);
+
+        // Act & Assert
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertEquals(0, sketch.tryAcquire("Aa"));
+        assertTrue(sketch.tryAcquire("Aa") > 0);
+        assertEquals(0, sketch.tryAcquire("BB"));
+    }
+
+    @Test
+    @DisplayName("Should match the SipHash-2-4 reference vectors")
+    void sipHash_ReferenceVectors() {
+        // Key 00..0f; messages 00..07 and 00..0b as UTF-16LE chars
+        long k0 = 0x0706050403020100L;
+        long k1 = 0x0f0e0d0c0b0a0908L;
+
+        assertEquals(0x726fdb47dd0e0e31L, TokenBucketSketch.sipHash(k0, k1, ""));
+        assertEquals(0x93f5f5799a932462L, TokenBucketSketch.sipHash(k0, k1, "\u0100\u0302\u0504\u0706"));
+        assertEquals(0x751e8fbc860ee5fbL,
+                TokenBucketSketch.sipHash(k0, k1, "\u0100\u0302\u0504\u0706\u0908\u0b0a"));
+    }
+
+    @Test
+    @DisplayName("Should keep a fixed footprint however many keys are seen")
+    void tryAcquire_ManyKeys_FixedMemory() {
+        // Arrange
+        TokenBucketSketch sketch = sketch(64, 1);
+
+        // Act
+        for (int i = 0; i < 100_000; i++) {
+            sketch.tryAcquire("user" + i);
+        }
+
+        // Assert
+        assertEquals(64 * 2 * Long.BYTES, sketch.memoryBytes());
+    }
+}
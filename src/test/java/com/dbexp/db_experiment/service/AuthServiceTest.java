@@ -1,12 +1,15 @@
 package com.dbexp.db_experiment.service;
 
+import java.time.Duration;
 import java.util.Optional;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 
-import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,12 +19,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.dbexp.db_experiment.cache.UserCache;
+import com.dbexp.db_experiment.cache.UserLookup;
 import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
 import com.dbexp.db_experiment.dto.auth.LoginRequest;
 import com.dbexp.db_experiment.dto.auth.LoginResponse;
 import com.dbexp.db_experiment.dto.auth.LogoutResponse;
 import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.exception.InvalidCredentialsException;
 import com.dbexp.db_experiment.repository.UserRepository;
+import com.dbexp.db_experiment.security.LoginThrottle;
+import com.dbexp.db_experiment.security.LoginThrottledException;
+import com.dbexp.db_experiment.security.TokenBucketSketch;
 import com.dbexp.db_experiment.testutil.UserTestBuilder;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -30,6 +39,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -44,6 +54,12 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PasswordRehashService passwordRehashService;
+
+    @Mock
+    private HttpServletRequest httpRequest;
+
     @Mock
     private HttpSession session;
 
@@ -51,7 +67,17 @@ class AuthServiceTest {
 
     @BeforeEach
     void setUp() {
-        authService = new AuthServiceImpl(userRepository, passwordEncoder);
+        authService = authService(100);
+    }
+
+    private AuthServiceImpl authService(int loginBurst) {
+        UserLookup userLookup = new UserLookup(userRepository, new SimpleMeterRegistry());
+        LoginThrottle loginThrottle = new LoginThrottle(
+                new TokenBucketSketch(64, 2, loginBurst, Duration.ofMinutes(1)),
+                new TokenBucketSketch(64, 2, loginBurst, Duration.ofMinutes(1)),
+                new SimpleMeterRegistry());
+        return new AuthServiceImpl(userLookup, passwordEncoder, passwordRehashService,
+                new UserCache(userLookup, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1)), loginThrottle);
     }
 
     @Nested
@@ -78,9 +104,11 @@ class AuthServiceTest {
 
             when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
             when(passwordEncoder.matches(password, encodedPassword)).thenReturn(true);
+            when(httpRequest.getSession(false)).thenReturn(null);
+            when(httpRequest.getSession(true)).thenReturn(session);
 
             // Act
-            LoginResponse response = authService.login(request, session);
+            LoginResponse response = authService.login(request, httpRequest);
 
             // Assert
             assertNotNull(response);
@@ -92,6 +120,67 @@ class AuthServiceTest {
             verify(userRepository).findByUsername(username);
             verify(passwordEncoder).matches(password, encodedPassword);
             verify(session).setAttribute("userId", userId);
+            verify(passwordRehashService, never()).rehashAsync(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should schedule a re-hash when the stored hash uses outdated parameters")
+        void login_OutdatedHash_SchedulesRehash() {
+            // Arrange
+            String username = "testuser";
+            String password = "password123";
+            String encodedPassword = "encodedPassword123";
+            Long userId = 1L;
+
+            LoginRequest request = new LoginRequest(username, password);
+            User user = UserTestBuilder.aUser()
+                    .withUserId(userId)
+                    .withUsername(username)
+                    .withPassword(encodedPassword)
+                    .build();
+
+            when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+            when(passwordEncoder.matches(password, encodedPassword)).thenReturn(true);
+            when(passwordEncoder.upgradeEncoding(encodedPassword)).thenReturn(true);
+            when(httpRequest.getSession(false)).thenReturn(null);
+            when(httpRequest.getSession(true)).thenReturn(session);
+
+            // Act
+            LoginResponse response = authService.login(request, httpRequest);
+
+            // Assert
+            assertEquals("Login successful", response.message());
+            verify(passwordRehashService).rehashAsync(userId, password, encodedPassword);
+            verify(session).setAttribute("userId", userId);
+        }
+    }
+
+    @Nested
+    @DisplayName("Login Session Tests")
+    class LoginSessionTests {
+
+        @Test
+        @DisplayName("Should rotate the id of an existing session instead of creating one")
+        void login_ExistingSession_ChangesSessionId() {
+            // Arrange
+            LoginRequest request = new LoginRequest("testuser", "password123");
+            User user = UserTestBuilder.aUser()
+                    .withUserId(1L)
+                    .withUsername("testuser")
+                    .withPassword("encodedPassword123")
+                    .build();
+
+            when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+            when(passwordEncoder.matches("password123", "encodedPassword123")).thenReturn(true);
+            when(httpRequest.getSession(false)).thenReturn(session);
+
+            // Act
+            authService.login(request, httpRequest);
+
+            // Assert
+            verify(httpRequest).changeSessionId();
+            verify(httpRequest, never()).getSession(true);
+            verify(session).setAttribute("userId", 1L);
         }
     }
 
@@ -110,15 +199,15 @@ class AuthServiceTest {
             when(userRepository.findByUsername(username)).thenReturn(Optional.empty());
 
             // Act & Assert
-            BadCredentialsException exception = assertThrows(BadCredentialsException.class, () -> {
-                authService.login(request, session);
+            InvalidCredentialsException exception = assertThrows(InvalidCredentialsException.class, () -> {
+                authService.login(request, httpRequest);
             });
 
             assertEquals("Invalid username or password", exception.getMessage());
 
             verify(userRepository).findByUsername(username);
             verify(passwordEncoder, never()).matches(any(), any());
-            verify(session, never()).setAttribute(any(), any());
+            verify(httpRequest, never()).getSession(anyBoolean());
         }
 
         @Test
@@ -143,15 +232,37 @@ class AuthServiceTest {
             when(passwordEncoder.matches(password, encodedPassword)).thenReturn(false);
 
             // Act & Assert
-            BadCredentialsException exception = assertThrows(BadCredentialsException.class, () -> {
-                authService.login(request, session);
+            InvalidCredentialsException exception = assertThrows(InvalidCredentialsException.class, () -> {
+                authService.login(request, httpRequest);
             });
 
             assertEquals("Invalid username or password", exception.getMessage());
 
             verify(userRepository).findByUsername(username);
             verify(passwordEncoder).matches(password, encodedPassword);
-            verify(session, never()).setAttribute(any(), any());
+            verify(passwordEncoder, never()).upgradeEncoding(any());
+            verify(httpRequest, never()).getSession(anyBoolean());
+        }
+
+        @Test
+        @DisplayName("Should reject attempts over the rate limit before looking up the user")
+        void login_Throttled_SkipsLookupAndHash() {
+            // Arrange
+            AuthServiceImpl throttledService = authService(1);
+            LoginRequest request = new LoginRequest("testuser", "wrongpassword");
+
+            when(httpRequest.getRemoteAddr()).thenReturn("203.0.113.7");
+            when(userRepository.findByUsername("testuser")).thenReturn(Optional.empty());
+
+            // Act
+            assertThrows(InvalidCredentialsException.class, () -> throttledService.login(request, httpRequest));
+            LoginThrottledException exception = assertThrows(LoginThrottledException.class,
+                    () -> throttledService.login(request, httpRequest));
+
+            // Assert
+            assertTrue(exception.getRetryAfterSeconds() >= 1);
+            verify(userRepository).findByUsername("testuser");
+            verify(passwordEncoder, never()).matches(any(), any());
         }
     }
 
@@ -170,12 +281,33 @@ class AuthServiceTest {
             assertEquals("Logout successful", response.message());
             verify(session).invalidate();
         }
+
+        @Test
+        @DisplayName("Should logout without a session")
+        void logout_NoSession() {
+            // Act
+            LogoutResponse response = authService.logout(null);
+
+            // Assert
+            assertEquals("Logout successful", response.message());
+        }
     }
 
     @Nested
     @DisplayName("Get Current User Tests")
     class GetCurrentUserTests {
 
+        @Test
+        @DisplayName("Should return not authenticated when there is no session")
+        void getCurrentUser_NoSession() {
+            // Act
+            CurrentUserResponse response = authService.getCurrentUser(null);
+
+            // Assert
+            assertFalse(response.authenticated());
+            verify(userRepository, never()).findById(any());
+        }
+
         @Test
         @DisplayName("Should return authenticated user when logged in")
         void getCurrentUser_Authenticated() {
@@ -1,8 +1,12 @@
 package com.dbexp.db_experiment.service;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionOperations;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,9 +14,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.dbexp.db_experiment.cache.UserCache;
+import com.dbexp.db_experiment.cache.UserLookup;
 import com.dbexp.db_experiment.entity.User;
 import com.dbexp.db_experiment.repository.UserRepository;
+import com.dbexp.db_experiment.repository.VoteRepository;
 import com.dbexp.db_experiment.testutil.UserTestBuilder;
+import com.dbexp.db_experiment.vote.VoteTally;
 
 import static org.mockito.Mockito.when;
 
@@ -25,11 +33,22 @@ public abstract class BaseServiceTest {
     @Mock
     protected PasswordEncoder passwordEncoder;
 
+    @Mock
+    protected VoteRepository voteRepository;
+
+    @Mock
+    protected VoteTally voteTally;
+
+    protected UserCache userCache;
     protected UserServiceImpl userService;
 
     @BeforeEach
     void setUp() {
-        userService = new UserServiceImpl(userRepository, passwordEncoder);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        userCache = new UserCache(new UserLookup(userRepository, meterRegistry), meterRegistry, 100,
+                Duration.ofMinutes(1));
+        userService = new UserServiceImpl(userRepository, passwordEncoder, userCache, voteRepository, voteTally,
+                TransactionOperations.withoutTransaction());
     }
 
     protected User createMockUser(Long userId, String username, String email, String password) {
@@ -58,27 +77,21 @@ public abstract class BaseServiceTest {
         when(passwordEncoder.encode(rawPassword)).thenReturn(encodedPassword);
     }
 
-    protected void mockUsernameExists(String username, boolean exists) {
-        when(userRepository.existsByUsername(username)).thenReturn(exists);
-    }
-
-    protected void mockEmailExists(String email, boolean exists) {
-        when(userRepository.existsByEmail(email)).thenReturn(exists);
-    }
-
     protected void mockUsernameUpdate(Long userId, String newUsername, int affectedRows) {
         when(userRepository.updateUsername(userId, newUsername)).thenReturn(affectedRows);
     }
 
-    protected void mockPasswordUpdate(Long userId, String newPassword, int affectedRows) {
-        when(userRepository.updatePassword(userId, newPassword)).thenReturn(affectedRows);
+    protected void mockPasswordUpdate(Long userId, String currentPasswordHash, String newPassword,
+            int affectedRows) {
+        when(userRepository.updatePasswordIfHashMatches(userId, currentPasswordHash, newPassword))
+                .thenReturn(affectedRows);
     }
 
-    protected void mockEmailUpdate(Long userId, String newEmail, int affectedRows) {
-        when(userRepository.updateEmail(userId, newEmail)).thenReturn(affectedRows);
+    protected void mockEmailUpdate(Long userId, String currentPasswordHash, String newEmail, int affectedRows) {
+        when(userRepository.updateEmailIfHashMatches(userId, currentPasswordHash, newEmail)).thenReturn(affectedRows);
     }
 
-    protected void mockUserDelete(Long userId, int affectedRows) {
-        when(userRepository.deleteByUserId(userId)).thenReturn(affectedRows);
+    protected void mockUserDelete(Long userId, String currentPasswordHash, int affectedRows) {
+        when(userRepository.deleteByUserIdIfHashMatches(userId, currentPasswordHash)).thenReturn(affectedRows);
     }
 }
\ No newline at end of file
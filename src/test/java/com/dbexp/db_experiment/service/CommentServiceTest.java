@@ -0,0 +1,277 @@
+package com.dbexp.db_experiment.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.cache.UserCache;
+import com.dbexp.db_experiment.cache.UserSummary;
+import com.dbexp.db_experiment.comment.CommentCursor;
+import com.dbexp.db_experiment.comment.CommentPath;
+import com.dbexp.db_experiment.comment.CommentRow;
+import com.dbexp.db_experiment.comment.CommentTree;
+import com.dbexp.db_experiment.dto.community.CommentResponse;
+import com.dbexp.db_experiment.dto.community.CommentThreadResponse;
+import com.dbexp.db_experiment.dto.community.CreateCommentRequest;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.exception.NotAuthenticatedException;
+import com.dbexp.db_experiment.repository.CommentRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Comment Service - Tests")
+class CommentServiceTest {
+
+    private static final long POST_ID = 7L;
+    private static final Long USER_ID = 2L;
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private UserCache userCache;
+
+    private CommentServiceImpl commentService;
+
+    @BeforeEach
+    void setUp() {
+        commentService = new CommentServiceImpl(commentRepository, userCache, 4, 2, 3, 6);
+    }
+
+    private static CommentRow comment(long commentId, CommentRow parent, int score) {
+        return new CommentRow(
+                commentId,
+                parent != null ? parent.commentId() : null,
+                CommentPath.child(parent != null ? parent.path() : "", commentId),
+                1L,
+                "alice",
+                "Comment " + commentId,
+                NOW,
+                score);
+    }
+
+    private static List<Long> ids(List<CommentResponse> comments) {
+        return comments.stream().map(CommentResponse::commentId).toList();
+    }
+
+    @Nested
+    @DisplayName("Get Comments Tests")
+    class GetCommentsTests {
+
+        @Test
+        @DisplayName("Should render a page of the thread with cursors where replies are left out")
+        void getComments_RendersBoundedTree() {
+            // Arrange
+            CommentRow first = comment(1L, null, 10);
+            CommentRow second = comment(2L, null, 5);
+            CommentRow third = comment(3L, null, 1);
+            CommentRow replyA = comment(4L, first, 3);
+            CommentRow replyB = comment(5L, first, 2);
+            CommentRow replyC = comment(6L, first, 1);
+            when(commentRepository.findReplies(POST_ID, null, CommentCursor.start(""), 3))
+                    .thenReturn(List.of(first, second, third));
+            when(commentRepository.findSubtrees(POST_ID, List.of(first.path(), second.path()), 7))
+                    .thenReturn(List.of(replyA, replyB, replyC));
+
+            // Act
+            CommentThreadResponse response = commentService.getComments(POST_ID, null, 2);
+
+            // Assert
+            assertEquals(List.of(1L, 2L), ids(response.comments()));
+            assertTrue(response.hasMore());
+            assertEquals(CommentCursor.after("", second), CommentCursor.decode(response.nextCursor()));
+
+            CommentResponse top = response.comments().get(0);
+            assertEquals(List.of(4L, 5L), ids(top.replies()));
+            assertEquals(1, top.moreReplies());
+            assertEquals(CommentCursor.after(first.path(), replyB), CommentCursor.decode(top.moreCursor()));
+        }
+
+        @Test
+        @DisplayName("Should page through more top-level comments than one request reads to the last one")
+        void getComments_PagesToLastRoot() {
+            // Arrange
+            List<CommentRow> topLevel = new ArrayList<>();
+            for (long id = 1; id <= 10; id++) {
+                topLevel.add(comment(id, null, (int) (id % 3)));
+            }
+            topLevel.sort(CommentTree.ORDER);
+            when(commentRepository.findReplies(eq(POST_ID), isNull(), any(CommentCursor.class), eq(4)))
+                    .thenAnswer(invocation -> {
+                        CommentCursor after = invocation.getArgument(2);
+                        return topLevel.stream()
+                                .filter(row -> row.score() < after.score()
+                                        || (row.score() == after.score() && row.commentId() > after.commentId()))
+                                .limit(4)
+                                .toList();
+                    });
+            when(commentRepository.findSubtrees(eq(POST_ID), anyList(), eq(7))).thenReturn(List.of());
+
+            // Act
+            List<Long> seen = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            do {
+                CommentThreadResponse response = commentService.getComments(POST_ID, cursor, 3);
+                seen.addAll(ids(response.comments()));
+                cursor = response.nextCursor();
+                pages++;
+            } while (cursor != null);
+
+            // Assert
+            assertEquals(topLevel.stream().map(CommentRow::commentId).toList(), seen);
+            assertEquals(4, pages);
+        }
+
+        @Test
+        @DisplayName("Should show no replies of a subtree cut off at the cap and point its cursor at the start")
+        void getComments_TruncatedSubtree() {
+            // Arrange
+            CommentRow root = comment(1L, null, 0);
+            List<CommentRow> replies = new ArrayList<>();
+            for (long id = 2; id <= 8; id++) {
+                replies.add(comment(id, root, 0));
+            }
+            when(commentRepository.findReplies(POST_ID, null, CommentCursor.start(""), 26))
+                    .thenReturn(List.of(root));
+            when(commentRepository.findSubtrees(POST_ID, List.of(root.path()), 7)).thenReturn(replies);
+
+            // Act
+            CommentThreadResponse response = commentService.getComments(POST_ID, null, null);
+
+            // Assert
+            CommentResponse top = response.comments().get(0);
+            assertEquals(List.of(), top.replies());
+            assertEquals(6, top.moreReplies());
+            assertEquals(CommentCursor.start(root.path()), CommentCursor.decode(top.moreCursor()));
+        }
+
+        @Test
+        @DisplayName("Should page only the replies a more cursor points to")
+        void getComments_MoreCursor() {
+            // Arrange
+            CommentRow parent = comment(1L, null, 0);
+            CommentRow replyB = comment(5L, parent, 2);
+            CommentRow replyC = comment(6L, parent, 1);
+            CommentRow nested = comment(7L, replyC, 0);
+            CommentCursor after = CommentCursor.after(parent.path(), replyB);
+            when(commentRepository.findReplies(POST_ID, 1L, after, 26)).thenReturn(List.of(replyC));
+            when(commentRepository.findSubtrees(POST_ID, List.of(replyC.path()), 7)).thenReturn(List.of(nested));
+
+            // Act
+            CommentThreadResponse response = commentService.getComments(POST_ID, after.encode(), null);
+
+            // Assert
+            assertEquals(List.of(6L), ids(response.comments()));
+            assertEquals(List.of(7L), ids(response.comments().get(0).replies()));
+            assertFalse(response.hasMore());
+            assertNull(response.nextCursor());
+        }
+
+        @Test
+        @DisplayName("Should reject an invalid cursor without querying")
+        void getComments_InvalidCursor() {
+            // Act & Assert
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> commentService.getComments(POST_ID, "not a cursor", null));
+            assertEquals("Invalid cursor", exception.getMessage());
+            verify(commentRepository, never()).findReplies(anyLong(), any(), any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Create Comment Tests")
+    class CreateCommentTests {
+
+        private void givenUserExists() {
+            when(userCache.get(USER_ID)).thenReturn(
+                    Optional.of(new UserSummary(USER_ID, "bob", "bob@example.com", LocalDateTime.now())));
+        }
+
+        @Test
+        @DisplayName("Should place a reply under its parent's path")
+        void createComment_Reply() {
+            // Arrange
+            givenUserExists();
+            String parentPath = CommentPath.child("", 3L);
+            when(commentRepository.findPath(POST_ID, 3L)).thenReturn(Optional.of(parentPath));
+            when(commentRepository.insert(eq(POST_ID), eq(USER_ID.longValue()), eq(3L), eq(parentPath),
+                    eq("Agreed"), any(LocalDateTime.class))).thenReturn(9L);
+
+            // Act
+            CommentResponse response = commentService.createComment(POST_ID, USER_ID,
+                    new CreateCommentRequest(3L, "Agreed"));
+
+            // Assert
+            assertEquals(9L, response.commentId());
+            assertEquals(3L, response.parentCommentId());
+            assertEquals("bob", response.username());
+            assertEquals(0, response.createdAt().getNano());
+        }
+
+        @Test
+        @DisplayName("Should reject a reply to a comment of another post")
+        void createComment_UnknownParent() {
+            // Arrange
+            givenUserExists();
+            when(commentRepository.findPath(POST_ID, 3L)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> commentService.createComment(POST_ID, USER_ID, new CreateCommentRequest(3L, "Agreed")));
+            assertEquals("Parent comment not found", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should report a missing post")
+        void createComment_UnknownPost() {
+            // Arrange
+            givenUserExists();
+            when(commentRepository.insert(eq(POST_ID), anyLong(), isNull(), eq(""), anyString(),
+                    any(LocalDateTime.class))).thenThrow(new DataIntegrityViolationException("fk"));
+
+            // Act & Assert
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> commentService.createComment(POST_ID, USER_ID, new CreateCommentRequest(null, "First")));
+            assertEquals("Post not found", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject a comment without a logged-in user")
+        void createComment_NotAuthenticated() {
+            // Act & Assert
+            assertThrows(NotAuthenticatedException.class,
+                    () -> commentService.createComment(POST_ID, null, new CreateCommentRequest(null, "First")));
+            verifyNoInteractions(userCache, commentRepository);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.dbexp.db_experiment.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.cache.CommunityFeedCache;
+import com.dbexp.db_experiment.cache.PostSummary;
+import com.dbexp.db_experiment.cache.UserCache;
+import com.dbexp.db_experiment.cache.UserSummary;
+import com.dbexp.db_experiment.dto.community.CommunityFeedResponse;
+import com.dbexp.db_experiment.dto.community.CreatePostRequest;
+import com.dbexp.db_experiment.dto.community.PostResponse;
+import com.dbexp.db_experiment.entity.Post;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.exception.NotAuthenticatedException;
+import com.dbexp.db_experiment.feed.FeedCursor;
+import com.dbexp.db_experiment.feed.FeedSort;
+import com.dbexp.db_experiment.feed.HotRankings;
+import com.dbexp.db_experiment.feed.RankCursor;
+import com.dbexp.db_experiment.repository.PostRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Community Feed Service - Tests")
+class CommunityFeedServiceTest {
+
+    private static final long COMMUNITY_ID = 4L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommunityFeedCache feedCache;
+
+    @Mock
+    private HotRankings hotRankings;
+
+    @Mock
+    private UserCache userCache;
+
+    private CommunityFeedServiceImpl communityFeedService;
+
+    @BeforeEach
+    void setUp() {
+        communityFeedService = new CommunityFeedServiceImpl(postRepository, feedCache, hotRankings, userCache);
+    }
+
+    private static PostSummary post(long postId, LocalDateTime createdAt) {
+        return post(postId, createdAt, 0);
+    }
+
+    private static PostSummary post(long postId, LocalDateTime createdAt, int score) {
+        return new PostSummary(postId, COMMUNITY_ID, 1L, "alice", "Post " + postId, createdAt, score);
+    }
+
+    @Nested
+    @DisplayName("Feed Tests")
+    class FeedTests {
+
+        @Test
+        @DisplayName("Should serve the first page from the cache with a cursor at its last post")
+        void getCommunityPosts_FirstPage_FromCache() {
+            // Arrange
+            when(feedCache.communityId("science")).thenReturn(Optional.of(COMMUNITY_ID));
+            when(feedCache.firstPage(COMMUNITY_ID, 3)).thenReturn(List.of(
+                    post(9L, NOW), post(8L, NOW), post(7L, NOW.minusSeconds(1))));
+
+            // Act
+            CommunityFeedResponse response = communityFeedService.getCommunityPosts("science", null, null, null, 2);
+
+            // Assert
+            assertEquals(2, response.posts().size());
+            assertTrue(response.hasMore());
+            assertEquals(new FeedCursor(NOW, 8L), FeedCursor.decode(response.nextCursor()));
+            verifyNoInteractions(postRepository);
+        }
+
+        @Test
+        @DisplayName("Should seek past the cursor for later pages")
+        void getCommunityPosts_WithCursor_SeeksPastIt() {
+            // Arrange
+            String cursor = new FeedCursor(NOW, 8L).encode();
+            when(feedCache.communityId("science")).thenReturn(Optional.of(COMMUNITY_ID));
+            when(postRepository.findFeedPageBefore(COMMUNITY_ID, NOW, 8L, 3))
+                    .thenReturn(List.of(post(7L, NOW.minusSeconds(1))));
+
+            // Act
+            CommunityFeedResponse response = communityFeedService.getCommunityPosts("science", null, null, cursor, 2);
+
+            // Assert
+            assertEquals(1, response.posts().size());
+            assertFalse(response.hasMore());
+            assertNull(response.nextCursor());
+            verify(feedCache, never()).firstPage(anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown community")
+        void getCommunityPosts_UnknownCommunity() {
+            // Arrange
+            when(feedCache.communityId("nope")).thenReturn(Optional.empty());
+
+            // Act & Assert
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> communityFeedService.getCommunityPosts("nope", null, null, null, null));
+            assertEquals("Community not found", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed cursor")
+        void getCommunityPosts_MalformedCursor() {
+            // Arrange
+            when(feedCache.communityId("science")).thenReturn(Optional.of(COMMUNITY_ID));
+
+            // Act & Assert
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> communityFeedService.getCommunityPosts("science", null, null, "not a cursor", null));
+            assertEquals("Invalid cursor", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject a limit outside the allowed range")
+        void getCommunityPosts_InvalidLimit() {
+            // Act & Assert
+            assertThrows(InvalidRequestException.class,
+                    () -> communityFeedService.getCommunityPosts("science", null, null, null,
+                            CommunityFeedServiceImpl.MAX_PAGE_SIZE + 1));
+            verifyNoInteractions(feedCache);
+        }
+    }
+
+    @Nested
+    @DisplayName("Ranked Feed Tests")
+    class RankedFeedTests {
+
+        @Test
+        @DisplayName("Should serve hot pages from the rankings with a rank cursor")
+        void getCommunityPosts_Hot_FromRankings() {
+            // Arrange
+            PostSummary second = post(8L, NOW, 5);
+            when(feedCache.communityId("science")).thenReturn(Optional.of(COMMUNITY_ID));
+            when(hotRankings.page(COMMUNITY_ID, FeedSort.HOT, null, 3)).thenReturn(List.of(
+                    post(9L, NOW, 40), second, post(7L, NOW, 1)));
+
+            // Act
+            CommunityFeedResponse response = communityFeedService.getCommunityPosts("science", "hot", null, null, 2);
+
+            // Assert
+            assertEquals(List.of(9L, 8L), response.posts().stream().map(PostResponse::postId).toList());
+            assertEquals(RankCursor.after(FeedSort.HOT, second), RankCursor.decode(response.nextCursor()));
+            verifyNoInteractions(postRepository);
+            verify(feedCache, never()).firstPage(anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should pass the rank cursor of top pages back to the rankings")
+        void getCommunityPosts_TopWeek_WithCursor() {
+            // Arrange
+            RankCursor cursor = new RankCursor(12, 8L);
+            when(feedCache.communityId("science")).thenReturn(Optional.of(COMMUNITY_ID));
+            when(hotRankings.page(COMMUNITY_ID, FeedSort.TOP_WEEK, cursor, 3))
+                    .thenReturn(List.of(post(7L, NOW, 3)));
+
+            // Act
+            CommunityFeedResponse response = communityFeedService.getCommunityPosts("science", "top", "week",
+                    cursor.encode(), 2);
+
+            // Assert
+            assertEquals(1, response.posts().size());
+            assertFalse(response.hasMore());
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown sort")
+        void getCommunityPosts_UnknownSort() {
+            // Act & Assert
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> communityFeedService.getCommunityPosts("science", "best", null, null, null));
+            assertEquals("Sort must be new, hot or top", exception.getMessage());
+            verifyNoInteractions(feedCache, hotRankings);
+        }
+    }
+
+    @Nested
+    @DisplayName("Create Post Tests")
+    class CreatePostTests {
+
+        @Test
+        @DisplayName("Should insert the post and then invalidate the community's first page")
+        void createPost_InvalidatesFirstPage() {
+            // Arrange
+            Long userId = 1L;
+            when(feedCache.communityId("science")).thenReturn(Optional.of(COMMUNITY_ID));
+            when(userCache.get(userId)).thenReturn(Optional.of(new UserSummary(userId, "alice", "a@example.com", NOW)));
+            when(postRepository.save(any(Post.class))).thenAnswer(invocation -> {
+                Post post = invocation.getArgument(0);
+                post.setPostId(42L);
+                return post;
+            });
+
+            // Act
+            PostResponse response = communityFeedService.createPost("science", userId,
+                    new CreatePostRequest("Hello", "First post"));
+
+            // Assert
+            assertEquals(42L, response.postId());
+            assertEquals("alice", response.username());
+            assertEquals(0, response.createdAt().getNano());
+
+            ArgumentCaptor<Post> captor = ArgumentCaptor.forClass(Post.class);
+            InOrder inOrder = inOrder(postRepository, feedCache, hotRankings);
+            inOrder.verify(postRepository).save(captor.capture());
+            inOrder.verify(feedCache).invalidate(COMMUNITY_ID);
+            inOrder.verify(hotRankings).offer(any(PostSummary.class));
+            assertEquals(COMMUNITY_ID, captor.getValue().getCommunityId());
+            assertEquals(userId, captor.getValue().getUserId());
+        }
+
+        @Test
+        @DisplayName("Should reject a post by an unknown user")
+        void createPost_UnknownUser() {
+            // Arrange
+            Long userId = 99L;
+            when(feedCache.communityId("science")).thenReturn(Optional.of(COMMUNITY_ID));
+            when(userCache.get(userId)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThrows(InvalidRequestException.class, () -> communityFeedService.createPost("science", userId,
+                    new CreatePostRequest("Hello", "First post")));
+            verify(postRepository, never()).save(any());
+            verify(feedCache, never()).invalidate(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should reject a post without a logged-in user")
+        void createPost_NotAuthenticated() {
+            // Act & Assert
+            assertThrows(NotAuthenticatedException.class, () -> communityFeedService.createPost("science", null,
+                    new CreatePostRequest("Hello", "First post")));
+            verifyNoInteractions(feedCache, userCache, postRepository);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.dbexp.db_experiment.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.cache.PostSummary;
+import com.dbexp.db_experiment.cache.UserCache;
+import com.dbexp.db_experiment.cache.UserSummary;
+import com.dbexp.db_experiment.dto.community.CommunityFeedResponse;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.feed.FeedCursor;
+import com.dbexp.db_experiment.feed.HomeFeed;
+import com.dbexp.db_experiment.repository.CommunityRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Home Feed Service - Tests")
+class HomeFeedServiceTest {
+
+    private static final Long USER_ID = 2L;
+    private static final LocalDateTime NOW = LocalDateTime.now().withNano(0);
+
+    @Mock
+    private CommunityRepository communityRepository;
+
+    @Mock
+    private HomeFeed homeFeed;
+
+    @Mock
+    private UserCache userCache;
+
+    private HomeFeedServiceImpl homeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        homeFeedService = new HomeFeedServiceImpl(communityRepository, homeFeed, userCache);
+    }
+
+    private static PostSummary post(long postId, long communityId) {
+        return new PostSummary(postId, communityId, 1L, "alice", "Post " + postId, NOW.minusMinutes(postId), 0);
+    }
+
+    @Test
+    @DisplayName("Should page through the subscribed communities with a feed cursor")
+    void getHomeFeed_Success() {
+        // Arrange
+        FeedCursor cursor = new FeedCursor(NOW, 1L);
+        PostSummary last = post(3L, 5L);
+        when(userCache.get(USER_ID)).thenReturn(
+                Optional.of(new UserSummary(USER_ID, "bob", "bob@example.com", NOW)));
+        when(communityRepository.findSubscribedCommunityIds(USER_ID)).thenReturn(List.of(4L, 5L));
+        when(homeFeed.page(List.of(4L, 5L), cursor, 3)).thenReturn(List.of(post(2L, 4L), last, post(4L, 4L)));
+
+        // Act
+        CommunityFeedResponse response = homeFeedService.getHomeFeed(USER_ID, cursor.encode(), 2);
+
+        // Assert
+        assertEquals(2, response.posts().size());
+        assertTrue(response.hasMore());
+        assertEquals(FeedCursor.after(last), FeedCursor.decode(response.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown user")
+    void getHomeFeed_UnknownUser() {
+        // Arrange
+        when(userCache.get(USER_ID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> homeFeedService.getHomeFeed(USER_ID, null, null));
+        assertEquals("User not found", exception.getMessage());
+        verifyNoInteractions(communityRepository, homeFeed);
+    }
+}
@@ -0,0 +1,104 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.repository.UserRepository;
+import com.dbexp.db_experiment.security.HashingCapacityExceededException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Password Rehash Service - Tests")
+class PasswordRehashServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+    private PasswordRehashService passwordRehashService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newSingleThreadExecutor();
+        passwordRehashService = new PasswordRehashService(userRepository, passwordEncoder, meterRegistry, executor);
+    }
+
+    @Test
+    @DisplayName("Should replace the verified hash with a freshly encoded one")
+    void rehashAsync_Upgraded() throws InterruptedException {
+        // Arrange
+        when(passwordEncoder.encode("password123")).thenReturn("newHash");
+        when(userRepository.updatePasswordIfHashMatches(1L, "oldHash", "newHash")).thenReturn(1);
+
+        // Act
+        passwordRehashService.rehashAsync(1L, "password123", "oldHash");
+        awaitCompletion();
+
+        // Assert
+        verify(userRepository).updatePasswordIfHashMatches(1L, "oldHash", "newHash");
+        assertEquals(1.0, rehashCount("upgraded"));
+    }
+
+    @Test
+    @DisplayName("Should count a stale update when the password changed meanwhile")
+    void rehashAsync_HashChanged_Stale() throws InterruptedException {
+        // Arrange
+        when(passwordEncoder.encode("password123")).thenReturn("newHash");
+        when(userRepository.updatePasswordIfHashMatches(1L, "oldHash", "newHash")).thenReturn(0);
+
+        // Act
+        passwordRehashService.rehashAsync(1L, "password123", "oldHash");
+        awaitCompletion();
+
+        // Assert
+        assertEquals(1.0, rehashCount("stale"));
+        assertEquals(0.0, rehashCount("upgraded"));
+    }
+
+    @Test
+    @DisplayName("Should skip the upgrade when the hashing budget is exhausted")
+    void rehashAsync_CapacityExceeded_Skipped() throws InterruptedException {
+        // Arrange
+        when(passwordEncoder.encode("password123")).thenThrow(new HashingCapacityExceededException("busy", 1));
+
+        // Act
+        passwordRehashService.rehashAsync(1L, "password123", "oldHash");
+        awaitCompletion();
+
+        // Assert
+        verify(userRepository, never()).updatePasswordIfHashMatches(any(), any(), any());
+        assertEquals(1.0, rehashCount("skipped"));
+    }
+
+    private void awaitCompletion() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private double rehashCount(String result) {
+        return meterRegistry.get("password.rehash").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,143 @@
+package com.dbexp.db_experiment.service;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import com.dbexp.db_experiment.dto.user.ChangePasswordRequest;
+import com.dbexp.db_experiment.dto.user.CreateUserRequest;
+import com.dbexp.db_experiment.dto.user.GetUserByIdRequest;
+import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.repository.reactive.ReactiveUserRepository;
+import com.dbexp.db_experiment.testutil.DuplicateKeyExceptions;
+import com.dbexp.db_experiment.testutil.UserTestBuilder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Reactive User Service Tests")
+class ReactiveUserServiceTest {
+
+    // Boxed so stubs match findById(Long) rather than the primitive overload
+    private static final Long USER_ID = 1L;
+    private static final Long UNKNOWN_USER_ID = 999L;
+
+    @Mock
+    private ReactiveUserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private ReactiveUserServiceImpl userService;
+
+    @BeforeEach
+    void setUp() {
+        userService = new ReactiveUserServiceImpl(userRepository, passwordEncoder, Schedulers.immediate());
+    }
+
+    @Nested
+    @DisplayName("Get By ID")
+    class GetByIdTests {
+        @Test
+        @DisplayName("Should map the user to the response")
+        void getUserById_Success() {
+            // Arrange
+            User user = UserTestBuilder.aUser().withUserId(1L).build();
+            when(userRepository.findById(USER_ID)).thenReturn(Mono.just(user));
+
+            // Act & Assert
+            StepVerifier.create(userService.getUserById(new GetUserByIdRequest(1L)))
+                    .expectNextMatches(response -> response.getUserId().equals(1L)
+                            && response.getUsername().equals("testuser"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should fail with User not found for a missing user")
+        void getUserById_NotFound() {
+            // Arrange
+            when(userRepository.findById(UNKNOWN_USER_ID)).thenReturn(Mono.empty());
+
+            // Act & Assert
+            StepVerifier.create(userService.getUserById(new GetUserByIdRequest(999L)))
+                    .expectErrorMatches(e -> e instanceof InvalidRequestException
+                            && e.getMessage().equals("User not found"))
+                    .verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("Create")
+    class CreateTests {
+        @Test
+        @DisplayName("Should map a duplicate username to the conflict message")
+        void createUser_DuplicateUsername() {
+            // Arrange
+            when(passwordEncoder.encode("password123")).thenReturn("hashed");
+            when(userRepository.save(any(User.class)))
+                    .thenReturn(Mono.error(DuplicateKeyExceptions.forKey("ForumUser.username", "taken")));
+
+            // Act & Assert
+            StepVerifier.create(userService.createUser(
+                    new CreateUserRequest("taken", "taken@example.com", "password123")))
+                    .expectErrorMatches(e -> e instanceof InvalidRequestException
+                            && e.getMessage().equals(UserConflicts.USERNAME_EXISTS))
+                    .verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("Change Password")
+    class ChangePasswordTests {
+        @Test
+        @DisplayName("Should not hash or write when the current password is wrong")
+        void changePassword_WrongCurrentPassword() {
+            // Arrange
+            User user = UserTestBuilder.aUser().withUserId(1L).withPassword("storedHash").build();
+            when(userRepository.findById(USER_ID)).thenReturn(Mono.just(user));
+            when(passwordEncoder.matches("wrong", "storedHash")).thenReturn(false);
+
+            // Act & Assert
+            StepVerifier.create(userService.changePassword(1L, new ChangePasswordRequest("wrong", "newPassword1")))
+                    .expectErrorMatches(e -> e instanceof InvalidRequestException
+                            && e.getMessage().equals("Current password is incorrect"))
+                    .verify();
+
+            verify(passwordEncoder, never()).encode(anyString());
+            verify(userRepository, never()).updatePasswordIfHashMatches(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should write the new hash guarded by the verified one")
+        void changePassword_Success() {
+            // Arrange
+            User user = UserTestBuilder.aUser().withUserId(1L).withPassword("storedHash").build();
+            when(userRepository.findById(USER_ID)).thenReturn(Mono.just(user));
+            when(passwordEncoder.matches("current", "storedHash")).thenReturn(true);
+            when(passwordEncoder.matches("newPassword1", "storedHash")).thenReturn(false);
+            when(passwordEncoder.encode("newPassword1")).thenReturn("newHash");
+            when(userRepository.updatePasswordIfHashMatches(1L, "storedHash", "newHash")).thenReturn(Mono.just(1));
+
+            // Act & Assert
+            StepVerifier.create(userService.changePassword(1L, new ChangePasswordRequest("current", "newPassword1")))
+                    .expectNextMatches(response -> "Password changed successfully".equals(response.getMessage()))
+                    .verifyComplete();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.dbexp.db_experiment.service;
+
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.user.GetUserByIdRequest;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Service Timing Tests")
+class ServiceTimingTest extends BaseServiceTest {
+
+    @Test
+    @DisplayName("Should time every service method, tagging failures with the exception")
+    void userService_Timed() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(userService);
+        factory.addAspect(new TimedAspect(registry));
+        UserService timed = factory.getProxy();
+        mockUserRepositoryFindByIdNotFound(1L);
+
+        // Act
+        assertThrows(InvalidRequestException.class, () -> timed.getUserById(new GetUserByIdRequest(1L)));
+
+        // Assert
+        Timer timer = registry.find("app.service")
+                .tag("method", "getUserById")
+                .tag("exception", "InvalidRequestException")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+}
@@ -0,0 +1,210 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import jakarta.validation.Validation;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.user.BatchCreateUserResult.Status;
+import com.dbexp.db_experiment.dto.user.BatchCreateUsersResponse;
+import com.dbexp.db_experiment.dto.user.CreateUserRequest;
+import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.repository.UserBatchRepository.UserIdentity;
+import com.dbexp.db_experiment.repository.UserRepository;
+import com.dbexp.db_experiment.security.HashingCapacityExceededException;
+import com.dbexp.db_experiment.testutil.DuplicateKeyExceptions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Batch Service - Tests")
+class UserBatchServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private ExecutorService hashExecutor;
+    private UserBatchServiceImpl userBatchService;
+
+    @BeforeEach
+    void setUp() {
+        hashExecutor = Executors.newFixedThreadPool(2);
+        userBatchService = new UserBatchServiceImpl(userRepository, passwordEncoder,
+                Validation.buildDefaultValidatorFactory().getValidator(), 2, hashExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashExecutor.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Successful Creation")
+    class SuccessTests {
+
+        @Test
+        @DisplayName("Should create every user with one lookup and one batch insert per chunk")
+        void createUsers_AllCreated() {
+            // Arrange
+            when(passwordEncoder.encode(anyString())).thenReturn("hashedPassword");
+            when(userRepository.findIdentities(anyCollection(), anyCollection())).thenReturn(List.of());
+            assignIdsOnInsert();
+
+            // Act
+            BatchCreateUsersResponse response = userBatchService.createUsers(Stream.of(
+                    request("alice"), request("bob"), request("carol")).iterator());
+
+            // Assert
+            assertEquals(3, response.getCreated());
+            assertNull(response.getError());
+            assertEquals(Status.CREATED, response.getResults().get(2).getStatus());
+            assertEquals(100L, response.getResults().get(0).getUserId());
+            verify(userRepository, times(2)).findIdentities(anyCollection(), anyCollection());
+            verify(userRepository, times(2)).insertAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Per-Item Failures")
+    class ItemFailureTests {
+
+        @Test
+        @DisplayName("Should report existing, repeated and invalid items without failing the batch")
+        void createUsers_MixedConflicts() {
+            // Arrange
+            when(passwordEncoder.encode(anyString())).thenReturn("hashedPassword");
+            when(userRepository.findIdentities(anyCollection(), anyCollection()))
+                    .thenReturn(List.of(new UserIdentity("Alice", "other@example.com")));
+            assignIdsOnInsert();
+
+            // Act
+            BatchCreateUsersResponse response = userBatchService.createUsers(Stream.of(
+                    request("alice"),
+                    request("bob"),
+                    request("bob"),
+                    new CreateUserRequest("x", "not-an-email", "short")).iterator());
+
+            // Assert
+            assertEquals(1, response.getCreated());
+            assertEquals(2, response.getConflicts());
+            assertEquals(1, response.getInvalid());
+            assertEquals("Username already exists", response.getResults().get(0).getMessage());
+            assertEquals(Status.CREATED, response.getResults().get(1).getStatus());
+            assertEquals(Status.CONFLICT, response.getResults().get(2).getStatus());
+            assertEquals(Status.INVALID, response.getResults().get(3).getStatus());
+        }
+
+        @Test
+        @DisplayName("Should fall back to single inserts when the batch hits a unique key")
+        void createUsers_LateConflict_RetriesIndividually() {
+            // Arrange
+            when(passwordEncoder.encode(anyString())).thenReturn("hashedPassword");
+            when(userRepository.findIdentities(anyCollection(), anyCollection())).thenReturn(List.of());
+            doThrow(DuplicateKeyExceptions.forKey("ForumUser.email", "bob@example.com"))
+                    .when(userRepository).insertAll(anyList());
+            when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+                User user = invocation.getArgument(0);
+                if (user.getUsername().equals("bob")) {
+                    throw DuplicateKeyExceptions.forKey("ForumUser.email", user.getEmail());
+                }
+                user.setUserId(7L);
+                return user;
+            });
+
+            // Act
+            BatchCreateUsersResponse response = userBatchService.createUsers(Stream.of(
+                    request("alice"), request("bob")).iterator());
+
+            // Assert
+            assertEquals(1, response.getCreated());
+            assertEquals(7L, response.getResults().get(0).getUserId());
+            assertEquals("Email already exists", response.getResults().get(1).getMessage());
+        }
+
+        @Test
+        @DisplayName("Should mark items failed when the hashing budget is exhausted")
+        void createUsers_HashingCapacityExceeded_Failed() {
+            // Arrange
+            when(passwordEncoder.encode(anyString()))
+                    .thenThrow(new HashingCapacityExceededException("Server is busy, please retry later", 1));
+            when(userRepository.findIdentities(anyCollection(), anyCollection())).thenReturn(List.of());
+
+            // Act
+            BatchCreateUsersResponse response = userBatchService.createUsers(Stream.of(request("alice")).iterator());
+
+            // Assert
+            assertEquals(1, response.getFailed());
+            assertEquals("Server is busy, please retry later", response.getResults().get(0).getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Malformed Input")
+    class MalformedInputTests {
+
+        @Test
+        @DisplayName("Should keep items read before a malformed one and report the error")
+        void createUsers_SourceFails_ProcessesPrefix() {
+            // Arrange
+            when(passwordEncoder.encode(anyString())).thenReturn("hashedPassword");
+            when(userRepository.findIdentities(anyCollection(), anyCollection())).thenReturn(List.of());
+            assignIdsOnInsert();
+            Stream<CreateUserRequest> source = Stream.of(0, 1).map(i -> {
+                if (i == 1) {
+                    throw new InvalidRequestException("Malformed batch item at index 1");
+                }
+                return request("alice");
+            });
+
+            // Act
+            BatchCreateUsersResponse response = userBatchService.createUsers(source.iterator());
+
+            // Assert
+            assertEquals(1, response.getCreated());
+            assertEquals("Malformed batch item at index 1", response.getError());
+        }
+    }
+
+    private void assignIdsOnInsert() {
+        doAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            long id = 100L;
+            for (User user : users) {
+                user.setUserId(id++);
+            }
+            return null;
+        }).when(userRepository).insertAll(anyList());
+    }
+
+    private static CreateUserRequest request(String username) {
+        return new CreateUserRequest(username, username + "@example.com", "password123");
+    }
+}
@@ -0,0 +1,110 @@
+package com.dbexp.db_experiment.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.cache.UserSummary;
+import com.dbexp.db_experiment.repository.UserRepository;
+import com.dbexp.db_experiment.service.UserExportService.ExportSummary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Export Service Tests")
+class UserExportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserExportServiceImpl userExportService;
+
+    @BeforeEach
+    void setUp() {
+        userExportService = new UserExportServiceImpl(userRepository, Jackson2ObjectMapperBuilder.json().build(), 2);
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line without password hashes")
+    void exportNdjson_WritesLines() throws Exception {
+        // Arrange
+        streamUsers(10L, 11L, 12L, 13L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        ExportSummary summary = userExportService.exportNdjson(10L, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{\"userId\":11,\"username\":\"user11\""));
+        assertTrue(lines[2].contains("\"userId\":13"));
+        assertFalse(out.toString(StandardCharsets.UTF_8).contains("password"));
+        assertEquals(new ExportSummary(3, 13L), summary);
+    }
+
+    @Test
+    @DisplayName("Should report the cursor as checkpoint when nothing is left to export")
+    void exportNdjson_NothingAfterCursor_KeepsCheckpoint() throws Exception {
+        // Arrange
+        streamUsers(42L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        ExportSummary summary = userExportService.exportNdjson(42L, out);
+
+        // Assert
+        assertEquals(0, out.size());
+        assertEquals(new ExportSummary(0, 42L), summary);
+    }
+
+    @Test
+    @DisplayName("Should surface write failures as IOException")
+    void exportNdjson_WriteFails_ThrowsIOException() {
+        // Arrange
+        streamUsers(0L, 1L, 2L, 3L);
+        OutputStream brokenPipe = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // Act & Assert
+        IOException exception = assertThrows(IOException.class,
+                () -> userExportService.exportNdjson(0L, brokenPipe));
+        assertEquals("Broken pipe", exception.getMessage());
+    }
+
+    // Streams users with the given ids after the first one, like the cursor would
+    @SuppressWarnings("unchecked")
+    private void streamUsers(long afterUserId, long... userIds) {
+        when(userRepository.streamAfter(eq(afterUserId), any(Consumer.class))).thenAnswer(invocation -> {
+            Consumer<UserSummary> action = invocation.getArgument(1);
+            for (long userId : userIds) {
+                action.accept(new UserSummary(userId, "user" + userId, "user" + userId + "@example.com",
+                        LocalDateTime.of(2024, 1, 1, 12, 0)));
+            }
+            return (long) userIds.length;
+        });
+    }
+}
@@ -1,6 +1,12 @@
 package com.dbexp.db_experiment.service;
 
+import java.time.Duration;
+
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionOperations;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,10 +17,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.dbexp.db_experiment.cache.UserCache;
+import com.dbexp.db_experiment.cache.UserLookup;
 import com.dbexp.db_experiment.dto.user.CreateUserRequest;
 import com.dbexp.db_experiment.dto.user.CreateUserResponse;
 import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
 import com.dbexp.db_experiment.repository.UserRepository;
+import com.dbexp.db_experiment.testutil.DuplicateKeyExceptions;
 import com.dbexp.db_experiment.testutil.UserTestBuilder;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -40,7 +50,10 @@ class UserServiceCreateTest {
 
     @BeforeEach
     void setUp() {
-        userService = new UserServiceImpl(userRepository, passwordEncoder);
+        userService = new UserServiceImpl(userRepository, passwordEncoder,
+                new UserCache(new UserLookup(userRepository, new SimpleMeterRegistry()), new SimpleMeterRegistry(),
+                        100, Duration.ofMinutes(1)),
+                null, null, TransactionOperations.withoutTransaction());
     }
 
     @Nested
@@ -60,8 +73,6 @@ class UserServiceCreateTest {
                     .withPassword(hashedPassword)
                     .build();
 
-            when(userRepository.existsByUsername(request.getUsername())).thenReturn(false);
-            when(userRepository.existsByEmail(request.getEmail())).thenReturn(false);
             when(passwordEncoder.encode(request.getPassword())).thenReturn(hashedPassword);
             when(userRepository.save(any(User.class))).thenReturn(savedUser);
 
@@ -75,8 +86,8 @@ class UserServiceCreateTest {
             assertEquals(request.getEmail(), response.getEmail());
             assertNotNull(response.getCreatedAt());
 
-            verify(userRepository).existsByUsername(request.getUsername());
-            verify(userRepository).existsByEmail(request.getEmail());
+            verify(userRepository, never()).existsByUsername(any());
+            verify(userRepository, never()).existsByEmail(any());
             verify(passwordEncoder).encode(request.getPassword());
             verify(userRepository).save(any(User.class));
         }
@@ -92,19 +103,18 @@ class UserServiceCreateTest {
             // Arrange
             CreateUserRequest request = createValidRequest();
 
-            when(userRepository.existsByUsername(request.getUsername())).thenReturn(true);
+            when(passwordEncoder.encode(request.getPassword())).thenReturn("hashedPassword123");
+            when(userRepository.save(any(User.class)))
+                    .thenThrow(DuplicateKeyExceptions.forKey("ForumUser.username", request.getUsername()));
 
             // Act & Assert
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
                 userService.createUser(request);
             });
 
             assertEquals("Username already exists", exception.getMessage());
 
-            verify(userRepository).existsByUsername(request.getUsername());
-            verify(userRepository, never()).existsByEmail(any());
-            verify(passwordEncoder, never()).encode(any());
-            verify(userRepository, never()).save(any());
+            verify(userRepository).save(any(User.class));
         }
 
         @Test
@@ -113,20 +123,34 @@ class UserServiceCreateTest {
             // Arrange
             CreateUserRequest request = createValidRequest();
 
-            when(userRepository.existsByUsername(request.getUsername())).thenReturn(false);
-            when(userRepository.existsByEmail(request.getEmail())).thenReturn(true);
+            when(passwordEncoder.encode(request.getPassword())).thenReturn("hashedPassword123");
+            when(userRepository.save(any(User.class)))
+                    .thenThrow(DuplicateKeyExceptions.forKey("email", request.getEmail()));
 
             // Act & Assert
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
                 userService.createUser(request);
             });
 
             assertEquals("Email already exists", exception.getMessage());
 
-            verify(userRepository).existsByUsername(request.getUsername());
-            verify(userRepository).existsByEmail(request.getEmail());
-            verify(passwordEncoder, never()).encode(any());
-            verify(userRepository, never()).save(any());
+            verify(userRepository).save(any(User.class));
+        }
+
+        @Test
+        @DisplayName("Should propagate duplicate-key violations on other indexes")
+        void createUser_DuplicateOtherKey_Propagates() {
+            // Arrange
+            CreateUserRequest request = createValidRequest();
+
+            when(passwordEncoder.encode(request.getPassword())).thenReturn("hashedPassword123");
+            when(userRepository.save(any(User.class)))
+                    .thenThrow(DuplicateKeyExceptions.forKey("PRIMARY", "1"));
+
+            // Act & Assert
+            assertThrows(DuplicateKeyException.class, () -> {
+                userService.createUser(request);
+            });
         }
     }
 
@@ -141,7 +165,7 @@ class UserServiceCreateTest {
             CreateUserRequest request = createRequest(null, "test@example.com", "password123");
 
             // Act & Assert
-            assertThrows(IllegalArgumentException.class, () -> {
+            assertThrows(InvalidRequestException.class, () -> {
                 userService.createUser(request);
             });
 
@@ -156,7 +180,7 @@ class UserServiceCreateTest {
             CreateUserRequest request = createRequest("testuser", null, "password123");
 
             // Act & Assert
-            assertThrows(IllegalArgumentException.class, () -> {
+            assertThrows(InvalidRequestException.class, () -> {
                 userService.createUser(request);
             });
 
@@ -171,7 +195,7 @@ class UserServiceCreateTest {
             CreateUserRequest request = createRequest("testuser", "test@example.com", null);
 
             // Act & Assert
-            assertThrows(IllegalArgumentException.class, () -> {
+            assertThrows(InvalidRequestException.class, () -> {
                 userService.createUser(request);
             });
 
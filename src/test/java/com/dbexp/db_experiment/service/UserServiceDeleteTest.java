@@ -1,23 +1,31 @@
 package com.dbexp.db_experiment.service;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import org.mockito.InOrder;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.dbexp.db_experiment.dto.user.DeleteAccountRequest;
 import com.dbexp.db_experiment.dto.user.DeleteAccountResponse;
 import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.vote.VoteTarget;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,7 +54,7 @@ class UserServiceDeleteTest extends BaseServiceTest {
 
             mockUserRepositoryFindById(userId, existingUser);
             mockPasswordEncoderMatches(password, hashedPassword, true);
-            when(userRepository.deleteByUserId(userId)).thenReturn(1);
+            when(userRepository.deleteByUserIdIfHashMatches(userId, hashedPassword)).thenReturn(1);
 
             // Act
             DeleteAccountResponse response = userService.deleteAccount(userId, request);
@@ -59,7 +67,37 @@ class UserServiceDeleteTest extends BaseServiceTest {
 
             verify(userRepository).findById(userId);
             verify(passwordEncoder).matches(password, hashedPassword);
-            verify(userRepository).deleteByUserId(userId);
+            verify(userRepository).deleteByUserIdIfHashMatches(userId, hashedPassword);
+        }
+
+        @Test
+        @DisplayName("Should retract the deleted user's votes from the counts")
+        void deleteAccount_RetractsVotes() {
+            // Arrange
+            Long userId = 1L;
+            String password = "currentPassword123";
+            String hashedPassword = "hashedPassword";
+            DeleteAccountRequest request = new DeleteAccountRequest(password);
+
+            User existingUser = createMockUser(userId, "testuser", "test@example.com", hashedPassword);
+
+            mockUserRepositoryFindById(userId, existingUser);
+            mockPasswordEncoderMatches(password, hashedPassword, true);
+            when(voteRepository.findVotesByUserForUpdate(VoteTarget.POST, userId)).thenReturn(Map.of(5L, 1, 6L, -1));
+            when(voteRepository.findVotesByUserForUpdate(VoteTarget.COMMENT, userId)).thenReturn(Map.of(8L, 1));
+            when(userRepository.deleteByUserIdIfHashMatches(userId, hashedPassword)).thenReturn(1);
+
+            // Act
+            userService.deleteAccount(userId, request);
+
+            // Assert
+            InOrder inOrder = inOrder(voteRepository, userRepository);
+            inOrder.verify(voteRepository).findVotesByUserForUpdate(VoteTarget.POST, userId);
+            inOrder.verify(userRepository).deleteByUserIdIfHashMatches(userId, hashedPassword);
+            verify(voteTally).record(VoteTarget.POST, 5L, 1, 0);
+            verify(voteTally).record(VoteTarget.POST, 6L, -1, 0);
+            verify(voteTally).record(VoteTarget.COMMENT, 8L, 1, 0);
+            verifyNoMoreInteractions(voteTally);
         }
     }
 
@@ -77,7 +115,7 @@ class UserServiceDeleteTest extends BaseServiceTest {
             mockUserRepositoryFindByIdNotFound(userId);
 
             // Act & Assert
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
                 userService.deleteAccount(userId, request);
             });
 
@@ -85,7 +123,7 @@ class UserServiceDeleteTest extends BaseServiceTest {
 
             verify(userRepository).findById(userId);
             verify(passwordEncoder, never()).matches(any(), any());
-            verify(userRepository, never()).deleteByUserId(any());
+            verify(userRepository, never()).deleteByUserIdIfHashMatches(any(), any());
         }
 
         @Test
@@ -103,7 +141,7 @@ class UserServiceDeleteTest extends BaseServiceTest {
             mockPasswordEncoderMatches(password, hashedPassword, false);
 
             // Act & Assert
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
                 userService.deleteAccount(userId, request);
             });
 
@@ -111,7 +149,7 @@ class UserServiceDeleteTest extends BaseServiceTest {
 
             verify(userRepository).findById(userId);
             verify(passwordEncoder).matches(password, hashedPassword);
-            verify(userRepository, never()).deleteByUserId(any());
+            verify(userRepository, never()).deleteByUserIdIfHashMatches(any(), any());
         }
     }
 
@@ -132,7 +170,7 @@ class UserServiceDeleteTest extends BaseServiceTest {
 
             mockUserRepositoryFindById(userId, existingUser);
             mockPasswordEncoderMatches(password, hashedPassword, true);
-            when(userRepository.deleteByUserId(userId)).thenReturn(0);
+            when(userRepository.deleteByUserIdIfHashMatches(userId, hashedPassword)).thenReturn(0);
 
             // Act & Assert
             IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
@@ -143,7 +181,8 @@ class UserServiceDeleteTest extends BaseServiceTest {
 
             verify(userRepository).findById(userId);
             verify(passwordEncoder).matches(password, hashedPassword);
-            verify(userRepository).deleteByUserId(userId);
+            verify(userRepository).deleteByUserIdIfHashMatches(userId, hashedPassword);
+            verifyNoInteractions(voteTally);
         }
     }
 }
\ No newline at end of file
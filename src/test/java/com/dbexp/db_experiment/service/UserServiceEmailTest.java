@@ -11,6 +11,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.dbexp.db_experiment.dto.user.ChangeEmailRequest;
 import com.dbexp.db_experiment.dto.user.ChangeEmailResponse;
 import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.testutil.DuplicateKeyExceptions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -48,8 +50,7 @@ class UserServiceEmailTest extends BaseServiceTest {
 
             mockUserRepositoryFindById(userId, existingUser);
             mockPasswordEncoderMatches(currentPassword, hashedPassword, true);
-            mockEmailExists(newEmail, false);
-            when(userRepository.updateEmail(userId, newEmail)).thenReturn(1);
+            when(userRepository.updateEmailIfHashMatches(userId, hashedPassword, newEmail)).thenReturn(1);
 
             // Act
             ChangeEmailResponse response = userService.changeEmail(userId, request);
@@ -64,8 +65,8 @@ class UserServiceEmailTest extends BaseServiceTest {
 
             verify(userRepository).findById(userId);
             verify(passwordEncoder).matches(currentPassword, hashedPassword);
-            verify(userRepository).existsByEmail(newEmail);
-            verify(userRepository).updateEmail(userId, newEmail);
+            verify(userRepository, never()).existsByEmail(any());
+            verify(userRepository).updateEmailIfHashMatches(userId, hashedPassword, newEmail);
         }
     }
 
@@ -83,7 +84,7 @@ class UserServiceEmailTest extends BaseServiceTest {
             mockUserRepositoryFindByIdNotFound(userId);
 
             // Act & Assert
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
                 userService.changeEmail(userId, request);
             });
 
@@ -92,7 +93,7 @@ class UserServiceEmailTest extends BaseServiceTest {
             verify(userRepository).findById(userId);
             verify(passwordEncoder, never()).matches(any(), any());
             verify(userRepository, never()).existsByEmail(any());
-            verify(userRepository, never()).updateEmail(any(), any());
+            verify(userRepository, never()).updateEmailIfHashMatches(any(), any(), any());
         }
 
         @Test
@@ -111,7 +112,7 @@ class UserServiceEmailTest extends BaseServiceTest {
             mockPasswordEncoderMatches(currentPassword, hashedPassword, false);
 
             // Act & Assert
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
                 userService.changeEmail(userId, request);
             });
 
@@ -120,7 +121,7 @@ class UserServiceEmailTest extends BaseServiceTest {
             verify(userRepository).findById(userId);
             verify(passwordEncoder).matches(currentPassword, hashedPassword);
             verify(userRepository, never()).existsByEmail(any());
-            verify(userRepository, never()).updateEmail(any(), any());
+            verify(userRepository, never()).updateEmailIfHashMatches(any(), any(), any());
         }
 
         @Test
@@ -140,7 +141,7 @@ class UserServiceEmailTest extends BaseServiceTest {
             mockPasswordEncoderMatches(currentPassword, hashedPassword, true);
 
             // Act & Assert
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
                 userService.changeEmail(userId, request);
             });
 
@@ -149,7 +150,7 @@ class UserServiceEmailTest extends BaseServiceTest {
             verify(userRepository).findById(userId);
             verify(passwordEncoder).matches(currentPassword, hashedPassword);
             verify(userRepository, never()).existsByEmail(any());
-            verify(userRepository, never()).updateEmail(any(), any());
+            verify(userRepository, never()).updateEmailIfHashMatches(any(), any(), any());
         }
 
         @Test
@@ -167,10 +168,11 @@ class UserServiceEmailTest extends BaseServiceTest {
 
             mockUserRepositoryFindById(userId, existingUser);
             mockPasswordEncoderMatches(currentPassword, hashedPassword, true);
-            mockEmailExists(newEmail, true);
+            when(userRepository.updateEmailIfHashMatches(userId, hashedPassword, newEmail))
+                    .thenThrow(DuplicateKeyExceptions.forKey("ForumUser.email", newEmail));
 
             // Act & Assert
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
                 userService.changeEmail(userId, request);
             });
 
@@ -178,8 +180,7 @@ class UserServiceEmailTest extends BaseServiceTest {
 
             verify(userRepository).findById(userId);
             verify(passwordEncoder).matches(currentPassword, hashedPassword);
-            verify(userRepository).existsByEmail(newEmail);
-            verify(userRepository, never()).updateEmail(any(), any());
+            verify(userRepository).updateEmailIfHashMatches(userId, hashedPassword, newEmail);
         }
     }
 
@@ -202,11 +203,10 @@ class UserServiceEmailTest extends BaseServiceTest {
 
             mockUserRepositoryFindById(userId, existingUser);
             mockPasswordEncoderMatches(currentPassword, hashedPassword, true);
-            mockEmailExists(newEmail, false);
-            when(userRepository.updateEmail(userId, newEmail)).thenReturn(0);
+            when(userRepository.updateEmailIfHashMatches(userId, hashedPassword, newEmail)).thenReturn(0);
 
             // Act & Assert
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
                 userService.changeEmail(userId, request);
             });
 
@@ -214,8 +214,8 @@ class UserServiceEmailTest extends BaseServiceTest {
 
             verify(userRepository).findById(userId);
             verify(passwordEncoder).matches(currentPassword, hashedPassword);
-            verify(userRepository).existsByEmail(newEmail);
-            verify(userRepository).updateEmail(userId, newEmail);
+            verify(userRepository, never()).existsByEmail(any());
+            verify(userRepository).updateEmailIfHashMatches(userId, hashedPassword, newEmail);
         }
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.dbexp.db_experiment.service;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,16 +10,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.dbexp.db_experiment.dto.user.ChangeUsernameRequest;
 import com.dbexp.db_experiment.dto.user.GetUserByIdRequest;
 import com.dbexp.db_experiment.dto.user.GetUserByIdResponse;
 import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("User Service - Get By ID Tests")
@@ -64,7 +70,7 @@ public class UserServiceGetByIdTest extends BaseServiceTest {
             GetUserByIdRequest request = new GetUserByIdRequest(null);
 
             // Act & Assert
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
                 userService.getUserById(request);
             });
 
@@ -82,7 +88,7 @@ public class UserServiceGetByIdTest extends BaseServiceTest {
             mockUserRepositoryFindByIdNotFound(userId);
 
             // Act & Assert
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
                 userService.getUserById(request);
             });
 
@@ -90,4 +96,47 @@ public class UserServiceGetByIdTest extends BaseServiceTest {
             verify(userRepository).findById(userId);
         }
     }
+
+    @Nested
+    @DisplayName("Caching")
+    class CachingTests {
+        @Test
+        @DisplayName("Should serve repeated lookups from the cache")
+        void getUserById_Repeated_QueriesOnce() {
+            // Arrange
+            Long userId = 1L;
+            GetUserByIdRequest request = new GetUserByIdRequest(userId);
+            mockUserRepositoryFindById(userId, createMockUser(userId, "testuser", "test@example.com", "hashedPassword"));
+
+            // Act
+            userService.getUserById(request);
+            GetUserByIdResponse response = userService.getUserById(request);
+
+            // Assert
+            assertEquals("testuser", response.getUsername());
+            verify(userRepository, times(1)).findById(userId);
+        }
+
+        @Test
+        @DisplayName("Should reload the user after a username change")
+        void getUserById_AfterUsernameChange_Reloads() {
+            // Arrange
+            Long userId = 1L;
+            GetUserByIdRequest request = new GetUserByIdRequest(userId);
+            when(userRepository.findById(userId))
+                    .thenReturn(Optional.of(createMockUser(userId, "olduser", "test@example.com", "hashedPassword")))
+                    .thenReturn(Optional.of(createMockUser(userId, "olduser", "test@example.com", "hashedPassword")))
+                    .thenReturn(Optional.of(createMockUser(userId, "newuser", "test@example.com", "hashedPassword")));
+            when(userRepository.updateUsername(userId, "newuser")).thenReturn(1);
+
+            // Act
+            userService.getUserById(request);
+            userService.changeUsername(userId, new ChangeUsernameRequest("newuser"));
+            GetUserByIdResponse response = userService.getUserById(request);
+
+            // Assert
+            assertEquals("newuser", response.getUsername());
+            verify(userRepository, times(3)).findById(userId);
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package com.dbexp.db_experiment.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.cache.UserSummary;
+import com.dbexp.db_experiment.dto.user.GetUserByIdRequest;
+import com.dbexp.db_experiment.dto.user.GetUsersByIdsRequest;
+import com.dbexp.db_experiment.dto.user.GetUsersByIdsResponse;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Service - Get Users By IDs Tests")
+public class UserServiceGetByIdsTest extends BaseServiceTest {
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+    }
+
+    @Nested
+    @DisplayName("Successful Multi-Get")
+    class SuccessTests {
+        @Test
+        @DisplayName("Should resolve distinct ids with one query, in request order")
+        void getUsersByIds_Success() {
+            // Arrange
+            when(userRepository.findSummariesByIds(List.of(3L, 1L, 99L)))
+                    .thenReturn(List.of(summary(1L), summary(3L)));
+
+            // Act
+            GetUsersByIdsResponse response = userService.getUsersByIds(
+                    new GetUsersByIdsRequest(List.of(3L, 1L, 3L, 99L)));
+
+            // Assert
+            assertEquals(List.of(3L, 1L), new ArrayList<>(response.getUsers().keySet()));
+            assertEquals("user3", response.getUsers().get(3L).getUsername());
+            assertEquals(List.of(99L), response.getNotFound());
+            verify(userRepository, times(1)).findSummariesByIds(any());
+        }
+
+        @Test
+        @DisplayName("Should serve cached users and query only the misses")
+        void getUsersByIds_PartlyCached_QueriesMisses() {
+            // Arrange
+            when(userRepository.findSummariesByIds(List.of(1L))).thenReturn(List.of(summary(1L)));
+            when(userRepository.findSummariesByIds(List.of(2L))).thenReturn(List.of(summary(2L)));
+            userService.getUsersByIds(new GetUsersByIdsRequest(List.of(1L)));
+
+            // Act
+            GetUsersByIdsResponse response = userService.getUsersByIds(new GetUsersByIdsRequest(List.of(1L, 2L)));
+            userService.getUserById(new GetUserByIdRequest(2L));
+
+            // Assert
+            assertEquals(2, response.getUsers().size());
+            verify(userRepository).findSummariesByIds(List.of(2L));
+            verify(userRepository, never()).findById(any(Long.class));
+        }
+
+        @Test
+        @DisplayName("Should not cache a row loaded while an invalidation ran")
+        void getUsersByIds_InvalidatedDuringLoad_NotCached() {
+            // Arrange
+            Long userId = 1L;
+            when(userRepository.findSummariesByIds(List.of(userId))).thenAnswer(invocation -> {
+                userCache.invalidate(userId);
+                return List.of(summary(userId));
+            });
+            mockUserRepositoryFindById(userId, createMockUser(userId, "user1", "user1@example.com", "hash"));
+
+            // Act
+            userService.getUsersByIds(new GetUsersByIdsRequest(List.of(userId)));
+            userService.getUserById(new GetUserByIdRequest(userId));
+
+            // Assert
+            verify(userRepository).findById(userId);
+        }
+    }
+
+    @Nested
+    @DisplayName("Business Logic Errors")
+    class BusinessLogicErrorTests {
+        @Test
+        @DisplayName("Should reject an empty id list")
+        void getUsersByIds_Empty_ThrowsException() {
+            // Act & Assert
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> userService.getUsersByIds(new GetUsersByIdsRequest(List.of())));
+
+            assertEquals("At least one user ID is required", exception.getMessage());
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject more than 500 ids")
+        void getUsersByIds_TooMany_ThrowsException() {
+            // Arrange
+            List<Long> ids = LongStream.rangeClosed(1, 501).boxed().toList();
+
+            // Act & Assert
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> userService.getUsersByIds(new GetUsersByIdsRequest(ids)));
+
+            assertEquals("At most 500 user IDs can be requested at once", exception.getMessage());
+            verifyNoInteractions(userRepository);
+        }
+    }
+
+    private static UserSummary summary(Long userId) {
+        return new UserSummary(userId, "user" + userId, "user" + userId + "@example.com", LocalDateTime.now());
+    }
+}
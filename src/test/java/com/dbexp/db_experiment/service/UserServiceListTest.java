@@ -0,0 +1,146 @@
+package com.dbexp.db_experiment.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.cache.UserSummary;
+import com.dbexp.db_experiment.dto.user.ListUsersRequest;
+import com.dbexp.db_experiment.dto.user.ListUsersResponse;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Service - List Users Tests")
+public class UserServiceListTest extends BaseServiceTest {
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+    }
+
+    @Nested
+    @DisplayName("Keyset Pagination by ID")
+    class ByIdTests {
+        @Test
+        @DisplayName("Should start from the beginning and return a cursor when more rows follow")
+        void listUsers_FirstPage_ReturnsCursor() {
+            // Arrange
+            when(userRepository.findPageAfter(0L, 3)).thenReturn(summaries(1, 3));
+
+            // Act
+            ListUsersResponse response = userService.listUsers(new ListUsersRequest(null, null, null, 2));
+
+            // Assert
+            assertEquals(2, response.getUsers().size());
+            assertTrue(response.isHasMore());
+            assertEquals(2L, response.getNextAfter());
+            assertNull(response.getNextAfterUsername());
+        }
+
+        @Test
+        @DisplayName("Should seek past the cursor and report the last page")
+        void listUsers_LastPage_NoCursor() {
+            // Arrange
+            when(userRepository.findPageAfter(40L, 51)).thenReturn(summaries(41, 42));
+
+            // Act
+            ListUsersResponse response = userService.listUsers(new ListUsersRequest(40L, null, null, null));
+
+            // Assert
+            assertEquals(2, response.getUsers().size());
+            assertEquals(41L, response.getUsers().get(0).getUserId());
+            assertFalse(response.isHasMore());
+            assertNull(response.getNextAfter());
+        }
+    }
+
+    @Nested
+    @DisplayName("Prefix Filtering")
+    class PrefixTests {
+        @Test
+        @DisplayName("Should page by username with escaped wildcards")
+        void listUsers_Prefix_EscapesWildcards() {
+            // Arrange
+            when(userRepository.findPageByUsernamePrefix("a!_b!%!!%", "", 2))
+                    .thenReturn(List.of(
+                            summary(7, "a_b%!x"),
+                            summary(3, "a_b%!y")));
+
+            // Act
+            ListUsersResponse response = userService.listUsers(new ListUsersRequest(null, null, "a_b%!", 1));
+
+            // Assert
+            assertEquals(1, response.getUsers().size());
+            assertTrue(response.isHasMore());
+            assertEquals("a_b%!x", response.getNextAfterUsername());
+            assertNull(response.getNextAfter());
+        }
+
+        @Test
+        @DisplayName("Should continue after the username cursor")
+        void listUsers_PrefixWithCursor_SeeksPastUsername() {
+            // Arrange
+            when(userRepository.findPageByUsernamePrefix("test%", "test5", 51)).thenReturn(List.of());
+
+            // Act
+            ListUsersResponse response = userService.listUsers(new ListUsersRequest(null, "test5", "test", null));
+
+            // Assert
+            assertTrue(response.getUsers().isEmpty());
+            assertFalse(response.isHasMore());
+            verify(userRepository).findPageByUsernamePrefix("test%", "test5", 51);
+        }
+    }
+
+    @Nested
+    @DisplayName("Business Logic Errors")
+    class BusinessLogicErrorTests {
+        @Test
+        @DisplayName("Should reject a limit above the maximum")
+        void listUsers_LimitTooLarge_ThrowsException() {
+            // Act & Assert
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> userService.listUsers(new ListUsersRequest(null, null, null, 201)));
+
+            assertEquals("Limit must be between 1 and 200", exception.getMessage());
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject an id cursor combined with a prefix")
+        void listUsers_IdCursorWithPrefix_ThrowsException() {
+            // Act & Assert
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> userService.listUsers(new ListUsersRequest(5L, null, "test", null)));
+
+            assertEquals("Use afterUsername to page a prefix listing", exception.getMessage());
+            verifyNoInteractions(userRepository);
+        }
+    }
+
+    private static List<UserSummary> summaries(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> summary(id, "user" + id))
+                .toList();
+    }
+
+    private static UserSummary summary(long userId, String username) {
+        return new UserSummary(userId, username, username + "@example.com", LocalDateTime.now());
+    }
+}
@@ -11,6 +11,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.dbexp.db_experiment.dto.user.ChangePasswordRequest;
 import com.dbexp.db_experiment.dto.user.ChangePasswordResponse;
 import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -51,7 +52,7 @@ class UserServicePasswordTest extends BaseServiceTest {
             when(passwordEncoder.matches(currentPassword, hashedCurrentPassword)).thenReturn(true);
             when(passwordEncoder.matches(newPassword, hashedCurrentPassword)).thenReturn(false);
             mockPasswordEncoderEncode(newPassword, hashedNewPassword);
-            when(userRepository.updatePassword(userId, hashedNewPassword)).thenReturn(1);
+            when(userRepository.updatePasswordIfHashMatches(userId, hashedCurrentPassword, hashedNewPassword)).thenReturn(1);
 
             // Act
             ChangePasswordResponse response = userService.changePassword(userId, request);
@@ -66,7 +67,7 @@ class UserServicePasswordTest extends BaseServiceTest {
             verify(passwordEncoder).matches(currentPassword, hashedCurrentPassword);
             verify(passwordEncoder).matches(newPassword, hashedCurrentPassword);
             verify(passwordEncoder).encode(newPassword);
-            verify(userRepository).updatePassword(userId, hashedNewPassword);
+            verify(userRepository).updatePasswordIfHashMatches(userId, hashedCurrentPassword, hashedNewPassword);
         }
     }
 
@@ -84,7 +85,7 @@ class UserServicePasswordTest extends BaseServiceTest {
             mockUserRepositoryFindByIdNotFound(userId);
 
             // Act & Assert
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
                 userService.changePassword(userId, request);
             });
 
@@ -93,7 +94,7 @@ class UserServicePasswordTest extends BaseServiceTest {
             verify(userRepository).findById(userId);
             verify(passwordEncoder, never()).matches(any(), any());
             verify(passwordEncoder, never()).encode(any());
-            verify(userRepository, never()).updatePassword(any(), any());
+            verify(userRepository, never()).updatePasswordIfHashMatches(any(), any(), any());
         }
 
         @Test
@@ -112,7 +113,7 @@ class UserServicePasswordTest extends BaseServiceTest {
             mockPasswordEncoderMatches(currentPassword, hashedCurrentPassword, false);
 
             // Act & Assert
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
                 userService.changePassword(userId, request);
             });
 
@@ -121,7 +122,7 @@ class UserServicePasswordTest extends BaseServiceTest {
             verify(userRepository).findById(userId);
             verify(passwordEncoder).matches(currentPassword, hashedCurrentPassword);
             verify(passwordEncoder, never()).encode(any());
-            verify(userRepository, never()).updatePassword(any(), any());
+            verify(userRepository, never()).updatePasswordIfHashMatches(any(), any(), any());
         }
 
         @Test
@@ -141,7 +142,7 @@ class UserServicePasswordTest extends BaseServiceTest {
             when(passwordEncoder.matches(newPassword, hashedPassword)).thenReturn(true);
 
             // Act & Assert
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
                 userService.changePassword(userId, request);
             });
 
@@ -150,7 +151,7 @@ class UserServicePasswordTest extends BaseServiceTest {
             verify(userRepository).findById(userId);
             verify(passwordEncoder, times(2)).matches(currentPassword, hashedPassword);
             verify(passwordEncoder, never()).encode(any());
-            verify(userRepository, never()).updatePassword(any(), any());
+            verify(userRepository, never()).updatePasswordIfHashMatches(any(), any(), any());
         }
     }
 
@@ -175,7 +176,7 @@ class UserServicePasswordTest extends BaseServiceTest {
             when(passwordEncoder.matches(currentPassword, hashedCurrentPassword)).thenReturn(true);
             when(passwordEncoder.matches(newPassword, hashedCurrentPassword)).thenReturn(false);
             mockPasswordEncoderEncode(newPassword, hashedNewPassword);
-            when(userRepository.updatePassword(userId, hashedNewPassword)).thenReturn(0);
+            when(userRepository.updatePasswordIfHashMatches(userId, hashedCurrentPassword, hashedNewPassword)).thenReturn(0);
 
             // Act & Assert
             IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
@@ -188,7 +189,7 @@ class UserServicePasswordTest extends BaseServiceTest {
             verify(passwordEncoder).matches(currentPassword, hashedCurrentPassword);
             verify(passwordEncoder).matches(newPassword, hashedCurrentPassword);
             verify(passwordEncoder).encode(newPassword);
-            verify(userRepository).updatePassword(userId, hashedNewPassword);
+            verify(userRepository).updatePasswordIfHashMatches(userId, hashedCurrentPassword, hashedNewPassword);
         }
     }
 }
\ No newline at end of file
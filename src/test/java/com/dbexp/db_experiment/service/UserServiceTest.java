@@ -14,7 +14,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.dbexp.db_experiment.dto.user.CreateUserRequest;
 import com.dbexp.db_experiment.dto.user.CreateUserResponse;
 import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
 import com.dbexp.db_experiment.repository.UserRepository;
+import com.dbexp.db_experiment.testutil.DuplicateKeyExceptions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -54,8 +56,6 @@ class UserServiceTest {
         // Arrange
         CreateUserRequest request = new CreateUserRequest("testuser", "test@example.com", "password123");
 
-        when(userRepository.existsByUsername(request.getUsername())).thenReturn(false);
-        when(userRepository.existsByEmail(request.getEmail())).thenReturn(false);
         when(passwordEncoder.encode(request.getPassword())).thenReturn("hashedPassword");
 
         User savedUser = new User("testuser", "hashedPassword", "test@example.com");
@@ -74,8 +74,6 @@ class UserServiceTest {
         assertEquals("test@example.com", response.getEmail());
         assertNotNull(response.getCreatedAt());
 
-        verify(userRepository).existsByUsername(request.getUsername());
-        verify(userRepository).existsByEmail(request.getEmail());
         verify(passwordEncoder).encode(request.getPassword());
         verify(userRepository).save(any(User.class));
     }
@@ -86,19 +84,18 @@ class UserServiceTest {
         // Arrange
         CreateUserRequest request = new CreateUserRequest("existinguser", "test@example.com", "password123");
 
-        when(userRepository.existsByUsername(request.getUsername())).thenReturn(true);
+        when(passwordEncoder.encode(request.getPassword())).thenReturn("hashedPassword");
+        when(userRepository.save(any(User.class))).thenThrow(DuplicateKeyExceptions.forKey("ForumUser.username", "existinguser"));
 
         // Act & Assert
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
             userService.createUser(request);
         });
 
         assertEquals("Username already exists", exception.getMessage());
 
-        verify(userRepository).existsByUsername(request.getUsername());
-        verify(userRepository, never()).existsByEmail(any());
-        verify(passwordEncoder, never()).encode(any());
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).existsByUsername(any());
+        verify(userRepository).save(any(User.class));
     }
 
     @SuppressWarnings("null")
@@ -107,19 +104,17 @@ class UserServiceTest {
         // Arrange
         CreateUserRequest request = new CreateUserRequest("newuser", "existing@example.com", "password123");
 
-        when(userRepository.existsByUsername(request.getUsername())).thenReturn(false);
-        when(userRepository.existsByEmail(request.getEmail())).thenReturn(true);
+        when(passwordEncoder.encode(request.getPassword())).thenReturn("hashedPassword");
+        when(userRepository.save(any(User.class))).thenThrow(DuplicateKeyExceptions.forKey("ForumUser.email", "existing@example.com"));
 
         // Act & Assert
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
             userService.createUser(request);
         });
 
         assertEquals("Email already exists", exception.getMessage());
 
-        verify(userRepository).existsByUsername(request.getUsername());
-        verify(userRepository).existsByEmail(request.getEmail());
-        verify(passwordEncoder, never()).encode(any());
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).existsByEmail(any());
+        verify(userRepository).save(any(User.class));
     }
 }
\ No newline at end of file
@@ -11,6 +11,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.dbexp.db_experiment.dto.user.ChangeUsernameRequest;
 import com.dbexp.db_experiment.dto.user.ChangeUsernameResponse;
 import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.testutil.DuplicateKeyExceptions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -48,7 +50,6 @@ class UserServiceUsernameTest extends BaseServiceTest {
             User existingUser = createMockUser(userId, oldUsername, "test@example.com", "hashedPassword");
 
             mockUserRepositoryFindById(userId, existingUser);
-            mockUsernameExists(newUsername, false);
             when(userRepository.updateUsername(userId, newUsername)).thenReturn(1);
 
             // Act
@@ -62,7 +63,7 @@ class UserServiceUsernameTest extends BaseServiceTest {
             assertNotNull(response.getUpdatedAt());
 
             verify(userRepository).findById(userId);
-            verify(userRepository).existsByUsername(newUsername);
+            verify(userRepository, never()).existsByUsername(any());
             verify(userRepository).updateUsername(userId, newUsername);
         }
     }
@@ -81,7 +82,7 @@ class UserServiceUsernameTest extends BaseServiceTest {
             mockUserRepositoryFindByIdNotFound(userId);
 
             // Act & Assert
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
                 userService.changeUsername(userId, request);
             });
 
@@ -104,18 +105,18 @@ class UserServiceUsernameTest extends BaseServiceTest {
             User existingUser = createMockUser(userId, oldUsername, "test@example.com", "hashedPassword");
 
             mockUserRepositoryFindById(userId, existingUser);
-            mockUsernameExists(newUsername, true);
+            when(userRepository.updateUsername(userId, newUsername))
+                    .thenThrow(DuplicateKeyExceptions.forKey("ForumUser.username", newUsername));
 
             // Act & Assert
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
                 userService.changeUsername(userId, request);
             });
 
             assertEquals("Username already exists", exception.getMessage());
 
             verify(userRepository).findById(userId);
-            verify(userRepository).existsByUsername(newUsername);
-            verify(userRepository, never()).updateUsername(any(), any());
+            verify(userRepository).updateUsername(userId, newUsername);
         }
 
         @Test
@@ -131,7 +132,7 @@ class UserServiceUsernameTest extends BaseServiceTest {
             mockUserRepositoryFindById(userId, existingUser);
 
             // Act & Assert
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
                 userService.changeUsername(userId, request);
             });
 
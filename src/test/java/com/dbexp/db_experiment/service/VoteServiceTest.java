@@ -0,0 +1,169 @@
+package com.dbexp.db_experiment.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.cache.UserCache;
+import com.dbexp.db_experiment.cache.UserSummary;
+import com.dbexp.db_experiment.dto.community.VoteRequest;
+import com.dbexp.db_experiment.dto.community.VoteResponse;
+import com.dbexp.db_experiment.exception.InvalidRequestException;
+import com.dbexp.db_experiment.exception.NotAuthenticatedException;
+import com.dbexp.db_experiment.repository.VoteRepository;
+import com.dbexp.db_experiment.vote.VoteTally;
+import com.dbexp.db_experiment.vote.VoteTarget;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Vote Service - Tests")
+class VoteServiceTest {
+
+    private static final Long USER_ID = 2L;
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private VoteTally voteTally;
+
+    @Mock
+    private UserCache userCache;
+
+    private VoteServiceImpl voteService;
+
+    @BeforeEach
+    void setUp() {
+        voteService = new VoteServiceImpl(voteRepository, voteTally, userCache);
+    }
+
+    private void givenUserExists() {
+        when(userCache.get(USER_ID)).thenReturn(
+                Optional.of(new UserSummary(USER_ID, "bob", "bob@example.com", LocalDateTime.now())));
+    }
+
+    @Nested
+    @DisplayName("Post Vote Tests")
+    class PostVoteTests {
+
+        @Test
+        @DisplayName("Should write the vote and record the change for the next flush")
+        void votePost_Success() {
+            // Arrange
+            givenUserExists();
+            when(voteRepository.castVote(VoteTarget.POST, USER_ID, 5L, -1)).thenReturn(1);
+
+            // Act
+            VoteResponse response = voteService.votePost(5L, USER_ID, new VoteRequest(-1));
+
+            // Assert
+            assertEquals(new VoteResponse(5L, -1, 1), response);
+            verify(voteTally).record(VoteTarget.POST, 5L, 1, -1);
+        }
+
+        @Test
+        @DisplayName("Should retry once when a concurrent first vote inserted the row")
+        void votePost_RetriesDuplicateInsert() {
+            // Arrange
+            givenUserExists();
+            when(voteRepository.castVote(VoteTarget.POST, USER_ID, 5L, 1))
+                    .thenThrow(new DuplicateKeyException("Duplicate entry"))
+                    .thenReturn(1);
+
+            // Act
+            VoteResponse response = voteService.votePost(5L, USER_ID, new VoteRequest(1));
+
+            // Assert
+            assertEquals(1, response.previousVote());
+            verify(voteTally).record(VoteTarget.POST, 5L, 1, 1);
+        }
+
+        @Test
+        @DisplayName("Should reject a vote on a post that does not exist")
+        void votePost_UnknownPost() {
+            // Arrange
+            givenUserExists();
+            when(voteRepository.castVote(VoteTarget.POST, USER_ID, 99L, 1))
+                    .thenThrow(new DataIntegrityViolationException("foreign key"));
+
+            // Act & Assert
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> voteService.votePost(99L, USER_ID, new VoteRequest(1)));
+            assertEquals("Post not found", exception.getMessage());
+            verifyNoInteractions(voteTally);
+        }
+
+        @Test
+        @DisplayName("Should reject a vote by an unknown user without writing")
+        void votePost_UnknownUser() {
+            // Arrange
+            when(userCache.get(USER_ID)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> voteService.votePost(5L, USER_ID, new VoteRequest(1)));
+            assertEquals("User not found", exception.getMessage());
+            verifyNoInteractions(voteRepository, voteTally);
+        }
+
+        @Test
+        @DisplayName("Should reject a vote without a logged-in user")
+        void votePost_NotAuthenticated() {
+            // Act & Assert
+            NotAuthenticatedException exception = assertThrows(NotAuthenticatedException.class,
+                    () -> voteService.votePost(5L, null, new VoteRequest(1)));
+            assertEquals("Login required", exception.getMessage());
+            verifyNoInteractions(userCache, voteRepository, voteTally);
+        }
+
+        @Test
+        @DisplayName("Should reject a vote outside -1..1")
+        void votePost_InvalidValue() {
+            // Act & Assert
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> voteService.votePost(5L, USER_ID, new VoteRequest(2)));
+            assertEquals("Vote must be -1, 0 or 1", exception.getMessage());
+            verifyNoInteractions(userCache, voteRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Comment Vote Tests")
+    class CommentVoteTests {
+
+        @Test
+        @DisplayName("Should withdraw a comment vote")
+        void voteComment_Withdraw() {
+            // Arrange
+            givenUserExists();
+            when(voteRepository.castVote(any(VoteTarget.class), anyLong(), anyLong(), anyInt())).thenReturn(-1);
+
+            // Act
+            VoteResponse response = voteService.voteComment(8L, USER_ID, new VoteRequest(0));
+
+            // Assert
+            assertEquals(new VoteResponse(8L, 0, -1), response);
+            verify(voteRepository).castVote(VoteTarget.COMMENT, USER_ID, 8L, 0);
+            verify(voteTally).record(VoteTarget.COMMENT, 8L, -1, 0);
+        }
+    }
+}
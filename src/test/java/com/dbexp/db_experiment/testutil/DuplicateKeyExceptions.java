@@ -0,0 +1,17 @@
+package com.dbexp.db_experiment.testutil;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+
+import org.springframework.dao.DuplicateKeyException;
+
+public class DuplicateKeyExceptions {
+
+    /**
+     * Mirrors what Spring's MySQL exception translation raises for error 1062,
+     * e.g. {@code forKey("ForumUser.username", "alice")}.
+     */
+    public static DuplicateKeyException forKey(String keyName, String value) {
+        String message = "Duplicate entry '" + value + "' for key '" + keyName + "'";
+        return new DuplicateKeyException(message, new SQLIntegrityConstraintViolationException(message));
+    }
+}
@@ -0,0 +1,129 @@
+package com.dbexp.db_experiment.timing;
+
+import java.io.IOException;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.dbexp.db_experiment.timing.ServerTiming.Phase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Server-Timing Tests")
+class ServerTimingTest {
+
+    @AfterEach
+    void tearDown() {
+        ServerTiming.end();
+    }
+
+    @Nested
+    @DisplayName("Accumulator")
+    class AccumulatorTests {
+
+        @Test
+        @DisplayName("Should ignore recordings outside an active request")
+        void inactive_RecordsNothing() {
+            // Act
+            ServerTiming.add(Phase.HASH, 1_000_000L);
+
+            // Assert
+            assertFalse(ServerTiming.isActive());
+            assertEquals(0L, ServerTiming.start());
+            assertNull(ServerTiming.end());
+        }
+
+        @Test
+        @DisplayName("Should report phases in milliseconds with SQL net of connection wait")
+        void active_FormatsHeader() {
+            // Arrange
+            ServerTiming.begin();
+            ServerTiming.add(Phase.HASH, 250_123_456L);
+            ServerTiming.add(Phase.DB_WAIT, 1_005_000L);
+            ServerTiming.add(Phase.SQL, 4_000_000L);
+
+            // Act
+            String header = ServerTiming.end();
+
+            // Assert
+            assertTrue(header.startsWith("hash;dur=250.123;desc=\""), header);
+            assertTrue(header.contains("db-wait;dur=1.005;"), header);
+            assertTrue(header.contains("sql;dur=2.995;"), header);
+            assertFalse(header.contains("parse"), header);
+            assertTrue(header.contains(", total;dur="), header);
+        }
+
+        @Test
+        @DisplayName("Should start every request from zero")
+        void begin_ResetsPreviousRequest() {
+            // Arrange
+            ServerTiming.begin();
+            ServerTiming.add(Phase.SQL, 5_000_000L);
+            ServerTiming.end();
+
+            // Act
+            ServerTiming.begin();
+            String header = ServerTiming.end();
+
+            // Assert
+            assertTrue(header.startsWith("total;dur="), header);
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter")
+    class FilterTests {
+
+        @Test
+        @DisplayName("Should add the header when the debug header is present")
+        void debugHeader_AddsServerTiming() throws Exception {
+            // Arrange
+            ServerTimingFilter filter = new ServerTimingFilter(false, "X-Debug-Timing");
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/1");
+            request.addHeader("X-Debug-Timing", "1");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+                @Override
+                protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                    ServerTiming.add(Phase.SQL, 2_000_000L);
+                    res.getWriter().write("{}");
+                }
+            });
+
+            // Act
+            filter.doFilter(request, response, chain);
+
+            // Assert
+            assertTrue(response.getHeader(ServerTimingFilter.SERVER_TIMING).startsWith("sql;dur=2.000;"));
+            assertEquals("{}", response.getContentAsString());
+            assertFalse(ServerTiming.isActive());
+        }
+
+        @Test
+        @DisplayName("Should leave untimed requests alone")
+        void noDebugHeader_NoServerTiming() throws Exception {
+            // Arrange
+            ServerTimingFilter filter = new ServerTimingFilter(false, "X-Debug-Timing");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // Act
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/users/1"), response, new MockFilterChain());
+
+            // Assert
+            assertNull(response.getHeader(ServerTimingFilter.SERVER_TIMING));
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.dbexp.db_experiment.vote;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.dao.QueryTimeoutException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.repository.VoteRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Vote Tally - Tests")
+class VoteTallyTest {
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    private VoteTally voteTally;
+
+    @BeforeEach
+    void setUp() {
+        voteTally = new VoteTally(voteRepository, new SimpleMeterRegistry(), true, 100);
+    }
+
+    @Nested
+    @DisplayName("Vote deltas")
+    class VoteDeltasTests {
+
+        @Test
+        @DisplayName("Should drain every increment made by concurrent voters exactly once")
+        void concurrentVotes_DrainedExactly() throws Exception {
+            // Arrange
+            VoteDeltas deltas = new VoteDeltas();
+            int threads = 8;
+            int votesPerThread = 10_000;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> voters = new ArrayList<>();
+            long drainedUpvotes = 0;
+
+            // Act
+            try {
+                for (int t = 0; t < threads; t++) {
+                    voters.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < votesPerThread; i++) {
+                            deltas.add(1L, 1, 0);
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                while (!voters.stream().allMatch(Future::isDone)) {
+                    drainedUpvotes += sumUpvotes(deltas.drain());
+                }
+                for (Future<?> voter : voters) {
+                    voter.get();
+                }
+                drainedUpvotes += sumUpvotes(deltas.drain());
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // Assert
+            assertEquals((long) threads * votesPerThread, drainedUpvotes);
+        }
+
+        @Test
+        @DisplayName("Should drop targets with no change since the previous drain")
+        void idleTarget_DroppedAfterFinalDrain() {
+            // Arrange
+            VoteDeltas deltas = new VoteDeltas();
+            deltas.add(7L, 1, 0);
+            deltas.drain();
+
+            // Act
+            List<VoteDelta> idle = deltas.drain();
+            int sizeAfterIdle = deltas.size();
+
+            // Assert
+            assertTrue(idle.isEmpty());
+            assertEquals(0, sizeAfterIdle);
+        }
+
+        @Test
+        @DisplayName("Should return deltas in target id order")
+        void drain_SortedByTargetId() {
+            // Arrange
+            VoteDeltas deltas = new VoteDeltas();
+            deltas.add(30L, 1, 0);
+            deltas.add(10L, 0, 1);
+            deltas.add(20L, 1, 0);
+
+            // Act
+            List<VoteDelta> drained = deltas.drain();
+
+            // Assert
+            assertEquals(List.of(10L, 20L, 30L), drained.stream().map(VoteDelta::targetId).toList());
+        }
+
+        private static long sumUpvotes(List<VoteDelta> drained) {
+            return drained.stream().mapToLong(VoteDelta::upvotes).sum();
+        }
+    }
+
+    @Nested
+    @DisplayName("Flush")
+    class FlushTests {
+
+        @Test
+        @DisplayName("Should turn a vote change into upvote, downvote and score deltas")
+        void record_FlipsVote() {
+            // Arrange
+            voteTally.record(VoteTarget.POST, 5L, 1, -1);
+
+            // Act
+            voteTally.flush();
+
+            // Assert
+            verify(voteRepository).addCounts(VoteTarget.POST, List.of(new VoteDelta(5L, -1, 1)));
+            verify(voteRepository, never()).addCounts(eq(VoteTarget.COMMENT), anyList());
+        }
+
+        @Test
+        @DisplayName("Should write many votes on one post as a single row update")
+        void record_ManyVotesOneUpdate() {
+            // Arrange
+            for (int i = 0; i < 1_000; i++) {
+                voteTally.record(VoteTarget.POST, 5L, 0, 1);
+            }
+
+            // Act
+            voteTally.flush();
+
+            // Assert
+            verify(voteRepository).addCounts(VoteTarget.POST, List.of(new VoteDelta(5L, 1_000, 0)));
+        }
+
+        @Test
+        @DisplayName("Should keep the deltas of a failed flush for the next one")
+        void flush_FailureRetried() {
+            // Arrange
+            doThrow(new QueryTimeoutException("timeout")).doNothing()
+                    .when(voteRepository).addCounts(eq(VoteTarget.COMMENT), anyList());
+            voteTally.record(VoteTarget.COMMENT, 9L, 0, 1);
+            voteTally.flush();
+            voteTally.record(VoteTarget.COMMENT, 9L, 0, 1);
+
+            // Act
+            voteTally.flush();
+
+            // Assert
+            verify(voteRepository).addCounts(VoteTarget.COMMENT, List.of(new VoteDelta(9L, 2, 0)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Startup reconciliation")
+    class ReconcileTests {
+
+        @Test
+        @DisplayName("Should recount every id range up to the highest id")
+        void reconcile_ChunksById() {
+            // Arrange
+            when(voteRepository.findMaxTargetId(VoteTarget.POST)).thenReturn(250L);
+            when(voteRepository.findMaxTargetId(VoteTarget.COMMENT)).thenReturn(0L);
+
+            // Act
+            voteTally.reconcile();
+
+            // Assert
+            verify(voteRepository).reconcileCounts(VoteTarget.POST, 1, 100);
+            verify(voteRepository).reconcileCounts(VoteTarget.POST, 101, 200);
+            verify(voteRepository).reconcileCounts(VoteTarget.POST, 201, 250);
+            verify(voteRepository, never()).reconcileCounts(eq(VoteTarget.COMMENT), anyLong(), anyLong());
+        }
+    }
+}